@@ -215,14 +215,33 @@ public class Meshes {
      * @param mesh Source mesh
      * @param target_percent the amount in percent to attempt to achieve. For example: 0.25f would result in creating
      *                       a mesh with 25% of triangles contained in the original.
-     * @param agressiveness sharpness to increase the threshold. 5..8 are good numbers. more iterations yield higher
-     *                      quality. Minimum 4 and maximum 20 are recommended.
+     * @param agressiveness no longer used; edges are collapsed in order of increasing error.
      * @return the simplified mesh The result will not include normals or uv coordinates.
+     * @deprecated Use {@link #simplifyTo(Mesh, long, double)}, which makes the
+     *             target explicit and has no unused parameter.
      */
+    @Deprecated
     public static Mesh simplify(Mesh mesh, float target_percent, float agressiveness) {
         return new SimplifyMesh(mesh).simplify(target_percent, agressiveness);
     }
 
+    /**
+     * Simplifies a given mesh by collapsing the edges of least quadric error
+     * first. Normals and uv coordinates will be ignored and not added to the
+     * output mesh.
+     *
+     * @param mesh Source mesh
+     * @param targetTriangles the number of triangles at which to stop
+     * @param maxError the quadric error at which to stop; use
+     *          {@link Double#POSITIVE_INFINITY} to only stop at the target
+     *          number of triangles
+     * @return the simplified mesh, as a {@link BufferMesh}. The result will not
+     *         include normals or uv coordinates.
+     */
+    public static Mesh simplifyTo(Mesh mesh, long targetTriangles, double maxError) {
+        return new SimplifyMesh(mesh).simplify(targetTriangles, maxError);
+    }
+
     /**
      * Creates a new mesh from a given mesh without any duplicate vertices.
      * Normals and uv coordinates will be ignored and not added to the output mesh.
@@ -43,767 +43,685 @@
 
 package net.imagej.mesh2;
 
-import net.imglib2.RealPoint;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Vector;
+import java.util.Arrays;
 
 /**
+ * Quadric error mesh decimation.
+ * <p>
+ * Every edge whose vertices are not on a border is queued in an indexed
+ * min-heap by the quadric error of collapsing it. The cheapest edge is
+ * collapsed until the target number of triangles is reached or the cheapest
+ * remaining error exceeds the maximum error. Collapses that would flip or
+ * degenerate a triangle are skipped. After a collapse, only the edges of the
+ * surviving vertex are requeued, since the quadrics of all other vertices
+ * are unchanged.
+ * </p>
+ * <p>
+ * All state is held in primitive arrays: 3 coordinates and 10 quadric
+ * coefficients per vertex, 3 vertex indices per triangle, and for each
+ * vertex a run of references to its triangles.
+ * </p>
+ *
  * @author James Khan / jayfella
  * @author Deborah Schmidt / frauzufall
  */
 class SimplifyMesh {
 
-	static class SymmetricMatrix {
-
-		private final double[] m = new double[10];
-
-		SymmetricMatrix(double c) {
-
-			for (int i = 0; i < 10; i++) {
-				m[i] = c;
-			}
-		}
-
-		SymmetricMatrix(double m11, double m12, double m13, double m14,
-		                double m22, double m23, double m24,
-		                double m33, double m34,
-		                double m44) {
-			m[0] = m11;
-			m[1] = m12;
-			m[2] = m13;
-			m[3] = m14;
-			m[4] = m22;
-			m[5] = m23;
-			m[6] = m24;
-			m[7] = m33;
-			m[8] = m34;
-			m[9] = m44;
-		}
-
-		SymmetricMatrix(double a, double b, double c, double d) {
-			m[0] = a * a;
-			m[1] = a * b;
-			m[2] = a * c;
-			m[3] = a * d;
-			m[4] = b * b;
-			m[5] = b * c;
-			m[6] = b * d;
-			m[7] = c * c;
-			m[8] = c * d;
-			m[9] = d * d;
-		}
-
-		void set(SymmetricMatrix s) {
-			System.arraycopy(s.m, 0, m, 0, m.length);
-		}
-
-		final double getValue(int c) {
-			return m[c];
-		}
-
-		final double det(int a11, int a12, int a13,
-		                 int a21, int a22, int a23,
-		                 int a31, int a32, int a33) {
-			return m[a11] * m[a22] * m[a33] + m[a13] * m[a21] * m[a32] + m[a12] * m[a23] * m[a31]
-					- m[a13] * m[a22] * m[a31] - m[a11] * m[a23] * m[a32] - m[a12] * m[a21] * m[a33];
-		}
-
-		final SymmetricMatrix add(final SymmetricMatrix n) {
-			return new SymmetricMatrix(
-					m[0] + n.getValue(0),
-					m[1] + n.getValue(1),
-					m[2] + n.getValue(2),
-					m[3] + n.getValue(3),
-					m[4] + n.getValue(4),
-					m[5] + n.getValue(5),
-					m[6] + n.getValue(6),
-					m[7] + n.getValue(7),
-					m[8] + n.getValue(8),
-					m[9] + n.getValue(9));
-		}
-
-		void addLocal(final SymmetricMatrix n) {
-			m[0] += n.getValue(0);
-			m[1] += n.getValue(1);
-			m[2] += n.getValue(2);
-			m[3] += n.getValue(3);
-			m[4] += n.getValue(4);
-			m[5] += n.getValue(5);
-			m[6] += n.getValue(6);
-			m[7] += n.getValue(7);
-			m[8] += n.getValue(8);
-			m[9] += n.getValue(9);
-		}
-
-	}
-
-	static class Vertex {
-
-		private final Point p;
-
-		private int tstart;
-		private int tcount;
-		private final SymmetricMatrix q = new SymmetricMatrix(0);
-		private boolean border;
-
-		Vertex(Point p) {
-			this.p = new Point(p);
-		}
-
-	}
+	private final Mesh inMesh;
 
-	static class Triangle {
+	// -- Vertices --
 
-		private final int[] v = new int[3];
+	private int numVertices;
+	private double[] positions;
+	private double[] quadrics;
+	private boolean[] border;
 
-		private final double[] err = new double[4];
-		private boolean deleted = false;
-		private boolean dirty = false;
-		private final Point n = new Point();
+	/** Start and length of the triangle references of each vertex. */
+	private int[] refStart;
+	private int[] refCount;
 
-		Triangle(int a, int b, int c) {
-			this.v[0] = a;
-			this.v[1] = b;
-			this.v[2] = c;
-		}
+	/** Triangle references, as {@code 3 * triangle + corner}. */
+	private int[] refs;
+	private int refSize;
 
-	}
+	// -- Triangles --
 
-	static class Ref {
+	private int numTriangles;
+	private int[] triangles;
+	private boolean[] deleted;
 
-		private int tid;
+	// -- Edges --
 
-		private int tvertex;
+	private EdgeMap edgeIds;
+	private int[] edgeVertices;
+	private double[] edgeCosts;
+	private double[] edgeTargets;
+	private int[] edgeStamps;
+	private int[] freeEdges;
+	private int numFreeEdges;
+	private int edgeCapacity;
 
-		Ref(int tid, int tvertex) {
-			this.tid = tid;
-			this.tvertex = tvertex;
-		}
-
-	}
+	/** Edge ids ordered as a binary min-heap by cost. */
+	private int[] heap;
+	/** Costs of the edges in {@link #heap}, for cache-friendly sifting. */
+	private double[] heapCosts;
+	private int heapSize;
+	/** Position of each edge in {@link #heap}. */
+	private int[] heapIndex;
 
-	private Vector<Triangle> triangles = new Vector<>();
+	/** Number of collapses, to update each edge once per collapse. */
+	private int collapses;
 
-	private Vector<Vertex> vertices = new Vector<>();
-	private Vector<Ref> refs = new Vector<>();
-	private final Mesh inMesh;
+	private final double[] p = new double[3];
 
-	private final Point p = new Point();
+	// scratch space
+	private final double[] q = new double[10];
+	private final double[] d1 = new double[3];
+	private final double[] d2 = new double[3];
+	private final double[] n = new double[3];
+	private final double[] current = new double[3];
+	private final double[] e1 = new double[3];
+	private final double[] e2 = new double[3];
 
 	SimplifyMesh(Mesh mesh) {
 		this.inMesh = mesh;
 	}
 
-	private void readMesh() {
-
-		triangles.clear();
-		vertices.clear();
-		refs.clear();
-
-		Point[] meshVerts = new Point[(int) inMesh.vertices().size()];
-		Iterator<net.imagej.mesh2.Vertex> iterator = inMesh.vertices().iterator();
-		for (int i = 0; i < inMesh.vertices().size(); i++) {
-			Point simpleVertex = new Point();
-			simpleVertex.setPosition(iterator.next());
-			meshVerts[i] = simpleVertex;
-		}
-
-		for (Point meshVert : meshVerts) {
-			final Vertex v = new Vertex(meshVert);
-			vertices.add(v);
-		}
-//
-//        int index = 0;
-		int triIndex = 0;
-
-		Iterator<net.imagej.mesh2.Triangle> iteratorTriangles = inMesh.triangles().iterator();
-		for (int i = 0; i < inMesh.triangles().size(); i++) {
-			net.imagej.mesh2.Triangle tria = iteratorTriangles.next();
-			final Triangle t = new Triangle(
-					(int) tria.vertex0(),
-					(int) tria.vertex1(),
-					(int) tria.vertex2()
-			);
-
-			triangles.add(t);
-
-			refs.add(new Ref(triIndex, t.v[0]));
-			refs.add(new Ref(triIndex, t.v[1]));
-			refs.add(new Ref(triIndex, t.v[2]));
-			triIndex++;
-		}
-	}
-
 	/**
 	 * Begins the simplification process.
 	 *
 	 * @param target_percent the amount in percent to attempt to achieve. For example: 0.25f would result in creating
 	 *                       a mesh with 25% of triangles contained in the original.
-	 * @param agressiveness  sharpness to increase the threshold. 5..8 are good numbers. more iterations yield higher
-	 *                       quality. Minimum 4 and maximum 20 are recommended.
+	 * @param agressiveness  no longer used; edges are collapsed in order of increasing error.
 	 */
 	Mesh simplify(float target_percent, double agressiveness) {
-
-		int target_count = (int) (inMesh.triangles().size() * target_percent);
-		return simplify(target_count, agressiveness);
+		final long targetCount = (long) (inMesh.triangles().size() * target_percent);
+		return simplify(targetCount, Double.POSITIVE_INFINITY);
 	}
 
 	/**
 	 * Begins the simplification process.
 	 *
-	 * @param target_count  the amount of triangles to attempt to achieve.
-	 * @param agressiveness sharpness to increase the threshold. 5..8 are good numbers. more iterations yield higher
-	 *                      quality. Minimum 4 and maximum 20 are recommended.
+	 * @param targetCount the number of triangles to attempt to achieve.
+	 * @param maxError the maximum quadric error of a collapse.
+	 * @return the simplified mesh
 	 */
-	private Mesh simplify(int target_count, double agressiveness) {
-
-		// init
-
-		// re-read the mesh every time we simplify to start with the original data.
+	Mesh simplify(final long targetCount, final double maxError) {
 		readMesh();
+		initQuadrics();
+		initRefs();
+		initBorders();
+		initEdges();
+
+		int liveTriangles = numTriangles;
+		while (liveTriangles > targetCount && heapSize > 0) {
+			final int e = heap[0];
+			if (edgeCosts[e] > maxError) break;
+			final int v0 = edgeVertices[2 * e];
+			final int v1 = edgeVertices[2 * e + 1];
+			p[0] = edgeTargets[3 * e];
+			p[1] = edgeTargets[3 * e + 1];
+			p[2] = edgeTargets[3 * e + 2];
+			removeEdge(v0, v1);
+			// the edge is requeued once a neighbouring collapse changes it
+			if (!adjacent(v0, v1) || flipped(v0, v1) || flipped(v1, v0)) continue;
+			liveTriangles -= collapse(v0, v1);
+		}
 
-        /*
-        System.out.println(String.format("Simplify Target: %d of %d (%d%%)",
-                target_count,
-                triangles.size(),
-                target_count * 100 / triangles.size()));
-
-        final long timeStart = System.currentTimeMillis();
-        */
-
-		triangles.forEach(t -> t.deleted = false);
-
-		// main iteration loop
-
-		int deleted_triangles = 0;
-
-		final Vector<Boolean> deleted0 = new Vector<>();
-		final Vector<Boolean> deleted1 = new Vector<>();
-
-		final int triangle_count = triangles.size();
-
-		// final Vector3f p = new Vector3f();
-		p.setPosition(new long[]{0, 0, 0});
-
-		for (int iteration = 0; iteration < 1000; iteration++) {
-
-            /*
-            System.out.println(String.format(
-                    "Iteration %02d -> triangles [ deleted: %d : count: %d | removed: %d%% ]",
-                    iteration,
-                    deleted_triangles,
-                    triangle_count - deleted_triangles,
-                    (deleted_triangles * 100 / triangle_count)
-            ));
-            */
+		return createSimplifiedMesh();
+	}
 
+	// -- Setup --
 
-			// target number of triangles reached ? Then break
-			if (triangle_count - deleted_triangles <= target_count) {
-				break;
-			}
+	private void readMesh() {
+		final Vertices vertices = inMesh.vertices();
+		final Triangles tris = inMesh.triangles();
+		if (vertices.size() > Integer.MAX_VALUE / 10 || tris.size() >
+			Integer.MAX_VALUE / 3) throw new IllegalArgumentException(
+				"Mesh is too large to simplify");
+		numVertices = (int) vertices.size();
+		numTriangles = (int) tris.size();
+
+		positions = new double[3 * numVertices];
+		for (int v = 0; v < numVertices; v++) {
+			positions[3 * v] = vertices.x(v);
+			positions[3 * v + 1] = vertices.y(v);
+			positions[3 * v + 2] = vertices.z(v);
+		}
+		triangles = new int[3 * numTriangles];
+		for (int t = 0; t < numTriangles; t++) {
+			triangles[3 * t] = (int) tris.vertex0(t);
+			triangles[3 * t + 1] = (int) tris.vertex1(t);
+			triangles[3 * t + 2] = (int) tris.vertex2(t);
+		}
+		deleted = new boolean[numTriangles];
+	}
 
-			// update mesh once in a while
-			if (iteration % 5 == 0) {
-				update_mesh(iteration);
+	/** Sums the plane quadrics of the triangles around each vertex. */
+	private void initQuadrics() {
+		quadrics = new double[10 * numVertices];
+		for (int t = 0; t < numTriangles; t++) {
+			normal(t, n);
+			final double d = -dot(n, positions, 3 * triangles[3 * t]);
+			final double[] plane = { //
+				n[0] * n[0], n[0] * n[1], n[0] * n[2], n[0] * d, //
+				n[1] * n[1], n[1] * n[2], n[1] * d, //
+				n[2] * n[2], n[2] * d, //
+				d * d };
+			for (int j = 0; j < 3; j++) {
+				final int offset = 10 * triangles[3 * t + j];
+				for (int i = 0; i < 10; i++)
+					quadrics[offset + i] += plane[i];
 			}
+		}
+	}
 
-			// clear dirty flag
-			triangles.forEach(t -> t.dirty = false);
-
-			//
-			// All triangles with edges below the threshold will be removed
-			//
-			// The following numbers works well for most models.
-			// If it does not, try to adjust the 3 parameters
-			//
-			final double threshold = 0.000000001d * Math.pow(iteration + 3d, agressiveness);
-
-			// remove vertices & mark deleted triangles
-			for (int i = triangles.size() - 1; i >= 0; i--) {
-
-				final Triangle t = triangles.get(i);
-
-				if (t.err[3] > threshold || t.deleted || t.dirty) continue;
+	private void initRefs() {
+		refStart = new int[numVertices];
+		refCount = new int[numVertices];
+		refs = new int[Math.max(16, 6 * numTriangles)];
+		rebuildRefs();
+	}
 
+	/**
+	 * Marks the vertices of edges that belong to a single triangle.
+	 */
+	private void initBorders() {
+		border = new boolean[numVertices];
+		int[] ids = new int[16];
+		int[] counts = new int[16];
+		for (int v = 0; v < numVertices; v++) {
+			int size = 0;
+			for (int k = 0; k < refCount[v]; k++) {
+				final int t = refs[refStart[v] + k] / 3;
 				for (int j = 0; j < 3; j++) {
-
-					if (t.err[j] >= threshold) {
-						continue;
-					}
-
-					final int i0 = t.v[j];
-					final int i1 = t.v[(j + 1) % 3];
-
-					final Vertex v0 = vertices.get(i0);
-					final Vertex v1 = vertices.get(i1);
-
-					// Border check
-					if (v0.border || v1.border) {
-						continue;
-					}
-
-					// Compute vertex to collapse to
-					// final Vector3f p = new Vector3f();
-					p.setPosition(new long[]{0, 0, 0});
-					calculate_error(i0, i1, p);
-
-					deleted0.setSize(v0.tcount); // normals temporarily
-					deleted1.setSize(v1.tcount); // normals temporarily
-					// deleted0.trimToSize();
-					// deleted1.trimToSize();
-
-					// don't remove if flipped
-					if (flipped(p, i1, v0, deleted0)) {
-						continue;
-					}
-
-					if (flipped(p, i0, v1, deleted1)) {
-						continue;
+					final int id = triangles[3 * t + j];
+					int i = 0;
+					while (i < size && ids[i] != id)
+						i++;
+					if (i == size) {
+						if (size == ids.length) {
+							ids = Arrays.copyOf(ids, 2 * size);
+							counts = Arrays.copyOf(counts, 2 * size);
+						}
+						ids[size] = id;
+						counts[size++] = 0;
 					}
-
-					// not flipped, so remove edge
-					v0.p.setPosition(p);
-					v0.q.addLocal(v1.q);
-
-					final int tstart = refs.size();
-
-					deleted_triangles += update_triangles(i0, v0, deleted0);
-					deleted_triangles += update_triangles(i0, v1, deleted1);
-
-					final int tcount = refs.size() - tstart;
-
-					v0.tstart = tstart;
-					v0.tcount = tcount;
-
-					break;
+					counts[i]++;
 				}
-
-				// done?
-				if (triangle_count - deleted_triangles <= target_count) {
-					break;
-				}
-
 			}
-
+			for (int i = 0; i < size; i++)
+				if (counts[i] == 1) border[ids[i]] = true;
 		}
-
-		// clean up mesh
-		compact_mesh();
-
-		// ready
-        /*
-        long timeEnd = System.currentTimeMillis();
-
-        System.out.println(String.format("Simplify: %d/%d %d%% removed in %d ms",
-                triangle_count - deleted_triangles,
-                triangle_count,
-                deleted_triangles * 100 / triangle_count,
-                timeEnd-timeStart));
-        */
-
-		return createSimplifiedMesh();
 	}
 
-	// Check if a triangle flips when this edge is removed
-	private boolean flipped(final Point p, final int i1, final Vertex v0, final Vector<Boolean> deleted) {
-		for (int k = 0; k < v0.tcount; k++) {
-			Ref ref = refs.get(v0.tstart + k);
-			Triangle t = triangles.get(ref.tid);
-
-			if (t.deleted) continue;
+	private void initEdges() {
+		edgeCapacity = Math.max(16, 3 * numTriangles / 2 + 1);
+		edgeVertices = new int[2 * edgeCapacity];
+		edgeCosts = new double[edgeCapacity];
+		edgeTargets = new double[3 * edgeCapacity];
+		edgeStamps = new int[edgeCapacity];
+		heapIndex = new int[edgeCapacity];
+		heap = new int[edgeCapacity];
+		heapCosts = new double[edgeCapacity];
+		freeEdges = new int[edgeCapacity];
+		numFreeEdges = edgeCapacity;
+		for (int i = 0; i < edgeCapacity; i++)
+			freeEdges[i] = edgeCapacity - 1 - i;
+		edgeIds = new EdgeMap(edgeCapacity);
+		for (int t = 0; t < numTriangles; t++)
+			for (int j = 0; j < 3; j++)
+				addEdge(triangles[3 * t + j], triangles[3 * t + (j + 1) % 3]);
+	}
 
-			final int s = ref.tvertex;
-			final int id1 = t.v[(s + 1) % 3];
-			final int id2 = t.v[(s + 2) % 3];
+	// -- Collapse --
 
-			if (id1 == i1 || id2 == i1) {
-				deleted.set(k, true);
-				continue;
+	/**
+	 * Checks whether moving {@code v} to {@link #p} flips or degenerates one
+	 * of its triangles that does not contain {@code u}.
+	 */
+	private boolean flipped(final int v, final int u) {
+		for (int k = 0; k < refCount[v]; k++) {
+			final int ref = refs[refStart[v] + k];
+			final int t = ref / 3;
+			if (deleted[t]) continue;
+			final int s = ref % 3;
+			final int id1 = triangles[3 * t + (s + 1) % 3];
+			final int id2 = triangles[3 * t + (s + 2) % 3];
+			if (id1 == u || id2 == u) continue;
+
+			for (int i = 0; i < 3; i++) {
+				d1[i] = positions[3 * id1 + i] - p[i];
+				d2[i] = positions[3 * id2 + i] - p[i];
 			}
-
-			final Point d1 = vertices.get(id1).p.subtract(p).normalizeLocal();
-			final Point d2 = vertices.get(id2).p.subtract(p).normalizeLocal();
-
-			if (Math.abs(d1.dot(d2)) > 0.9999d) return true;
-
-			final Point n = new Point(d1).crossLocal(d2).normalizeLocal();
-
-			deleted.set(k, false);
-
-			if (n.dot(t.n) < 0.2d) return true;
+			normalize(d1);
+			normalize(d2);
+			if (Math.abs(dot(d1, d2, 0)) > 0.9999d) return true;
+			cross(d1, d2, n);
+			normalize(n);
+			normal(t, current);
+			if (dot(n, current, 0) < 0.2d) return true;
 		}
-
 		return false;
 	}
 
-	// Update triangle connections and edge error after a edge is collapsed
-	private int update_triangles(final int i0, final Vertex v, final Vector<Boolean> deleted) {
-		int tris_deleted = 0;
-
-		p.setPosition(new long[]{0, 0, 0});
-
-		for (int k = 0; k < v.tcount; k++) {
-
-			final Ref r = refs.get(v.tstart + k);
-			final Triangle t = triangles.get(r.tid);
-
-			if (t.deleted) continue;
-
-			if (deleted.get(k)) {
-				t.deleted = true;
-				tris_deleted++;
+	/**
+	 * Collapses {@code v1} into {@code v0}, which moves to {@link #p}.
+	 *
+	 * @return the number of deleted triangles
+	 */
+	private int collapse(final int v0, final int v1) {
+		moveEdges(v1, v0);
+
+		ensureRefCapacity(refCount[v0] + refCount[v1]);
+		final int start = refSize;
+		int removed = 0;
+		for (int k = 0; k < refCount[v1]; k++) {
+			final int ref = refs[refStart[v1] + k];
+			final int t = ref / 3;
+			if (deleted[t]) continue;
+			if (triangles[3 * t] == v0 || triangles[3 * t + 1] == v0 ||
+				triangles[3 * t + 2] == v0)
+			{
+				deleted[t] = true;
+				removed++;
 				continue;
 			}
-
-			t.v[r.tvertex] = i0;
-			t.dirty = true;
-			t.err[0] = calculate_error(t.v[0], t.v[1], p);
-			t.err[1] = calculate_error(t.v[1], t.v[2], p);
-			t.err[2] = calculate_error(t.v[2], t.v[0], p);
-			t.err[3] = Math.min(t.err[0], Math.min(t.err[1], t.err[2]));
-
-			refs.add(r);
-		}
-
-		return tris_deleted;
+			triangles[ref] = v0;
+			refs[refSize++] = ref;
+		}
+		for (int k = 0; k < refCount[v0]; k++) {
+			final int ref = refs[refStart[v0] + k];
+			if (!deleted[ref / 3]) refs[refSize++] = ref;
+		}
+		refStart[v0] = start;
+		refCount[v0] = refSize - start;
+		refCount[v1] = 0;
+
+		System.arraycopy(p, 0, positions, 3 * v0, 3);
+		for (int i = 0; i < 10; i++)
+			quadrics[10 * v0 + i] += quadrics[10 * v1 + i];
+
+		// the quadric of v0 changed, so the costs of all its edges change
+		collapses++;
+		for (int k = 0; k < refCount[v0]; k++) {
+			final int ref = refs[refStart[v0] + k];
+			final int t = ref / 3;
+			updateEdge(v0, triangles[3 * t + (ref + 1) % 3]);
+			updateEdge(v0, triangles[3 * t + (ref + 2) % 3]);
+		}
+		return removed;
 	}
 
-	private void update_mesh(final int iteration) {
-
-		if (iteration > 0) { // compact triangles
-
-			int dst = 0;
-
-			for (int i = 0; i < triangles.size(); i++) {
-				if (!triangles.get(i).deleted) {
-					triangles.set(dst++, triangles.get(i));
+	/**
+	 * Reattaches the queued edges of {@code from} to {@code to}, dropping
+	 * those that {@code to} already has.
+	 */
+	private void moveEdges(final int from, final int to) {
+		for (int k = 0; k < refCount[from]; k++) {
+			final int ref = refs[refStart[from] + k];
+			final int t = ref / 3;
+			if (deleted[t]) continue;
+			for (int j = 1; j < 3; j++) {
+				final int x = triangles[3 * t + (ref + j) % 3];
+				final int e = edgeIds.get(key(from, x));
+				if (e < 0) continue;
+				if (x == to || edgeIds.get(key(to, x)) >= 0) {
+					removeEdge(from, x);
+					continue;
 				}
+				edgeIds.remove(key(from, x));
+				edgeIds.put(key(to, x), e);
+				edgeVertices[2 * e] = to;
+				edgeVertices[2 * e + 1] = x;
 			}
-
-			triangles.setSize(dst);
-		}
-
-		//
-		// Init Quadrics by Plane & Edge Errors
-		//
-		// required at the beginning ( iteration == 0 )
-		// recomputing during the simplification is not required,
-		// but mostly improves the result for closed meshes
-		//
-		if (iteration == 0) {
-			vertices.forEach(v -> v.q.set(new SymmetricMatrix(0.0d)));
-
-			// for (Triangle t : triangles) {
-			triangles.forEach(t -> {
-
-				Point[] p = new Point[]{
-						vertices.get(t.v[0]).p,
-						vertices.get(t.v[1]).p,
-						vertices.get(t.v[2]).p,
-				};
-
-				Point n = p[1].subtract(p[0])
-						.crossLocal(p[2].subtract(p[0]))
-						.normalizeLocal();
-
-				t.n.setPosition(n);
-
-				for (int j = 0; j < 3; j++) {
-					vertices.get(t.v[j]).q.set(
-							vertices.get(t.v[j]).q.add(new SymmetricMatrix(n.getFloatPosition(0), n.getFloatPosition(1), n.getFloatPosition(2), -n.dot(p[0]))));
-				}
-
-			});
-
-			// final Vector3f p = new Vector3f();
-			p.setPosition(new long[]{0, 0, 0});
-
-			triangles.forEach(t -> {
-
-				for (int j = 0; j < 3; j++) {
-					t.err[j] = calculate_error(t.v[j], t.v[(j + 1) % 3], p);
-				}
-
-				t.err[3] = Math.min(t.err[0], Math.min(t.err[1], t.err[2]));
-
-			});
-
 		}
+	}
 
-		// Init Reference ID list
-		vertices.forEach(v -> {
-			v.tstart = 0;
-			v.tcount = 0;
-		});
-
-		triangles.forEach(t -> {
-			vertices.get(t.v[0]).tcount++;
-			vertices.get(t.v[1]).tcount++;
-			vertices.get(t.v[2]).tcount++;
-		});
-
-		int tstart = 0;
+	/** Queues or requeues the edge between {@code a} and {@code b}. */
+	private void updateEdge(final int a, final int b) {
+		final int e = edgeIds.get(key(a, b));
+		if (e < 0) {
+			addEdge(a, b);
+			return;
+		}
+		if (edgeStamps[e] == collapses) return;
+		edgeStamps[e] = collapses;
+		edgeCosts[e] = calculateError(a, b, edgeTargets, 3 * e);
+		siftUp(heapIndex[e]);
+		siftDown(heapIndex[e]);
+	}
 
-		for (Vertex v : vertices) {
-			v.tstart = tstart;
-			tstart += v.tcount;
-			v.tcount = 0;
+	/** Checks whether {@code a} and {@code b} share a live triangle. */
+	private boolean adjacent(final int a, final int b) {
+		for (int k = 0; k < refCount[a]; k++) {
+			final int t = refs[refStart[a] + k] / 3;
+			if (!deleted[t] && (triangles[3 * t] == b || triangles[3 * t + 1] == b ||
+				triangles[3 * t + 2] == b)) return true;
 		}
+		return false;
+	}
 
-		// Write References
-		refs.setSize(triangles.size() * 3);
-
-		for (int i = 0; i < triangles.size(); i++) {
-
-			Triangle t = triangles.get(i);
+	private void ensureRefCapacity(final int extra) {
+		if (refSize + extra <= refs.length) return;
+		rebuildRefs();
+		if (refSize + extra > refs.length / 2) //
+			refs = Arrays.copyOf(refs, 2 * (refSize + extra));
+	}
 
-			for (int j = 0; j < 3; j++) {
-				Vertex v = vertices.get(t.v[j]);
-				refs.get(v.tstart + v.tcount).tid = i;
-				refs.get(v.tstart + v.tcount).tvertex = j;
-				v.tcount++;
+	/** Rebuilds the triangle references of all vertices from scratch. */
+	private void rebuildRefs() {
+		Arrays.fill(refCount, 0);
+		for (int t = 0; t < numTriangles; t++)
+			if (!deleted[t]) for (int j = 0; j < 3; j++)
+				refCount[triangles[3 * t + j]]++;
+		int start = 0;
+		for (int v = 0; v < numVertices; v++) {
+			refStart[v] = start;
+			start += refCount[v];
+			refCount[v] = 0;
+		}
+		for (int t = 0; t < numTriangles; t++)
+			if (!deleted[t]) for (int j = 0; j < 3; j++) {
+				final int v = triangles[3 * t + j];
+				refs[refStart[v] + refCount[v]++] = 3 * t + j;
 			}
-		}
-
-		// Identify boundary : vertices[].border=0,1
-		if (iteration == 0) {
-			final Vector<Integer> vcount = new Vector<>();
-			final Vector<Integer> vids = new Vector<>();
-
-			vertices.forEach(v -> v.border = false);
-
-			vertices.forEach(v -> {
-
-				vcount.clear();
-				vids.clear();
-
-				for (int j = 0; j < v.tcount; j++) {
-
-					int k = refs.get(v.tstart + j).tid;
-
-					Triangle t = triangles.get(k);
-
-					for (k = 0; k < 3; k++) {
-
-						int ofs = 0;
-
-						final int id = t.v[k];
+		refSize = start;
+	}
 
-						while (ofs < vcount.size()) {
-							if (vids.get(ofs) == id) {
-								break;
-							}
+	// -- Edges --
+
+	/** Queues the edge between {@code a} and {@code b}, unless present. */
+	private void addEdge(final int a, final int b) {
+		if (a == b || border[a] || border[b]) return;
+		final long key = key(a, b);
+		if (edgeIds.get(key) >= 0) return;
+		if (numFreeEdges == 0) growEdges();
+		final int e = freeEdges[--numFreeEdges];
+		edgeIds.put(key, e);
+		edgeVertices[2 * e] = a;
+		edgeVertices[2 * e + 1] = b;
+		edgeCosts[e] = calculateError(a, b, edgeTargets, 3 * e);
+		edgeStamps[e] = collapses;
+		heap[heapSize] = e;
+		heapIndex[e] = heapSize++;
+		siftUp(heapIndex[e]);
+	}
 
-							ofs++;
-						}
+	private void removeEdge(final int a, final int b) {
+		final int e = edgeIds.remove(key(a, b));
+		if (e < 0) return;
+		final int i = heapIndex[e];
+		final int last = heap[--heapSize];
+		if (i < heapSize) {
+			heap[i] = last;
+			heapIndex[last] = i;
+			siftDown(i);
+			siftUp(heapIndex[last]);
+		}
+		freeEdges[numFreeEdges++] = e;
+	}
 
-						if (ofs == vcount.size()) {
-							vcount.add(1);
-							vids.add(id);
-						} else {
-							vcount.set(ofs, vcount.get(ofs) + 1);
-						}
-					}
-				}
+	private void growEdges() {
+		final int capacity = 2 * edgeCapacity;
+		edgeVertices = Arrays.copyOf(edgeVertices, 2 * capacity);
+		edgeCosts = Arrays.copyOf(edgeCosts, capacity);
+		edgeTargets = Arrays.copyOf(edgeTargets, 3 * capacity);
+		edgeStamps = Arrays.copyOf(edgeStamps, capacity);
+		heapIndex = Arrays.copyOf(heapIndex, capacity);
+		heap = Arrays.copyOf(heap, capacity);
+		heapCosts = Arrays.copyOf(heapCosts, capacity);
+		freeEdges = Arrays.copyOf(freeEdges, capacity);
+		for (int e = capacity - 1; e >= edgeCapacity; e--)
+			freeEdges[numFreeEdges++] = e;
+		edgeCapacity = capacity;
+	}
 
-				for (int j = 0; j < vcount.size(); j++) {
-					if (vcount.get(j) == 1) {
-						vertices.get(vids.get(j)).border = true;
-					}
-				}
+	private void siftUp(int i) {
+		final int e = heap[i];
+		final double cost = edgeCosts[e];
+		while (i > 0) {
+			final int parent = (i - 1) >>> 1;
+			if (heapCosts[parent] <= cost) break;
+			move(parent, i);
+			i = parent;
+		}
+		heap[i] = e;
+		heapCosts[i] = cost;
+		heapIndex[e] = i;
+	}
 
+	private void siftDown(int i) {
+		final int e = heap[i];
+		final double cost = edgeCosts[e];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= heapSize) break;
+			if (child + 1 < heapSize && heapCosts[child + 1] < heapCosts[child])
+				child++;
+			if (cost <= heapCosts[child]) break;
+			move(child, i);
+			i = child;
+		}
+		heap[i] = e;
+		heapCosts[i] = cost;
+		heapIndex[e] = i;
+	}
 
-			});
-		}
+	private void move(final int from, final int to) {
+		heap[to] = heap[from];
+		heapCosts[to] = heapCosts[from];
+		heapIndex[heap[to]] = to;
 	}
 
-	// Finally compact mesh before exiting
-	private void compact_mesh() {
-		int dst = 0;
+	private static long key(final int a, final int b) {
+		return a < b ? (long) a << 32 | b : (long) b << 32 | a;
+	}
 
-		vertices.forEach(v -> v.tcount = 0);
+	// -- Quadrics --
 
-		for (int i = 0; i < triangles.size(); i++) {
-			if (!triangles.get(i).deleted) {
-				Triangle t = triangles.get(i);
+	/** Error between vertex and quadric. */
+	private static double vertexError(final double[] q, final int o,
+		final double x, final double y, final double z)
+	{
+		return q[o] * x * x + 2 * q[o + 1] * x * y + 2 * q[o + 2] * x * z + 2 *
+			q[o + 3] * x + q[o + 4] * y * y + 2 * q[o + 5] * y * z + 2 * q[o + 6] *
+				y + q[o + 7] * z * z + 2 * q[o + 8] * z + q[o + 9];
+	}
 
-				triangles.set(dst++, t);
+	private static double det(final double[] m, final int a11, final int a12,
+		final int a13, final int a21, final int a22, final int a23, final int a31,
+		final int a32, final int a33)
+	{
+		return m[a11] * m[a22] * m[a33] + m[a13] * m[a21] * m[a32] + m[a12] *
+			m[a23] * m[a31] - m[a13] * m[a22] * m[a31] - m[a11] * m[a23] * m[a32] -
+			m[a12] * m[a21] * m[a33];
+	}
 
-				for (int j = 0; j < 3; j++) {
-					vertices.get(t.v[j]).tcount = 1;
-				}
+	/**
+	 * Computes the error of collapsing the edge between {@code a} and
+	 * {@code b}, and the position to collapse to.
+	 */
+	private double calculateError(final int a, final int b,
+		final double[] target, final int offset)
+	{
+		for (int i = 0; i < 10; i++)
+			q[i] = quadrics[10 * a + i] + quadrics[10 * b + i];
+		final double det = det(q, 0, 1, 2, 1, 4, 5, 2, 5, 7);
+		if (det != 0 && !(border[a] & border[b])) {
+			// q_delta is invertible
+			final double x = -1 / det * det(q, 1, 2, 3, 4, 5, 6, 5, 7, 8);
+			final double y = 1 / det * det(q, 0, 2, 3, 1, 5, 6, 2, 7, 8);
+			final double z = -1 / det * det(q, 0, 1, 3, 1, 4, 6, 2, 5, 8);
+			target[offset] = x;
+			target[offset + 1] = y;
+			target[offset + 2] = z;
+			return vertexError(q, 0, x, y, z);
+		}
+		// det = 0 -> try to find best result among the ends and the middle
+		double error = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < 3; i++) {
+			final double wa = i == 0 ? 1 : i == 1 ? 0 : 0.5;
+			final double x = wa * positions[3 * a] + (1 - wa) * positions[3 * b];
+			final double y = wa * positions[3 * a + 1] + (1 - wa) * positions[3 * b +
+				1];
+			final double z = wa * positions[3 * a + 2] + (1 - wa) * positions[3 * b +
+				2];
+			final double e = vertexError(q, 0, x, y, z);
+			if (e <= error) {
+				error = e;
+				target[offset] = x;
+				target[offset + 1] = y;
+				target[offset + 2] = z;
 			}
 		}
+		return error;
+	}
 
-		triangles.setSize(dst);
-
-		dst = 0;
+	// -- Geometry --
 
-		for (Vertex vertice : vertices) {
-			if (vertice.tcount != 0) {
-				vertice.tstart = dst;
-				vertices.get(dst).p.setPosition(vertice.p);
-				dst++;
-			}
+	/** Computes the unit normal of triangle {@code t}. */
+	private void normal(final int t, final double[] n) {
+		final int o0 = 3 * triangles[3 * t];
+		final int o1 = 3 * triangles[3 * t + 1];
+		final int o2 = 3 * triangles[3 * t + 2];
+		for (int i = 0; i < 3; i++) {
+			e1[i] = positions[o1 + i] - positions[o0 + i];
+			e2[i] = positions[o2 + i] - positions[o0 + i];
 		}
-
-		for (Triangle t : triangles) {
-			for (int j = 0; j < 3; j++) {
-				t.v[j] = vertices.get(t.v[j]).tstart;
-			}
-		}
-
-		vertices.setSize(dst);
+		cross(e1, e2, n);
+		normalize(n);
 	}
 
-	// Error between vertex and Quadric
-	private double vertex_error(final SymmetricMatrix q, final double x, final double y, final double z) {
-		return q.getValue(0) * x * x + 2
-				* q.getValue(1) * x * y + 2
-				* q.getValue(2) * x * z + 2
-				* q.getValue(3) * x
-				+ q.getValue(4) * y * y + 2
-				* q.getValue(5) * y * z + 2
-				* q.getValue(6) * y
-				+ q.getValue(7) * z * z + 2
-				* q.getValue(8) * z
-				+ q.getValue(9);
+	private static double dot(final double[] a, final double[] b,
+		final int offset)
+	{
+		return a[0] * b[offset] + a[1] * b[offset + 1] + a[2] * b[offset + 2];
 	}
 
-	// Error for one edge
-	private double calculate_error(final int id_v1, final int id_v2, final Point p_result) {
-
-		// compute interpolated vertex
-		SymmetricMatrix q = vertices.get(id_v1).q.add(vertices.get(id_v2).q);
-		boolean border = vertices.get(id_v1).border & vertices.get(id_v2).border;
-		double error;
-		double det = q.det(0, 1, 2, 1, 4, 5, 2, 5, 7);
-
-		if (det != 0 && !border) {
-			// q_delta is invertible
-			p_result.setPosition((float) (-1 / det * (q.det(1, 2, 3, 4, 5, 6, 5, 7, 8))), 0);    // vx = A41/det(q_delta)
-			p_result.setPosition((float) (1 / det * (q.det(0, 2, 3, 1, 5, 6, 2, 7, 8))), 1);    // vy = A42/det(q_delta)
-			p_result.setPosition((float) (-1 / det * (q.det(0, 1, 3, 1, 4, 6, 2, 5, 8))), 2);    // vz = A43/det(q_delta)
-			error = vertex_error(q, p_result.getFloatPosition(0), p_result.getFloatPosition(1), p_result.getFloatPosition(2));
-		} else {
-			// det = 0 -> try to find best result
-			Point p1 = vertices.get(id_v1).p;
-			Point p2 = vertices.get(id_v2).p;
-			Point p3 = p1.add(p2).divide(2.0f); // (p1+p2)/2;
-			double error1 = vertex_error(q, p1.getFloatPosition(0), p1.getFloatPosition(1), p1.getFloatPosition(2));
-			double error2 = vertex_error(q, p2.getFloatPosition(0), p2.getFloatPosition(1), p2.getFloatPosition(2));
-			double error3 = vertex_error(q, p3.getFloatPosition(0), p3.getFloatPosition(1), p3.getFloatPosition(2));
-
-			error = Math.min(error1, Math.min(error2, error3));
-
-			if (error1 == error) p_result.setPosition(p1);
-			if (error2 == error) p_result.setPosition(p2);
-			if (error3 == error) p_result.setPosition(p3);
-		}
+	private static void cross(final double[] a, final double[] b,
+		final double[] result)
+	{
+		result[0] = a[1] * b[2] - a[2] * b[1];
+		result[1] = a[2] * b[0] - a[0] * b[2];
+		result[2] = a[0] * b[1] - a[1] * b[0];
+	}
 
-		return error;
+	private static void normalize(final double[] a) {
+		final double length = Math.sqrt(a[0] * a[0] + a[1] * a[1] + a[2] * a[2]);
+		if (length == 0) return;
+		a[0] /= length;
+		a[1] /= length;
+		a[2] /= length;
 	}
 
+	// -- Output --
 
+	/** Writes the live triangles and their vertices into a new mesh. */
 	private Mesh createSimplifiedMesh() {
-
-
-		Point[] vertArray = new Point[vertices.size()];
-
-		for (int i = 0; i < vertArray.length; i++) {
-			Vertex v = vertices.get(i);
-			vertArray[i] = v.p;
-		}
-
-		List<Integer> indexList = new ArrayList<>();
-
-		triangles.forEach(t -> {
-			indexList.add(t.v[0]);
-			indexList.add(t.v[1]);
-			indexList.add(t.v[2]);
-		});
-
-		Mesh mesh = new BufferMesh(vertArray.length, triangles.size());
-
-		for (int i = 0; i < vertArray.length; i++) {
-			mesh.vertices().add(vertArray[i].getFloatPosition(0), vertArray[i].getFloatPosition(1), vertArray[i].getFloatPosition(2));
+		final int[] newIndex = new int[numVertices];
+		Arrays.fill(newIndex, -1);
+		int vertexCount = 0;
+		int triangleCount = 0;
+		for (int t = 0; t < numTriangles; t++) {
+			if (deleted[t]) continue;
+			triangleCount++;
+			for (int j = 0; j < 3; j++) {
+				final int v = triangles[3 * t + j];
+				if (newIndex[v] < 0) newIndex[v] = vertexCount++;
+			}
 		}
-		triangles.forEach(triangle -> mesh.triangles().add(triangle.v[0], triangle.v[1], triangle.v[2]));
 
+		final Mesh mesh = new BufferMesh(vertexCount, triangleCount);
+		final int[] order = new int[vertexCount];
+		for (int v = 0; v < numVertices; v++)
+			if (newIndex[v] >= 0) order[newIndex[v]] = v;
+		for (final int v : order)
+			mesh.vertices().add(positions[3 * v], positions[3 * v + 1],
+				positions[3 * v + 2]);
+		for (int t = 0; t < numTriangles; t++)
+			if (!deleted[t]) mesh.triangles().add(newIndex[triangles[3 * t]],
+				newIndex[triangles[3 * t + 1]], newIndex[triangles[3 * t + 2]]);
 		return mesh;
 	}
 
-	private static class Point extends RealPoint {
+	// -- Helper classes --
 
-		Point() {
-			super(3);
-		}
+	/**
+	 * Open addressing hash map from edge keys to edge ids, with linear probing
+	 * and backward shift deletion.
+	 */
+	private static final class EdgeMap {
 
-		Point(Point d1) {
-			super(d1);
+		private long[] keys;
+		private int[] values;
+		private int mask;
+		private int size;
+
+		private EdgeMap(final int expected) {
+			int capacity = 16;
+			while (capacity < 2 * expected)
+				capacity <<= 1;
+			allocate(capacity);
 		}
 
-		Point subtract(Point p) {
-			Point res = new Point(this);
-			for (int i = 0; i < numDimensions(); i++) {
-				res.setPosition(getDoublePosition(i) - p.getDoublePosition(i), i);
-			}
-			return res;
+		private void allocate(final int capacity) {
+			keys = new long[capacity];
+			Arrays.fill(keys, -1);
+			values = new int[capacity];
+			mask = capacity - 1;
 		}
 
-		Point normalizeLocal() {
-			double x = getDoublePosition(0);
-			double y = getDoublePosition(1);
-			double z = getDoublePosition(2);
-			double length = x * x + y * y + z * z;
-			if (length != 1f && length != 0f) {
-				length = 1.0f / Math.sqrt(length);
-				x *= length;
-				y *= length;
-				z *= length;
+		int get(final long key) {
+			for (int i = slot(key);; i = (i + 1) & mask) {
+				if (keys[i] == key) return values[i];
+				if (keys[i] == -1) return -1;
 			}
-			setPosition(new double[]{x, y, z});
-			return this;
 		}
 
-		Point add(Point p) {
-			Point res = new Point(this);
-			for (int i = 0; i < numDimensions(); i++) {
-				res.setPosition(getDoublePosition(i) + p.getDoublePosition(i), i);
-			}
-			return res;
+		void put(final long key, final int value) {
+			if (2 * (size + 1) > keys.length) rehash();
+			int i = slot(key);
+			while (keys[i] != -1 && keys[i] != key)
+				i = (i + 1) & mask;
+			if (keys[i] == -1) size++;
+			keys[i] = key;
+			values[i] = value;
 		}
 
-		Point divide(float v) {
-			Point res = new Point(this);
-			for (int i = 0; i < numDimensions(); i++) {
-				res.setPosition(getDoublePosition(i) / v, i);
+		int remove(final long key) {
+			int i = slot(key);
+			while (keys[i] != key) {
+				if (keys[i] == -1) return -1;
+				i = (i + 1) & mask;
 			}
-			return res;
+			final int value = values[i];
+			size--;
+			// shift back following entries that probed past the freed slot
+			for (int j = (i + 1) & mask; keys[j] != -1; j = (j + 1) & mask) {
+				final int home = slot(keys[j]);
+				if (((j - home) & mask) >= ((j - i) & mask)) {
+					keys[i] = keys[j];
+					values[i] = values[j];
+					i = j;
+				}
+			}
+			keys[i] = -1;
+			return value;
 		}
 
-		double dot(Point p) {
-			return getDoublePosition(0) * p.getDoublePosition(0) + getDoublePosition(1) * p.getDoublePosition(1) + getDoublePosition(2) * p.getDoublePosition(2);
+		private void rehash() {
+			final long[] oldKeys = keys;
+			final int[] oldValues = values;
+			allocate(2 * oldKeys.length);
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++)
+				if (oldKeys[i] != -1) put(oldKeys[i], oldValues[i]);
 		}
 
-		Point crossLocal(Point p) {
-			double x = getDoublePosition(0);
-			double y = getDoublePosition(1);
-			double z = getDoublePosition(2);
-			double otherX = p.getDoublePosition(0);
-			double otherY = p.getDoublePosition(1);
-			double otherZ = p.getDoublePosition(2);
-			double tempx = (y * otherZ) - (z * otherY);
-			double tempy = (z * otherX) - (x * otherZ);
-			setPosition(x * otherY - (y * otherX), 2);
-			setPosition(tempx, 0);
-			setPosition(tempy, 1);
-			return this;
+		private int slot(final long key) {
+			final long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ h >>> 32) & mask;
 		}
 	}
-
 }
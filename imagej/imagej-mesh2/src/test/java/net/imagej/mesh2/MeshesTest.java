@@ -145,6 +145,49 @@ public class MeshesTest {
 		assertTrue(!expectedFacets.hasNext() && !actualFacets.hasNext());
 	}
 
+	@Test
+	public void testSimplify() {
+		final Mesh grid = createGrid(20);
+
+		// flat interior vertices can be removed without error
+		Mesh res = Meshes.simplifyTo(grid, 0L, 1e-9);
+		assertTrue(res.triangles().size() < grid.triangles().size());
+		double area = 0;
+		for (long t = 0; t < res.triangles().size(); t++) {
+			final long v0 = res.triangles().vertex0(t);
+			final long v1 = res.triangles().vertex1(t);
+			final long v2 = res.triangles().vertex2(t);
+			area += 0.5 * ((res.vertices().x(v1) - res.vertices().x(v0)) * //
+				(res.vertices().y(v2) - res.vertices().y(v0)) - //
+				(res.vertices().y(v1) - res.vertices().y(v0)) * //
+				(res.vertices().x(v2) - res.vertices().x(v0)));
+		}
+		// border vertices are kept, so the outline is preserved
+		assertEquals(400, area, EPSILON);
+		for (long v = 0; v < res.vertices().size(); v++)
+			assertEquals(0, res.vertices().z(v), EPSILON);
+
+		res = Meshes.simplifyTo(grid, 400L, Double.POSITIVE_INFINITY);
+		assertTrue(res.triangles().size() <= 400);
+		assertTrue(res.triangles().size() > 0);
+	}
+
+	/** Creates a flat grid of {@code n * n} squares. */
+	private static Mesh createGrid(final int n) {
+		final Mesh mesh = new NaiveDoubleMesh();
+		for (int y = 0; y <= n; y++)
+			for (int x = 0; x <= n; x++)
+				mesh.vertices().add(x, y, 0);
+		for (int y = 0; y < n; y++) {
+			for (int x = 0; x < n; x++) {
+				final int v = y * (n + 1) + x;
+				mesh.triangles().add(v, v + 1, v + n + 2);
+				mesh.triangles().add(v, v + n + 2, v + n + 1);
+			}
+		}
+		return mesh;
+	}
+
 	private static Mesh createMeshWithNoise() {
 		Mesh mesh = new NaiveDoubleMesh();
 
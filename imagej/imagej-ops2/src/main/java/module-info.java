@@ -52,6 +52,7 @@ module net.imagej.ops2 {
 	opens net.imagej.ops2.features.lbp2d to therapi.runtime.javadoc, org.scijava.ops.engine;
 	opens net.imagej.ops2.features.tamura2d to therapi.runtime.javadoc, org.scijava.ops.engine;
 	opens net.imagej.ops2.features.zernike to therapi.runtime.javadoc, org.scijava.ops.engine;
+	opens net.imagej.ops2.features.regions to therapi.runtime.javadoc, org.scijava.ops.engine;
 	opens net.imagej.ops2.filter to therapi.runtime.javadoc, org.scijava.ops.engine;
 	opens net.imagej.ops2.filter.addNoise to therapi.runtime.javadoc, org.scijava.ops.engine;
 	opens net.imagej.ops2.filter.bilateral to therapi.runtime.javadoc, org.scijava.ops.engine;
@@ -0,0 +1,505 @@
+/*-
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.imglib2.Interval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.loops.LoopBuilder;
+import net.imglib2.type.NativeType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.function.Computers;
+import org.scijava.ops.api.OpBuilder;
+import org.scijava.ops.api.OpEnvironment;
+import org.scijava.ops.api.RichOp;
+import org.scijava.ops.api.features.OpMatchingException;
+import org.scijava.types.Nil;
+import org.scijava.types.Types;
+
+/**
+ * A sequence of element-wise Ops over {@link RandomAccessibleInterval}s,
+ * executed with as few passes over memory as possible.
+ * <p>
+ * Each step is first matched as a {@link Computers} Op on single elements
+ * (e.g. a {@code Computers.Arity1<FloatType, FloatType>}); such an Op is a
+ * pure per-pixel map. Consecutive per-pixel maps are fused into a single
+ * multithreaded {@link LoopBuilder} pass, which keeps each intermediate value
+ * in a per-thread variable rather than in an intermediate image. A step that
+ * cannot be matched on single elements (e.g. one that needs statistics of
+ * the whole image) is instead matched on {@link RandomAccessibleInterval}s,
+ * and executed as its own pass, with temporary images only around it.
+ * </p>
+ * <p>
+ * Pipelines are immutable; each step returns a new pipeline.
+ * </p>
+ *
+ * @param <I> the element type of the input
+ * @param <O> the element type of the output
+ */
+public final class ElementwisePipeline<I, O extends NativeType<O>> {
+
+	/**
+	 * The most images, besides the source and destination, that a single
+	 * {@link LoopBuilder} pass can read.
+	 */
+	private static final int MAX_OPERANDS = 4;
+
+	private final OpEnvironment env;
+	private final Class<?> inType;
+	private final O outType;
+	private final List<Step> steps;
+
+	private ElementwisePipeline(final OpEnvironment env, final Class<?> inType,
+		final O outType, final List<Step> steps)
+	{
+		this.env = env;
+		this.inType = inType;
+		this.outType = outType;
+		this.steps = steps;
+	}
+
+	/**
+	 * Creates an empty pipeline over elements of {@code type}.
+	 *
+	 * @param env the {@link OpEnvironment} used to match each step
+	 * @param type an element of the input
+	 * @return an empty {@link ElementwisePipeline}
+	 */
+	public static <T extends NativeType<T>> ElementwisePipeline<T, T> of(
+		final OpEnvironment env, final T type)
+	{
+		return new ElementwisePipeline<>(env, type.getClass(), type, Collections
+			.emptyList());
+	}
+
+	/**
+	 * Appends a unary Op that preserves the element type.
+	 *
+	 * @param name the name of the Op, e.g. {@code math.sqrt}
+	 * @return the extended pipeline
+	 * @throws OpMatchingException if no such Op exists
+	 */
+	public ElementwisePipeline<I, O> map(final String name) {
+		return map(name, outType);
+	}
+
+	/**
+	 * Appends a unary Op producing elements of {@code type}.
+	 *
+	 * @param name the name of the Op, e.g. {@code convert.float32}
+	 * @param type an element of the Op's output
+	 * @return the extended pipeline
+	 * @throws OpMatchingException if no such Op exists
+	 */
+	public <P extends NativeType<P>> ElementwisePipeline<I, P> map(
+		final String name, final P type)
+	{
+		return then(new Step(name, type, null, null));
+	}
+
+	/**
+	 * Appends a binary Op combining each element with the corresponding element
+	 * of {@code image}, preserving the element type.
+	 *
+	 * @param name the name of the Op, e.g. {@code math.add}
+	 * @param image the second input of the Op
+	 * @return the extended pipeline
+	 * @throws OpMatchingException if no such Op exists
+	 */
+	public ElementwisePipeline<I, O> combine(final String name,
+		final RandomAccessibleInterval<?> image)
+	{
+		return combine(name, image, outType);
+	}
+
+	/**
+	 * Appends a binary Op combining each element with the corresponding element
+	 * of {@code image}, producing elements of {@code type}.
+	 *
+	 * @param name the name of the Op, e.g. {@code math.add}
+	 * @param image the second input of the Op
+	 * @param type an element of the Op's output
+	 * @return the extended pipeline
+	 * @throws OpMatchingException if no such Op exists
+	 */
+	public <P extends NativeType<P>> ElementwisePipeline<I, P> combine(
+		final String name, final RandomAccessibleInterval<?> image, final P type)
+	{
+		if (image == null) throw new IllegalArgumentException(
+			"Cannot combine with a null image");
+		return then(new Step(name, type, image, null));
+	}
+
+	/**
+	 * Appends a binary Op combining each element with {@code value}, preserving
+	 * the element type.
+	 *
+	 * @param name the name of the Op, e.g. {@code math.multiply}
+	 * @param value the second input of the Op
+	 * @return the extended pipeline
+	 * @throws OpMatchingException if no such Op exists
+	 */
+	public ElementwisePipeline<I, O> combineScalar(final String name,
+		final Object value)
+	{
+		if (value == null) throw new IllegalArgumentException(
+			"Cannot combine with a null value");
+		return then(new Step(name, outType, null, value));
+	}
+
+	/**
+	 * Gets the number of passes over memory made by each execution of this
+	 * pipeline.
+	 *
+	 * @return the number of passes
+	 */
+	public int passes() {
+		return stages().size();
+	}
+
+	/**
+	 * Executes this pipeline on {@code input}, into a new output.
+	 *
+	 * @param input the input
+	 * @return the output
+	 */
+	public RandomAccessibleInterval<O> apply(
+		final RandomAccessibleInterval<I> input)
+	{
+		final RandomAccessibleInterval<O> output = image(input, outType);
+		compute(input, output);
+		return output;
+	}
+
+	/**
+	 * Executes this pipeline on {@code input}, into {@code output}.
+	 *
+	 * @param input the input
+	 * @param output the preallocated output, with the same interval as
+	 *          {@code input}
+	 */
+	public void compute(final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output)
+	{
+		if (steps.isEmpty()) throw new IllegalArgumentException(
+			"Pipeline has no steps");
+		final List<List<Step>> stages = stages();
+		// temporaries, by element type, that no later pass will read
+		final Map<Class<?>, Deque<RandomAccessibleInterval<?>>> free =
+			new HashMap<>();
+		RandomAccessibleInterval<?> src = input;
+		Class<?> srcType = null;
+		for (int i = 0; i < stages.size(); i++) {
+			final List<Step> stage = stages.get(i);
+			final NativeType<?> type = stage.get(stage.size() - 1).outType;
+			final RandomAccessibleInterval<?> dst;
+			if (i == stages.size() - 1) dst = output;
+			else {
+				final Deque<RandomAccessibleInterval<?>> reusable = free.get(type
+					.getClass());
+				dst = reusable == null || reusable.isEmpty() ? image(input, type)
+					: reusable.pop();
+			}
+			if (stage.get(0).elementOp == null) stage.get(0).computeImage(src, dst);
+			else fuse(stage, src, dst);
+			if (src != input) free.computeIfAbsent(srcType,
+				c -> new ArrayDeque<>()).push(src);
+			src = dst;
+			srcType = type.getClass();
+		}
+	}
+
+	private <P extends NativeType<P>> ElementwisePipeline<I, P> then(
+		final Step step)
+	{
+		final Class<?> from = steps.isEmpty() ? inType : outType.getClass();
+		step.match(env, from);
+		final List<Step> extended = new ArrayList<>(steps);
+		extended.add(step);
+		@SuppressWarnings("unchecked")
+		final P type = (P) step.outType;
+		return new ElementwisePipeline<>(env, inType, type, Collections
+			.unmodifiableList(extended));
+	}
+
+	/**
+	 * Groups the steps into passes: each run of per-pixel maps is one pass, and
+	 * each other step is a pass of its own.
+	 */
+	private List<List<Step>> stages() {
+		final List<List<Step>> stages = new ArrayList<>();
+		List<Step> fused = null;
+		int operands = 0;
+		for (final Step step : steps) {
+			if (step.elementOp == null) {
+				stages.add(Collections.singletonList(step));
+				fused = null;
+				continue;
+			}
+			final int needed = step.image == null ? 0 : 1;
+			if (fused == null || operands + needed > MAX_OPERANDS) {
+				fused = new ArrayList<>();
+				stages.add(fused);
+				operands = 0;
+			}
+			fused.add(step);
+			operands += needed;
+		}
+		return stages;
+	}
+
+	private static void fuse(final List<Step> stage,
+		final RandomAccessibleInterval<?> src,
+		final RandomAccessibleInterval<?> dst)
+	{
+		final List<RandomAccessibleInterval<?>> images = new ArrayList<>();
+		images.add(src);
+		for (final Step step : stage)
+			if (step.image != null) images.add(step.image);
+		images.add(dst);
+		final Step[] steps = stage.toArray(new Step[0]);
+		switch (images.size()) {
+			case 2:
+				LoopBuilder.setImages(images.get(0), images.get(1)).multiThreaded()
+					.forEachChunk(chunk -> {
+						final Fusion f = new Fusion(steps);
+						chunk.forEachPixel((a, b) -> f.run(a, b));
+						return null;
+					});
+				break;
+			case 3:
+				LoopBuilder.setImages(images.get(0), images.get(1), images.get(2))
+					.multiThreaded().forEachChunk(chunk -> {
+						final Fusion f = new Fusion(steps);
+						chunk.forEachPixel((a, b, c) -> f.run(a, b, c));
+						return null;
+					});
+				break;
+			case 4:
+				LoopBuilder.setImages(images.get(0), images.get(1), images.get(2),
+					images.get(3)).multiThreaded().forEachChunk(chunk -> {
+						final Fusion f = new Fusion(steps);
+						chunk.forEachPixel((a, b, c, d) -> f.run(a, b, c, d));
+						return null;
+					});
+				break;
+			case 5:
+				LoopBuilder.setImages(images.get(0), images.get(1), images.get(2),
+					images.get(3), images.get(4)).multiThreaded().forEachChunk(chunk -> {
+						final Fusion f = new Fusion(steps);
+						chunk.forEachPixel((a, b, c, d, e) -> f.run(a, b, c, d, e));
+						return null;
+					});
+				break;
+			case 6:
+				LoopBuilder.setImages(images.get(0), images.get(1), images.get(2),
+					images.get(3), images.get(4), images.get(5)).multiThreaded()
+					.forEachChunk(chunk -> {
+						final Fusion f = new Fusion(steps);
+						chunk.forEachPixel((a, b, c, d, e, g) -> f.run(a, b, c, d, e, g));
+						return null;
+					});
+				break;
+			default:
+				throw new IllegalStateException("Cannot fuse " + images.size() +
+					" images into one pass");
+		}
+	}
+
+	private static <T extends NativeType<T>> RandomAccessibleInterval<T> image(
+		final Interval interval, final NativeType<?> type)
+	{
+		@SuppressWarnings("unchecked")
+		final T t = (T) type;
+		return Views.translate(Util.getArrayOrCellImgFactory(interval, t).create(
+			interval), Intervals.minAsLongArray(interval));
+	}
+
+	/**
+	 * One Op of the pipeline.
+	 */
+	private static final class Step {
+
+		private final String name;
+		private final NativeType<?> outType;
+		private final RandomAccessibleInterval<?> image;
+		private final Object scalar;
+
+		/**
+		 * The Op on single elements, unwrapped from its {@link RichOp}, or
+		 * {@code null} if there is none
+		 */
+		private Object elementOp;
+		/** The Op on whole images, iff there is no {@link #elementOp} */
+		private Object imageOp;
+
+		private Step(final String name, final NativeType<?> outType,
+			final RandomAccessibleInterval<?> image, final Object scalar)
+		{
+			this.name = name;
+			this.outType = outType;
+			this.image = image;
+			this.scalar = scalar;
+		}
+
+		private boolean binary() {
+			return image != null || scalar != null;
+		}
+
+		private void match(final OpEnvironment env, final Class<?> in) {
+			final Nil<?> out = Nil.of(outType.getClass());
+			final Nil<?> second = image != null ? Nil.of(Util.getTypeFromInterval(
+				image).getClass()) : scalar != null ? Nil.of(scalar.getClass())
+					: null;
+			try {
+				final Object op = binary() ? OpBuilder.matchComputer(env, name, Nil
+					.of(in), second, out) : OpBuilder.matchComputer(env, name, Nil.of(in),
+						out);
+				// NB the RichOp would record history and progress for every pixel
+				elementOp = op instanceof RichOp ? ((RichOp<?>) op).op() : op;
+				return;
+			}
+			catch (final OpMatchingException e) {
+				// NB not a per-pixel map; fall back to whole images
+			}
+			final Nil<?> imageOut = rai(outType.getClass());
+			final Nil<?> imageSecond = image != null ? rai(Util.getTypeFromInterval(
+				image).getClass()) : second;
+			imageOp = binary() ? OpBuilder.matchComputer(env, name, rai(in),
+				imageSecond, imageOut) : OpBuilder.matchComputer(env, name, rai(in),
+					imageOut);
+		}
+
+		private static Nil<?> rai(final Class<?> elementType) {
+			return Nil.of(Types.parameterize(RandomAccessibleInterval.class,
+				new Type[] { elementType }));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void computeElement(final Object in, final Object operand,
+			final Object out)
+		{
+			if (binary()) ((Computers.Arity2<Object, Object, Object>) elementOp)
+				.compute(in, operand, out);
+			else ((Computers.Arity1<Object, Object>) elementOp).compute(in, out);
+		}
+
+		@SuppressWarnings("unchecked")
+		private void computeImage(final Object in, final Object out) {
+			if (binary()) ((Computers.Arity2<Object, Object, Object>) imageOp)
+				.compute(in, image != null ? image : scalar, out);
+			else ((Computers.Arity1<Object, Object>) imageOp).compute(in, out);
+		}
+	}
+
+	/**
+	 * The state of one fused pass within one chunk of the image.
+	 */
+	private static final class Fusion {
+
+		private final Step[] steps;
+		/** The intermediate value after each step but the last */
+		private final Object[] temps;
+
+		/** The current element of each operand image, reused for each element */
+		private final Object[] operands = new Object[MAX_OPERANDS];
+
+		private Fusion(final Step[] steps) {
+			this.steps = steps;
+			this.temps = new Object[steps.length - 1];
+			for (int i = 0; i < temps.length; i++)
+				temps[i] = steps[i].outType.createVariable();
+		}
+
+		private void run(final Object src, final Object dst) {
+			fused(src, dst);
+		}
+
+		private void run(final Object src, final Object o1, final Object dst) {
+			operands[0] = o1;
+			fused(src, dst);
+		}
+
+		private void run(final Object src, final Object o1, final Object o2,
+			final Object dst)
+		{
+			operands[0] = o1;
+			operands[1] = o2;
+			fused(src, dst);
+		}
+
+		private void run(final Object src, final Object o1, final Object o2,
+			final Object o3, final Object dst)
+		{
+			operands[0] = o1;
+			operands[1] = o2;
+			operands[2] = o3;
+			fused(src, dst);
+		}
+
+		private void run(final Object src, final Object o1, final Object o2,
+			final Object o3, final Object o4, final Object dst)
+		{
+			operands[0] = o1;
+			operands[1] = o2;
+			operands[2] = o3;
+			operands[3] = o4;
+			fused(src, dst);
+		}
+
+		/**
+		 * Runs each step on one element, reading the current element of each
+		 * operand image from {@link #operands}.
+		 */
+		private void fused(final Object src, final Object dst) {
+			Object current = src;
+			int operand = 0;
+			for (int i = 0; i < steps.length; i++) {
+				final Step step = steps[i];
+				final Object out = i == steps.length - 1 ? dst : temps[i];
+				step.computeElement(current, step.image != null ? operands[operand++]
+					: step.scalar, out);
+				current = out;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,476 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.eval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.parsington.ExpressionParser;
+import org.scijava.parsington.Function;
+import org.scijava.parsington.Group;
+import org.scijava.parsington.Operator;
+import org.scijava.parsington.Operators;
+import org.scijava.parsington.SyntaxTree;
+import org.scijava.parsington.Variable;
+
+/**
+ * An expression over images and scalars, compiled into a single per-pixel
+ * kernel.
+ * <p>
+ * Where {@link OpEvaluator} matches an op and materializes an intermediate
+ * image for every operator, a {@code CompiledExpression} evaluates the whole
+ * expression for one pixel at a time, in a single multithreaded pass over its
+ * images. All arithmetic is done in {@code double} precision; relational and
+ * logical operators yield {@code 1} or {@code 0}, and shifts and bitwise
+ * operators act on the values truncated to {@code long}. Functions are called
+ * by their op name, e.g. {@code math.sqrt(a)}; expressions calling other
+ * functions, such as {@code math.power}, cannot be compiled and must be
+ * evaluated by {@link OpEvaluator#evaluate(String)} instead.
+ * </p>
+ * <p>
+ * Compiled expressions are cached by expression text and by the types of the
+ * variables they reference, so {@link #compile} is cheap when the same
+ * expression is evaluated again, e.g. on each frame of a time series.
+ * </p>
+ *
+ * @see OpEvaluator#compile(String)
+ */
+public final class CompiledExpression {
+
+	/** Maximum number of cached expression texts. */
+	private static final int CACHE_SIZE = 256;
+
+	private static final Map<String, Parsed> CACHE = new ConcurrentHashMap<>();
+
+	private static final Map<String, DoubleUnaryOperator> UNARY =
+		new HashMap<>();
+
+	private static final Map<String, DoubleBinaryOperator> BINARY =
+		new HashMap<>();
+
+	static {
+		// NB: the computations of the ops of UnaryRealTypeMath with a real output.
+		// math.power is left out: given an integer exponent, its op multiplies in
+		// the type of the input, which a double precision kernel cannot mimic.
+		UNARY.put("math.abs", Math::abs);
+		UNARY.put("math.arccos", Math::acos);
+		UNARY.put("math.arcsin", Math::asin);
+		UNARY.put("math.arctan", Math::atan);
+		UNARY.put("math.ceil", Math::ceil);
+		UNARY.put("math.cos", Math::cos);
+		UNARY.put("math.cosh", Math::cosh);
+		UNARY.put("math.cubeRoot", Math::cbrt);
+		UNARY.put("math.exp", Math::exp);
+		UNARY.put("math.expMinusOne", x -> Math.exp(x) - 1);
+		UNARY.put("math.floor", Math::floor);
+		UNARY.put("math.log", Math::log);
+		UNARY.put("math.log10", Math::log10);
+		UNARY.put("math.log2", x -> Math.log(x) / Math.log(2));
+		UNARY.put("math.logOnePlusX", Math::log1p);
+		UNARY.put("math.nearestInt", Math::rint);
+		UNARY.put("math.negate", x -> -x);
+		UNARY.put("math.round", x -> (double) Math.round(x));
+		UNARY.put("math.signum", Math::signum);
+		UNARY.put("math.sin", Math::sin);
+		UNARY.put("math.sinh", Math::sinh);
+		UNARY.put("math.sqr", x -> x * x);
+		UNARY.put("math.sqrt", Math::sqrt);
+		UNARY.put("math.tan", Math::tan);
+		UNARY.put("math.tanh", Math::tanh);
+		BINARY.put("math.reciprocal", (x, divideByZeroValue) -> x == 0
+			? divideByZeroValue : 1 / x);
+	}
+
+	/** The variables referenced by the expression, in slot order. */
+	private final String[] names;
+
+	/** Whether each slot is bound to an image, or else to a scalar. */
+	private final boolean[] images;
+
+	private final Kernel kernel;
+
+	private CompiledExpression(final Parsed parsed, final boolean[] images) {
+		this.names = parsed.names;
+		this.images = images;
+		this.kernel = new Compiler(Arrays.asList(names)).compile(parsed.tree);
+	}
+
+	/**
+	 * Compiles {@code expression}, or gets it from the cache.
+	 *
+	 * @param expression the expression
+	 * @param vars the values of the variables of {@code expression}, each either
+	 *          a {@link RandomAccessibleInterval} of {@link RealType}s, a
+	 *          {@link Number}, a {@link RealType} or a {@link Boolean}
+	 * @return the compiled expression
+	 * @throws IllegalArgumentException if {@code expression} cannot be compiled
+	 */
+	public static CompiledExpression compile(final String expression,
+		final Map<String, ?> vars)
+	{
+		final Parsed parsed = parsed(expression);
+		final List<Class<?>> signature = new ArrayList<>(parsed.names.length);
+		final boolean[] images = new boolean[parsed.names.length];
+		for (int i = 0; i < images.length; i++) {
+			final Object value = value(vars, parsed.names[i]);
+			images[i] = value instanceof RandomAccessibleInterval;
+			signature.add(images[i] ? Util.getTypeFromInterval(
+				(RandomAccessibleInterval<?>) value).getClass() : value.getClass());
+		}
+		return parsed.compiled.computeIfAbsent(signature,
+			s -> new CompiledExpression(parsed, images));
+	}
+
+	/** Gets the names of the variables referenced by {@code expression}. */
+	static List<String> variables(final String expression) {
+		return Arrays.asList(parsed(expression).names);
+	}
+
+	/** Gets the names of the variables referenced by this expression. */
+	public List<String> variables() {
+		return Arrays.asList(names);
+	}
+
+	/**
+	 * Evaluates this expression into a new {@link DoubleType} image with the
+	 * dimensions of its input images.
+	 *
+	 * @param vars the values of the variables
+	 * @return the result
+	 * @throws IllegalArgumentException if the expression references no image
+	 */
+	public Img<DoubleType> apply(final Map<String, ?> vars) {
+		for (int i = 0; i < names.length; i++) {
+			if (images[i]) {
+				final RandomAccessibleInterval<?> image =
+					(RandomAccessibleInterval<?>) value(vars, names[i]);
+				final long[] dims = new long[image.numDimensions()];
+				image.dimensions(dims);
+				final Img<DoubleType> output = ArrayImgs.doubles(dims);
+				compute(vars, output);
+				return output;
+			}
+		}
+		throw new IllegalArgumentException(
+			"Expression does not reference any image");
+	}
+
+	/**
+	 * Evaluates this expression for each pixel of {@code output}.
+	 *
+	 * @param vars the values of the variables, of the same types as at
+	 *          compilation
+	 * @param output the output image, with the same dimensions as all input
+	 *          images
+	 * @throws IllegalArgumentException if the variables do not match
+	 */
+	public <O extends RealType<O>> void compute(final Map<String, ?> vars,
+		final RandomAccessibleInterval<O> output)
+	{
+		final double[] scalars = new double[names.length];
+		final List<RandomAccessibleInterval<? extends RealType<?>>> inputs =
+			new ArrayList<>();
+		final List<Integer> slots = new ArrayList<>();
+		for (int i = 0; i < names.length; i++) {
+			final Object value = value(vars, names[i]);
+			if (images[i] != value instanceof RandomAccessibleInterval)
+				throw new IllegalArgumentException("Variable " + names[i] +
+					" is not of the type it was compiled for");
+			if (images[i]) {
+				@SuppressWarnings("unchecked")
+				final RandomAccessibleInterval<? extends RealType<?>> image =
+					(RandomAccessibleInterval<? extends RealType<?>>) value;
+				if (!Intervals.equalDimensions(image, output))
+					throw new IllegalArgumentException("Image " + names[i] +
+						" does not have the dimensions of the output");
+				inputs.add(image);
+				slots.add(i);
+			}
+			else {
+				scalars[i] = scalar(names[i], value);
+			}
+		}
+		final int[] slotArray = slots.stream().mapToInt(Integer::intValue)
+			.toArray();
+
+		final long size = Intervals.numElements(output);
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		final int numTasks = (int) Math.max(1, Math.min(executor
+			.suggestNumberOfTasks(), size / 4096));
+		final List<long[]> chunks = new ArrayList<>(numTasks);
+		for (int t = 0; t < numTasks; t++)
+			chunks.add(new long[] { size * t / numTasks, size * (t + 1) /
+				numTasks });
+		executor.forEach(chunks, chunk -> run(inputs, slotArray, scalars, output,
+			chunk[0], chunk[1] - chunk[0]));
+	}
+
+	/** Evaluates {@code count} pixels from flat index {@code start} on. */
+	private void run(
+		final List<RandomAccessibleInterval<? extends RealType<?>>> inputs,
+		final int[] slots, final double[] scalars,
+		final RandomAccessibleInterval<? extends RealType<?>> output,
+		final long start, final long count)
+	{
+		final double[] v = scalars.clone();
+		@SuppressWarnings("unchecked")
+		final Cursor<? extends RealType<?>>[] cursors = new Cursor[inputs.size()];
+		for (int k = 0; k < cursors.length; k++) {
+			cursors[k] = Views.flatIterable(inputs.get(k)).cursor();
+			cursors[k].jumpFwd(start);
+		}
+		final Cursor<? extends RealType<?>> out = Views.flatIterable(output)
+			.cursor();
+		out.jumpFwd(start);
+		for (long p = 0; p < count; p++) {
+			for (int k = 0; k < cursors.length; k++)
+				v[slots[k]] = cursors[k].next().getRealDouble();
+			out.next().setReal(kernel.eval(v));
+		}
+	}
+
+	// -- Helper methods --
+
+	private static Parsed parsed(final String expression) {
+		if (!CACHE.containsKey(expression) && CACHE.size() >= CACHE_SIZE) CACHE
+			.clear();
+		return CACHE.computeIfAbsent(expression, Parsed::new);
+	}
+
+	private static Object value(final Map<String, ?> vars, final String name) {
+		final Object value = vars == null ? null : vars.get(name);
+		if (value == null) throw new IllegalArgumentException(
+			"No value for variable " + name);
+		return value;
+	}
+
+	private static double scalar(final String name, final Object value) {
+		if (value instanceof Number) return ((Number) value).doubleValue();
+		if (value instanceof RealType) return ((RealType<?>) value)
+			.getRealDouble();
+		if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+		throw new IllegalArgumentException("Variable " + name +
+			" is neither an image nor a number: " + value.getClass().getName());
+	}
+
+	private static IllegalArgumentException unsupported(final Object token) {
+		return new IllegalArgumentException("Cannot compile " + token);
+	}
+
+	// -- Helper classes --
+
+	/** The per-pixel kernel: evaluates the expression over variable slots. */
+	private interface Kernel {
+
+		double eval(double[] v);
+	}
+
+	/** A constant (sub)expression, folded at compilation. */
+	private static final class Constant implements Kernel {
+
+		private final double value;
+
+		private Constant(final double value) {
+			this.value = value;
+		}
+
+		@Override
+		public double eval(final double[] v) {
+			return value;
+		}
+	}
+
+	/** A parsed expression, with its compilations per variable signature. */
+	private static final class Parsed {
+
+		private final SyntaxTree tree;
+
+		private final String[] names;
+
+		private final Map<List<Class<?>>, CompiledExpression> compiled =
+			new ConcurrentHashMap<>();
+
+		private Parsed(final String expression) {
+			tree = new ExpressionParser().parseTree(expression);
+			final Set<String> variables = new LinkedHashSet<>();
+			collect(tree, variables);
+			names = variables.toArray(new String[0]);
+		}
+
+		private static void collect(final SyntaxTree t, final Set<String> names) {
+			if (t.token() instanceof Variable) {
+				names.add(((Variable) t.token()).getToken());
+				return;
+			}
+			// NB: skip function names
+			final int first = t.token() instanceof Function ? 1 : 0;
+			for (int i = first; i < t.count(); i++)
+				collect(t.child(i), names);
+		}
+	}
+
+	/** Compiles a {@link SyntaxTree} into a {@link Kernel}. */
+	private static final class Compiler {
+
+		private final List<String> names;
+
+		private Compiler(final List<String> names) {
+			this.names = names;
+		}
+
+		private Kernel compile(final SyntaxTree t) {
+			final Object token = t.token();
+			if (token instanceof Variable) {
+				final int slot = names.indexOf(((Variable) token).getToken());
+				return v -> v[slot];
+			}
+			if (token instanceof Number) {
+				return new Constant(((Number) token).doubleValue());
+			}
+			if (token instanceof Boolean) {
+				return new Constant((Boolean) token ? 1 : 0);
+			}
+			if (token instanceof Function) {
+				return function(functionName(t.child(0)), t.child(1));
+			}
+			if (token instanceof Group) {
+				if (t.count() != 1 || !"(".equals(((Group) token).getToken()))
+					throw unsupported(token);
+				return compile(t.child(0));
+			}
+			if (token instanceof Operator) {
+				final Operator op = (Operator) token;
+				if (op.getArity() == 1) return unary(op, compile(t.child(0)));
+				if (op.getArity() == 2) return binary(op, compile(t.child(0)),
+					compile(t.child(1)));
+			}
+			throw unsupported(token);
+		}
+
+		private String functionName(final SyntaxTree t) {
+			if (t.token() instanceof Variable) return ((Variable) t.token())
+				.getToken();
+			if (t.token() == Operators.DOT) return functionName(t.child(0)) + "." +
+				functionName(t.child(1));
+			throw unsupported(t.token());
+		}
+
+		private Kernel function(final String name, final SyntaxTree args) {
+			final DoubleUnaryOperator unary = UNARY.get(name);
+			if (unary != null && args.count() == 1) {
+				final Kernel a = compile(args.child(0));
+				return fold(v -> unary.applyAsDouble(a.eval(v)), a);
+			}
+			final DoubleBinaryOperator binary = BINARY.get(name);
+			if (binary != null && args.count() == 2) {
+				final Kernel a = compile(args.child(0));
+				final Kernel b = compile(args.child(1));
+				return fold(v -> binary.applyAsDouble(a.eval(v), b.eval(v)), a, b);
+			}
+			throw new IllegalArgumentException("Cannot compile function " + name +
+				" with " + args.count() + " arguments");
+		}
+
+		private Kernel unary(final Operator op, final Kernel a) {
+			final Kernel k;
+			if (op == Operators.POS) k = a;
+			else if (op == Operators.NEG) k = v -> -a.eval(v);
+			else if (op == Operators.NOT) k = v -> a.eval(v) == 0 ? 1 : 0;
+			else if (op == Operators.COMPLEMENT) k = v -> ~(long) a.eval(v);
+			else throw unsupported(op);
+			return fold(k, a);
+		}
+
+		private Kernel binary(final Operator op, final Kernel a, final Kernel b) {
+			final Kernel k;
+			if (op == Operators.ADD) k = v -> a.eval(v) + b.eval(v);
+			else if (op == Operators.SUB) k = v -> a.eval(v) - b.eval(v);
+			else if (op == Operators.MUL) k = v -> a.eval(v) * b.eval(v);
+			else if (op == Operators.DIV) k = v -> a.eval(v) / b.eval(v);
+			else if (op == Operators.MOD) k = v -> a.eval(v) % b.eval(v);
+			else if (op == Operators.POW) k = v -> Math.pow(a.eval(v), b.eval(v));
+			else if (op == Operators.LEFT_SHIFT) k = v -> (long) a.eval(
+				v) << (long) b.eval(v);
+			else if (op == Operators.RIGHT_SHIFT) k = v -> (long) a.eval(
+				v) >> (long) b.eval(v);
+			else if (op == Operators.UNSIGNED_RIGHT_SHIFT) k = v -> (long) a.eval(
+				v) >>> (long) b.eval(v);
+			else if (op == Operators.LESS_THAN) k = v -> a.eval(v) < b.eval(v) ? 1
+				: 0;
+			else if (op == Operators.GREATER_THAN) k = v -> a.eval(v) > b.eval(v)
+				? 1 : 0;
+			else if (op == Operators.LESS_THAN_OR_EQUAL) k = v -> a.eval(v) <= b
+				.eval(v) ? 1 : 0;
+			else if (op == Operators.GREATER_THAN_OR_EQUAL) k = v -> a.eval(v) >= b
+				.eval(v) ? 1 : 0;
+			else if (op == Operators.EQUAL) k = v -> a.eval(v) == b.eval(v) ? 1 : 0;
+			else if (op == Operators.NOT_EQUAL) k = v -> a.eval(v) != b.eval(v) ? 1
+				: 0;
+			else if (op == Operators.BITWISE_AND) k = v -> (long) a.eval(
+				v) & (long) b.eval(v);
+			else if (op == Operators.BITWISE_OR) k = v -> (long) a.eval(
+				v) | (long) b.eval(v);
+			else if (op == Operators.LOGICAL_AND) k = v -> a.eval(v) != 0 && b.eval(
+				v) != 0 ? 1 : 0;
+			else if (op == Operators.LOGICAL_OR) k = v -> a.eval(v) != 0 || b.eval(
+				v) != 0 ? 1 : 0;
+			else throw unsupported(op);
+			return fold(k, a, b);
+		}
+
+		/** Folds {@code k} into a {@link Constant} if all its operands are. */
+		private static Kernel fold(final Kernel k, final Kernel... operands) {
+			for (final Kernel operand : operands)
+				if (!(operand instanceof Constant)) return k;
+			return new Constant(k.eval(null));
+		}
+	}
+
+}
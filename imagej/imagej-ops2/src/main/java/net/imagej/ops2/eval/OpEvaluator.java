@@ -153,6 +153,21 @@ public class OpEvaluator extends DefaultStackEvaluator {
 		return func.apply(argValues);
 	}
 
+	/**
+	 * Compiles the given expression into a single per-pixel kernel, for the
+	 * types of the variables currently set. Unlike {@link #evaluate(String)},
+	 * the compiled expression does not match ops nor create intermediate images.
+	 *
+	 * @see CompiledExpression
+	 */
+	public CompiledExpression compile(final String expression) {
+		final Map<String, Object> vars = new HashMap<>();
+		for (final String name : CompiledExpression.variables(expression)) {
+			vars.put(name, value(new Variable(name)));
+		}
+		return CompiledExpression.compile(expression, vars);
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private <T> Nil<T> type(Object obj) {
 		return (Nil<T>) Nil.of(ops.genericType(obj));
@@ -31,7 +31,9 @@ package net.imagej.ops2.features.hog;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 
 import net.imagej.ops2.thread.chunker.Chunk;
@@ -59,6 +61,7 @@ import net.imglib2.view.composite.GenericComposite;
 import org.scijava.function.Computers;
 import org.scijava.function.Functions;
 import org.scijava.function.Inplaces;
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.spi.OpDependency;
 
 /**
@@ -175,6 +178,7 @@ public class HistogramOfOrientedGradients2D<T extends RealType<T>> implements
 				setToStart(cursorDerivative1, startIndex);
 
 				for (long i = 0; i < numSteps; i++) {
+					OpFuture.checkCanceled();
 					final float x = cursorDerivative0.get().getRealFloat();
 					final float y = cursorDerivative1.get().getRealFloat();
 					cursorAngles.get().setReal(getAngle(x, y));
@@ -199,21 +203,25 @@ public class HistogramOfOrientedGradients2D<T extends RealType<T>> implements
 		final NeighborhoodsAccessible<FloatType> neighborHood = shape.neighborhoodsRandomAccessible(angles);
 
 		for (int i = 0; i < in.dimension(0); i++) {
-			listCallables.add(new ComputeDescriptor(Views.interval(convertedIn, in), i, angles.randomAccess(),
-					magnitudes.randomAccess(), (RandomAccess<FloatType>) out.randomAccess(),
-					neighborHood.randomAccess(), numOrientations));
+			listCallables.add(Executors.callable(OpFuture.propagate(new ComputeDescriptor(Views.interval(
+					convertedIn, in), i, angles.randomAccess(), magnitudes.randomAccess(),
+					(RandomAccess<FloatType>) out.randomAccess(), neighborHood.randomAccess(), numOrientations)),
+					(Void) null));
 		}
 
 		try {
 			es.invokeAll(listCallables);
 		} catch (final InterruptedException e) {
-			throw new RuntimeException(e);
+			Thread.currentThread().interrupt();
+			throw new CancellationException("The Op was canceled before it was able to complete computation");
 		}
+		// NB descriptors stopped by a cancellation leave the output incomplete
+		OpFuture.checkCanceled();
 
 		listCallables.clear();
 	}
 
-	private class ComputeDescriptor implements Callable<Void> {
+	private class ComputeDescriptor implements Runnable {
 		final private RandomAccessibleInterval<FloatType> in;
 		final private long i;
 		final private RandomAccess<FloatType> raAngles;
@@ -236,10 +244,11 @@ public class HistogramOfOrientedGradients2D<T extends RealType<T>> implements
 		}
 
 		@Override
-		public Void call() throws Exception {
+		public void run() {
 
 			final FinalInterval interval = new FinalInterval(in.dimension(0), in.dimension(1));
 			for (int j = 0; j < in.dimension(1); j++) {
+				OpFuture.checkCanceled();
 				// sum up the magnitudes of all bins in a neighborhood
 				raNeighbor.setPosition(new long[] { i, j });
 				final Cursor<FloatType> cursorNeighborHood = raNeighbor.get().cursor();
@@ -254,7 +263,6 @@ public class HistogramOfOrientedGradients2D<T extends RealType<T>> implements
 					}
 				}
 			}
-			return null;
 		}
 	}
 
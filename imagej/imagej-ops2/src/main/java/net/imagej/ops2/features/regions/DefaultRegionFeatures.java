@@ -0,0 +1,492 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.features.regions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.imagej.ops2.image.cooccurrenceMatrix.MatrixOrientation;
+import net.imagej.ops2.image.cooccurrenceMatrix.MatrixOrientation2D;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.loops.LoopBuilder;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingMapping;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+
+import org.scijava.function.Functions;
+import org.scijava.ops.spi.Optional;
+
+/**
+ * Computes features of all regions of an {@link ImgLabeling} in a few
+ * multithreaded passes over the image, instead of matching and running one op
+ * per feature and {@code LabelRegion}.
+ * <p>
+ * The first pass accumulates sufficient statistics (power sums, min/max,
+ * bounding boxes, position sums and image moments) for every label in
+ * primitive arrays; a second pass counting co-occurrences is only made if
+ * Haralick features are requested. Feature names follow the names of the
+ * corresponding single-region ops and yield the same values:
+ * </p>
+ * <ul>
+ * <li>{@code stats.*}: size, sum, mean, min, max, sumOfSquares, variance,
+ * stdDev, moment2AboutMean, moment3AboutMean, moment4AboutMean, skewness,
+ * kurtosis</li>
+ * <li>{@code geom.centroid} and {@code geom.boundingBox}: one column per
+ * dimension, e.g. {@code geom.centroid[0]}, {@code geom.boundingBox.min[0]}
+ * and {@code geom.boundingBox.max[0]}</li>
+ * <li>{@code imageMoments.*}: moment00, moment01, moment10, moment11, and
+ * centralMoment and normalizedCentralMoment pq for all p + q &lt;= 3, computed
+ * over the first two dimensions</li>
+ * <li>{@code features.haralick.*}: asm, contrast, entropy, maxProbability,
+ * textureHomogeneity, ifdm. The co-occurrence matrix of a region only counts
+ * pixel pairs that both belong to the region, with grey levels quantized
+ * between the region's minimum and maximum.</li>
+ * </ul>
+ *
+ * @param <L> label type
+ * @param <I> index type of the labeling
+ * @param <T> intensity type
+ * @implNote op names='features.labelRegions'
+ */
+public class DefaultRegionFeatures<L, I extends IntegerType<I>, T extends RealType<T>>
+	implements
+	Functions.Arity6<ImgLabeling<L, I>, RandomAccessibleInterval<T>, List<String>, Integer, Integer, MatrixOrientation, RegionFeatureTable<L>>
+{
+
+	private static final String STATS = "stats.";
+	private static final String MOMENTS = "imageMoments.";
+	private static final String HARALICK = "features.haralick.";
+
+	private static final List<String> SUPPORTED = Collections.unmodifiableList(
+		Arrays.asList( //
+			"stats.size", "stats.sum", "stats.mean", "stats.min", "stats.max",
+			"stats.sumOfSquares", "stats.variance", "stats.stdDev",
+			"stats.moment2AboutMean", "stats.moment3AboutMean",
+			"stats.moment4AboutMean", "stats.skewness", "stats.kurtosis", //
+			"geom.centroid", "geom.boundingBox", //
+			"imageMoments.moment00", "imageMoments.moment01",
+			"imageMoments.moment10", "imageMoments.moment11",
+			"imageMoments.centralMoment00", "imageMoments.centralMoment01",
+			"imageMoments.centralMoment10", "imageMoments.centralMoment11",
+			"imageMoments.centralMoment02", "imageMoments.centralMoment20",
+			"imageMoments.centralMoment12", "imageMoments.centralMoment21",
+			"imageMoments.centralMoment03", "imageMoments.centralMoment30",
+			"imageMoments.normalizedCentralMoment02",
+			"imageMoments.normalizedCentralMoment20",
+			"imageMoments.normalizedCentralMoment11",
+			"imageMoments.normalizedCentralMoment12",
+			"imageMoments.normalizedCentralMoment21",
+			"imageMoments.normalizedCentralMoment03",
+			"imageMoments.normalizedCentralMoment30", //
+			"features.haralick.asm", "features.haralick.contrast",
+			"features.haralick.entropy", "features.haralick.maxProbability",
+			"features.haralick.textureHomogeneity", "features.haralick.ifdm"));
+
+	/** As in {@code features.haralick.entropy} */
+	private static final double EPSILON = Double.MIN_NORMAL;
+
+	/**
+	 * Computes the requested features for every label of the labeling.
+	 *
+	 * @param labeling the regions
+	 * @param image the intensities, on the same interval as the labeling
+	 * @param features the names of the features to compute
+	 * @param numGreyLevels number of grey levels of co-occurrence matrices (required = false)
+	 * @param distance pixel distance of co-occurrence matrices (required = false)
+	 * @param orientation orientation of co-occurrence matrices (required = false)
+	 * @return a table with one row per label and one column per feature value
+	 */
+	@Override
+	public RegionFeatureTable<L> apply(final ImgLabeling<L, I> labeling,
+		final RandomAccessibleInterval<T> image, final List<String> features,
+		@Optional Integer numGreyLevels, @Optional Integer distance,
+		@Optional MatrixOrientation orientation)
+	{
+		if (!Intervals.equals(labeling, image)) throw new IllegalArgumentException(
+			"Labeling and image must be defined on the same interval!");
+		final Set<String> requested = new LinkedHashSet<>(features);
+		for (final String feature : requested) {
+			if (!SUPPORTED.contains(feature)) throw new IllegalArgumentException(
+				"Unsupported feature " + feature + ", expected one of " + SUPPORTED);
+		}
+		final int numDims = image.numDimensions();
+		final boolean withMoments = requested.stream().anyMatch(f -> f.startsWith(
+			MOMENTS));
+		final boolean withCooccurrence = requested.stream().anyMatch(f -> f
+			.startsWith(HARALICK));
+		if (withMoments && numDims < 2) throw new IllegalArgumentException(
+			"Image moments require at least two dimensions!");
+
+		// enumerate the labels and resolve the label sets of the index image
+		final LabelingMapping<L> mapping = labeling.getMapping();
+		final List<L> labels = new ArrayList<>(mapping.getLabels());
+		final Map<L, Integer> ids = new HashMap<>();
+		for (int i = 0; i < labels.size(); i++)
+			ids.put(labels.get(i), i);
+		final int[][] idsAtIndex = new int[mapping.numSets()][];
+		for (int index = 0; index < idsAtIndex.length; index++) {
+			idsAtIndex[index] = mapping.labelsAtIndex(index).stream().mapToInt(
+				ids::get).toArray();
+		}
+
+		final RandomAccessibleInterval<I> indexImg = labeling.getIndexImg();
+		final RegionAccumulator acc = accumulate(indexImg, image, idsAtIndex,
+			labels.size(), withMoments);
+
+		double[][] cooc = null;
+		if (withCooccurrence) {
+			if (numGreyLevels == null) numGreyLevels = 32;
+			if (distance == null) distance = 1;
+			if (orientation == null) orientation = MatrixOrientation2D.HORIZONTAL;
+			if (!orientation.isCompatible(numDims)) throw new IllegalArgumentException(
+				"MatrixOrientation must be of the same dimensions as the input!");
+			cooc = cooccurrence(indexImg, image, idsAtIndex, acc, numGreyLevels,
+				distance, orientation);
+		}
+
+		final RegionFeatureTable<L> table = new RegionFeatureTable<>(labels);
+		for (final String feature : requested)
+			addColumns(table, feature, acc, cooc, numGreyLevels == null ? 0
+				: numGreyLevels);
+		return table;
+	}
+
+	// -- Accumulation passes --
+
+	private RegionAccumulator accumulate(final RandomAccessibleInterval<I> indexImg,
+		final RandomAccessibleInterval<T> image, final int[][] idsAtIndex,
+		final int numLabels, final boolean withMoments)
+	{
+		final int numDims = image.numDimensions();
+		final List<RegionAccumulator> chunks = LoopBuilder.setImages(indexImg,
+			image, Intervals.positions(indexImg)).multiThreaded().forEachChunk(
+				chunk -> {
+					final RegionAccumulator chunkAcc = new RegionAccumulator(numLabels,
+						numDims, withMoments);
+					chunk.forEachPixel((index, pixel, pos) -> {
+						final int[] labelIds = idsAtIndex[index.getInteger()];
+						if (labelIds.length == 0) return;
+						final double v = pixel.getRealDouble();
+						for (final int id : labelIds)
+							chunkAcc.add(id, v, pos);
+					});
+					return chunkAcc;
+				});
+
+		final RegionAccumulator acc = chunks.get(0);
+		for (int i = 1; i < chunks.size(); i++)
+			acc.merge(chunks.get(i));
+		return acc;
+	}
+
+	/**
+	 * Counts, per label, the co-occurring grey levels of pixel pairs that both
+	 * belong to the label, and normalizes the counts to probabilities.
+	 *
+	 * @return the flattened co-occurrence matrix of each label, or null for
+	 *         labels without pixel pairs
+	 */
+	private double[][] cooccurrence(final RandomAccessibleInterval<I> indexImg,
+		final RandomAccessibleInterval<T> image, final int[][] idsAtIndex,
+		final RegionAccumulator acc, final int numGreyLevels, final int distance,
+		final MatrixOrientation orientation)
+	{
+		final int numDims = image.numDimensions();
+		final int numLabels = acc.numLabels;
+		final long[] offset = new long[numDims];
+		for (int d = 0; d < numDims; d++)
+			offset[d] = (long) orientation.getValueAtDim(d) * distance;
+		final long[] min = Intervals.minAsLongArray(image);
+		final long[] max = Intervals.maxAsLongArray(image);
+
+		final List<double[][]> chunks = LoopBuilder.setImages(indexImg, image,
+			Intervals.positions(indexImg)).multiThreaded().forEachChunk(chunk -> {
+				final double[][] counts = new double[numLabels][];
+				final RandomAccess<I> indexAccess = indexImg.randomAccess();
+				final RandomAccess<T> imageAccess = image.randomAccess();
+				final long[] neighbor = new long[numDims];
+				chunk.forEachPixel((index, pixel, pos) -> {
+					final int[] labelIds = idsAtIndex[index.getInteger()];
+					if (labelIds.length == 0) return;
+					for (int d = 0; d < numDims; d++) {
+						neighbor[d] = pos.getLongPosition(d) + offset[d];
+						if (neighbor[d] < min[d] || neighbor[d] > max[d]) return;
+					}
+					indexAccess.setPosition(neighbor);
+					final int[] neighborIds = idsAtIndex[indexAccess.get().getInteger()];
+					if (neighborIds.length == 0) return;
+					imageAccess.setPosition(neighbor);
+					final double v = pixel.getRealDouble();
+					final double w = imageAccess.get().getRealDouble();
+					for (final int id : labelIds) {
+						if (!contains(neighborIds, id)) continue;
+						if (counts[id] == null) counts[id] =
+							new double[numGreyLevels * numGreyLevels];
+						counts[id][bin(acc, id, v, numGreyLevels) * numGreyLevels + bin(acc,
+							id, w, numGreyLevels)]++;
+					}
+				});
+				return counts;
+			});
+
+		final double[][] cooc = new double[numLabels][];
+		for (final double[][] counts : chunks) {
+			for (int l = 0; l < numLabels; l++) {
+				if (counts[l] == null) continue;
+				if (cooc[l] == null) cooc[l] = counts[l];
+				else for (int i = 0; i < cooc[l].length; i++)
+					cooc[l][i] += counts[l][i];
+			}
+		}
+		for (final double[] matrix : cooc) {
+			if (matrix == null) continue;
+			final double numPairs = Arrays.stream(matrix).sum();
+			for (int i = 0; i < matrix.length; i++)
+				matrix[i] /= numPairs;
+		}
+		return cooc;
+	}
+
+	/** Quantizes a value like {@code image.cooccurrenceMatrix} does */
+	private static int bin(final RegionAccumulator acc, final int label,
+		final double v, final int numGreyLevels)
+	{
+		final double localMin = acc.min[label];
+		final double diff = acc.max[label] - localMin;
+		final int bin = (int) ((v - localMin) / diff * numGreyLevels);
+		return bin < numGreyLevels - 1 ? bin : numGreyLevels - 1;
+	}
+
+	private static boolean contains(final int[] values, final int value) {
+		for (final int v : values)
+			if (v == value) return true;
+		return false;
+	}
+
+	// -- Table assembly --
+
+	private static <L> void addColumns(final RegionFeatureTable<L> table,
+		final String feature, final RegionAccumulator acc, final double[][] cooc,
+		final int numGreyLevels)
+	{
+		final int n = acc.numLabels;
+		if (feature.equals("geom.centroid")) {
+			for (int d = 0; d < acc.numDims; d++) {
+				final double[] column = new double[n];
+				for (int l = 0; l < n; l++)
+					column[l] = acc.positionSum[l * acc.numDims + d] / acc.count[l];
+				table.addColumn(feature + "[" + d + "]", column);
+			}
+			return;
+		}
+		if (feature.equals("geom.boundingBox")) {
+			for (int d = 0; d < acc.numDims; d++) {
+				final double[] minColumn = new double[n];
+				final double[] maxColumn = new double[n];
+				for (int l = 0; l < n; l++) {
+					minColumn[l] = acc.bboxMin[l * acc.numDims + d];
+					maxColumn[l] = acc.bboxMax[l * acc.numDims + d];
+				}
+				table.addColumn(feature + ".min[" + d + "]", minColumn);
+				table.addColumn(feature + ".max[" + d + "]", maxColumn);
+			}
+			return;
+		}
+
+		final double[] column = new double[n];
+		for (int l = 0; l < n; l++) {
+			if (feature.startsWith(STATS)) column[l] = stat(feature.substring(STATS
+				.length()), acc, l);
+			else if (feature.startsWith(MOMENTS)) column[l] = moment(feature
+				.substring(MOMENTS.length()), acc, l);
+			else column[l] = haralick(feature.substring(HARALICK.length()), cooc[l],
+				numGreyLevels);
+		}
+		table.addColumn(feature, column);
+	}
+
+	private static double stat(final String name, final RegionAccumulator acc,
+		final int l)
+	{
+		switch (name) {
+			case "size":
+				return acc.count[l];
+			case "sum":
+				return acc.sum[l];
+			case "mean":
+				return acc.mean(l);
+			case "min":
+				return acc.min[l];
+			case "max":
+				return acc.max[l];
+			case "sumOfSquares":
+				return acc.sum2[l];
+			case "variance":
+				return acc.variance(l);
+			case "stdDev":
+				return Math.sqrt(acc.variance(l));
+			case "moment2AboutMean":
+				return acc.momentAboutMean(l, 2);
+			case "moment3AboutMean":
+				return acc.momentAboutMean(l, 3);
+			case "moment4AboutMean":
+				return acc.momentAboutMean(l, 4);
+			case "skewness": {
+				final double std = Math.sqrt(acc.variance(l));
+				return std == 0 ? Double.NaN : acc.momentAboutMean(l, 3) / (std * std *
+					std);
+			}
+			case "kurtosis": {
+				final double std = Math.sqrt(acc.variance(l));
+				return std == 0 ? Double.NaN : acc.momentAboutMean(l, 4) / Math.pow(std,
+					4);
+			}
+			default:
+				throw new IllegalArgumentException("Unsupported feature stats." + name);
+		}
+	}
+
+	private static double moment(final String name, final RegionAccumulator acc,
+		final int l)
+	{
+		if (name.startsWith("moment")) {
+			switch (name) {
+				case "moment00":
+					return acc.moment(l, RegionAccumulator.M00);
+				case "moment01":
+					return acc.moment(l, RegionAccumulator.M01);
+				case "moment10":
+					return acc.moment(l, RegionAccumulator.M10);
+				case "moment11":
+					return acc.moment(l, RegionAccumulator.M11);
+				default:
+					throw new IllegalArgumentException("Unsupported feature imageMoments." +
+						name);
+			}
+		}
+		final boolean normalized = name.startsWith("normalized");
+		final String order = name.substring(name.length() - 2);
+		final int p = order.charAt(0) - '0';
+		final int q = order.charAt(1) - '0';
+		final double central = centralMoment(acc, l, p, q);
+		if (!normalized) return central;
+		return central / Math.pow(acc.moment(l, RegionAccumulator.M00), 1 + ((p +
+			q) / 2.0));
+	}
+
+	/** Central moment mu_pq, expanded in terms of the raw moments */
+	private static double centralMoment(final RegionAccumulator acc,
+		final int l, final int p, final int q)
+	{
+		final double m00 = acc.moment(l, RegionAccumulator.M00);
+		final double m10 = acc.moment(l, RegionAccumulator.M10);
+		final double m01 = acc.moment(l, RegionAccumulator.M01);
+		final double m11 = acc.moment(l, RegionAccumulator.M11);
+		final double m20 = acc.moment(l, RegionAccumulator.M20);
+		final double m02 = acc.moment(l, RegionAccumulator.M02);
+		final double cx = m10 / m00;
+		final double cy = m01 / m00;
+		switch (p * 10 + q) {
+			case 0:
+				return m00;
+			case 1:
+			case 10:
+				return 0;
+			case 11:
+				return m11 - cx * m01;
+			case 20:
+				return m20 - cx * m10;
+			case 2:
+				return m02 - cy * m01;
+			case 21:
+				return acc.moment(l, RegionAccumulator.M21) - 2 * cx * m11 - cy * m20 +
+					2 * cx * cx * m01;
+			case 12:
+				return acc.moment(l, RegionAccumulator.M12) - 2 * cy * m11 - cx * m02 +
+					2 * cy * cy * m10;
+			case 30:
+				return acc.moment(l, RegionAccumulator.M30) - 3 * cx * m20 + 2 * cx *
+					cx * m10;
+			case 3:
+				return acc.moment(l, RegionAccumulator.M03) - 3 * cy * m02 + 2 * cy *
+					cy * m01;
+			default:
+				throw new IllegalArgumentException("Unsupported central moment " + p +
+					q);
+		}
+	}
+
+	private static double haralick(final String name, final double[] matrix,
+		final int numGreyLevels)
+	{
+		if (matrix == null) return Double.NaN;
+		double res = 0;
+		for (int i = 0; i < numGreyLevels; i++) {
+			for (int j = 0; j < numGreyLevels; j++) {
+				final double p = matrix[i * numGreyLevels + j];
+				final int k = i - j;
+				switch (name) {
+					case "asm":
+						res += p * p;
+						break;
+					case "contrast":
+						res += k * k * p;
+						break;
+					case "entropy":
+						res -= p * Math.log(p + EPSILON);
+						break;
+					case "maxProbability":
+						if (p > res) res = p;
+						break;
+					case "textureHomogeneity":
+						res += p / (1 + Math.abs(k));
+						break;
+					case "ifdm":
+						res += p / (1 + k * k);
+						break;
+					default:
+						throw new IllegalArgumentException(
+							"Unsupported feature features.haralick." + name);
+				}
+			}
+		}
+		return res;
+	}
+
+}
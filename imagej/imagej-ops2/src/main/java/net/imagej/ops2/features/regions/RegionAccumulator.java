@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.features.regions;
+
+import java.util.Arrays;
+
+import net.imglib2.Localizable;
+
+/**
+ * Sufficient statistics of all regions of a labeling, stored in primitive
+ * arrays indexed by label id. One accumulator is filled per chunk of the
+ * image; the chunk results are then {@link #merge merged}.
+ */
+final class RegionAccumulator {
+
+	/** Number of raw image moments m_pq with p + q &lt;= 3 */
+	static final int NUM_MOMENTS = 10;
+
+	// indices into the moments of one label
+	static final int M00 = 0, M10 = 1, M01 = 2, M11 = 3, M20 = 4, M02 = 5,
+			M21 = 6, M12 = 7, M30 = 8, M03 = 9;
+
+	final int numLabels;
+	final int numDims;
+
+	final long[] count;
+	final double[] sum;
+	final double[] sum2;
+	final double[] sum3;
+	final double[] sum4;
+	final double[] min;
+	final double[] max;
+
+	/** per label and dimension, i.e. indexed by {@code label * numDims + d} */
+	final long[] bboxMin;
+	final long[] bboxMax;
+	final double[] positionSum;
+
+	/** intensity-weighted raw moments, or null if not requested */
+	final double[] moments;
+
+	RegionAccumulator(final int numLabels, final int numDims,
+		final boolean withMoments)
+	{
+		this.numLabels = numLabels;
+		this.numDims = numDims;
+		count = new long[numLabels];
+		sum = new double[numLabels];
+		sum2 = new double[numLabels];
+		sum3 = new double[numLabels];
+		sum4 = new double[numLabels];
+		min = new double[numLabels];
+		max = new double[numLabels];
+		Arrays.fill(min, Double.POSITIVE_INFINITY);
+		Arrays.fill(max, Double.NEGATIVE_INFINITY);
+		bboxMin = new long[numLabels * numDims];
+		bboxMax = new long[numLabels * numDims];
+		Arrays.fill(bboxMin, Long.MAX_VALUE);
+		Arrays.fill(bboxMax, Long.MIN_VALUE);
+		positionSum = new double[numLabels * numDims];
+		moments = withMoments ? new double[numLabels * NUM_MOMENTS] : null;
+	}
+
+	void add(final int label, final double v, final Localizable pos) {
+		count[label]++;
+		final double v2 = v * v;
+		sum[label] += v;
+		sum2[label] += v2;
+		sum3[label] += v2 * v;
+		sum4[label] += v2 * v2;
+		if (v < min[label]) min[label] = v;
+		if (v > max[label]) max[label] = v;
+
+		final int offset = label * numDims;
+		for (int d = 0; d < numDims; d++) {
+			final long p = pos.getLongPosition(d);
+			if (p < bboxMin[offset + d]) bboxMin[offset + d] = p;
+			if (p > bboxMax[offset + d]) bboxMax[offset + d] = p;
+			positionSum[offset + d] += p;
+		}
+
+		if (moments != null) {
+			final double x = pos.getDoublePosition(0);
+			final double y = pos.getDoublePosition(1);
+			final double xv = x * v;
+			final double yv = y * v;
+			final int m = label * NUM_MOMENTS;
+			moments[m + M00] += v;
+			moments[m + M10] += xv;
+			moments[m + M01] += yv;
+			moments[m + M11] += xv * y;
+			moments[m + M20] += xv * x;
+			moments[m + M02] += yv * y;
+			moments[m + M21] += xv * x * y;
+			moments[m + M12] += xv * y * y;
+			moments[m + M30] += xv * x * x;
+			moments[m + M03] += yv * y * y;
+		}
+	}
+
+	void merge(final RegionAccumulator other) {
+		for (int l = 0; l < numLabels; l++) {
+			count[l] += other.count[l];
+			sum[l] += other.sum[l];
+			sum2[l] += other.sum2[l];
+			sum3[l] += other.sum3[l];
+			sum4[l] += other.sum4[l];
+			min[l] = Math.min(min[l], other.min[l]);
+			max[l] = Math.max(max[l], other.max[l]);
+		}
+		for (int i = 0; i < bboxMin.length; i++) {
+			bboxMin[i] = Math.min(bboxMin[i], other.bboxMin[i]);
+			bboxMax[i] = Math.max(bboxMax[i], other.bboxMax[i]);
+			positionSum[i] += other.positionSum[i];
+		}
+		if (moments != null) {
+			for (int i = 0; i < moments.length; i++)
+				moments[i] += other.moments[i];
+		}
+	}
+
+	double mean(final int label) {
+		return sum[label] / count[label];
+	}
+
+	/** Sample variance, as computed by {@code stats.variance} */
+	double variance(final int label) {
+		final double mean = mean(label);
+		return (sum2[label] - count[label] * mean * mean) / (count[label] - 1);
+	}
+
+	/** n-th moment about the mean, n in [2, 4], as {@code stats.momentNAboutMean} */
+	double momentAboutMean(final int label, final int n) {
+		final double mu = mean(label);
+		final double s2 = sum2[label] / count[label];
+		final double s3 = sum3[label] / count[label];
+		final double s4 = sum4[label] / count[label];
+		final double mu2 = mu * mu;
+		switch (n) {
+			case 2:
+				return s2 - mu2;
+			case 3:
+				return s3 - 3 * mu * s2 + 2 * mu2 * mu;
+			case 4:
+				return s4 - 4 * mu * s3 + 6 * mu2 * s2 - 3 * mu2 * mu2;
+			default:
+				throw new IllegalArgumentException("Unsupported moment order " + n);
+		}
+	}
+
+	double moment(final int label, final int index) {
+		return moments[label * NUM_MOMENTS + index];
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.features.regions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar table of per-label features, as produced by
+ * {@code features.labelRegions}. Each row corresponds to one label, each column
+ * to one (scalar) feature; features with one value per dimension contribute
+ * one column per dimension, suffixed with {@code [d]}.
+ *
+ * @param <L> the label type
+ */
+public class RegionFeatureTable<L> {
+
+	private final List<L> labels;
+	private final Map<String, double[]> columns = new LinkedHashMap<>();
+
+	public RegionFeatureTable(final List<L> labels) {
+		this.labels = Collections.unmodifiableList(new ArrayList<>(labels));
+	}
+
+	/** @return the labels, in row order */
+	public List<L> labels() {
+		return labels;
+	}
+
+	/** @return the number of rows, i.e. labels */
+	public int rowCount() {
+		return labels.size();
+	}
+
+	/** @return the column names, in insertion order */
+	public List<String> columnNames() {
+		return new ArrayList<>(columns.keySet());
+	}
+
+	/** @return true iff the table has a column of the given name */
+	public boolean hasColumn(final String name) {
+		return columns.containsKey(name);
+	}
+
+	/**
+	 * @return the values of the given column, indexed by row. The array is
+	 *         backing the table and must not be modified.
+	 */
+	public double[] column(final String name) {
+		final double[] column = columns.get(name);
+		if (column == null) throw new IllegalArgumentException("No column " +
+			name + " in table");
+		return column;
+	}
+
+	/** @return the value of the given column for the given label */
+	public double get(final L label, final String name) {
+		final int row = labels.indexOf(label);
+		if (row < 0) throw new IllegalArgumentException("No label " + label +
+			" in table");
+		return column(name)[row];
+	}
+
+	/** Adds a column; its length must match the number of rows. */
+	public void addColumn(final String name, final double[] values) {
+		if (values.length != labels.size()) throw new IllegalArgumentException(
+			"Column " + name + " has " + values.length + " values, expected " +
+				labels.size());
+		columns.put(name, values);
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import net.imagej.ops2.filter.fft.FFTPlan;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+
+import org.scijava.function.Computers;
+import org.scijava.ops.spi.OpDependency;
+
+/**
+ * Linear FFT filter op for (@link RandomAccessibleInterval) that reuses an
+ * {@link FFTPlan} and a precomputed kernel spectrum (see
+ * {@code filter.fftKernel}). The input spectrum is computed into a workspace
+ * borrowed from the plan's pool rather than into newly created FFT memory.
+ * 
+ * @param <I>
+ * @param <O>
+ * @param <C>
+ * @implNote op names='filter.linearFilter', priority='100.'
+ */
+public class FFTMethodsLinearFFTFilterPlanC<I extends RealType<I>, O extends RealType<O>, C extends ComplexType<C> & NativeType<C>>
+	implements
+	Computers.Arity5<RandomAccessibleInterval<I>, RandomAccessibleInterval<C>, FFTPlan<C>, ExecutorService, Computers.Arity2<RandomAccessibleInterval<C>, RandomAccessibleInterval<C>, RandomAccessibleInterval<C>>, RandomAccessibleInterval<O>>
+{
+
+	@OpDependency(name = "filter.fft")
+	private Computers.Arity2<RandomAccessibleInterval<I>, ExecutorService, RandomAccessibleInterval<C>> fftInOp;
+
+	@OpDependency(name = "filter.ifft")
+	private Computers.Arity2<RandomAccessibleInterval<C>, ExecutorService, RandomAccessibleInterval<O>> ifftOp;
+
+	/**
+	 * TODO
+	 *
+	 * @param in the input, padded to the padded dimensions of {@code plan}
+	 * @param kernelFFT the kernel spectrum computed with the same plan
+	 * @param plan
+	 * @param es
+	 * @param frequencyOp
+	 * @param out
+	 */
+	@Override
+	public void compute(final RandomAccessibleInterval<I> in,
+		final RandomAccessibleInterval<C> kernelFFT, final FFTPlan<C> plan,
+		final ExecutorService es,
+		final Computers.Arity2<RandomAccessibleInterval<C>, RandomAccessibleInterval<C>, RandomAccessibleInterval<C>> frequencyOp,
+		final RandomAccessibleInterval<O> out)
+	{
+		if (!Arrays.equals(Intervals.dimensionsAsLongArray(in), Intervals
+			.dimensionsAsLongArray(plan.paddedDimensions())))
+		{
+			throw new IllegalArgumentException(
+				"The input is not padded to the dimensions of the FFT plan");
+		}
+		if (!Arrays.equals(Intervals.dimensionsAsLongArray(kernelFFT), Intervals
+			.dimensionsAsLongArray(plan.fftDimensions())))
+		{
+			throw new IllegalArgumentException(
+				"The kernel spectrum was not computed with the given FFT plan");
+		}
+
+		final Img<C> workspace = plan.acquireWorkspace();
+		try {
+			fftInOp.compute(in, es, workspace);
+			// perform the operation in frequency domain, in place
+			frequencyOp.compute(workspace, kernelFFT, workspace);
+			ifftOp.compute(workspace, es, out);
+		}
+		finally {
+			plan.releaseWorkspace(workspace);
+		}
+	}
+}
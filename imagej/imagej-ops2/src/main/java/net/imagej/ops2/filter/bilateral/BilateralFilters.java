@@ -0,0 +1,459 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.bilateral;
+
+
+import net.imagej.ops2.thread.Ranges;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Bilateral filter engines shared by the bilateral filter ops.
+ * <p>
+ * The filters smooth along the first {@code k} dimensions of an image,
+ * independently for each of the {@code k}-dimensional blocks (e.g. planes)
+ * making up the image. Blocks are buffered into flat {@code double} arrays a
+ * batch at a time, and processed in parallel, row by row.
+ * </p>
+ *
+ * @see DefaultBilateral
+ * @see DefaultBilateralND
+ * @see BilateralGrid
+ */
+final class BilateralFilters {
+
+	/** Maximum number of pixels buffered at once. */
+	private static final int MAX_BATCH = 1 << 24;
+
+	/** Maximum size of the range kernel lookup table. */
+	private static final int MAX_LUT = 1 << 16;
+
+	/** Maximum number of cells of a bilateral grid. */
+	private static final long MAX_GRID = 1L << 27;
+
+	/** Padding of the bilateral grid, for the blur kernel. */
+	private static final int PAD = 2;
+
+	private BilateralFilters() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	/**
+	 * Computes the exact bilateral filter over the first
+	 * {@code sigmaS.length} dimensions of {@code input}.
+	 *
+	 * @param sigmaR the range sigma
+	 * @param sigmaS the spatial sigma of each filtered dimension
+	 * @param radius the radius of the neighborhood in each filtered dimension;
+	 *          neighborhoods are clipped at the image borders
+	 */
+	static <I extends RealType<I>, O extends RealType<O>> void exact(
+		final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output, final double sigmaR,
+		final double[] sigmaS, final int radius)
+	{
+		final int[] dims = checkArguments(input, output, sigmaR, sigmaS);
+		if (radius < 0) throw new IllegalArgumentException(
+			"Radius must be non-negative: " + radius);
+		final Exact kernel = new Exact(dims, sigmaR, sigmaS, radius);
+		final boolean integer = Util.getTypeFromInterval(
+			input) instanceof IntegerType;
+		process(input, output, dims, (in, out, n, executor) -> kernel.filter(in,
+			out, n, integer, executor));
+	}
+
+	/**
+	 * Approximates the bilateral filter over the first two dimensions of
+	 * {@code input} with a bilateral grid, downsampled by {@code sigmaS}
+	 * spatially and by {@code sigmaR} in range. The larger the sigmas, the
+	 * coarser (and faster) the grid.
+	 */
+	static <I extends RealType<I>, O extends RealType<O>> void grid(
+		final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output, final double sigmaR,
+		final double sigmaS)
+	{
+		final int[] dims = checkArguments(input, output, sigmaR, new double[] {
+			sigmaS, sigmaS });
+		final Grid grid = new Grid(dims, sigmaR, sigmaS);
+		process(input, output, dims, grid::filter);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Checks the arguments and returns the dimensions of the filtered blocks.
+	 */
+	private static int[] checkArguments(final RandomAccessibleInterval<?> input,
+		final RandomAccessibleInterval<?> output, final double sigmaR,
+		final double[] sigmaS)
+	{
+		if (!Intervals.equalDimensions(input, output))
+			throw new IllegalArgumentException(
+				"Input and Output images must have the same dimensions!");
+		if (sigmaS.length < 1 || sigmaS.length > input.numDimensions())
+			throw new IllegalArgumentException("Cannot filter " + sigmaS.length +
+				" dimensions of a " + input.numDimensions() + "-dimensional image");
+		if (!(sigmaR > 0)) throw new IllegalArgumentException(
+			"Range sigma must be positive: " + sigmaR);
+		final int[] dims = new int[sigmaS.length];
+		long blockSize = 1;
+		for (int d = 0; d < dims.length; d++) {
+			if (!(sigmaS[d] > 0)) throw new IllegalArgumentException(
+				"Spatial sigma must be positive: " + sigmaS[d]);
+			blockSize *= input.dimension(d);
+			dims[d] = (int) input.dimension(d);
+		}
+		if (blockSize > Integer.MAX_VALUE) throw new IllegalArgumentException(
+			"Filtered blocks are too large: " + blockSize + " pixels");
+		return dims;
+	}
+
+	/** Filters a batch of {@code n} pixels, made up of whole blocks. */
+	private interface BatchFilter {
+
+		void filter(double[] in, double[] out, int n, TaskExecutor executor);
+	}
+
+	/**
+	 * Streams {@code input} through {@code filter} into {@code output}, in
+	 * batches of whole blocks.
+	 */
+	private static <I extends RealType<I>, O extends RealType<O>> void process(
+		final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output, final int[] dims,
+		final BatchFilter filter)
+	{
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		int blockSize = 1;
+		for (final int d : dims)
+			blockSize *= d;
+		final long total = Intervals.numElements(input);
+		final int batchSize = (int) Math.min(total, (long) Math.max(1,
+			MAX_BATCH / blockSize) * blockSize);
+		final double[] in = new double[batchSize];
+		final double[] out = new double[batchSize];
+		final Cursor<I> ic = Views.flatIterable(input).cursor();
+		final Cursor<O> oc = Views.flatIterable(output).cursor();
+		for (long start = 0; start < total; start += batchSize) {
+			final int n = (int) Math.min(batchSize, total - start);
+			for (int i = 0; i < n; i++)
+				in[i] = ic.next().getRealDouble();
+			filter.filter(in, out, n, executor);
+			for (int i = 0; i < n; i++)
+				oc.next().setReal(out[i]);
+		}
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * The exact bilateral filter, with a precomputed spatial kernel and, for
+	 * integer images, a lookup table for the range kernel.
+	 */
+	private static final class Exact {
+
+		private final int[] dims;
+
+		private final int[] strides;
+
+		private final int radius;
+
+		/** Strides of the spatial kernel box. */
+		private final int[] boxStrides;
+
+		/** Spatial weights over the kernel box. */
+		private final double[] spatial;
+
+		/** Index of the box center in {@link #spatial}. */
+		private final int center;
+
+		/** {@code -1 / (2 sigmaR^2)} */
+		private final double rangeFactor;
+
+		private Exact(final int[] dims, final double sigmaR,
+			final double[] sigmaS, final int radius)
+		{
+			this.dims = dims;
+			this.radius = radius;
+			final int k = dims.length;
+			strides = new int[k];
+			boxStrides = new int[k];
+			int stride = 1, boxStride = 1, c = 0;
+			for (int d = 0; d < k; d++) {
+				strides[d] = stride;
+				boxStrides[d] = boxStride;
+				c += radius * boxStride;
+				stride *= dims[d];
+				boxStride *= 2 * radius + 1;
+			}
+			center = c;
+			rangeFactor = -0.5 / (sigmaR * sigmaR);
+
+			// the spatial kernel is separable: exp(-|x|^2/2s^2) = prod exp(..)
+			spatial = new double[boxStride];
+			final int[] delta = new int[k];
+			for (int o = 0; o < spatial.length; o++) {
+				double exponent = 0;
+				for (int d = 0, rest = o; d < k; d++) {
+					delta[d] = rest % (2 * radius + 1) - radius;
+					rest /= 2 * radius + 1;
+					exponent += delta[d] * delta[d] / (sigmaS[d] * sigmaS[d]);
+				}
+				spatial[o] = Math.exp(-0.5 * exponent);
+			}
+		}
+
+		private void filter(final double[] in, final double[] out, final int n,
+			final boolean integer, final TaskExecutor executor)
+		{
+			final double[] lut = integer ? rangeTable(in, n) : null;
+			final int rows = n / dims[0];
+			executor.forEach(Ranges.split(rows, executor), range -> {
+				final int[] pos = new int[dims.length];
+				final int[] lo = new int[dims.length];
+				final int[] hi = new int[dims.length];
+				final int[] delta = new int[dims.length];
+				for (int row = range[0]; row < range[1]; row++) {
+					// position of the row within its block
+					for (int d = 1, rest = row; d < dims.length; d++) {
+						pos[d] = rest % dims[d];
+						rest /= dims[d];
+					}
+					final int base = row * dims[0];
+					for (int x = 0; x < dims[0]; x++) {
+						pos[0] = x;
+						out[base + x] = pixel(in, base + x, pos, lo, hi, delta, lut);
+					}
+				}
+			});
+		}
+
+		/** Filters the pixel at index {@code p} and block position {@code pos}. */
+		private double pixel(final double[] in, final int p, final int[] pos,
+			final int[] lo, final int[] hi, final int[] delta, final double[] lut)
+		{
+			final int k = dims.length;
+			for (int d = 0; d < k; d++) {
+				lo[d] = -Math.min(radius, pos[d]);
+				hi[d] = Math.min(radius, dims[d] - 1 - pos[d]);
+				delta[d] = lo[d];
+			}
+			final double vp = in[p];
+			double v = 0, w = 0;
+			while (true) {
+				// one line of the neighborhood along dimension 0
+				int q = p, s = center;
+				for (int d = 1; d < k; d++) {
+					q += delta[d] * strides[d];
+					s += delta[d] * boxStrides[d];
+				}
+				if (lut != null) {
+					for (int dx = lo[0]; dx <= hi[0]; dx++) {
+						final double vq = in[q + dx];
+						final double weight = spatial[s + dx] * lut[(int) Math.abs(vp -
+							vq)];
+						v += weight * vq;
+						w += weight;
+					}
+				}
+				else {
+					for (int dx = lo[0]; dx <= hi[0]; dx++) {
+						final double vq = in[q + dx];
+						final double diff = vp - vq;
+						final double weight = spatial[s + dx] * Math.exp(rangeFactor *
+							diff * diff);
+						v += weight * vq;
+						w += weight;
+					}
+				}
+				int d = 1;
+				while (d < k && ++delta[d] > hi[d]) {
+					delta[d] = lo[d];
+					d++;
+				}
+				if (d >= k) return v / w;
+			}
+		}
+
+		/**
+		 * Tabulates the range kernel for all differences of the (integer) values
+		 * in {@code in}, or returns null if there are too many.
+		 */
+		private double[] rangeTable(final double[] in, final int n) {
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < n; i++) {
+				min = Math.min(min, in[i]);
+				max = Math.max(max, in[i]);
+			}
+			if (!(max - min < MAX_LUT)) return null;
+			final double[] lut = new double[(int) (max - min) + 1];
+			for (int i = 0; i < lut.length; i++)
+				lut[i] = Math.exp(rangeFactor * i * i);
+			return lut;
+		}
+	}
+
+	/**
+	 * The bilateral grid approximation: pixels are accumulated into a coarse
+	 * (x, y, value) grid, which is blurred and then sampled trilinearly.
+	 */
+	private static final class Grid {
+
+		private final int width, height;
+
+		private final double sigmaR, sigmaS;
+
+		private final int gw, gh;
+
+		private Grid(final int[] dims, final double sigmaR, final double sigmaS) {
+			this.width = dims[0];
+			this.height = dims[1];
+			this.sigmaR = sigmaR;
+			this.sigmaS = sigmaS;
+			gw = (int) ((width - 1) / sigmaS) + 1 + 2 * PAD;
+			gh = (int) ((height - 1) / sigmaS) + 1 + 2 * PAD;
+		}
+
+		private void filter(final double[] in, final double[] out, final int n,
+			final TaskExecutor executor)
+		{
+			final int plane = width * height;
+			for (int offset = 0; offset < n; offset += plane)
+				filterPlane(in, out, offset, executor);
+		}
+
+		private void filterPlane(final double[] in, final double[] out,
+			final int offset, final TaskExecutor executor)
+		{
+			final int plane = width * height;
+			double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int i = offset; i < offset + plane; i++) {
+				min = Math.min(min, in[i]);
+				max = Math.max(max, in[i]);
+			}
+			final int gd = (int) ((max - min) / sigmaR) + 1 + 2 * PAD;
+			if ((long) gw * gh * gd > MAX_GRID) throw new IllegalArgumentException(
+				"Bilateral grid too fine, increase the sigmas: " + gw + "x" + gh +
+					"x" + gd);
+			final double[] values = new double[gw * gh * gd];
+			final double[] weights = new double[values.length];
+
+			// splat
+			for (int y = 0, i = offset; y < height; y++) {
+				final int gy = (int) Math.round(y / sigmaS) + PAD;
+				for (int x = 0; x < width; x++, i++) {
+					final int gx = (int) Math.round(x / sigmaS) + PAD;
+					final int gz = (int) Math.round((in[i] - min) / sigmaR) + PAD;
+					final int g = (gz * gh + gy) * gw + gx;
+					values[g] += in[i];
+					weights[g] += 1;
+				}
+			}
+
+			// blur
+			final int[] lengths = { gw, gh, gd };
+			for (int axis = 0, stride = 1; axis < 3; stride *= lengths[axis++])
+				blur(values, weights, lengths, axis, stride, executor);
+
+			// slice
+			final double m = min;
+			executor.forEach(Ranges.split(height, executor), range -> {
+				for (int y = range[0]; y < range[1]; y++) {
+					final double fy = y / sigmaS + PAD;
+					for (int x = 0, i = offset + y * width; x < width; x++, i++) {
+						final double fx = x / sigmaS + PAD;
+						final double fz = (in[i] - m) / sigmaR + PAD;
+						final double w = trilinear(weights, fx, fy, fz);
+						out[i] = w > 0 ? trilinear(values, fx, fy, fz) / w : in[i];
+					}
+				}
+			});
+		}
+
+		/**
+		 * Blurs the grid along {@code axis} with the kernel {@code [1 4 6 4 1] /
+		 * 16}, a discrete Gaussian of sigma 1 grid cell.
+		 */
+		private void blur(final double[] values, final double[] weights,
+			final int[] lengths, final int axis, final int stride,
+			final TaskExecutor executor)
+		{
+			final int length = lengths[axis];
+			final int lines = values.length / length;
+			executor.forEach(Ranges.split(lines, executor), range -> {
+				final double[] line = new double[length];
+				for (int l = range[0]; l < range[1]; l++) {
+					// first element of line l: split l into index below and above axis
+					final int start = (l / stride) * stride * length + l % stride;
+					blurLine(values, start, stride, line);
+					blurLine(weights, start, stride, line);
+				}
+			});
+		}
+
+		private static void blurLine(final double[] grid, final int start,
+			final int stride, final double[] line)
+		{
+			final int length = line.length;
+			for (int i = 0; i < length; i++)
+				line[i] = grid[start + i * stride];
+			for (int i = 0; i < length; i++) {
+				double sum = 6 * line[i];
+				if (i > 0) sum += 4 * line[i - 1];
+				if (i > 1) sum += line[i - 2];
+				if (i < length - 1) sum += 4 * line[i + 1];
+				if (i < length - 2) sum += line[i + 2];
+				grid[start + i * stride] = sum / 16;
+			}
+		}
+
+		private double trilinear(final double[] grid, final double fx,
+			final double fy, final double fz)
+		{
+			final int x = (int) fx, y = (int) fy, z = (int) fz;
+			final double ax = fx - x, ay = fy - y, az = fz - z;
+			final int g = (z * gh + y) * gw + x;
+			final int dz = gw * gh;
+			return (1 - az) * ((1 - ay) * ((1 - ax) * grid[g] + ax * grid[g + 1]) +
+				ay * ((1 - ax) * grid[g + gw] + ax * grid[g + gw + 1])) + az * ((1 -
+					ay) * ((1 - ax) * grid[g + dz] + ax * grid[g + dz + 1]) + ay * ((1 -
+						ax) * grid[g + dz + gw] + ax * grid[g + dz + gw + 1]));
+		}
+	}
+
+}
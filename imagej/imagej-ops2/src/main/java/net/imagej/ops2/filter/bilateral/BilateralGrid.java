@@ -0,0 +1,69 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.bilateral;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.function.Computers;
+
+/**
+ * Approximates a bilateral filter on an image using a bilateral grid (Chen,
+ * Paris and Durand, 2007). The cost hardly depends on the sigmas, which makes
+ * it much faster than {@link DefaultBilateral} for large sigmas. Images with
+ * more than two dimensions are filtered plane by plane.
+ *
+ * @param <I>
+ * @param <O>
+ * @see DefaultBilateral
+ *@implNote op names='filter.bilateralGrid'
+ */
+public class BilateralGrid<I extends RealType<I>, O extends RealType<O>>
+	implements
+	Computers.Arity3<RandomAccessibleInterval<I>, Double, Double, RandomAccessibleInterval<O>>
+{
+
+	/**
+	 * @param input the input data
+	 * @param sigmaR range smoothing param, and sampling rate of the grid along
+	 *          the intensity axis.
+	 * @param sigmaS spatial smoothing param, and sampling rate of the grid
+	 *          along the spatial axes.
+	 * @param output
+	 */
+	@Override
+	public void compute(final RandomAccessibleInterval<I> input,
+		final Double sigmaR, final Double sigmaS,
+		final RandomAccessibleInterval<O> output)
+	{
+		BilateralFilters.grid(input, output, sigmaR, sigmaS);
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.bilateral;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.function.Computers;
+
+/**
+ * Performs a bilateral filter on an image, along as many dimensions as there
+ * are spatial sigmas. Any further dimensions are filtered block by block, e.g.
+ * volume by volume for a time series of volumes.
+ *
+ * @param <I>
+ * @param <O>
+ * @see DefaultBilateral
+ *@implNote op names='filter.bilateral'
+ */
+public class DefaultBilateralND<I extends RealType<I>, O extends RealType<O>>
+	implements
+	Computers.Arity4<RandomAccessibleInterval<I>, Double, double[], Integer, RandomAccessibleInterval<O>>
+{
+
+	/**
+	 * @param input the input data
+	 * @param sigmaR range smoothing param, larger sigma means larger effect of
+	 *          intensity differences.
+	 * @param sigmaS spatial smoothing param of each filtered dimension, larger
+	 *          sigma means smoother image.
+	 * @param radius defines size of the box of pixels considered at each
+	 *          iteration.
+	 * @param output
+	 */
+	@Override
+	public void compute(final RandomAccessibleInterval<I> input,
+		final Double sigmaR, final double[] sigmaS, final Integer radius,
+		final RandomAccessibleInterval<O> output)
+	{
+		BilateralFilters.exact(input, output, sigmaR, sigmaS, radius);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.convolve;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+
+import net.imagej.ops2.filter.fft.FFTMethodsUtility;
+import net.imagej.ops2.filter.fft.FFTPlan;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.outofbounds.OutOfBoundsConstantValueFactory;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+
+import org.scijava.function.Computers;
+import org.scijava.function.Functions;
+import org.scijava.ops.spi.OpDependency;
+import org.scijava.ops.spi.Optional;
+
+/**
+ * Convolve op for (@link RandomAccessibleInterval) that reuses an
+ * {@link FFTPlan} and a precomputed kernel spectrum (see
+ * {@code filter.fftKernel}). The padded size is taken from the plan and the
+ * complex workspace is borrowed from the plan's pool, so convolving many
+ * equally sized inputs with the same kernel neither recomputes the kernel FFT
+ * nor allocates FFT memory per call.
+ * 
+ * @param <I>
+ * @param <O>
+ * @param <C>
+ * @implNote op names='filter.convolve', priority='100.'
+ */
+public class ConvolveFFTPlanF<I extends RealType<I>, O extends RealType<O> & NativeType<O>, C extends ComplexType<C> & NativeType<C>>
+	implements
+	Functions.Arity6<RandomAccessibleInterval<I>, RandomAccessibleInterval<C>, FFTPlan<C>, O, ExecutorService, OutOfBoundsFactory<I, RandomAccessibleInterval<I>>, RandomAccessibleInterval<O>>
+{
+
+	@OpDependency(name = "create.img")
+	private BiFunction<Dimensions, O, RandomAccessibleInterval<O>> outputCreator;
+
+	@OpDependency(name = "filter.padInput")
+	private Functions.Arity3<RandomAccessibleInterval<I>, Dimensions, OutOfBoundsFactory<I, RandomAccessibleInterval<I>>, RandomAccessibleInterval<I>> padOp;
+
+	@OpDependency(name = "filter.fft")
+	private Computers.Arity2<RandomAccessibleInterval<I>, ExecutorService, RandomAccessibleInterval<C>> fftOp;
+
+	@OpDependency(name = "math.multiply")
+	private Computers.Arity2<RandomAccessibleInterval<C>, RandomAccessibleInterval<C>, RandomAccessibleInterval<C>> mul;
+
+	/**
+	 * TODO
+	 *
+	 * @param input
+	 * @param kernelFFT the kernel spectrum computed with the same plan
+	 * @param plan
+	 * @param outType
+	 * @param executorService
+	 * @param obfInput (required = false)
+	 * @return the output
+	 */
+	@Override
+	public RandomAccessibleInterval<O> apply(
+		final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<C> kernelFFT, final FFTPlan<C> plan,
+		final O outType, final ExecutorService es,
+		@Optional OutOfBoundsFactory<I, RandomAccessibleInterval<I>> obfInput)
+	{
+		if (!plan.accepts(input)) throw new IllegalArgumentException(
+			"The input dimensions do not match the dimensions of the FFT plan");
+		if (!Arrays.equals(Intervals.dimensionsAsLongArray(kernelFFT), Intervals
+			.dimensionsAsLongArray(plan.fftDimensions())))
+		{
+			throw new IllegalArgumentException(
+				"The kernel spectrum was not computed with the given FFT plan");
+		}
+
+		if (obfInput == null) {
+			obfInput = new OutOfBoundsConstantValueFactory<>(Util.getTypeFromInterval(
+				input).createVariable());
+		}
+
+		final RandomAccessibleInterval<O> output = outputCreator.apply(input,
+			outType);
+		final RandomAccessibleInterval<I> paddedInput = padOp.apply(input, plan
+			.paddedDimensions(), obfInput);
+
+		final Img<C> workspace = plan.acquireWorkspace();
+		try {
+			fftOp.compute(paddedInput, es, workspace);
+			mul.compute(workspace, kernelFFT, workspace);
+			FFTMethodsUtility.complexToRealInPlace(workspace, output, es);
+		}
+		finally {
+			plan.releaseWorkspace(workspace);
+		}
+
+		return output;
+	}
+
+}
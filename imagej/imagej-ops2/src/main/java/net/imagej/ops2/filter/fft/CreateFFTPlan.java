@@ -0,0 +1,94 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.fft;
+
+import net.imglib2.Dimensions;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.ComplexType;
+
+import org.scijava.function.Functions;
+import org.scijava.ops.spi.Optional;
+
+/**
+ * Function that creates a reusable {@link FFTPlan}
+ *
+ * @param <C>
+ * @implNote op names='filter.fftPlan'
+ */
+public class CreateFFTPlan<C extends ComplexType<C> & NativeType<C>> implements
+	Functions.Arity4<Dimensions, long[], Boolean, C, FFTPlan<C>>
+{
+
+	/**
+	 * TODO
+	 *
+	 * @param dimensions the dimensions of the real input
+	 * @param borderSize the size of border to apply in each dimension (required = false)
+	 * @param fast whether to perform a fast FFT (required = false)
+	 * @param fftType the complex type of the transform
+	 * @return the plan
+	 */
+	@Override
+	public FFTPlan<C> apply(final Dimensions dimensions,
+		@Optional final long[] borderSize, @Optional final Boolean fast,
+		final C fftType)
+	{
+		return new FFTPlan<>(dimensions, borderSize, fast == null || fast,
+			fftType);
+	}
+
+}
+
+/**
+ * Function that creates an {@link FFTPlan} suitable for convolving inputs of
+ * one size with kernels of another.
+ *
+ * @implNote op names='filter.fftPlan'
+ */
+class CreateConvolutionFFTPlan<C extends ComplexType<C> & NativeType<C>>
+	implements Functions.Arity3<Dimensions, Dimensions, C, FFTPlan<C>>
+{
+
+	/**
+	 * TODO
+	 *
+	 * @param inputDimensions the dimensions of the real input
+	 * @param kernelDimensions the dimensions of the kernel
+	 * @param fftType the complex type of the transform
+	 * @return the plan
+	 */
+	@Override
+	public FFTPlan<C> apply(final Dimensions inputDimensions,
+		final Dimensions kernelDimensions, final C fftType)
+	{
+		return FFTPlan.forConvolution(inputDimensions, kernelDimensions, fftType);
+	}
+
+}
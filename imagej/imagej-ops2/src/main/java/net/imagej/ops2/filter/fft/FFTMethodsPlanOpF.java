@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.fft;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.function.Computers;
+import org.scijava.function.Functions;
+import org.scijava.ops.spi.OpDependency;
+
+/**
+ * Function that uses FFTMethods to perform a forward FFT using the padding and
+ * FFT size precomputed by an {@link FFTPlan}.
+ * 
+ * @param <T>
+ * @param <C>
+ * @implNote op names='filter.fft', priority='100.'
+ */
+public class FFTMethodsPlanOpF<T extends RealType<T>, C extends ComplexType<C> & NativeType<C>>
+	implements
+	Functions.Arity3<RandomAccessibleInterval<T>, FFTPlan<C>, ExecutorService, RandomAccessibleInterval<C>>
+{
+
+	@OpDependency(name = "filter.padInput")
+	private Functions.Arity3<RandomAccessibleInterval<T>, Dimensions, OutOfBoundsFactory<T, RandomAccessibleInterval<T>>, RandomAccessibleInterval<T>> padOp;
+
+	@OpDependency(name = "filter.fft")
+	private Computers.Arity2<RandomAccessibleInterval<T>, ExecutorService, RandomAccessibleInterval<C>> fftMethodsOp;
+
+	/**
+	 * TODO
+	 *
+	 * @param input
+	 * @param plan the plan describing the padding and FFT size
+	 * @param executorService
+	 * @return the output
+	 */
+	@Override
+	public RandomAccessibleInterval<C> apply(
+		final RandomAccessibleInterval<T> input, final FFTPlan<C> plan,
+		final ExecutorService es)
+	{
+		if (!plan.accepts(input)) throw new IllegalArgumentException(
+			"The input dimensions do not match the dimensions of the FFT plan");
+
+		// pad the input to the planned size
+		final RandomAccessibleInterval<T> paddedInput = padOp.apply(input, plan
+			.paddedDimensions(), null);
+
+		// compute and return fft
+		final RandomAccessibleInterval<C> output = plan.createFFTImg();
+		fftMethodsOp.compute(paddedInput, es, output);
+		return output;
+	}
+
+}
+
+/**
+ * Function that computes the spectrum of a kernel for an {@link FFTPlan}. The
+ * kernel is padded to the planned size and its center is shifted to the
+ * origin, so that the result can be reused for every convolution performed
+ * with the plan.
+ *
+ * @param <K>
+ * @param <C>
+ * @implNote op names='filter.fftKernel', priority='100.'
+ */
+class FFTMethodsKernelPlanOpF<K extends RealType<K>, C extends ComplexType<C> & NativeType<C>>
+	implements
+	Functions.Arity3<RandomAccessibleInterval<K>, FFTPlan<C>, ExecutorService, RandomAccessibleInterval<C>>
+{
+
+	@OpDependency(name = "filter.padShiftKernel")
+	private BiFunction<RandomAccessibleInterval<K>, Dimensions, RandomAccessibleInterval<K>> padKernelOp;
+
+	@OpDependency(name = "filter.fft")
+	private Computers.Arity2<RandomAccessibleInterval<K>, ExecutorService, RandomAccessibleInterval<C>> fftMethodsOp;
+
+	/**
+	 * TODO
+	 *
+	 * @param kernel
+	 * @param plan the plan describing the padding and FFT size
+	 * @param executorService
+	 * @return the kernel spectrum
+	 */
+	@Override
+	public RandomAccessibleInterval<C> apply(
+		final RandomAccessibleInterval<K> kernel, final FFTPlan<C> plan,
+		final ExecutorService es)
+	{
+		final RandomAccessibleInterval<K> paddedKernel = padKernelOp.apply(kernel,
+			plan.paddedDimensions());
+
+		final RandomAccessibleInterval<C> output = plan.createFFTImg();
+		fftMethodsOp.compute(paddedKernel, es, output);
+		return output;
+	}
+
+}
@@ -29,9 +29,14 @@
 
 package net.imagej.ops2.filter.fft;
 
+import java.util.concurrent.ExecutorService;
+
 import net.imglib2.Dimensions;
 import net.imglib2.FinalDimensions;
+import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.fft2.FFTMethods;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.RealType;
 
 /**
  * Utility class that interacts with FFTMethods
@@ -100,4 +105,23 @@ public class FFTMethodsUtility {
 
 	}
 
+	/**
+	 * Performs a complex to real inverse FFT without allocating a temporary copy
+	 * of the input. The input is overwritten with intermediate results.
+	 * 
+	 * @param fft complex FFT, destroyed by the transform
+	 * @param output real output, unpadded centered in the padded real domain
+	 * @param es executor service used by FFTMethods
+	 */
+	public static <C extends ComplexType<C>, T extends RealType<T>> void
+		complexToRealInPlace(final RandomAccessibleInterval<C> fft,
+			final RandomAccessibleInterval<T> output, final ExecutorService es)
+	{
+		for (int d = fft.numDimensions() - 1; d > 0; d--)
+			FFTMethods.complexToComplex(fft, d, false, true, es);
+
+		FFTMethods.complexToReal(fft, output, FFTMethods.unpaddingIntervalCentered(
+			fft, output), 0, true, es);
+	}
+
 }
@@ -0,0 +1,253 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.fft;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.imglib2.Dimensions;
+import net.imglib2.FinalDimensions;
+import net.imglib2.img.Img;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+
+import org.scijava.types.GenericTyped;
+import org.scijava.types.Types;
+
+/**
+ * A reusable plan for FFTMethods transforms of one input size. A plan is
+ * identified by the input dimensions, the border size, the fast flag and the
+ * complex type; it computes the padded real size and the complex FFT size once
+ * and keeps a pool of complex workspaces of that size, so that repeated
+ * transforms (e.g. convolving many equally sized tiles with the same kernel)
+ * do not reallocate FFT memory on every call.
+ * <p>
+ * Plans are safe to share between threads. A workspace obtained through
+ * {@link #acquireWorkspace()} belongs to the caller until it is handed back
+ * through {@link #releaseWorkspace(Img)}.
+ * </p>
+ *
+ * @param <C> the complex type of the transform
+ */
+public class FFTPlan<C extends ComplexType<C> & NativeType<C>> implements
+	GenericTyped
+{
+
+	private final long[] dimensions;
+	private final long[] borderSize;
+	private final boolean fast;
+	private final C fftType;
+
+	private final long[] paddedSize;
+	private final long[] fftSize;
+
+	private final int maxPooledWorkspaces;
+	private final Queue<Img<C>> workspaces = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooled = new AtomicInteger();
+
+	private final int hashCode;
+
+	/**
+	 * Creates a plan that retains at most one workspace per available
+	 * processor.
+	 *
+	 * @param dimensions the dimensions of the (unpadded) real input
+	 * @param borderSize the size of border to add in each dimension, or
+	 *          {@code null} for no border
+	 * @param fast whether to extend to the next fast FFT size
+	 * @param fftType the complex type of the transform
+	 */
+	public FFTPlan(final Dimensions dimensions, final long[] borderSize,
+		final boolean fast, final C fftType)
+	{
+		this(dimensions, borderSize, fast, fftType, Runtime.getRuntime()
+			.availableProcessors());
+	}
+
+	/**
+	 * @param dimensions the dimensions of the (unpadded) real input
+	 * @param borderSize the size of border to add in each dimension, or
+	 *          {@code null} for no border
+	 * @param fast whether to extend to the next fast FFT size
+	 * @param fftType the complex type of the transform
+	 * @param maxPooledWorkspaces the maximum number of released workspaces the
+	 *          plan keeps for reuse
+	 */
+	public FFTPlan(final Dimensions dimensions, final long[] borderSize,
+		final boolean fast, final C fftType, final int maxPooledWorkspaces)
+	{
+		final int n = dimensions.numDimensions();
+		if (borderSize != null && borderSize.length != n) {
+			throw new IllegalArgumentException("Border size has " +
+				borderSize.length + " dimensions, expected " + n);
+		}
+		this.dimensions = Intervals.dimensionsAsLongArray(dimensions);
+		this.borderSize = borderSize == null ? new long[n] : borderSize.clone();
+		this.fast = fast;
+		this.fftType = fftType.createVariable();
+		this.maxPooledWorkspaces = maxPooledWorkspaces;
+
+		// calculate the padded size
+		final long[] requestedSize = new long[n];
+		for (int d = 0; d < n; d++)
+			requestedSize[d] = this.dimensions[d] + this.borderSize[d];
+
+		// extend the padded size to a size supported by FFTMethods
+		paddedSize = new long[n];
+		fftSize = new long[n];
+		FFTMethodsUtility.dimensionsRealToComplex(fast, new FinalDimensions(
+			requestedSize), paddedSize, fftSize);
+
+		int hash = Arrays.hashCode(this.dimensions);
+		hash = 31 * hash + Arrays.hashCode(this.borderSize);
+		hash = 31 * hash + Boolean.hashCode(fast);
+		hash = 31 * hash + fftType.getClass().hashCode();
+		hashCode = hash;
+	}
+
+	/**
+	 * Creates a plan suitable for convolving an input of the given dimensions
+	 * with a kernel of the given dimensions, i.e. the input is extended by the
+	 * kernel size minus one in every dimension and padded to the next fast FFT
+	 * size.
+	 */
+	public static <C extends ComplexType<C> & NativeType<C>> FFTPlan<C>
+		forConvolution(final Dimensions input, final Dimensions kernel,
+			final C fftType)
+	{
+		final long[] border = new long[input.numDimensions()];
+		for (int d = 0; d < border.length; d++)
+			border[d] = kernel.dimension(d) - 1;
+		return new FFTPlan<>(input, border, true, fftType);
+	}
+
+	/** @return the dimensions of the (unpadded) real input */
+	public Dimensions inputDimensions() {
+		return new FinalDimensions(dimensions);
+	}
+
+	/** @return the size of the border added in each dimension */
+	public long[] borderSize() {
+		return borderSize.clone();
+	}
+
+	/** @return whether the plan extends to the next fast FFT size */
+	public boolean isFast() {
+		return fast;
+	}
+
+	/** @return a new variable of the complex type of the transform */
+	public C fftType() {
+		return fftType.createVariable();
+	}
+
+	/** @return the real dimensions the input is padded to before the FFT */
+	public Dimensions paddedDimensions() {
+		return new FinalDimensions(paddedSize);
+	}
+
+	/** @return the dimensions of the complex FFT */
+	public Dimensions fftDimensions() {
+		return new FinalDimensions(fftSize);
+	}
+
+	/**
+	 * @return true iff inputs of the given dimensions can be transformed with
+	 *         this plan
+	 */
+	public boolean accepts(final Dimensions input) {
+		return Arrays.equals(dimensions, Intervals.dimensionsAsLongArray(input));
+	}
+
+	/**
+	 * Creates a new complex image of the FFT size that is not managed by the
+	 * workspace pool.
+	 */
+	public Img<C> createFFTImg() {
+		return Util.getSuitableImgFactory(new FinalDimensions(fftSize), fftType)
+			.create(fftSize);
+	}
+
+	/**
+	 * Obtains a complex workspace of the FFT size, reusing a released one if
+	 * possible. The contents of the workspace are undefined.
+	 */
+	public Img<C> acquireWorkspace() {
+		final Img<C> workspace = workspaces.poll();
+		if (workspace == null) return createFFTImg();
+		pooled.decrementAndGet();
+		return workspace;
+	}
+
+	/**
+	 * Returns a workspace obtained from {@link #acquireWorkspace()} to the pool.
+	 * The workspace must not be used by the caller afterwards.
+	 */
+	public void releaseWorkspace(final Img<C> workspace) {
+		if (!Arrays.equals(fftSize, Intervals.dimensionsAsLongArray(workspace)))
+		{
+			throw new IllegalArgumentException(
+				"Workspace does not have the FFT size of this plan");
+		}
+		if (pooled.incrementAndGet() > maxPooledWorkspaces) {
+			pooled.decrementAndGet();
+			return;
+		}
+		workspaces.offer(workspace);
+	}
+
+	@Override
+	public Type getType() {
+		return Types.parameterize(FFTPlan.class, new Type[] { fftType
+			.getClass() });
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) return true;
+		if (!(o instanceof FFTPlan)) return false;
+		final FFTPlan<?> other = (FFTPlan<?>) o;
+		return fast == other.fast && //
+			Arrays.equals(dimensions, other.dimensions) && //
+			Arrays.equals(borderSize, other.borderSize) && //
+			fftType.getClass() == other.fftType.getClass();
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+}
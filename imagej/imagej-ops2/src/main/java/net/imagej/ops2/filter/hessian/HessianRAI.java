@@ -28,7 +28,7 @@
 
 package net.imagej.ops2.filter.hessian;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -67,16 +67,22 @@ public class HessianRAI<T extends RealType<T>>
 	 */
 	@Override
 	public CompositeIntervalView<T, RealComposite<T>> apply(RandomAccessibleInterval<T> input) {
-		List<RandomAccessibleInterval<T>> derivatives = new ArrayList<>();
-		for (int i = 0; i < input.numDimensions(); i++) {
+		final int n = input.numDimensions();
+		// the Hessian is symmetric: compute its upper triangle only, and reuse
+		// each mixed derivative below the diagonal
+		@SuppressWarnings("unchecked")
+		RandomAccessibleInterval<T>[] entries = new RandomAccessibleInterval[n * n];
+		for (int i = 0; i < n; i++) {
 			RandomAccessibleInterval<T> derivative = createRAI.apply(input);
 			derivativeComputer.compute(input, i, derivative);
-			for (int j = 0; j < input.numDimensions(); j++) {
+			for (int j = i; j < n; j++) {
 				RandomAccessibleInterval<T> out = createRAI.apply(input);
 				derivativeComputer.compute(derivative, j, out);
-				derivatives.add(out);
+				entries[i * n + j] = out;
+				entries[j * n + i] = out;
 			}
 		}
+		List<RandomAccessibleInterval<T>> derivatives = Arrays.asList(entries);
 		RandomAccessibleInterval<T> stackedDerivatives = Views.stack(derivatives);
 		return Views.collapseReal(stackedDerivatives);
 	}
@@ -0,0 +1,467 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.hessian;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops2.thread.Ranges;
+import net.imglib2.Cursor;
+import net.imglib2.FlatIterationOrder;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.view.Views;
+
+/**
+ * Hessian eigen-analysis engine shared by the Hessian based filters.
+ * <p>
+ * Hessians of 2D and 3D images are stored as their upper triangle, in
+ * row-major order: {@code xx, xy, yy} in 2D and
+ * {@code xx, xy, xz, yy, yz, zz} in 3D (the layout of
+ * {@link net.imglib2.algorithm.gradient.HessianMatrix}). The symmetric
+ * eigenproblem of each pixel is solved in closed form on primitive arrays,
+ * and the eigenvalues are handed to an {@link EigenFunction} computing the
+ * filter response.
+ * </p>
+ * <p>
+ * {@link #finiteDifferences} computes all second derivatives of a pixel in a
+ * single pass over a flat {@code double} buffer. Images are buffered in slabs
+ * along their last dimension, and each slab is processed in parallel, line by
+ * line.
+ * </p>
+ *
+ * @see net.imagej.ops2.filter.vesselness.DefaultFrangi
+ * @see net.imagej.ops2.filter.tubeness.DefaultTubeness
+ */
+public final class Hessians {
+
+	/** Maximum number of pixels buffered at once. */
+	private static final int MAX_BATCH = 1 << 24;
+
+	private Hessians() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	/**
+	 * Computes a filter response from the eigenvalues of a Hessian.
+	 * Implementations are called concurrently, and must not retain the arrays
+	 * they are given.
+	 */
+	@FunctionalInterface
+	public interface EigenFunction {
+
+		/**
+		 * @param eigenvalues the eigenvalues of the Hessian, in ascending order;
+		 *          may be modified
+		 * @param hessian the upper triangle of the Hessian
+		 * @return the filter response
+		 */
+		double apply(double[] eigenvalues, double[] hessian);
+	}
+
+	/**
+	 * Gets the number of distinct entries of an {@code n × n} Hessian.
+	 */
+	public static int entries(final int n) {
+		return n * (n + 1) / 2;
+	}
+
+	/**
+	 * Computes the squared Frobenius norm of a Hessian given as its upper
+	 * triangle.
+	 */
+	public static double frobeniusSquared(final double[] hessian, final int n) {
+		double sum = 0;
+		for (int m = 0, e = 0; m < n; m++) {
+			for (int k = m; k < n; k++, e++) {
+				final double h = hessian[e];
+				sum += m == k ? h * h : 2 * h * h;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes the eigenvalues of a 2D or 3D Hessian, in ascending order.
+	 *
+	 * @param hessian the upper triangle of the Hessian
+	 * @param n the number of dimensions
+	 * @param eigenvalues the array to fill with the {@code n} eigenvalues
+	 */
+	public static void eigenvalues(final double[] hessian, final int n,
+		final double[] eigenvalues)
+	{
+		if (n == 2) eigenvalues2D(hessian[0], hessian[1], hessian[2], eigenvalues);
+		else if (n == 3) eigenvalues3D(hessian[0], hessian[1], hessian[2],
+			hessian[3], hessian[4], hessian[5], eigenvalues);
+		else throw new IllegalArgumentException(
+			"Currently only 2 or 3 dimensional images are supported");
+	}
+
+	/**
+	 * Computes the eigenvalues of a symmetric 2 × 2 matrix, in ascending order.
+	 */
+	public static void eigenvalues2D(final double xx, final double xy,
+		final double yy, final double[] eigenvalues)
+	{
+		final double sum = xx + yy;
+		final double diff = xx - yy;
+		final double root = Math.sqrt(4 * xy * xy + diff * diff);
+		eigenvalues[0] = 0.5 * (sum - root);
+		eigenvalues[1] = 0.5 * (sum + root);
+	}
+
+	/**
+	 * Computes the eigenvalues of a symmetric 3 × 3 matrix, in ascending order,
+	 * using the trigonometric solution of the characteristic polynomial.
+	 */
+	public static void eigenvalues3D(final double xx, final double xy,
+		final double xz, final double yy, final double yz, final double zz,
+		final double[] eigenvalues)
+	{
+		final double off = xy * xy + xz * xz + yz * yz;
+		final double q = (xx + yy + zz) / 3;
+		if (off == 0) {
+			eigenvalues[0] = xx;
+			eigenvalues[1] = yy;
+			eigenvalues[2] = zz;
+			sort(eigenvalues);
+			return;
+		}
+		final double a = xx - q, b = yy - q, c = zz - q;
+		final double p = Math.sqrt((a * a + b * b + c * c + 2 * off) / 6);
+		// det(A - qI) / (2 p^3), the cosine of three times the angle
+		final double det = a * (b * c - yz * yz) - xy * (xy * c - yz * xz) + xz *
+			(xy * yz - b * xz);
+		final double r = Math.max(-1, Math.min(1, det / (2 * p * p * p)));
+		final double phi = Math.acos(r) / 3;
+		final double max = q + 2 * p * Math.cos(phi);
+		final double min = q + 2 * p * Math.cos(phi + 2 * Math.PI / 3);
+		eigenvalues[0] = min;
+		eigenvalues[1] = 3 * q - max - min;
+		eigenvalues[2] = max;
+	}
+
+	/**
+	 * Sorts eigenvalues by ascending magnitude. The sort is stable.
+	 */
+	public static void sortByMagnitude(final double[] eigenvalues) {
+		for (int i = 1; i < eigenvalues.length; i++) {
+			final double v = eigenvalues[i];
+			int j = i - 1;
+			for (; j >= 0 && Math.abs(eigenvalues[j]) > Math.abs(v); j--)
+				eigenvalues[j + 1] = eigenvalues[j];
+			eigenvalues[j + 1] = v;
+		}
+	}
+
+	/**
+	 * Computes the Hessian of each pixel of a 2D or 3D image by finite
+	 * differences, and writes the response of {@code function} to its
+	 * eigenvalues into {@code output}.
+	 * <p>
+	 * The first derivatives are taken over {@code step} pixels in each
+	 * direction, the mixed derivatives along the diagonals, and all differences
+	 * are divided by their physical length. The image is mirrored (without
+	 * repeating the border pixel) beyond its bounds.
+	 * </p>
+	 *
+	 * @param input the 2D or 3D image
+	 * @param step the distance between the samples of each difference, in
+	 *          pixels
+	 * @param spacing the physical distance between pixels, for each dimension
+	 * @param function the filter response
+	 * @param output the output, with the same dimensions as {@code input}
+	 */
+	public static <I extends RealType<I>, O extends RealType<O>> void
+		finiteDifferences(final RandomAccessibleInterval<I> input, final int step,
+			final double[] spacing, final EigenFunction function,
+			final RandomAccessibleInterval<O> output)
+	{
+		final int n = input.numDimensions();
+		if (n != 2 && n != 3) throw new IllegalArgumentException(
+			"Currently only 2 or 3 dimensional images are supported");
+		if (spacing.length < n) throw new IllegalArgumentException(
+			"Spacing must be given for each of the " + n + " dimensions");
+		final int last = n - 1;
+		final int[] dims = new int[n];
+		final int[] strides = new int[n];
+		long plane = 1;
+		for (int d = 0; d < n; d++) {
+			if (input.dimension(d) > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Image is too large: " + input
+					.dimension(d) + " pixels in dimension " + d);
+			dims[d] = (int) input.dimension(d);
+			strides[d] = (int) plane;
+			if (d < last) plane *= dims[d];
+		}
+		if (plane * (1 + 2L * step) > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Image is too large: " + plane +
+				" pixels per slab");
+		final int planeSize = (int) plane;
+		final Stencil stencil = new Stencil(dims, strides, step, spacing);
+
+		// slabs of whole planes, with step planes of margin on each side
+		final int slab = (int) Math.max(1, Math.min(dims[last], MAX_BATCH /
+			planeSize - 2L * step));
+		final double[] buffer = new double[(slab + 2 * step) * planeSize];
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		final long inMin = input.min(last);
+		for (int z0 = 0; z0 < dims[last]; z0 += slab) {
+			final int first = z0;
+			final int planes = Math.min(slab, dims[last] - z0);
+			executor.forEach(Ranges.split(planes + 2 * step, executor), range -> {
+				for (int b = (int) range[0]; b < range[1]; b++) {
+					final long z = inMin + mirror(first - step + b, dims[last]);
+					final Cursor<I> c = Views.flatIterable(Views.hyperSlice(input, last,
+						z)).cursor();
+					for (int i = b * planeSize, end = i + planeSize; i < end; i++)
+						buffer[i] = c.next().getRealDouble();
+				}
+			});
+			final int lines = planes * (planeSize / dims[0]);
+			executor.forEach(Ranges.split(lines, executor), range -> {
+				final Cursor<O> oc = Views.flatIterable(output).cursor();
+				oc.jumpFwd((long) first * planeSize + range[0] * dims[0]);
+				for (int line = (int) range[0]; line < range[1]; line++)
+					stencil.line(buffer, line, function, oc);
+			});
+		}
+	}
+
+	/**
+	 * Writes the response of {@code function} to the eigenvalues of each Hessian
+	 * of {@code hessian} into {@code output}.
+	 *
+	 * @param hessian the Hessians of a 2D or 3D image, with their upper
+	 *          triangles stacked along the last dimension
+	 * @param function the filter response
+	 * @param output the output, with the dimensions of the image
+	 */
+	public static <H extends RealType<H>, O extends RealType<O>> void eigen(
+		final RandomAccessibleInterval<H> hessian, final EigenFunction function,
+		final IterableInterval<O> output)
+	{
+		final int n = hessian.numDimensions() - 1;
+		final int entries = entries(n);
+		if (n != 2 && n != 3) throw new IllegalArgumentException(
+			"Currently only 2 or 3 dimensional images are supported");
+		if (hessian.dimension(n) != entries) throw new IllegalArgumentException(
+			"Expected " + entries + " Hessian entries, but got " + hessian.dimension(
+				n));
+
+		if (!output.iterationOrder().equals(new FlatIterationOrder(output))) {
+			final RandomAccess<H> ra = hessian.randomAccess();
+			final double[] h = new double[entries];
+			final double[] ev = new double[n];
+			final Cursor<O> oc = output.localizingCursor();
+			while (oc.hasNext()) {
+				oc.fwd();
+				for (int d = 0; d < n; d++)
+					ra.setPosition(oc.getLongPosition(d), d);
+				for (int e = 0; e < entries; e++) {
+					ra.setPosition(hessian.min(n) + e, n);
+					h[e] = ra.get().getRealDouble();
+				}
+				eigenvalues(h, n, ev);
+				oc.get().setReal(function.apply(ev, h));
+			}
+			return;
+		}
+
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		executor.forEach(Ranges.split(output.size(), executor), range -> {
+			final List<Cursor<H>> cursors = new ArrayList<>(entries);
+			for (int e = 0; e < entries; e++) {
+				final Cursor<H> c = Views.flatIterable(Views.hyperSlice(hessian, n,
+					hessian.min(n) + e)).cursor();
+				c.jumpFwd(range[0]);
+				cursors.add(c);
+			}
+			final Cursor<O> oc = output.cursor();
+			oc.jumpFwd(range[0]);
+			final double[] h = new double[entries];
+			final double[] ev = new double[n];
+			for (long i = range[0]; i < range[1]; i++) {
+				for (int e = 0; e < entries; e++)
+					h[e] = cursors.get(e).next().getRealDouble();
+				eigenvalues(h, n, ev);
+				oc.next().setReal(function.apply(ev, h));
+			}
+		});
+	}
+
+	/** Sorts two or three values in ascending order. */
+	private static void sort(final double[] v) {
+		for (int i = 1; i < v.length; i++) {
+			final double x = v[i];
+			int j = i - 1;
+			for (; j >= 0 && v[j] > x; j--)
+				v[j + 1] = v[j];
+			v[j + 1] = x;
+		}
+	}
+
+	/**
+	 * Mirrors {@code p} into {@code [0, size)}, without repeating the border
+	 * pixel.
+	 */
+	private static int mirror(final long p, final int size) {
+		if (size == 1) return 0;
+		final long period = 2L * size - 2;
+		long q = p % period;
+		if (q < 0) q += period;
+		return (int) (q < size ? q : period - q);
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * The finite difference stencil of {@link #finiteDifferences}, over a slab
+	 * buffer holding {@code step} planes of margin before its first plane.
+	 */
+	private static final class Stencil {
+
+		private final int n;
+
+		private final int[] dims;
+
+		private final int[] strides;
+
+		private final int step;
+
+		/** Dimensions of each Hessian entry. */
+		private final int[] rows, cols;
+
+		/** Lengths of the first and second differences of each entry. */
+		private final double[] first, second;
+
+		/** Mirrored coordinates {@code step} pixels ahead and behind. */
+		private final int[][] ahead, behind;
+
+		private Stencil(final int[] dims, final int[] strides, final int step,
+			final double[] spacing)
+		{
+			this.n = dims.length;
+			this.dims = dims;
+			this.strides = strides;
+			this.step = step;
+			final int entries = entries(n);
+			rows = new int[entries];
+			cols = new int[entries];
+			first = new double[entries];
+			second = new double[entries];
+			for (int m = 0, e = 0; m < n; m++) {
+				for (int k = m; k < n; k++, e++) {
+					rows[e] = m;
+					cols[e] = k;
+					first[e] = length(m, k, step, spacing);
+					second[e] = length(m, k, 2L * step, spacing);
+				}
+			}
+			ahead = new int[n - 1][];
+			behind = new int[n - 1][];
+			for (int d = 0; d < n - 1; d++) {
+				ahead[d] = new int[dims[d]];
+				behind[d] = new int[dims[d]];
+				for (int c = 0; c < dims[d]; c++) {
+					ahead[d][c] = mirror(c + step, dims[d]);
+					behind[d][c] = mirror(c - step, dims[d]);
+				}
+			}
+		}
+
+		/** Length of a move of {@code delta} pixels along {@code m} and {@code k}. */
+		private static double length(final int m, final int k, final long delta,
+			final double[] spacing)
+		{
+			double distance = 0;
+			for (int i = 0; i < spacing.length; i++) {
+				final double separation = (i == m || i == k ? delta : 0) * spacing[i];
+				if (separation != 0) distance += separation * separation;
+			}
+			return Math.sqrt(distance);
+		}
+
+		/** Processes one line of the slab, writing to {@code out}. */
+		private void line(final double[] buffer, final int line,
+			final EigenFunction function, final Cursor<? extends RealType<?>> out)
+		{
+			final int entries = rows.length;
+			final int last = n - 1;
+
+			// offsets of the line and of its neighbors, but for the x coordinate
+			final int[] position = new int[n];
+			for (int d = 1, rest = line; d < n; d++) {
+				position[d] = d < last ? rest % dims[d] : rest;
+				rest /= dims[d];
+			}
+			position[last] += step;
+			int center = 0;
+			for (int d = 1; d < n; d++)
+				center += position[d] * strides[d];
+			final int[] aheadOffset = new int[entries];
+			final int[] behindOffset = new int[entries];
+			for (int e = 0; e < entries; e++) {
+				for (int d = 1; d < n; d++) {
+					final boolean moved = d == rows[e] || d == cols[e];
+					final int p = position[d];
+					final int a = !moved ? p : d < last ? ahead[d][p] : p + step;
+					final int b = !moved ? p : d < last ? behind[d][p] : p - step;
+					aheadOffset[e] += a * strides[d];
+					behindOffset[e] += b * strides[d];
+				}
+			}
+
+			final double[] h = new double[entries];
+			final double[] ev = new double[n];
+			final int[] aheadX = ahead[0];
+			final int[] behindX = behind[0];
+			for (int x = 0; x < dims[0]; x++) {
+				final double value = buffer[center + x];
+				for (int e = 0; e < entries; e++) {
+					final boolean moved = rows[e] == 0;
+					final double a = buffer[aheadOffset[e] + (moved ? aheadX[x] : x)];
+					final double b = buffer[behindOffset[e] + (moved ? behindX[x] : x)];
+					final double derivativeA = (value - b) / first[e];
+					final double derivativeB = (a - value) / first[e];
+					h[e] = (derivativeB - derivativeA) / second[e];
+				}
+				eigenvalues(h, n, ev);
+				out.next().setReal(function.apply(ev, h));
+			}
+		}
+	}
+
+}
@@ -29,21 +29,21 @@
 
 package net.imagej.ops2.filter.tubeness;
 
-import java.util.Iterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
+import net.imagej.ops2.filter.hessian.Hessians;
 import net.imglib2.Dimensions;
 import net.imglib2.FinalDimensions;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.gradient.HessianMatrix;
-import net.imglib2.algorithm.linalg.eigen.TensorEigenValues;
 import net.imglib2.exception.IncompatibleTypeException;
 import net.imglib2.img.Img;
 import net.imglib2.img.ImgFactory;
 import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
+import net.imglib2.parallel.Parallelization;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
 import net.imglib2.view.Views;
@@ -98,10 +98,6 @@ public class DefaultTubeness<T extends RealType<T>> implements
 	@OpDependency(name = "create.imgFactory")
 	private Function<Dimensions, ImgFactory<DoubleType>> createFactoryOp;
 
-	//TODO: make sure this works
-	@OpDependency(name = "project")
-	private Computers.Arity3<RandomAccessibleInterval<DoubleType>, Computers.Arity1<Iterable<DoubleType>, DoubleType>, Integer, IterableInterval<DoubleType>> projector;
-
 	@Override
 	public void compute(final RandomAccessibleInterval<T> input, ExecutorService es, final Double sigma,
 		final double[] calibration, final IterableInterval<DoubleType> tubeness)
@@ -143,23 +139,20 @@ public class DefaultTubeness<T extends RealType<T>> implements
 			HessianMatrix.calculateMatrix(Views.extendBorder(input), gaussian, gradient, hessian,
 					new OutOfBoundsBorderFactory<>(), nThreads, es, sigma);
 
-			// Hessian eigenvalues.
-			final RandomAccessibleInterval<DoubleType> evs = TensorEigenValues.calculateEigenValuesSymmetric(hessian,
-					TensorEigenValues.createAppropriateResultImg(hessian, factory, new DoubleType()), nThreads, es);
-
-			final Computers.Arity1<Iterable<DoubleType>, DoubleType> method;
+			// Hessian eigenvalues, in ascending order.
+			final Hessians.EigenFunction method;
 			switch (numDimensions) {
 			case 2:
-				method = new Tubeness2D(sigma);
+				method = (ev, h) -> tubeness2D(sigma, ev);
 				break;
 			case 3:
-				method = new Tubeness3D(sigma);
+				method = (ev, h) -> tubeness3D(sigma, ev);
 				break;
 			default:
 				System.err.println("Cannot compute tubeness for " + numDimensions + "D images.");
 				return;
 			}
-			projector.compute(evs, method, numDimensions, tubeness);
+			Parallelization.runWithExecutor(es, () -> Hessians.eigen(hessian, method, tubeness));
 
 			return;
 		} catch (final IncompatibleTypeException | InterruptedException | ExecutionException e) {
@@ -168,47 +161,21 @@ public class DefaultTubeness<T extends RealType<T>> implements
 		}
 	}
 
-	private static final class Tubeness2D implements Computers.Arity1<Iterable<DoubleType>, DoubleType> {
-
-		private final double sigma;
-
-		public Tubeness2D(final double sigma) {
-			this.sigma = sigma;
-		}
-
-		@Override
-		public void compute(final Iterable<DoubleType> input, final DoubleType output) {
-			// Use just the largest one.
-			final Iterator<DoubleType> it = input.iterator();
-			it.next();
-			final double val = it.next().get();
-			if (val >= 0.)
-				output.setZero();
-			else
-				output.set(sigma * sigma * Math.abs(val));
-		}
+	private static double tubeness2D(final double sigma, final double[] eigenvalues) {
+		// Use just the largest one in magnitude, if negative.
+		final double val = eigenvalues[0];
+		if (val >= 0.)
+			return 0;
+		return sigma * sigma * Math.abs(val);
 	}
 
-	private static final class Tubeness3D implements Computers.Arity1<Iterable<DoubleType>, DoubleType> {
-
-		private final double sigma;
-
-		public Tubeness3D(final double sigma) {
-			this.sigma = sigma;
-		}
-
-		@Override
-		public void compute(final Iterable<DoubleType> input, final DoubleType output) {
-			// Use the two largest ones.
-			final Iterator<DoubleType> it = input.iterator();
-			it.next();
-			final double val1 = it.next().get();
-			final double val2 = it.next().get();
-			if (val1 >= 0. || val2 >= 0.)
-				output.setZero();
-			else
-				output.set(sigma * sigma * Math.sqrt(val1 * val2));
-		}
+	private static double tubeness3D(final double sigma, final double[] eigenvalues) {
+		// Use the two largest ones in magnitude, if negative.
+		final double val1 = eigenvalues[1];
+		final double val2 = eigenvalues[0];
+		if (val1 >= 0. || val2 >= 0.)
+			return 0;
+		return sigma * sigma * Math.sqrt(val1 * val2);
 	}
 }
 
@@ -29,22 +29,11 @@
 
 package net.imagej.ops2.filter.vesselness;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-
-import net.imglib2.Cursor;
-import net.imglib2.RandomAccess;
+import net.imagej.ops2.filter.hessian.Hessians;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
-import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.view.Views;
 
 import org.scijava.function.Computers;
-
-import Jama.EigenvalueDecomposition;
-import Jama.Matrix;
 import org.scijava.ops.spi.Optional;
 
 /**
@@ -59,9 +48,6 @@ import org.scijava.ops.spi.Optional;
 public class DefaultFrangi<T extends RealType<T>, U extends RealType<U>>
 		implements Computers.Arity3<RandomAccessibleInterval<T>, Integer, double[], RandomAccessibleInterval<U>> {
 
-	private double[] spacing;
-	private int scale;
-
 	protected double alpha = 0.5;
 	protected double beta = 0.5;
 
@@ -76,24 +62,6 @@ public class DefaultFrangi<T extends RealType<T>, U extends RealType<U>>
 		return maximumVesselness;
 	}
 
-	private double getDistance(RandomAccess<T> ahead, RandomAccess<T> behind, int d) {
-		double distance = 0;
-
-		for (int i = 0; i < d; i++) {
-			double separation = (ahead.getLongPosition(i) - behind.getLongPosition(i)) * spacing[i];
-			if (separation != 0) {
-				distance += (separation * separation);
-			}
-
-		}
-
-		return Math.sqrt(distance);
-	}
-
-	private double derive(double val1, double val2, double distance) {
-		return ((val2 - val1) / distance);
-	}
-
 	/**
 	 * TODO
 	 *
@@ -111,162 +79,89 @@ public class DefaultFrangi<T extends RealType<T>, U extends RealType<U>>
 
 		// set spacing if the parameter is not passed.
 		if (spacing == null) {
-			this.spacing = new double[input.numDimensions()];
+			spacing = new double[input.numDimensions()];
 			for (int i = 0; i < input.numDimensions(); i++)
-				this.spacing[i] = 1;
-		} else
-			this.spacing = spacing;
-
-		this.scale = scale;
+				spacing[i] = 1;
+		}
 
-		frangi(input, output, this.scale);
+		// the second derivatives are taken over scale pixels, with the
+		// OutOfBoundsMirrorStrategy (single boundary) at the edges.
+		Hessians.finiteDifferences(input, scale, spacing, input.numDimensions() == 2 ? this::vesselness2D
+				: this::vesselness3D, output);
 	}
 
-	private final void frangi(RandomAccessibleInterval<T> in, RandomAccessibleInterval<U> out, int step) {
+	private double vesselness2D(final double[] eigenvalues, final double[] hessian) {
+		// find the FrobeniusNorm
+		double cn = -Hessians.frobeniusSquared(hessian, 2);
 
-		// create denominators used for gaussians later.
-		double ad = 2 * alpha * alpha;
 		double bd = 2 * beta * beta;
+		double c = 15;
+		double cd = 2 * c * c;
 
-		// OutOfBoundsMirrorStrategy for use when the cursor reaches the edges.
-		OutOfBoundsMirrorFactory<T, RandomAccessibleInterval<T>> osmf = new OutOfBoundsMirrorFactory<T, RandomAccessibleInterval<T>>(
-				Boundary.SINGLE);
-
-		Cursor<T> cursor = Views.iterable(in).localizingCursor();
-
-		Matrix hessian = new Matrix(in.numDimensions(), in.numDimensions());
-
-		// use three RandomAccess<T> Objects to find the values needed to calculate
-		// the
-		// second derivatives.
-		RandomAccess<T> current = osmf.create(in);
-		RandomAccess<T> behind = osmf.create(in);
-		RandomAccess<T> ahead = osmf.create(in);
-
-		RandomAccess<U> outputRA = out.randomAccess();
-
-		while (cursor.hasNext()) {
-
-			cursor.fwd();
-
-			// calculate the hessian
-			for (int m = 0; m < in.numDimensions(); m++) {
-				for (int n = 0; n < in.numDimensions(); n++) {
-
-					current.setPosition(cursor);
-					ahead.setPosition(cursor);
-					behind.setPosition(cursor);
+		// sort the eigenvalues by magnitude
+		Hessians.sortByMagnitude(eigenvalues);
 
-					// move one behind to take the first derivative
-					behind.move(-step, m);
-					if (m != n)
-						behind.move(-step, n);
+		// lambda values
+		double l1 = eigenvalues[0];
+		double al1 = Math.abs(l1);
+		double l2 = eigenvalues[1];
+		double al2 = Math.abs(l2);
 
-					// take the derivative between the two points
-					double derivativeA = derive(behind.get().getRealDouble(), current.get().getRealDouble(),
-							getDistance(behind, current, in.numDimensions()));
+		// Check to see if the point is on a tubular structure.
+		if (!(l2 < 0))
+			return 0;
 
-					// move one ahead to take the other first derivative
-					ahead.move(step, m);
-					if (m != n)
-						ahead.move(step, n);
+		// ratio Rb
+		double rb = al1 / al2;
 
-					// take the derivative between the two points
-					double derivativeB = derive(current.get().getRealDouble(), ahead.get().getRealDouble(),
-							getDistance(current, ahead, in.numDimensions()));
-
-					// take the second derivative using the two first derivatives
-					double derivative2 = derive(derivativeA, derivativeB,
-							getDistance(behind, ahead, in.numDimensions()));
-
-					hessian.set(m, n, derivative2);
-
-				}
-			}
-
-			// find the FrobeniusNorm (used later)
-			double s = hessian.normF();
-			double cn = -(s * s);
-
-			// find and sort the eigenvalues and eigenvectors of the Hessian
-			EigenvalueDecomposition e = hessian.eig();
-			double[] eigenvaluesArray = e.getRealEigenvalues();
-			ArrayList<Double> eigenvaluesArrayList = new ArrayList<Double>();
-			for (double d : eigenvaluesArray)
-				eigenvaluesArrayList.add(d);
-			Collections.sort(eigenvaluesArrayList, Comparator.comparingDouble(Math::abs));
-
-			// vesselness value
-			double v = 0;
-
-			if (in.numDimensions() == 2) {
-				double c = 15;
-				double cd = 2 * c * c;
-
-				// lambda values
-				double l1 = eigenvaluesArrayList.get(0);
-				double al1 = Math.abs(l1);
-				double l2 = eigenvaluesArrayList.get(1);
-				double al2 = Math.abs(l2);
-
-				// Check to see if the point is on a tubular structure.
-				if (l2 < 0) {
-
-					// ratio Rb
-					double rb = al1 / al2;
-
-					// values for ease of final calculation
-					double bn = -(rb * rb);
-					v = Math.exp(bn / bd) * (1 - Math.exp(cn / cd));
-				}
-			} else if (in.numDimensions() == 3) {
-				double c = 200;
-				double cd = 2 * c * c;
-
-				// lambda values
-				double l1 = eigenvaluesArrayList.get(0);
-				double al1 = Math.abs(l1);
-				double l2 = eigenvaluesArrayList.get(1);
-				double al2 = Math.abs(l2);
-				double l3 = eigenvaluesArrayList.get(2);
-				double al3 = Math.abs(l3);
-
-				// Check to see if the point is on a tubular structure.
-				/*
-				 * N.B. This conditional statement only takes into account the sign on the
-				 * third-smallest eigenvalue, not both the second and third as described in the
-				 * paper. Original versions of this filter took the signs of both into account,
-				 * but the result of the filter was an empty image. Only by removing the
-				 * condition of the sign of the second eigenvalue were we able to obtain results
-				 * that matched human expectations of a 3-D version of the filter. This
-				 * conditional in particular achieved results best aligned with human
-				 * expectation.
-				 */
-				if (l3 < 0) {
-					// ratios Rb and Ra
-					double rb = al1 / Math.sqrt(al2 * al3);
-					double ra = al2 / al3;
-
-					// values for ease of final calculation
-					double an = -(ra * ra);
-					double bn = -(rb * rb);
-
-					// System.out.println(l1 + " " + l2 + " " + l3);
-
-					v = (1 - Math.exp(an / ad)) * Math.exp(bn / bd) * (1 - Math.exp(cn / cd));
-				}
-
-			} else
-
-			if (!Double.isNaN(v)) {
-				maximumVesselness = Math.max(v, maximumVesselness);
-				minimumVesselness = Math.min(v, minimumVesselness);
-			}
+		// values for ease of final calculation
+		double bn = -(rb * rb);
+		return Math.exp(bn / bd) * (1 - Math.exp(cn / cd));
+	}
 
-			outputRA.setPosition(cursor);
-			outputRA.get().setReal(v);
-		}
+	private double vesselness3D(final double[] eigenvalues, final double[] hessian) {
+		// find the FrobeniusNorm
+		double cn = -Hessians.frobeniusSquared(hessian, 3);
 
+		double ad = 2 * alpha * alpha;
+		double bd = 2 * beta * beta;
+		double c = 200;
+		double cd = 2 * c * c;
+
+		// sort the eigenvalues by magnitude
+		Hessians.sortByMagnitude(eigenvalues);
+
+		// lambda values
+		double l1 = eigenvalues[0];
+		double al1 = Math.abs(l1);
+		double l2 = eigenvalues[1];
+		double al2 = Math.abs(l2);
+		double l3 = eigenvalues[2];
+		double al3 = Math.abs(l3);
+
+		// Check to see if the point is on a tubular structure.
+		/*
+		 * N.B. This conditional statement only takes into account the sign on the
+		 * third-smallest eigenvalue, not both the second and third as described in the
+		 * paper. Original versions of this filter took the signs of both into account,
+		 * but the result of the filter was an empty image. Only by removing the
+		 * condition of the sign of the second eigenvalue were we able to obtain results
+		 * that matched human expectations of a 3-D version of the filter. This
+		 * conditional in particular achieved results best aligned with human
+		 * expectation.
+		 */
+		if (!(l3 < 0))
+			return 0;
+
+		// ratios Rb and Ra
+		double rb = al1 / Math.sqrt(al2 * al3);
+		double ra = al2 / al3;
+
+		// values for ease of final calculation
+		double an = -(ra * ra);
+		double bn = -(rb * rb);
+
+		return (1 - Math.exp(an / ad)) * Math.exp(bn / bd) * (1 - Math.exp(cn / cd));
 	}
 
 }
@@ -29,11 +29,8 @@
 
 package net.imagej.ops2.geom.geom2d;
 
-import java.util.List;
 import java.util.function.Function;
 
-import net.imagej.ops2.geom.GeomUtils;
-import net.imglib2.RealLocalizable;
 import net.imglib2.roi.geom.real.Polygon2D;
 import net.imglib2.type.numeric.real.DoubleType;
 
@@ -48,8 +45,8 @@ import org.scijava.ops.spi.OpDependency;
  */
 public class DefaultFeretsDiameterForAngle implements Computers.Arity2<Polygon2D, Double, DoubleType> {
 
-	@OpDependency(name = "geom.convexHull")
-	private Function<Polygon2D, Polygon2D> function;
+	@OpDependency(name = "geom.rotatingCalipers")
+	private Function<Polygon2D, RotatingCalipers> calipers;
 
 	/**
 	 * TODO
@@ -60,21 +57,7 @@ public class DefaultFeretsDiameterForAngle implements Computers.Arity2<Polygon2D
 	 */
 	@Override
 	public void compute(Polygon2D input, final Double angle, DoubleType output) {
-		final List<? extends RealLocalizable> points = GeomUtils.vertices(function.apply(input));
-
-		final double angleRad = -angle * Math.PI / 180.0;
-
-		double minX = Double.POSITIVE_INFINITY;
-		double maxX = Double.NEGATIVE_INFINITY;
-
-		for (RealLocalizable p : points) {
-			final double tmpX = p.getDoublePosition(0) * Math.cos(angleRad)
-					- p.getDoublePosition(1) * Math.sin(angleRad);
-			minX = tmpX < minX ? tmpX : minX;
-			maxX = tmpX > maxX ? tmpX : maxX;
-		}
-
-		output.set(Math.abs(maxX - minX));
+		output.set(calipers.apply(input).feretsDiameter(angle));
 	}
 
 }
@@ -29,14 +29,11 @@
 
 package net.imagej.ops2.geom.geom2d;
 
-import java.util.List;
 import java.util.function.Function;
 
-import net.imagej.ops2.geom.GeomUtils;
 import net.imglib2.RealLocalizable;
 import net.imglib2.roi.geom.real.Polygon2D;
 import net.imglib2.util.Pair;
-import net.imglib2.util.ValuePair;
 
 import org.scijava.ops.spi.OpDependency;
 
@@ -48,8 +45,8 @@ import org.scijava.ops.spi.OpDependency;
  */
 public class DefaultMaximumFeret implements Function<Polygon2D, Pair<RealLocalizable, RealLocalizable>> {
 
-	@OpDependency(name = "geom.convexHull")
-	private Function<Polygon2D, Polygon2D> function;
+	@OpDependency(name = "geom.rotatingCalipers")
+	private Function<Polygon2D, RotatingCalipers> calipers;
 
 	/**
 	 * TODO
@@ -59,28 +56,7 @@ public class DefaultMaximumFeret implements Function<Polygon2D, Pair<RealLocaliz
 	 */
 	@Override
 	public Pair<RealLocalizable, RealLocalizable> apply(Polygon2D input) {
-		final List<? extends RealLocalizable> points = GeomUtils.vertices(function.apply(input));
-
-		double distance = Double.NEGATIVE_INFINITY;
-		RealLocalizable p0 = points.get(0);
-		RealLocalizable p1 = points.get(0);
-		for (int i = 0; i < points.size(); i++) {
-			for (int j = i + 2; j < points.size(); j++) {
-				final RealLocalizable tmpP0 = points.get(i);
-				final RealLocalizable tmpP1 = points.get(j);
-
-				final double tmp = Math.sqrt(Math.pow(tmpP0.getDoublePosition(0) - tmpP1.getDoublePosition(0), 2)
-						+ Math.pow(tmpP0.getDoublePosition(1) - tmpP1.getDoublePosition(1), 2));
-
-				if (tmp > distance) {
-					distance = tmp;
-					p0 = tmpP0;
-					p1 = tmpP1;
-				}
-			}
-		}
-
-		return new ValuePair<>(p0, p1);
+		return calipers.apply(input).maximumFeret();
 	}
 
 }
@@ -0,0 +1,67 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.geom.geom2d;
+
+import java.util.function.Function;
+
+import net.imglib2.roi.geom.real.Polygon2D;
+
+import org.scijava.ops.spi.OpDependency;
+
+/**
+ * Rotating calipers over the convex hull of a polygon. The result provides the
+ * minimum and maximum Feret, their angles and the smallest enclosing rectangle
+ * from a single convex hull computation.
+ *
+ * @implNote op names='geom.rotatingCalipers'
+ */
+public class DefaultRotatingCalipers implements
+	Function<Polygon2D, RotatingCalipers>
+{
+
+	@OpDependency(name = "geom.convexHull")
+	private Function<Polygon2D, Polygon2D> convexHullFunc;
+
+	/**
+	 * TODO
+	 *
+	 * @param input
+	 * @return the calipers measurements
+	 */
+	@Override
+	public RotatingCalipers apply(final Polygon2D input) {
+		// ensure validity of inputs
+		if (input == null) throw new IllegalArgumentException(
+			"Input cannot be null!");
+
+		return RotatingCalipers.of(convexHullFunc.apply(input));
+	}
+
+}
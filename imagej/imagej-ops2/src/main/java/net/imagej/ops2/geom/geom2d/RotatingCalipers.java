@@ -0,0 +1,353 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.geom.geom2d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imglib2.RealLocalizable;
+import net.imglib2.RealPoint;
+import net.imglib2.roi.geom.real.DefaultWritablePolygon2D;
+import net.imglib2.roi.geom.real.Polygon2D;
+import net.imglib2.util.Pair;
+import net.imglib2.util.ValuePair;
+
+/**
+ * Rotating calipers over a convex polygon. A single O(n) sweep over the edges
+ * of the convex hull yields the maximum Feret (the diameter, found among the
+ * antipodal vertex pairs), the minimum Feret (the smallest width, always
+ * attained perpendicular to a hull edge) and the minimum-area enclosing
+ * rectangle (which always has one side collinear with a hull edge).
+ * <p>
+ * The polygon passed to {@link #of(Polygon2D)} must be convex, e.g. the output
+ * of {@code geom.convexHull}; vertices in clockwise order are traversed in
+ * reverse. Where several edges or vertex pairs give the same extremum, the
+ * first one in vertex order is reported.
+ * </p>
+ */
+public final class RotatingCalipers {
+
+	/** Relative tolerance below which two widths or areas are considered equal */
+	private static final double TOLERANCE = 1e-12;
+
+	private final int n;
+	private final double[] x;
+	private final double[] y;
+
+	private int maxFeretA;
+	private int maxFeretB;
+
+	private final double[] minFeret = new double[4];
+
+	private final double[] rectangle = new double[8];
+	private double rectangleArea;
+
+	private RotatingCalipers(final double[] x, final double[] y) {
+		this.n = x.length;
+		this.x = x;
+		this.y = y;
+
+		if (n == 0) throw new IllegalArgumentException(
+			"Polygon must have at least one vertex!");
+
+		// defaults for degenerate polygons
+		minFeret[0] = minFeret[2] = x[0];
+		minFeret[1] = minFeret[3] = y[0];
+		for (int c = 0; c < 4; c++) {
+			rectangle[2 * c] = x[0];
+			rectangle[2 * c + 1] = y[0];
+		}
+
+		if (n > 1) sweep();
+	}
+
+	/**
+	 * Runs the rotating calipers over the given convex polygon.
+	 *
+	 * @param convexHull a convex polygon
+	 * @return the calipers measurements
+	 */
+	public static RotatingCalipers of(final Polygon2D convexHull) {
+		final int n = convexHull.numVertices();
+		final double[] x = new double[n];
+		final double[] y = new double[n];
+		double signedArea = 0;
+		for (int i = 0; i < n; i++) {
+			final RealLocalizable v = convexHull.vertex(i);
+			x[i] = v.getDoublePosition(0);
+			y[i] = v.getDoublePosition(1);
+		}
+		for (int i = 0; i < n; i++) {
+			final int j = (i + 1) % n;
+			signedArea += x[i] * y[j] - x[j] * y[i];
+		}
+		// the sweep advances all calipers counter-clockwise
+		if (signedArea < 0) {
+			reverse(x);
+			reverse(y);
+		}
+		return new RotatingCalipers(x, y);
+	}
+
+	// -- Maximum Feret --
+
+	/** @return the two hull vertices farthest apart from each other */
+	public Pair<RealLocalizable, RealLocalizable> maximumFeret() {
+		return new ValuePair<>(new RealPoint(x[maxFeretA], y[maxFeretA]),
+			new RealPoint(x[maxFeretB], y[maxFeretB]));
+	}
+
+	/** @return the length of the maximum Feret */
+	public double maximumFeretDiameter() {
+		return Math.hypot(x[maxFeretB] - x[maxFeretA], y[maxFeretB] -
+			y[maxFeretA]);
+	}
+
+	/** @return the angle of the maximum Feret, in degrees */
+	public double maximumFeretAngle() {
+		return angle(x[maxFeretA], y[maxFeretA], x[maxFeretB], y[maxFeretB]);
+	}
+
+	// -- Minimum Feret --
+
+	/**
+	 * @return the end points of the minimum Feret: the projection of the
+	 *         farthest vertex onto the supporting hull edge, and that vertex
+	 */
+	public Pair<RealLocalizable, RealLocalizable> minimumFeret() {
+		return new ValuePair<>(new RealPoint(minFeret[0], minFeret[1]),
+			new RealPoint(minFeret[2], minFeret[3]));
+	}
+
+	/** @return the length of the minimum Feret */
+	public double minimumFeretDiameter() {
+		return Math.hypot(minFeret[2] - minFeret[0], minFeret[3] - minFeret[1]);
+	}
+
+	/** @return the angle of the minimum Feret, in degrees */
+	public double minimumFeretAngle() {
+		return angle(minFeret[0], minFeret[1], minFeret[2], minFeret[3]);
+	}
+
+	// -- Feret for a given angle --
+
+	/**
+	 * @param angle the angle in degrees
+	 * @return the extent of the polygon projected onto the given direction
+	 */
+	public double feretsDiameter(final double angle) {
+		final double angleRad = -angle * Math.PI / 180.0;
+		final double cos = Math.cos(angleRad);
+		final double sin = Math.sin(angleRad);
+
+		double minX = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			final double tmpX = x[i] * cos - y[i] * sin;
+			minX = tmpX < minX ? tmpX : minX;
+			maxX = tmpX > maxX ? tmpX : maxX;
+		}
+		return Math.abs(maxX - minX);
+	}
+
+	// -- Smallest enclosing rectangle --
+
+	/**
+	 * @return the minimum-area rectangle enclosing the polygon. Its vertices
+	 *         are ordered like those of {@code geom.boundingBox} in the frame of
+	 *         the supporting hull edge.
+	 */
+	public Polygon2D smallestEnclosingRectangle() {
+		final List<RealLocalizable> corners = new ArrayList<>(4);
+		for (int c = 0; c < 4; c++)
+			corners.add(new RealPoint(rectangle[2 * c], rectangle[2 * c + 1]));
+		return new DefaultWritablePolygon2D(corners);
+	}
+
+	/** @return the area of the smallest enclosing rectangle */
+	public double smallestEnclosingRectangleArea() {
+		return rectangleArea;
+	}
+
+	// -- Helper methods --
+
+	private void sweep() {
+		maxFeretA = 0;
+		maxFeretB = 1;
+		double maxDistSq = distSq(0, 1);
+
+		double minWidth = Double.POSITIVE_INFINITY;
+		double minArea = Double.POSITIVE_INFINITY;
+
+		// j: vertex farthest from the current edge; r/l: vertices with the
+		// largest/smallest projection onto the current edge direction
+		int j = 1;
+		int r = -1;
+		int l = -1;
+
+		for (int i = 0; i < n; i++) {
+			final int i1 = next(i);
+			final double ex = x[i1] - x[i];
+			final double ey = y[i1] - y[i];
+			final double lenSq = ex * ex + ey * ey;
+
+			// advance the antipodal caliper
+			while (cross(i, i1, next(j)) > cross(i, i1, j))
+				j = next(j);
+
+			// antipodal pairs; parallel edges contribute both of their vertices
+			for (int k = 0; k < 2; k++) {
+				final int a = k == 0 ? i : i1;
+				if (consider(a, j, maxDistSq)) maxDistSq = distSq(maxFeretA,
+					maxFeretB);
+				if (cross(i, i1, next(j)) == cross(i, i1, j) && consider(a, next(j),
+					maxDistSq)) maxDistSq = distSq(maxFeretA, maxFeretB);
+			}
+
+			if (lenSq == 0) continue;
+			final double len = Math.sqrt(lenSq);
+			final double ux = ex / len;
+			final double uy = ey / len;
+
+			// minimum Feret: the width perpendicular to this edge
+			final double width = cross(i, i1, j) / len;
+			if (improves(width, minWidth)) {
+				minWidth = width;
+				final double t = ((x[j] - x[i]) * ex + (y[j] - y[i]) * ey) / lenSq;
+				minFeret[0] = x[i] + t * ex;
+				minFeret[1] = y[i] + t * ey;
+				minFeret[2] = x[j];
+				minFeret[3] = y[j];
+			}
+
+			// advance the calipers along the edge direction
+			if (r < 0) {
+				r = l = 0;
+				for (int k = 1; k < n; k++) {
+					if (dot(k, ux, uy) > dot(r, ux, uy)) r = k;
+					if (dot(k, ux, uy) < dot(l, ux, uy)) l = k;
+				}
+			}
+			else {
+				while (dot(next(r), ux, uy) > dot(r, ux, uy))
+					r = next(r);
+				while (dot(next(l), ux, uy) < dot(l, ux, uy))
+					l = next(l);
+			}
+
+			// enclosing rectangle aligned with this edge
+			final double minU = dot(l, ux, uy);
+			final double maxU = dot(r, ux, uy);
+			final double vEdge = -uy * x[i] + ux * y[i];
+			final double vFar = -uy * x[j] + ux * y[j];
+			final double minV = Math.min(vEdge, vFar);
+			final double maxV = Math.max(vEdge, vFar);
+			final double area = (maxU - minU) * (maxV - minV);
+			if (improves(area, minArea)) {
+				minArea = area;
+				setCorner(0, minU, minV, ux, uy);
+				setCorner(1, minU, maxV, ux, uy);
+				setCorner(2, maxU, maxV, ux, uy);
+				setCorner(3, maxU, minV, ux, uy);
+			}
+		}
+
+		rectangleArea = minArea == Double.POSITIVE_INFINITY ? 0 : minArea;
+	}
+
+	/**
+	 * Offers the vertex pair (a, b) as maximum Feret candidate. Among pairs of
+	 * equal length, the one with the smaller vertex indices wins.
+	 */
+	private boolean consider(final int a, final int b, final double maxDistSq) {
+		if (a == b) return false;
+		final int lo = Math.min(a, b);
+		final int hi = Math.max(a, b);
+		final double d = distSq(lo, hi);
+		if (d > maxDistSq || d == maxDistSq && (lo < maxFeretA ||
+			lo == maxFeretA && hi < maxFeretB))
+		{
+			maxFeretA = lo;
+			maxFeretB = hi;
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean improves(final double value, final double best) {
+		return best == Double.POSITIVE_INFINITY || value < best - TOLERANCE *
+			best;
+	}
+
+	private void setCorner(final int c, final double u, final double v,
+		final double ux, final double uy)
+	{
+		rectangle[2 * c] = u * ux - v * uy;
+		rectangle[2 * c + 1] = u * uy + v * ux;
+	}
+
+	private int next(final int i) {
+		return i + 1 == n ? 0 : i + 1;
+	}
+
+	/**
+	 * Twice the signed area of the triangle (a, b, c), i.e. the distance of c
+	 * from the line through a and b times the length of (a, b).
+	 */
+	private double cross(final int a, final int b, final int c) {
+		return (x[b] - x[a]) * (y[c] - y[a]) - (y[b] - y[a]) * (x[c] - x[a]);
+	}
+
+	private double dot(final int i, final double ux, final double uy) {
+		return x[i] * ux + y[i] * uy;
+	}
+
+	private double distSq(final int a, final int b) {
+		final double dx = x[b] - x[a];
+		final double dy = y[b] - y[a];
+		return dx * dx + dy * dy;
+	}
+
+	private static double angle(final double x0, final double y0,
+		final double x1, final double y1)
+	{
+		final double degree = Math.atan2(y1 - y0, x1 - x0) * (180.0 / Math.PI);
+		return degree % 180;
+	}
+
+	private static void reverse(final double[] values) {
+		for (int i = 0, k = values.length - 1; i < k; i++, k--) {
+			final double tmp = values[i];
+			values[i] = values[k];
+			values[k] = tmp;
+		}
+	}
+
+}
@@ -0,0 +1,473 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.geom.geom3d;
+
+import java.util.Arrays;
+
+import net.imagej.mesh2.Mesh;
+import net.imagej.mesh2.Vertices;
+
+/**
+ * QuickHull over primitive arrays. Points are kept as coordinate arrays and
+ * faces as rows of flat {@code int}/{@code double} arrays holding their
+ * vertices, neighbors and planes. Every face owns a linked list of the points
+ * in front of it (the conflict lists), threaded through a single {@code int}
+ * array over all points, so no objects are allocated per point or face.
+ * <p>
+ * Each iteration takes a face with points in front, finds the visible faces
+ * and their horizon by a depth-first search over the face adjacency starting
+ * at the face, replaces the visible faces by a cone of new faces from the
+ * furthest point to the horizon, and reassigns the points in front of the
+ * removed faces to the new faces only.
+ * </p>
+ * <p>
+ * The tolerance is the one of {@link DefaultConvexHull3D}, derived from the
+ * magnitude of the coordinates, see {@link #epsilon(Mesh)}.
+ * </p>
+ */
+final class QuickHull3D {
+
+	/** Precision of a double */
+	private static final double DOUBLE_PREC = 2.2204460492503131e-16;
+
+	private static final int INITIAL_FACES = 64;
+
+	private final int numPoints;
+	private final double[] xs;
+	private final double[] ys;
+	private final double[] zs;
+	private final double eps;
+
+	/** Next point in the conflict list of the same face, or -1 */
+	private final int[] nextOutside;
+
+	private int numFaces;
+
+	/** Vertices of each face, counter-clockwise seen from the outside */
+	private int[] faceVertices = new int[3 * INITIAL_FACES];
+
+	/** Neighbor across the edge from vertex i to vertex i + 1 of each face */
+	private int[] faceNeighbors = new int[3 * INITIAL_FACES];
+
+	/** Unit normal and offset of the plane of each face */
+	private double[] planes = new double[4 * INITIAL_FACES];
+
+	private boolean[] deleted = new boolean[INITIAL_FACES];
+
+	/** First point of the conflict list of each face, or -1 */
+	private int[] outsideHead = new int[INITIAL_FACES];
+
+	/** Furthest point in front of each face, or -1 */
+	private int[] furthest = new int[INITIAL_FACES];
+	private double[] furthestDistance = new double[INITIAL_FACES];
+
+	/** FIFO of faces which might have points in front */
+	private int[] pending = new int[INITIAL_FACES];
+	private int pendingHead, pendingTail;
+
+	// scratch space of a single iteration
+	private int[] visible = new int[16];
+	private int numVisible;
+	private int[] horizon = new int[32];
+	private int numHorizon;
+	private int[] stack = new int[48];
+
+	QuickHull3D(final Mesh input) {
+		final Vertices vertices = input.vertices();
+		if (vertices.size() > Integer.MAX_VALUE) throw new IllegalArgumentException(
+			"Too many vertices: " + vertices.size());
+		numPoints = (int) vertices.size();
+		xs = new double[numPoints];
+		ys = new double[numPoints];
+		zs = new double[numPoints];
+		for (int i = 0; i < numPoints; i++) {
+			xs[i] = vertices.x(i);
+			ys[i] = vertices.y(i);
+			zs[i] = vertices.z(i);
+		}
+		eps = epsilon(xs, ys, zs);
+		nextOutside = new int[numPoints];
+	}
+
+	/**
+	 * The tolerance of the hull computation. This formula comes from John
+	 * Lloyd's quickhull implementation
+	 * (http://www.cs.ubc.ca/~lloyd/java/quickhull3d.html).
+	 */
+	static double epsilon(final Mesh input) {
+		final Vertices vertices = input.vertices();
+		double maxX = 0, maxY = 0, maxZ = 0;
+		for (long i = 0; i < vertices.size(); i++) {
+			maxX = Math.max(maxX, Math.abs(vertices.x(i)));
+			maxY = Math.max(maxY, Math.abs(vertices.y(i)));
+			maxZ = Math.max(maxZ, Math.abs(vertices.z(i)));
+		}
+		return 3 * DOUBLE_PREC * (maxX + maxY + maxZ);
+	}
+
+	private static double epsilon(final double[] xs, final double[] ys,
+		final double[] zs)
+	{
+		double maxX = 0, maxY = 0, maxZ = 0;
+		for (int i = 0; i < xs.length; i++) {
+			maxX = Math.max(maxX, Math.abs(xs[i]));
+			maxY = Math.max(maxY, Math.abs(ys[i]));
+			maxZ = Math.max(maxZ, Math.abs(zs[i]));
+		}
+		return 3 * DOUBLE_PREC * (maxX + maxY + maxZ);
+	}
+
+	double epsilon() {
+		return eps;
+	}
+
+	/**
+	 * Computes the hull.
+	 *
+	 * @return this
+	 */
+	QuickHull3D compute() {
+		createSimplex();
+		while (pendingHead != pendingTail) {
+			final int face = pending[pendingHead++];
+			if (!deleted[face] && furthest[face] >= 0) addPoint(face);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes the hull into the given (empty) mesh. Hull vertices are added in
+	 * the order of their first appearance in a face; the triangle normals are
+	 * the non-normalized cross products of the triangle edges.
+	 */
+	void writeTo(final Mesh output) {
+		final int[] indices = new int[numPoints];
+		Arrays.fill(indices, -1);
+		final long[] v = new long[3];
+		for (int f = 0; f < numFaces; f++) {
+			if (deleted[f]) continue;
+			for (int i = 0; i < 3; i++) {
+				final int p = faceVertices[3 * f + i];
+				if (indices[p] < 0) indices[p] = (int) output.vertices().add(xs[p],
+					ys[p], zs[p]);
+				v[i] = indices[p];
+			}
+			final int a = faceVertices[3 * f];
+			final int b = faceVertices[3 * f + 1];
+			final int c = faceVertices[3 * f + 2];
+			final double ux = xs[b] - xs[a], uy = ys[b] - ys[a], uz = zs[b] - zs[a];
+			final double wx = xs[c] - xs[a], wy = ys[c] - ys[a], wz = zs[c] - zs[a];
+			output.triangles().add(v[0], v[1], v[2], uy * wz - uz * wy, uz * wx -
+				ux * wz, ux * wy - uy * wx);
+		}
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Creates the initial simplex of four faces from the points v0-v3. v0 and v1
+	 * have the largest possible distance in one dimension. v2 is the point with
+	 * the largest distance to v0----v1. v3 is the point with the largest distance
+	 * to the plane described by v0, v1, v2.
+	 */
+	private void createSimplex() {
+		if (numPoints < 4) throw new IllegalArgumentException(
+			"The convex hull needs at least four points!");
+
+		// extreme points of each dimension
+		final int[] min = new int[3];
+		final int[] max = new int[3];
+		for (int i = 1; i < numPoints; i++) {
+			if (xs[i] < xs[min[0]]) min[0] = i;
+			if (xs[i] > xs[max[0]]) max[0] = i;
+			if (ys[i] < ys[min[1]]) min[1] = i;
+			if (ys[i] > ys[max[1]]) max[1] = i;
+			if (zs[i] < zs[min[2]]) min[2] = i;
+			if (zs[i] > zs[max[2]]) max[2] = i;
+		}
+		final double[] spread = { xs[max[0]] - xs[min[0]], ys[max[1]] -
+			ys[min[1]], zs[max[2]] - zs[min[2]] };
+		int d = 0;
+		for (int i = 1; i < 3; i++)
+			if (spread[i] > spread[d]) d = i;
+		final int v0 = min[d];
+		int v1 = max[d];
+
+		// d = |(v - v0) x (v - v1)| / |(v1 - v0)|
+		// We can omit the common denominator because it does not change over
+		// all computations.
+		double maxDistance = eps;
+		int v2 = -1;
+		for (int i = 0; i < numPoints; i++) {
+			final double ax = xs[i] - xs[v1], ay = ys[i] - ys[v1], az = zs[i] -
+				zs[v1];
+			final double bx = xs[i] - xs[v0], by = ys[i] - ys[v0], bz = zs[i] -
+				zs[v0];
+			final double cx = ay * bz - az * by, cy = az * bx - ax * bz, cz = ax *
+				by - ay * bx;
+			final double lengthSq = cx * cx + cy * cy + cz * cz;
+			if (lengthSq > maxDistance) {
+				maxDistance = lengthSq;
+				v2 = i;
+			}
+		}
+		if (v2 < 0) throw new IllegalArgumentException(
+			"The input points are collinear!");
+
+		final double[] plane = new double[4];
+		computePlane(v0, v1, v2, plane, 0);
+		maxDistance = eps;
+		int v3 = -1;
+		for (int i = 0; i < numPoints; i++) {
+			final double distance = Math.abs(distance(plane, 0, i));
+			if (distance > maxDistance) {
+				maxDistance = distance;
+				v3 = i;
+			}
+		}
+		if (v3 < 0) throw new IllegalArgumentException(
+			"The input points are coplanar!");
+
+		// orient the base counter-clockwise, seen from the outside
+		if (distance(plane, 0, v3) > 0) {
+			final int tmp = v1;
+			v1 = v2;
+			v2 = tmp;
+		}
+		final int f0 = addFace(v0, v1, v2);
+		final int f1 = addFace(v1, v0, v3);
+		final int f2 = addFace(v2, v1, v3);
+		final int f3 = addFace(v0, v2, v3);
+		// connect the faces along their shared edges
+		for (int f = f0; f <= f3; f++) {
+			for (int e = 0; e < 3; e++) {
+				final int a = faceVertices[3 * f + e];
+				final int b = faceVertices[3 * f + (e + 1) % 3];
+				for (int g = f0; g <= f3; g++) {
+					final int j = edgeIndex(g, b, a);
+					if (g != f && j >= 0) faceNeighbors[3 * f + e] = g;
+				}
+			}
+		}
+
+		for (int i = 0; i < numPoints; i++) {
+			if (i == v0 || i == v1 || i == v2 || i == v3) continue;
+			assign(i, f0, f3 + 1);
+		}
+	}
+
+	/**
+	 * Adds the furthest point in front of a face to the hull.
+	 */
+	private void addPoint(final int face) {
+		final int eye = furthest[face];
+
+		findHorizon(face, eye);
+
+		// a cone of new faces from the eye to the horizon
+		final int firstNew = numFaces;
+		for (int k = 0; k < numHorizon; k++) {
+			final int h = horizon[2 * k];
+			final int e = horizon[2 * k + 1];
+			final int a = faceVertices[3 * h + e];
+			final int b = faceVertices[3 * h + (e + 1) % 3];
+			final int outer = faceNeighbors[3 * h + e];
+			final int f = addFace(a, b, eye);
+			faceNeighbors[3 * f] = outer;
+			faceNeighbors[3 * outer + edgeIndex(outer, b, a)] = f;
+		}
+		for (int k = 0; k < numHorizon; k++) {
+			final int f = firstNew + k;
+			faceNeighbors[3 * f + 1] = firstNew + (k + 1) % numHorizon;
+			faceNeighbors[3 * f + 2] = firstNew + (k + numHorizon - 1) % numHorizon;
+		}
+
+		// reassign the points in front of the removed faces
+		for (int i = 0; i < numVisible; i++) {
+			int p = outsideHead[visible[i]];
+			while (p >= 0) {
+				final int next = nextOutside[p];
+				if (p != eye) assign(p, firstNew, numFaces);
+				p = next;
+			}
+		}
+	}
+
+	/**
+	 * Marks the faces visible from the eye as deleted and collects the edges of
+	 * the horizon, in counter-clockwise order, as (face, edge) pairs of the
+	 * visible faces.
+	 */
+	private void findHorizon(final int face, final int eye) {
+		numVisible = 0;
+		numHorizon = 0;
+		deleted[face] = true;
+		addVisible(face);
+
+		// depth-first search with frames of (face, next edge, remaining edges);
+		// faces other than the first are entered through one of their edges,
+		// which leads back to a visible face and is skipped
+		int top = 0;
+		stack = ensure(stack, 3);
+		stack[top++] = face;
+		stack[top++] = 0;
+		stack[top++] = 3;
+		while (top > 0) {
+			final int f = stack[top - 3];
+			final int e = stack[top - 2];
+			if (stack[top - 1] == 0) {
+				top -= 3;
+				continue;
+			}
+			stack[top - 2] = (e + 1) % 3;
+			stack[top - 1]--;
+
+			final int neighbor = faceNeighbors[3 * f + e];
+			if (deleted[neighbor]) continue;
+			if (distance(planes, neighbor, eye) > eps) {
+				deleted[neighbor] = true;
+				addVisible(neighbor);
+				final int a = faceVertices[3 * f + e];
+				final int b = faceVertices[3 * f + (e + 1) % 3];
+				stack = ensure(stack, top + 3);
+				stack[top++] = neighbor;
+				stack[top++] = (edgeIndex(neighbor, b, a) + 1) % 3;
+				stack[top++] = 2;
+			}
+			else {
+				horizon = ensure(horizon, 2 * numHorizon + 2);
+				horizon[2 * numHorizon] = f;
+				horizon[2 * numHorizon + 1] = e;
+				numHorizon++;
+			}
+		}
+	}
+
+	private void addVisible(final int face) {
+		visible = ensure(visible, numVisible + 1);
+		visible[numVisible++] = face;
+	}
+
+	/**
+	 * Assigns a point to the face in the range [from, to) it is furthest in
+	 * front of, if any. Points behind all faces are inside of the hull and
+	 * dropped.
+	 */
+	private void assign(final int point, final int from, final int to) {
+		double maxDistance = eps;
+		int maxFace = -1;
+		for (int f = from; f < to; f++) {
+			final double distance = distance(planes, f, point);
+			if (distance > maxDistance) {
+				maxDistance = distance;
+				maxFace = f;
+			}
+		}
+		if (maxFace < 0) return;
+
+		nextOutside[point] = outsideHead[maxFace];
+		outsideHead[maxFace] = point;
+		if (furthest[maxFace] < 0) {
+			pending = ensure(pending, pendingTail + 1);
+			pending[pendingTail++] = maxFace;
+		}
+		if (furthest[maxFace] < 0 || maxDistance > furthestDistance[maxFace]) {
+			furthest[maxFace] = point;
+			furthestDistance[maxFace] = maxDistance;
+		}
+	}
+
+	private int addFace(final int a, final int b, final int c) {
+		final int f = numFaces++;
+		if (f == deleted.length) {
+			final int capacity = 2 * f;
+			faceVertices = Arrays.copyOf(faceVertices, 3 * capacity);
+			faceNeighbors = Arrays.copyOf(faceNeighbors, 3 * capacity);
+			planes = Arrays.copyOf(planes, 4 * capacity);
+			deleted = Arrays.copyOf(deleted, capacity);
+			outsideHead = Arrays.copyOf(outsideHead, capacity);
+			furthest = Arrays.copyOf(furthest, capacity);
+			furthestDistance = Arrays.copyOf(furthestDistance, capacity);
+		}
+		faceVertices[3 * f] = a;
+		faceVertices[3 * f + 1] = b;
+		faceVertices[3 * f + 2] = c;
+		outsideHead[f] = -1;
+		furthest[f] = -1;
+		computePlane(a, b, c, planes, 4 * f);
+		return f;
+	}
+
+	/**
+	 * @return the index of the edge from a to b of the face, or -1
+	 */
+	private int edgeIndex(final int face, final int a, final int b) {
+		for (int e = 0; e < 3; e++) {
+			if (faceVertices[3 * face + e] == a && faceVertices[3 * face + (e + 1) %
+				3] == b) return e;
+		}
+		return -1;
+	}
+
+	/** Writes the unit normal and the offset of the plane through a, b, c */
+	private void computePlane(final int a, final int b, final int c,
+		final double[] plane, final int o)
+	{
+		final double ux = xs[b] - xs[a], uy = ys[b] - ys[a], uz = zs[b] - zs[a];
+		final double wx = xs[c] - xs[a], wy = ys[c] - ys[a], wz = zs[c] - zs[a];
+		double nx = uy * wz - uz * wy;
+		double ny = uz * wx - ux * wz;
+		double nz = ux * wy - uy * wx;
+		final double norm = Math.sqrt(nx * nx + ny * ny + nz * nz);
+		nx /= norm;
+		ny /= norm;
+		nz /= norm;
+		plane[o] = nx;
+		plane[o + 1] = ny;
+		plane[o + 2] = nz;
+		// the offset of the plane through the centroid
+		plane[o + 3] = (nx * (xs[a] + xs[b] + xs[c]) + ny * (ys[a] + ys[b] + ys[c]) +
+			nz * (zs[a] + zs[b] + zs[c])) / 3;
+	}
+
+	private double distance(final double[] planes, final int face,
+		final int point)
+	{
+		final int o = 4 * face;
+		return planes[o] * xs[point] + planes[o + 1] * ys[point] + planes[o + 2] *
+			zs[point] - planes[o + 3];
+	}
+
+	private static int[] ensure(final int[] array, final int length) {
+		return length <= array.length ? array : Arrays.copyOf(array, Math.max(
+			length, 2 * array.length));
+	}
+
+}
@@ -73,21 +73,7 @@ public class CalibratedDistanceTransformer<B extends BooleanType<B>, T extends R
 		if (max_dist > Views.iterable(out).firstElement().getMaxValue())
 			throw new IllegalArgumentException(
 					"The type of the output image is too small to calculate the Distance Transform on this image!");
-		switch (in.numDimensions()) {
-		case 2: {
-			DistanceTransform2DCalibration.compute(in, calibration, es, out);
-			break;
-		}
-		case 3: {
-			DistanceTransform3DCalibration.compute(in, calibration, es, out);
-			break;
-		}
-		default: {
-			DefaultDistanceTransformCalibration.compute(in, calibration, es, out);
-			break;
-		}
-		}
-
+		DistanceTransforms.compute(in, calibration, es, out);
 	}
 
 }
@@ -69,21 +69,7 @@ public class DistanceTransformer<B extends BooleanType<B>, T extends RealType<T>
 		if (max_dist > Views.iterable(out).firstElement().getMaxValue())
 			throw new IllegalArgumentException(
 					"The type of the output image is too small to calculate the Distance Transform on this image!");
-		switch (in.numDimensions()) {
-		case 2: {
-			DistanceTransform2D.compute(in, es, out);
-			break;
-		}
-		case 3: {
-			DistanceTransform3D.compute(in, es, out);
-			break;
-		}
-		default: {
-			DefaultDistanceTransform.compute(in, es, out);
-			break;
-		}
-		}
-
+		DistanceTransforms.compute(in, null, es, out);
 	}
 
 }
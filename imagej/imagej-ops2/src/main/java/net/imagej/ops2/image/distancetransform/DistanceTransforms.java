@@ -0,0 +1,335 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.image.distancetransform;
+
+import java.util.concurrent.ExecutorService;
+
+import net.imagej.ops2.thread.Ranges;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Euclidean distance transform engine shared by the distance transform ops.
+ * <p>
+ * The squared distances are computed one dimension at a time into a single
+ * flat buffer: first the distances along the lines of the first dimension,
+ * then the lower envelopes of parabolas along each further dimension (see
+ * <a href="http://fab.cba.mit.edu/classes/S62.12/docs/Meijster_distance.pdf">
+ * Meijster et al.</a>). The buffer holds {@code float}s for {@link FloatType}
+ * outputs and {@code double}s otherwise. Each task processes a contiguous
+ * range of lines, gathering blocks of adjacent lines at once so that the
+ * buffer is read and written in contiguous runs.
+ * </p>
+ */
+final class DistanceTransforms {
+
+	/** Number of adjacent lines processed together. */
+	private static final int BLOCK = 16;
+
+	private DistanceTransforms() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	/**
+	 * Computes, for every foreground pixel of {@code in}, its distance to the
+	 * nearest background pixel.
+	 *
+	 * @param in the binary input
+	 * @param calibration the pixel spacing of each dimension, or {@code null}
+	 *          for unit spacing
+	 * @param es the {@link ExecutorService} running the tasks
+	 * @param out the output
+	 */
+	static <B extends BooleanType<B>, T extends RealType<T>> void compute(
+		final RandomAccessibleInterval<B> in, final double[] calibration,
+		final ExecutorService es, final RandomAccessibleInterval<T> out)
+	{
+		final int n = in.numDimensions();
+		final double[] spacing = new double[n];
+		for (int d = 0; d < n; d++)
+			spacing[d] = calibration == null ? 1 : calibration[d];
+		final long numPoints = Intervals.numElements(in);
+		if (numPoints > Integer.MAX_VALUE) throw new IllegalArgumentException(
+			"Image is too large: " + numPoints + " pixels");
+		final int[] dims = new int[n];
+		for (int d = 0; d < n; d++)
+			dims[d] = (int) in.dimension(d);
+
+		final Buffer buffer = Util.getTypeFromInterval(out) instanceof FloatType
+			? new FloatBuffer((int) numPoints) : new DoubleBuffer((int) numPoints);
+		Parallelization.runWithExecutor(es, () -> {
+			final TaskExecutor executor = Parallelization.getTaskExecutor();
+			firstDimension(in, dims, spacing, buffer, executor);
+			for (int d = 1; d < n; d++)
+				nextDimension(dims, d, spacing[d] * spacing[d], buffer, executor);
+			executor.forEach(Ranges.split(numPoints, executor), range -> {
+				final Cursor<T> c = Views.flatIterable(out).cursor();
+				c.jumpFwd(range[0]);
+				for (int i = (int) range[0]; i < range[1]; i++)
+					c.next().setReal(Math.sqrt(buffer.get(i)));
+			});
+		});
+	}
+
+	/**
+	 * Computes the squared distances along the lines of the first dimension.
+	 * Lines without background pixels get a distance exceeding any distance in
+	 * the image.
+	 */
+	private static <B extends BooleanType<B>> void firstDimension(
+		final RandomAccessibleInterval<B> in, final int[] dims,
+		final double[] spacing, final Buffer buffer, final TaskExecutor executor)
+	{
+		final int width = dims[0];
+		double infinite = 0;
+		for (int d = 0; d < dims.length; d++)
+			infinite += spacing[d] * dims[d];
+		final double infiniteSquared = infinite * infinite;
+		final double c = spacing[0] * spacing[0];
+		final long lines = buffer.size() / width;
+		executor.forEach(Ranges.split(lines, executor), range -> {
+			final Cursor<B> cursor = Views.flatIterable(in).cursor();
+			cursor.jumpFwd(range[0] * width);
+			final int[] g = new int[width];
+			for (long line = range[0]; line < range[1]; line++) {
+				// scan 1: distance to the last background pixel on the left
+				int last = -1;
+				for (int x = 0; x < width; x++) {
+					if (!cursor.next().get()) last = x;
+					g[x] = last < 0 ? -1 : x - last;
+				}
+				// scan 2: distance to the next background pixel on the right
+				final int offset = (int) (line * width);
+				int next = -1;
+				for (int x = width - 1; x >= 0; x--) {
+					if (g[x] == 0) next = x;
+					int distance = g[x];
+					if (next >= 0 && (distance < 0 || next - x < distance))
+						distance = next - x;
+					buffer.set(offset + x, distance < 0 ? infiniteSquared : c *
+						distance * distance);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Replaces the squared distances {@code f} along the lines of dimension
+	 * {@code d} by {@code min_i f(i) + c (u - i)^2}.
+	 */
+	private static void nextDimension(final int[] dims, final int d,
+		final double c, final Buffer buffer, final TaskExecutor executor)
+	{
+		final int length = dims[d];
+		if (length == 1) return;
+		int stride = 1;
+		for (int i = 0; i < d; i++)
+			stride *= dims[i];
+		final int lineStride = stride;
+		final int blocksPerSlab = (stride + BLOCK - 1) / BLOCK;
+		final long slabs = buffer.size() / ((long) stride * length);
+		executor.forEach(Ranges.split(slabs * blocksPerSlab, executor), range -> {
+			final double[] f = new double[BLOCK * length];
+			final double[] z = new double[length + 1];
+			final int[] v = new int[length];
+			final double[] values = new double[length];
+			for (long b = range[0]; b < range[1]; b++) {
+				final int slab = (int) (b / blocksPerSlab);
+				final int first = (int) (b % blocksPerSlab) * BLOCK;
+				final int count = Math.min(BLOCK, lineStride - first);
+				final int base = slab * lineStride * length + first;
+				buffer.gather(base, lineStride, length, count, f);
+				for (int k = 0; k < count; k++)
+					envelope(f, k * length, length, c, z, v, values);
+				buffer.scatter(base, lineStride, length, count, f);
+			}
+		});
+	}
+
+	/**
+	 * Computes the lower envelope of the parabolas {@code f(i) + c (u - i)^2}
+	 * over {@code f[offset..offset + length)}, in place.
+	 */
+	private static void envelope(final double[] f, final int offset,
+		final int length, final double c, final double[] z, final int[] v,
+		final double[] values)
+	{
+		// scan 3: the parabolas of the envelope, and their intersections
+		int k = 0;
+		v[0] = 0;
+		z[0] = Double.NEGATIVE_INFINITY;
+		z[1] = Double.POSITIVE_INFINITY;
+		for (int q = 1; q < length; q++) {
+			final double fq = f[offset + q] + c * q * q;
+			double s = sep(f, offset, c, v[k], q, fq);
+			while (s <= z[k]) {
+				k--;
+				s = sep(f, offset, c, v[k], q, fq);
+			}
+			k++;
+			v[k] = q;
+			z[k] = s;
+			z[k + 1] = Double.POSITIVE_INFINITY;
+		}
+
+		// scan 4: the envelope at each position, from the right
+		for (int u = length - 1; u >= 0; u--) {
+			while (z[k] > u)
+				k--;
+			final int p = v[k];
+			values[u] = f[offset + p] + c * (u - p) * (u - p);
+		}
+		System.arraycopy(values, 0, f, offset, length);
+	}
+
+	/**
+	 * Computes the position from which the parabola of {@code q} lies below the
+	 * parabola of {@code p < q}.
+	 */
+	private static double sep(final double[] f, final int offset,
+		final double c, final int p, final int q, final double fq)
+	{
+		return (fq - f[offset + p] - c * p * p) / (2 * c * (q - p));
+	}
+
+	// -- Helper classes --
+
+	/** A flat buffer of squared distances. */
+	private interface Buffer {
+
+		int size();
+
+		double get(int i);
+
+		void set(int i, double value);
+
+		/**
+		 * Copies {@code count} adjacent lines of {@code length} elements, spaced
+		 * by {@code stride}, from {@code base} into consecutive runs of
+		 * {@code lines}.
+		 */
+		void gather(int base, int stride, int length, int count, double[] lines);
+
+		/** Copies lines gathered by {@link #gather} back. */
+		void scatter(int base, int stride, int length, int count, double[] lines);
+	}
+
+	private static final class FloatBuffer implements Buffer {
+
+		private final float[] data;
+
+		private FloatBuffer(final int size) {
+			data = new float[size];
+		}
+
+		@Override
+		public int size() {
+			return data.length;
+		}
+
+		@Override
+		public double get(final int i) {
+			return data[i];
+		}
+
+		@Override
+		public void set(final int i, final double value) {
+			data[i] = (float) value;
+		}
+
+		@Override
+		public void gather(final int base, final int stride, final int length,
+			final int count, final double[] lines)
+		{
+			for (int u = 0, row = base; u < length; u++, row += stride)
+				for (int k = 0; k < count; k++)
+					lines[k * length + u] = data[row + k];
+		}
+
+		@Override
+		public void scatter(final int base, final int stride, final int length,
+			final int count, final double[] lines)
+		{
+			for (int u = 0, row = base; u < length; u++, row += stride)
+				for (int k = 0; k < count; k++)
+					data[row + k] = (float) lines[k * length + u];
+		}
+	}
+
+	private static final class DoubleBuffer implements Buffer {
+
+		private final double[] data;
+
+		private DoubleBuffer(final int size) {
+			data = new double[size];
+		}
+
+		@Override
+		public int size() {
+			return data.length;
+		}
+
+		@Override
+		public double get(final int i) {
+			return data[i];
+		}
+
+		@Override
+		public void set(final int i, final double value) {
+			data[i] = value;
+		}
+
+		@Override
+		public void gather(final int base, final int stride, final int length,
+			final int count, final double[] lines)
+		{
+			for (int u = 0, row = base; u < length; u++, row += stride)
+				for (int k = 0; k < count; k++)
+					lines[k * length + u] = data[row + k];
+		}
+
+		@Override
+		public void scatter(final int base, final int stride, final int length,
+			final int count, final double[] lines)
+		{
+			for (int u = 0, row = base; u < length; u++, row += stride)
+				for (int k = 0; k < count; k++)
+					data[row + k] = lines[k * length + u];
+		}
+	}
+}
@@ -29,17 +29,17 @@
 
 package net.imagej.ops2.image.integral;
 
-import net.imglib2.Cursor;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.converter.Converter;
-import net.imglib2.converter.Converters;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.view.Views;
 
 import org.scijava.function.Computers;
 
 /**
  * Abstract base class for <i>n</i>-dimensional integral images.
+ * <p>
+ * The lines of each dimension pass are summed in parallel, see
+ * {@link IntegralImgs}.
+ * </p>
  *
  * @param <I>
  *            The type of the input image.
@@ -50,71 +50,13 @@ public abstract class AbstractIntegralImg<I extends RealType<I>, O extends RealT
 
 	@Override
 	public void compute(final RandomAccessibleInterval<I> input, final RandomAccessibleInterval<O> output) {
-		// make sure the input and output have the same iteration order
-		if (!Views.iterable(input).iterationOrder().equals(Views.iterable(output).iterationOrder()))
-			throw new IllegalArgumentException("Input and Output images must have the same iteration order!");
-
-		// We need an intermediary to accumulate the difference over multiple
-		// dimensions. We want to make it of type O so that the following for loop runs
-		// nice, but to do that we need the intermediary to start with the input data
-		// (so we convert the input to type O here)
-		RandomAccessibleInterval<O> generalizedInput = Converters.convert(input,
-				(Converter<I, O>) (arg0, arg1) -> arg1.setReal(arg0.getRealDouble()),
-				Views.iterable(output).firstElement().createVariable());
-
-		// Create integral image
-		for (int i = 0; i < input.numDimensions(); ++i) {
-			// Slicewise integral addition in one direction
-			// TODO can we find a way to parallelize this?
-			for(int j = 0; j < input.dimension(i); j++)
-				getComputer(i).compute(Views.hyperSlice(generalizedInput, i, j), Views.hyperSlice(output, i, j));
-			generalizedInput = output;
-		}
+		IntegralImgs.compute(input, output, getOrder());
 	}
 
 	/**
-	 * Implements the row-wise addition required for computations of integral
-	 * images.
-	 */
-	public abstract Computers.Arity1<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> getComputer(int dimension);
-
-	/*
-	 * Computers used in the row-wise addition
+	 * Gets the power to which input values are raised before they are summed,
+	 * i.e. 1 for integral images and 2 for squared integral images.
 	 */
-
-	public final Computers.Arity1<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> computeAdd = (input, output) -> {
-
-		final Cursor<O> inputCursor = Views.iterable(input).cursor();
-		final Cursor<O> outputCursor = Views.iterable(output).cursor();
-
-		double tmp = 0.0d;
-		while (outputCursor.hasNext()) {
-
-			final O inputValue = inputCursor.next();
-			final O outputValue = outputCursor.next();
-
-			tmp += inputValue.getRealDouble();
-
-			outputValue.setReal(tmp);
-		}
-	};
-
-	public final Computers.Arity1<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> computeSquareAndAdd = (input,
-			output) -> {
-
-		final Cursor<O> inputCursor = Views.iterable(input).cursor();
-		final Cursor<O> outputCursor = Views.iterable(output).cursor();
-
-		double tmp = 0.0d;
-		while (outputCursor.hasNext()) {
-
-			final O inputValue = inputCursor.next();
-			final O outputValue = outputCursor.next();
-
-			tmp += Math.pow(inputValue.getRealDouble(), 2);
-
-			outputValue.setReal(tmp);
-		}
-	};
+	public abstract int getOrder();
 
 }
@@ -0,0 +1,106 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.image.integral;
+
+import java.util.function.BiFunction;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+
+/**
+ * <i>n</i>-dimensional integral image stored in a {@link CellImgFactory cell
+ * image}. The integral image is built tile by tile, one cell at a time per
+ * thread, so neither the input nor the output need to fit into a single
+ * array. The result can be read cell by cell, e.g. with an
+ * {@link IntegralCursor}.
+ *
+ * @param <I>
+ *            The type of the input image.
+ * @implNote op names='image.integral'
+ */
+public class CellIntegralImg<I extends RealType<I>> implements
+	BiFunction<RandomAccessibleInterval<I>, int[], RandomAccessibleInterval<DoubleType>>
+{
+
+	/**
+	 * Computes the integral image of {@code input} into a cell image.
+	 *
+	 * @param input the image to sum
+	 * @param cellDimensions the dimensions of the output cells
+	 * @return the integral image
+	 */
+	@Override
+	public RandomAccessibleInterval<DoubleType> apply(
+		final RandomAccessibleInterval<I> input, final int[] cellDimensions)
+	{
+		return create(input, cellDimensions, 1);
+	}
+
+	static <I extends RealType<I>> RandomAccessibleInterval<DoubleType> create(
+		final RandomAccessibleInterval<I> input, final int[] cellDimensions,
+		final int order)
+	{
+		final RandomAccessibleInterval<DoubleType> output = new CellImgFactory<>(
+			new DoubleType(), cellDimensions).create(input);
+		IntegralImgs.compute(input, output, order);
+		return output;
+	}
+
+}
+
+/**
+ * <i>n</i>-dimensional squared integral image stored in a cell image.
+ *
+ * @param <I>
+ *            The type of the input image.
+ * @see CellIntegralImg
+ * @implNote op names='image.squareIntegral'
+ */
+class CellSquareIntegralImg<I extends RealType<I>> implements
+	BiFunction<RandomAccessibleInterval<I>, int[], RandomAccessibleInterval<DoubleType>>
+{
+
+	/**
+	 * Computes the squared integral image of {@code input} into a cell image.
+	 *
+	 * @param input the image to sum
+	 * @param cellDimensions the dimensions of the output cells
+	 * @return the squared integral image
+	 */
+	@Override
+	public RandomAccessibleInterval<DoubleType> apply(
+		final RandomAccessibleInterval<I> input, final int[] cellDimensions)
+	{
+		return CellIntegralImg.create(input, cellDimensions, 2);
+	}
+
+}
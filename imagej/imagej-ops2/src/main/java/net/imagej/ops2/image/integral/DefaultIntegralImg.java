@@ -29,13 +29,10 @@
 
 package net.imagej.ops2.image.integral;
 
-import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.LongType;
 import net.imglib2.type.numeric.real.DoubleType;
 
-import org.scijava.function.Computers;
-
 /**
  * <p>
  * <i>n</i>-dimensional integral image that stores sums using {@code RealType}.
@@ -51,8 +48,7 @@ import org.scijava.function.Computers;
 public class DefaultIntegralImg<I extends RealType<I>, O extends RealType<O>> extends AbstractIntegralImg<I, O> {
 
 	@Override
-	public Computers.Arity1<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> getComputer(final int dimension) {
-		return computeAdd;
+	public int getOrder() {
+		return 1;
 	}
-	
 }
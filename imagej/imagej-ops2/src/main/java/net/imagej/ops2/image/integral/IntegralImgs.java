@@ -0,0 +1,362 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.image.integral;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops2.thread.Ranges;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.DoubleArray;
+import net.imglib2.img.basictypeaccess.array.LongArray;
+import net.imglib2.img.cell.AbstractCellImg;
+import net.imglib2.iterator.LocalizingIntervalIterator;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Line-parallel construction of <i>n</i>-dimensional integral images.
+ * <p>
+ * Each dimension pass is a prefix sum along independent lines. Images that fit
+ * into a single Java array are accumulated in a flat {@code double[]} (or
+ * {@code long[]} if input and output are integer typed), written straight into
+ * the output storage when it is an {@link ArrayImg} of {@link DoubleType} or
+ * {@link LongType}. Cell images, and images too large for an array, are built
+ * tile by tile in place: within a pass, the tiles of one column along the pass
+ * dimension are visited in order, and distinct columns run in parallel.
+ * </p>
+ */
+final class IntegralImgs {
+
+	/** Tile edge length used for outputs that are not cell images. */
+	private static final int DEFAULT_TILE_SIZE = 256;
+
+	private IntegralImgs() {
+		// utility class
+	}
+
+	/**
+	 * Computes the integral image of {@code input} raised to the power
+	 * {@code order} (1 or 2) into {@code output}.
+	 */
+	static <I extends RealType<I>, O extends RealType<O>> void compute(
+		final RandomAccessibleInterval<I> input,
+		final RandomAccessibleInterval<O> output, final int order)
+	{
+		if (!Intervals.equalDimensions(input, output))
+			throw new IllegalArgumentException(
+				"Input and Output images must have the same dimensions!");
+		if (order != 1 && order != 2)
+			throw new IllegalArgumentException("Unsupported integral image order: " +
+				order);
+
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		if (output instanceof AbstractCellImg || Intervals.numElements(
+			output) > Integer.MAX_VALUE)
+		{
+			computeTiled(Views.zeroMin(input), Views.zeroMin(output), tileSize(
+				output), order, executor);
+		}
+		else if (Util.getTypeFromInterval(input) instanceof IntegerType && Util
+			.getTypeFromInterval(output) instanceof IntegerType)
+		{
+			computeLong(input, output, order, executor);
+		}
+		else {
+			computeDouble(input, output, order, executor);
+		}
+	}
+
+	// -- Flat primitive buffers --
+
+	private static <I extends RealType<I>, O extends RealType<O>> void
+		computeDouble(final RandomAccessibleInterval<I> input,
+			final RandomAccessibleInterval<O> output, final int order,
+			final TaskExecutor executor)
+	{
+		final int size = (int) Intervals.numElements(output);
+		final double[] direct = doubleStorage(output);
+		final double[] sums = direct != null ? direct : new double[size];
+
+		executor.forEach(Ranges.split(size, executor), range -> {
+			final Cursor<I> c = Views.flatIterable(input).cursor();
+			c.jumpFwd(range[0]);
+			for (int i = range[0]; i < range[1]; i++) {
+				final double v = c.next().getRealDouble();
+				sums[i] = order == 2 ? v * v : v;
+			}
+		});
+
+		final long[] dims = Intervals.dimensionsAsLongArray(output);
+		for (int d = 0; d < dims.length; d++) {
+			final Lines lines = new Lines(dims, d);
+			executor.forEach(lines.split(executor), task -> lines.prefixSum(sums,
+				task));
+		}
+
+		if (direct != null) return;
+		executor.forEach(Ranges.split(size, executor), range -> {
+			final Cursor<O> c = Views.flatIterable(output).cursor();
+			c.jumpFwd(range[0]);
+			for (int i = range[0]; i < range[1]; i++)
+				c.next().setReal(sums[i]);
+		});
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <I extends RealType<I>, O extends RealType<O>> void
+		computeLong(final RandomAccessibleInterval<I> input,
+			final RandomAccessibleInterval<O> output, final int order,
+			final TaskExecutor executor)
+	{
+		final int size = (int) Intervals.numElements(output);
+		final long[] direct = longStorage(output);
+		final long[] sums = direct != null ? direct : new long[size];
+
+		executor.forEach(Ranges.split(size, executor), range -> {
+			final Cursor<? extends IntegerType<?>> c = (Cursor) Views.flatIterable(
+				input).cursor();
+			c.jumpFwd(range[0]);
+			for (int i = range[0]; i < range[1]; i++) {
+				final long v = c.next().getIntegerLong();
+				sums[i] = order == 2 ? v * v : v;
+			}
+		});
+
+		final long[] dims = Intervals.dimensionsAsLongArray(output);
+		for (int d = 0; d < dims.length; d++) {
+			final Lines lines = new Lines(dims, d);
+			executor.forEach(lines.split(executor), task -> lines.prefixSum(sums,
+				task));
+		}
+
+		if (direct != null) return;
+		executor.forEach(Ranges.split(size, executor), range -> {
+			final Cursor<? extends IntegerType<?>> c = (Cursor) Views.flatIterable(
+				output).cursor();
+			c.jumpFwd(range[0]);
+			for (int i = range[0]; i < range[1]; i++)
+				c.next().setInteger(sums[i]);
+		});
+	}
+
+	/** Returns the backing array if the output is a flat {@code double} image. */
+	private static double[] doubleStorage(final RandomAccessibleInterval<?> img) {
+		if (!(img instanceof ArrayImg) || !(Util.getTypeFromInterval(
+			img) instanceof DoubleType)) return null;
+		final Object access = ((ArrayImg<?, ?>) img).update(null);
+		return access instanceof DoubleArray ? ((DoubleArray) access)
+			.getCurrentStorageArray() : null;
+	}
+
+	/** Returns the backing array if the output is a flat {@code long} image. */
+	private static long[] longStorage(final RandomAccessibleInterval<?> img) {
+		if (!(img instanceof ArrayImg) || !(Util.getTypeFromInterval(
+			img) instanceof LongType)) return null;
+		final Object access = ((ArrayImg<?, ?>) img).update(null);
+		return access instanceof LongArray ? ((LongArray) access)
+			.getCurrentStorageArray() : null;
+	}
+
+	/**
+	 * The lines of a flat buffer along one dimension. A line starts at
+	 * {@code outer * stride * length + inner} and advances by {@code stride};
+	 * rows of consecutive {@code inner} offsets are summed together so that the
+	 * innermost loop is contiguous.
+	 */
+	private static final class Lines {
+
+		private final int stride;
+		private final int length;
+		private final int outer;
+
+		private Lines(final long[] dims, final int d) {
+			long s = 1;
+			for (int k = 0; k < d; k++)
+				s *= dims[k];
+			stride = (int) s;
+			length = (int) dims[d];
+			outer = (int) (Intervals.numElements(dims) / Math.max(1, s * length));
+		}
+
+		/**
+		 * Splits the lines into tasks {@code {outerMin, outerMax, innerMin,
+		 * innerMax}}, over outer blocks when there are enough of them and over
+		 * inner offsets otherwise.
+		 */
+		private List<int[]> split(final TaskExecutor executor) {
+			final List<int[]> tasks = new ArrayList<>();
+			if (length < 2) return tasks;
+			final int numTasks = Math.max(1, executor.suggestNumberOfTasks());
+			if (outer >= numTasks || stride == 1) {
+				final int n = Math.min(numTasks, outer);
+				for (int t = 0; t < n; t++)
+					tasks.add(new int[] { (int) ((long) outer * t / n),
+						(int) ((long) outer * (t + 1) / n), 0, stride });
+			}
+			else {
+				final int n = Math.min(numTasks, stride);
+				for (int t = 0; t < n; t++)
+					tasks.add(new int[] { 0, outer, (int) ((long) stride * t / n),
+						(int) ((long) stride * (t + 1) / n) });
+			}
+			return tasks;
+		}
+
+		private void prefixSum(final double[] sums, final int[] task) {
+			for (int o = task[0]; o < task[1]; o++) {
+				final int base = o * stride * length;
+				for (int k = 1; k < length; k++) {
+					final int row = base + k * stride;
+					final int previous = row - stride;
+					for (int i = task[2]; i < task[3]; i++)
+						sums[row + i] += sums[previous + i];
+				}
+			}
+		}
+
+		private void prefixSum(final long[] sums, final int[] task) {
+			for (int o = task[0]; o < task[1]; o++) {
+				final int base = o * stride * length;
+				for (int k = 1; k < length; k++) {
+					final int row = base + k * stride;
+					final int previous = row - stride;
+					for (int i = task[2]; i < task[3]; i++)
+						sums[row + i] += sums[previous + i];
+				}
+			}
+		}
+	}
+
+	// -- Tiles --
+
+	private static int[] tileSize(final RandomAccessibleInterval<?> output) {
+		final int[] tile = new int[output.numDimensions()];
+		for (int d = 0; d < tile.length; d++) {
+			tile[d] = output instanceof AbstractCellImg ? //
+				((AbstractCellImg<?, ?, ?, ?>) output).getCellGrid().cellDimension(d) : //
+				(int) Math.min(output.dimension(d), DEFAULT_TILE_SIZE);
+		}
+		return tile;
+	}
+
+	/**
+	 * Builds the integral image in place in {@code output}, one tile at a time.
+	 * A pass along dimension {@code d} continues each line from the last value
+	 * of the preceding tile, so tiles only need to be visited in order along
+	 * {@code d}.
+	 */
+	private static <I extends RealType<I>, O extends RealType<O>> void
+		computeTiled(final RandomAccessibleInterval<I> input,
+			final RandomAccessibleInterval<O> output, final int[] tile,
+			final int order, final TaskExecutor executor)
+	{
+		final int n = output.numDimensions();
+		final long[] dims = Intervals.dimensionsAsLongArray(output);
+		final long[] grid = new long[n];
+		for (int k = 0; k < n; k++)
+			grid[k] = (dims[k] + tile[k] - 1) / tile[k];
+
+		for (int d = 0; d < n; d++) {
+			final int dim = d;
+			final boolean first = d == 0;
+			final long numColumns = Intervals.numElements(grid) / grid[d];
+			final int numTasks = (int) Math.max(1, Math.min(numColumns, executor
+				.suggestNumberOfTasks()));
+			final List<long[]> tasks = new ArrayList<>(numTasks);
+			for (int t = 0; t < numTasks; t++)
+				tasks.add(new long[] { numColumns * t / numTasks, numColumns * (t +
+					1) / numTasks });
+
+			executor.forEach(tasks, task -> {
+				final RandomAccess<O> out = output.randomAccess();
+				final RandomAccess<I> in = input.randomAccess();
+				final long[] cell = new long[n];
+				final long[] min = new long[n];
+				final long[] max = new long[n];
+				final long[] position = new long[n];
+				for (long column = task[0]; column < task[1]; column++) {
+					// decode the column index into a grid position with cell[dim] = 0
+					long remainder = column;
+					for (int k = 0; k < n; k++) {
+						if (k == dim) continue;
+						cell[k] = remainder % grid[k];
+						remainder /= grid[k];
+					}
+					for (long c = 0; c < grid[dim]; c++) {
+						cell[dim] = c;
+						for (int k = 0; k < n; k++) {
+							min[k] = cell[k] * tile[k];
+							max[k] = Math.min(dims[k], min[k] + tile[k]) - 1;
+						}
+						final long lineMax = max[dim];
+						max[dim] = min[dim];
+						final LocalizingIntervalIterator lines =
+							new LocalizingIntervalIterator(min, max);
+						while (lines.hasNext()) {
+							lines.fwd();
+							lines.localize(position);
+							out.setPosition(position);
+							double sum = 0;
+							if (position[dim] > 0) {
+								out.bck(dim);
+								sum = out.get().getRealDouble();
+								out.fwd(dim);
+							}
+							if (first) in.setPosition(position);
+							for (long x = min[dim]; x <= lineMax; x++) {
+								if (first) {
+									final double v = in.get().getRealDouble();
+									sum += order == 2 ? v * v : v;
+									in.fwd(dim);
+								}
+								else {
+									sum += out.get().getRealDouble();
+								}
+								out.get().setReal(sum);
+								out.fwd(dim);
+							}
+						}
+					}
+				}
+			});
+		}
+	}
+}
@@ -29,13 +29,10 @@
 
 package net.imagej.ops2.image.integral;
 
-import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.LongType;
 import net.imglib2.type.numeric.real.DoubleType;
 
-import org.scijava.function.Computers;
-
 /**
  * <p>
  * <i>n</i>-dimensional squared integral image that stores sums using
@@ -53,11 +50,7 @@ public class SquareIntegralImg<I extends RealType<I>, O extends RealType<O>> ext
 {
 
 	@Override
-	public Computers.Arity1<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> getComputer(final int dimension) {
-		if (dimension == 0) {
-			return computeSquareAndAdd;
-		}
-
-		return computeAdd;
+	public int getOrder() {
+		return 2;
 	}
 }
@@ -0,0 +1,131 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.image.watershed;
+
+/**
+ * A hierarchical queue of voxel indices, keyed by integer levels: one FIFO per
+ * level, plus a two-level bitmap of the non-empty levels to find the lowest
+ * one in a few word operations. Voxels of the same level are polled in the
+ * order they were added, i.e. exactly like a priority queue that breaks ties
+ * by insertion sequence, but without allocating an object per voxel or paying
+ * O(log n) per operation.
+ * <p>
+ * Meyer, Fernand. "Topographic distance and watershed lines." Signal
+ * Processing 38.1 (1994): 113-125.
+ * </p>
+ */
+final class HierarchicalQueue {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Circular FIFOs with power of two capacities, allocated lazily */
+	private final int[][] fifos;
+	private final int[] heads;
+	private final int[] sizes;
+
+	/** One bit per level, set if the level is non-empty */
+	private final long[] occupied;
+
+	/** One bit per word of {@link #occupied}, set if the word is non-zero */
+	private final long[] summary;
+
+	/** No word of {@link #summary} below this one is non-zero */
+	private int lowest;
+
+	private long size;
+
+	HierarchicalQueue(final int numLevels) {
+		fifos = new int[numLevels][];
+		heads = new int[numLevels];
+		sizes = new int[numLevels];
+		occupied = new long[(numLevels + 63) >>> 6];
+		summary = new long[(occupied.length + 63) >>> 6];
+		lowest = summary.length;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	void add(final int level, final int index) {
+		int[] fifo = fifos[level];
+		final int n = sizes[level];
+		if (fifo == null) {
+			fifo = fifos[level] = new int[INITIAL_CAPACITY];
+		}
+		else if (n == fifo.length) {
+			// grow, unwrapping the circular buffer
+			final int head = heads[level];
+			final int[] grown = new int[2 * n];
+			System.arraycopy(fifo, head, grown, 0, n - head);
+			System.arraycopy(fifo, 0, grown, n - head, head);
+			fifo = fifos[level] = grown;
+			heads[level] = 0;
+		}
+		fifo[(heads[level] + n) & (fifo.length - 1)] = index;
+		sizes[level] = n + 1;
+
+		if (n == 0) {
+			final int word = level >>> 6;
+			occupied[word] |= 1L << level;
+			summary[word >>> 6] |= 1L << word;
+			if (word >>> 6 < lowest) lowest = word >>> 6;
+		}
+		size++;
+	}
+
+	/**
+	 * Removes the first index of the lowest non-empty level. The queue must not
+	 * be empty.
+	 */
+	int poll() {
+		while (summary[lowest] == 0)
+			lowest++;
+		final int word = (lowest << 6) + Long.numberOfTrailingZeros(
+			summary[lowest]);
+		final int level = (word << 6) + Long.numberOfTrailingZeros(
+			occupied[word]);
+
+		final int[] fifo = fifos[level];
+		final int head = heads[level];
+		final int index = fifo[head];
+		if (--sizes[level] == 0) {
+			heads[level] = 0;
+			occupied[word] &= ~(1L << level);
+			if (occupied[word] == 0) summary[lowest] &= ~(1L << word);
+		}
+		else {
+			heads[level] = (head + 1) & (fifo.length - 1);
+		}
+		size--;
+		return index;
+	}
+
+}
@@ -0,0 +1,489 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.image.watershed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingType;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.scijava.function.Computers;
+import org.scijava.ops.spi.Optional;
+
+/**
+ * Seeded watershed for integer-valued images. Floods exactly like
+ * {@link WatershedSeeded}, and yields the same labeling, but keeps the voxel
+ * states and grey levels in primitive arrays indexed by the flat voxel index
+ * and orders the flooding with a {@link HierarchicalQueue} instead of a
+ * {@code PriorityQueue} holding one object per voxel.
+ * <p>
+ * Grey levels are used as queue levels directly if their range is small (up to
+ * 16 bits); otherwise they are replaced by their rank among the distinct grey
+ * levels of the image.
+ * </p>
+ * <p>
+ * If an {@link ExecutorService} is given, the connected components of the
+ * mask that contain seeds are flooded concurrently. Flooding never crosses the
+ * mask, so the result is the same as the sequential one; without a mask the
+ * whole image is a single component.
+ * </p>
+ *
+ * @param <T> element type of input
+ * @param <B> element type of mask
+ * @implNote op names='image.watershed', priority='100.0'
+ */
+public class WatershedSeededBucket<T extends IntegerType<T>, B extends BooleanType<B>>
+	implements
+	Computers.Arity6<RandomAccessibleInterval<T>, ImgLabeling<Integer, IntType>, Boolean, Boolean, RandomAccessibleInterval<B>, ExecutorService, ImgLabeling<Integer, IntType>>
+{
+
+	/** Label for watersheds, as in {@link WatershedSeeded} */
+	private static final int WSHED = -1;
+
+	/** Label for initialization, as in {@link WatershedSeeded} */
+	private static final int INIT = -2;
+
+	/** Label for in queue, as in {@link WatershedSeeded} */
+	private static final int INQUEUE = -3;
+
+	/** State of voxels outside of the mask, which are left untouched */
+	private static final int OUTSIDE = Integer.MIN_VALUE;
+
+	/** State of voxels whose labels are cleared */
+	private static final int CLEARED = Integer.MIN_VALUE + 1;
+
+	/** Maximum range of grey levels used directly as queue levels */
+	private static final int MAX_LEVELS = 1 << 16;
+
+	/**
+	 * Floods the input from the seeds, within the mask.
+	 *
+	 * @param input
+	 * @param seeds
+	 * @param useEightConnectivity
+	 * @param drawWatersheds
+	 * @param mask (required = false)
+	 * @param executorService (required = false)
+	 * @param output
+	 */
+	@Override
+	public void compute(final RandomAccessibleInterval<T> in,
+		final ImgLabeling<Integer, IntType> seeds,
+		final Boolean useEightConnectivity, final Boolean drawWatersheds,
+		@Optional final RandomAccessibleInterval<B> mask,
+		@Optional final ExecutorService es,
+		final ImgLabeling<Integer, IntType> out)
+	{
+		if (mask != null && !Intervals.equalDimensions(mask, in))
+			throw new IllegalArgumentException(
+				"maskInput must be of the same size as the input");
+		if (!Intervals.equalDimensions(seeds, in))
+			throw new IllegalArgumentException(
+				"seed labeling must be of the same size as the input");
+		if (Intervals.numElements(in) > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException(
+				"Input is too large to be flooded with primitive voxel indices");
+
+		final int numVoxels = (int) Intervals.numElements(in);
+		final int[] dims = Intervals.dimensionsAsIntArray(in);
+		final int[] state = new int[numVoxels];
+		if (mask == null) {
+			Arrays.fill(state, INIT);
+		}
+		else {
+			int i = 0;
+			for (final B b : Views.flatIterable(mask))
+				state[i++] = b.get() ? INIT : OUTSIDE;
+		}
+
+		// mark the seeds, which are visited in raster order
+		int[] seedIndices = new int[64];
+		int numSeeds = 0;
+		final Cursor<LabelingType<Integer>> seedCursor = Views.flatIterable(seeds)
+			.cursor();
+		for (int i = 0; i < numVoxels; i++) {
+			final LabelingType<Integer> l = seedCursor.next();
+			if (l.isEmpty() || state[i] == OUTSIDE) continue;
+			if (l.size() > 1) throw new IllegalArgumentException(
+				"Seeds must have exactly one label!");
+			final int label = l.iterator().next();
+			if (label < 0) throw new IllegalArgumentException(
+				"Seeds must have positive integers as labels!");
+			state[i] = label;
+			if (numSeeds == seedIndices.length) seedIndices = Arrays.copyOf(
+				seedIndices, 2 * numSeeds);
+			seedIndices[numSeeds++] = i;
+		}
+
+		final Flooding flooding = new Flooding(levels(in, numVoxels), state, dims,
+			offsets(dims.length, useEightConnectivity), drawWatersheds);
+		if (es == null) {
+			flooding.flood(Arrays.copyOf(seedIndices, numSeeds), new HierarchicalQueue(
+				flooding.numLevels));
+		}
+		else {
+			flooding.floodComponents(seedIndices, numSeeds, es);
+		}
+
+		// write the states to the output
+		final Cursor<LabelingType<Integer>> outCursor = Views.flatIterable(out)
+			.cursor();
+		for (int i = 0; i < numVoxels; i++) {
+			final LabelingType<Integer> l = outCursor.next();
+			if (state[i] == OUTSIDE) continue;
+			l.clear();
+			if (state[i] != CLEARED) l.add(state[i]);
+		}
+	}
+
+	/**
+	 * Reads the grey levels of the input in raster order and maps them to queue
+	 * levels starting at zero.
+	 */
+	private int[] levels(final RandomAccessibleInterval<T> in,
+		final int numVoxels)
+	{
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (final T t : Views.flatIterable(in)) {
+			final long v = t.getIntegerLong();
+			if (v < min) min = v;
+			if (v > max) max = v;
+		}
+
+		final int[] levels = new int[numVoxels];
+		int i = 0;
+		if (max - min < MAX_LEVELS) {
+			for (final T t : Views.flatIterable(in))
+				levels[i++] = (int) (t.getIntegerLong() - min);
+			return levels;
+		}
+
+		final long[] values = new long[numVoxels];
+		for (final T t : Views.flatIterable(in))
+			values[i++] = t.getIntegerLong();
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int numDistinct = 0;
+		for (int j = 0; j < sorted.length; j++) {
+			if (j == 0 || sorted[j] != sorted[j - 1]) sorted[numDistinct++] =
+				sorted[j];
+		}
+		for (int j = 0; j < numVoxels; j++)
+			levels[j] = Arrays.binarySearch(sorted, 0, numDistinct, values[j]);
+		return levels;
+	}
+
+	/**
+	 * @return the offsets to the neighbors of a voxel, in the iteration order of
+	 *         the {@code RectangleShape} and {@code DiamondShape} neighborhoods
+	 *         used by {@link WatershedSeeded}
+	 */
+	private static int[][] offsets(final int n,
+		final boolean useEightConnectivity)
+	{
+		final List<int[]> offsets = new ArrayList<>();
+		final int[] offset = new int[n];
+		Arrays.fill(offset, -1);
+		while (true) {
+			int l1 = 0;
+			for (final int o : offset)
+				l1 += Math.abs(o);
+			if (l1 == 1 || (l1 > 1 && useEightConnectivity)) offsets.add(offset
+				.clone());
+			int d = 0;
+			while (d < n && offset[d] == 1)
+				offset[d++] = -1;
+			if (d == n) break;
+			offset[d]++;
+		}
+		return offsets.toArray(new int[offsets.size()][]);
+	}
+
+	/**
+	 * The flooding state shared by all flooding tasks. Tasks flood disjoint
+	 * components of the mask, so they never touch the same voxels.
+	 */
+	private static final class Flooding {
+
+		private final int[] levels;
+		private final int[] state;
+		private final int[] dims;
+		private final int[][] offsets;
+		private final int[] deltas;
+		private final boolean drawWatersheds;
+		private final int numLevels;
+
+		private Flooding(final int[] levels, final int[] state, final int[] dims,
+			final int[][] offsets, final boolean drawWatersheds)
+		{
+			this.levels = levels;
+			this.state = state;
+			this.dims = dims;
+			this.offsets = offsets;
+			this.drawWatersheds = drawWatersheds;
+			int max = 0;
+			for (final int level : levels)
+				if (level > max) max = level;
+			numLevels = max + 1;
+
+			deltas = new int[offsets.length];
+			for (int k = 0; k < offsets.length; k++) {
+				int stride = 1;
+				for (int d = 0; d < dims.length; d++) {
+					deltas[k] += offsets[k][d] * stride;
+					stride *= dims[d];
+				}
+			}
+		}
+
+		/**
+		 * Floods from the given seeds, which must be sorted in raster order.
+		 */
+		private void flood(final int[] seeds, final HierarchicalQueue queue) {
+			final int[] position = new int[dims.length];
+			final int[] neighbors = new int[offsets.length];
+			final int[] labels = new int[offsets.length];
+			final int[] candidates = new int[offsets.length];
+			final int[] distinct = new int[offsets.length];
+			final int[] counts = new int[offsets.length];
+
+			// add the unlabeled neighbors of the seeds to the queue
+			for (final int seed : seeds) {
+				final int numNeighbors = neighbors(seed, position, neighbors);
+				for (int k = 0; k < numNeighbors; k++) {
+					final int neighbor = neighbors[k];
+					if (state[neighbor] != INIT) continue;
+					state[neighbor] = INQUEUE;
+					queue.add(levels[neighbor], neighbor);
+				}
+			}
+
+			while (!queue.isEmpty()) {
+				final int voxel = queue.poll();
+				final int numNeighbors = neighbors(voxel, position, neighbors);
+				int numLabels = 0;
+				int numCandidates = 0;
+				for (int k = 0; k < numNeighbors; k++) {
+					final int s = state[neighbors[k]];
+					if (s == INIT) {
+						candidates[numCandidates++] = neighbors[k];
+					}
+					else if (s > WSHED && (!drawWatersheds || !contains(labels,
+						numLabels, s)))
+					{
+						labels[numLabels++] = s;
+					}
+				}
+
+				if (drawWatersheds) {
+					if (numLabels == 1) state[voxel] = labels[0];
+					else state[voxel] = numLabels > 1 ? WSHED : CLEARED;
+					if (numLabels != 1) continue;
+				}
+				else {
+					if (numLabels == 0) continue;
+					state[voxel] = numLabels > 2 ? majority(labels, numLabels, distinct,
+						counts) : labels[0];
+				}
+
+				// now that the voxel is labeled, its unlabeled neighbors follow
+				for (int k = 0; k < numCandidates; k++) {
+					state[candidates[k]] = INQUEUE;
+					queue.add(levels[candidates[k]], candidates[k]);
+				}
+			}
+		}
+
+		/**
+		 * Groups the seeds by the connected component of the mask they lie in,
+		 * and floods the components concurrently.
+		 */
+		private void floodComponents(final int[] seeds, final int numSeeds,
+			final ExecutorService es)
+		{
+			final List<int[]> components = new ArrayList<>();
+			final BitSet visited = new BitSet(state.length);
+			final int[] position = new int[dims.length];
+			final int[] neighbors = new int[offsets.length];
+			int[] stack = new int[64];
+			for (int i = 0; i < numSeeds; i++) {
+				if (visited.get(seeds[i])) continue;
+				int[] componentSeeds = new int[4];
+				int numComponentSeeds = 0;
+				int top = 0;
+				stack[top++] = seeds[i];
+				visited.set(seeds[i]);
+				while (top > 0) {
+					final int voxel = stack[--top];
+					if (state[voxel] >= 0) {
+						if (numComponentSeeds == componentSeeds.length) componentSeeds =
+							Arrays.copyOf(componentSeeds, 2 * numComponentSeeds);
+						componentSeeds[numComponentSeeds++] = voxel;
+					}
+					final int numNeighbors = neighbors(voxel, position, neighbors);
+					for (int k = 0; k < numNeighbors; k++) {
+						final int neighbor = neighbors[k];
+						if (state[neighbor] == OUTSIDE || visited.get(neighbor)) continue;
+						visited.set(neighbor);
+						if (top == stack.length) stack = Arrays.copyOf(stack, 2 * top);
+						stack[top++] = neighbor;
+					}
+				}
+				componentSeeds = Arrays.copyOf(componentSeeds, numComponentSeeds);
+				Arrays.sort(componentSeeds);
+				components.add(componentSeeds);
+			}
+
+			final AtomicInteger next = new AtomicInteger();
+			final int numTasks = Math.min(components.size(), Runtime.getRuntime()
+				.availableProcessors());
+			final List<Future<?>> futures = new ArrayList<>(numTasks);
+			for (int t = 0; t < numTasks; t++) {
+				futures.add(es.submit(() -> {
+					final HierarchicalQueue queue = new HierarchicalQueue(numLevels);
+					int c;
+					while ((c = next.getAndIncrement()) < components.size())
+						flood(components.get(c), queue);
+				}));
+			}
+			for (final Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (final InterruptedException exc) {
+					throw new RuntimeException(exc);
+				}
+				catch (final ExecutionException exc) {
+					throw new RuntimeException(exc);
+				}
+			}
+		}
+
+		/**
+		 * Writes the indices of the in-bounds neighbors of a voxel.
+		 *
+		 * @return the number of neighbors
+		 */
+		private int neighbors(final int voxel, final int[] position,
+			final int[] neighbors)
+		{
+			boolean interior = true;
+			int rest = voxel;
+			for (int d = 0; d < dims.length; d++) {
+				position[d] = rest % dims[d];
+				rest /= dims[d];
+				interior &= position[d] > 0 && position[d] < dims[d] - 1;
+			}
+			if (interior) {
+				for (int k = 0; k < deltas.length; k++)
+					neighbors[k] = voxel + deltas[k];
+				return deltas.length;
+			}
+			int numNeighbors = 0;
+			for (int k = 0; k < offsets.length; k++) {
+				boolean inside = true;
+				for (int d = 0; d < dims.length && inside; d++) {
+					final int p = position[d] + offsets[k][d];
+					inside = p >= 0 && p < dims[d];
+				}
+				if (inside) neighbors[numNeighbors++] = voxel + deltas[k];
+			}
+			return numNeighbors;
+		}
+
+		private static boolean contains(final int[] values, final int length,
+			final int value)
+		{
+			for (int i = 0; i < length; i++)
+				if (values[i] == value) return true;
+			return false;
+		}
+
+		/**
+		 * @return the most frequent label. Ties go to the label that comes first
+		 *         in the iteration order of the {@code HashMap} counting the labels
+		 *         in {@link WatershedSeeded}, which keeps the first maximum, so
+		 *         that both ops agree: the map grows before any access once it is
+		 *         more than 3/4 full, iterates its buckets in order, and appends
+		 *         new keys to their bucket.
+		 */
+		private static int majority(final int[] labels, final int numLabels,
+			final int[] distinct, final int[] counts)
+		{
+			int numDistinct = 0;
+			int capacity = 16;
+			for (int i = 0; i < numLabels; i++) {
+				if (numDistinct > capacity * 3 / 4) capacity <<= 1;
+				int j = 0;
+				while (j < numDistinct && distinct[j] != labels[i])
+					j++;
+				if (j == numDistinct) {
+					distinct[numDistinct] = labels[i];
+					counts[numDistinct++] = 0;
+				}
+				counts[j]++;
+			}
+
+			int best = 0;
+			int bestBucket = bucket(distinct[0], capacity);
+			for (int j = 1; j < numDistinct; j++) {
+				final int bucket = bucket(distinct[j], capacity);
+				if (counts[j] > counts[best] || (counts[j] == counts[best] &&
+					bucket < bestBucket))
+				{
+					best = j;
+					bestBucket = bucket;
+				}
+			}
+			return distinct[best];
+		}
+
+		private static int bucket(final int key, final int capacity) {
+			return (key ^ (key >>> 16)) & (capacity - 1);
+		}
+
+	}
+
+}
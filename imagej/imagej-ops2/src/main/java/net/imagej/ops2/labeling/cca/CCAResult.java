@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.labeling.cca;
+
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.type.numeric.IntegerType;
+
+/**
+ * Result of a {@link UnionFindCCA} run: the labeling, whose index image holds
+ * the component number (starting at 1, 0 being background) of every pixel and
+ * maps it to the label {@code component - 1}, together with the size and
+ * bounding box of each component, if requested.
+ *
+ * @param <I> index type of the labeling
+ */
+public class CCAResult<I extends IntegerType<I>> {
+
+	private final ImgLabeling<Integer, I> labeling;
+
+	private final int numComponents;
+
+	private final int numDims;
+
+	private final long[] sizes;
+
+	private final long[] min;
+
+	private final long[] max;
+
+	CCAResult(final ImgLabeling<Integer, I> labeling, final int numComponents,
+		final long[] sizes, final long[] min, final long[] max)
+	{
+		this.labeling = labeling;
+		this.numComponents = numComponents;
+		this.numDims = labeling.numDimensions();
+		this.sizes = sizes;
+		this.min = min;
+		this.max = max;
+	}
+
+	public ImgLabeling<Integer, I> getLabeling() {
+		return labeling;
+	}
+
+	/**
+	 * @return the number of connected components
+	 */
+	public int numComponents() {
+		return numComponents;
+	}
+
+	/**
+	 * @return whether sizes and bounding boxes were computed
+	 */
+	public boolean hasStatistics() {
+		return sizes != null;
+	}
+
+	/**
+	 * @param component component number, from 1 to {@link #numComponents()}
+	 * @return the number of pixels of the component
+	 */
+	public long size(final int component) {
+		checkStatistics();
+		return sizes[component];
+	}
+
+	/**
+	 * @param component component number, from 1 to {@link #numComponents()}
+	 * @param d dimension
+	 * @return the minimum position of the component in dimension {@code d}
+	 */
+	public long min(final int component, final int d) {
+		checkStatistics();
+		return min[component * numDims + d];
+	}
+
+	/**
+	 * @param component component number, from 1 to {@link #numComponents()}
+	 * @param d dimension
+	 * @return the maximum position of the component in dimension {@code d}
+	 */
+	public long max(final int component, final int d) {
+		checkStatistics();
+		return max[component * numDims + d];
+	}
+
+	private void checkStatistics() {
+		if (sizes == null) throw new IllegalStateException(
+			"Component statistics were not computed!");
+	}
+
+}
@@ -79,14 +79,17 @@ public class DefaultCCA<T extends IntegerType<T>, L, I extends IntegerType<I>> i
 }
 
 /**
+ * Labels connected components with the block-parallel {@link UnionFindCCA},
+ * numbering labels from zero.
+ *
  *@implNote op names='labeling.cca', priority='1.0'
  */
 class SimpleCCA<T extends IntegerType<T>, L, I extends IntegerType<I>> implements
 		Functions.Arity3<RandomAccessibleInterval<T>, ExecutorService, StructuringElement, ImgLabeling<Integer, IntType>> {
-	@OpDependency(name = "labeling.cca")
-	private Functions.Arity4<RandomAccessibleInterval<T>, ExecutorService, StructuringElement, Iterator<Integer>, ImgLabeling<Integer, IntType>> labeler;
 
-	@SuppressWarnings("unchecked")
+	@OpDependency(name = "create.imgLabeling")
+	private BiFunction<Dimensions, IntType, ImgLabeling<Integer, IntType>> imgLabelingCreator;
+
 	/**
 	 * TODO
 	 *
@@ -98,33 +101,40 @@ class SimpleCCA<T extends IntegerType<T>, L, I extends IntegerType<I>> implement
 	@Override
 	public ImgLabeling<Integer, IntType> apply(RandomAccessibleInterval<T> input, ExecutorService es,
 			StructuringElement structuringElement) {
-		DefaultLabelIterator defaultLabelIterator = new DefaultLabelIterator();
-		// note the case to Iterator<L> is okay because L is a vacuous type parameter,
-		// meaning that any Object can go there.
-		return labeler.apply(input, es, structuringElement, defaultLabelIterator);
+		final ImgLabeling<Integer, IntType> output = imgLabelingCreator.apply(input, new IntType());
+		return UnionFindCCA.label(input, output, structuringElement, es, Runtime.getRuntime().availableProcessors(),
+				false).getLabeling();
 	}
 
 }
 
-/*
- * Simple Default LabelIterator providing integer labels, starting from zero.
+/**
+ * Labels connected components with the block-parallel {@link UnionFindCCA},
+ * additionally computing the size and bounding box of each component in the
+ * same pass.
+ *
+ *@implNote op names='labeling.ccaStatistics'
  */
-class DefaultLabelIterator implements Iterator<Integer> {
+class StatisticsCCA<T extends IntegerType<T>> implements
+		Functions.Arity3<RandomAccessibleInterval<T>, ExecutorService, StructuringElement, CCAResult<IntType>> {
 
-	private Integer i = 0;
-
-	@Override
-	public boolean hasNext() {
-		return i < Integer.MAX_VALUE;
-	}
+	@OpDependency(name = "create.imgLabeling")
+	private BiFunction<Dimensions, IntType, ImgLabeling<Integer, IntType>> imgLabelingCreator;
 
+	/**
+	 * TODO
+	 *
+	 * @param input
+	 * @param executorService
+	 * @param structuringElement
+	 * @return the labeling and the statistics of its components
+	 */
 	@Override
-	public Integer next() {
-		return i++;
+	public CCAResult<IntType> apply(RandomAccessibleInterval<T> input, ExecutorService es,
+			StructuringElement structuringElement) {
+		final ImgLabeling<Integer, IntType> output = imgLabelingCreator.apply(input, new IntType());
+		return UnionFindCCA.label(input, output, structuringElement, es, Runtime.getRuntime().availableProcessors(),
+				true);
 	}
 
-	@Override
-	public void remove() {
-		throw new UnsupportedOperationException();
-	}
 }
@@ -0,0 +1,462 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.labeling.cca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import net.imglib2.Cursor;
+import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+/**
+ * Block-parallel union-find connected component analysis.
+ * <p>
+ * The image is cut into slabs along its last dimension. Each slab is labeled
+ * concurrently in a single raster scan, writing provisional labels straight
+ * into the index image of the output labeling and recording equivalences in a
+ * local union-find over primitive {@code int}s. Equivalences across slab
+ * borders are then collected (again concurrently, one task per border) and
+ * resolved in a small global union-find over the compacted slab labels.
+ * Finally each slab rewrites its provisional labels to the final component
+ * numbers. Components are numbered in raster order of their first pixel.
+ * </p>
+ * <p>
+ * Sizes and bounding boxes of the components can be accumulated during the
+ * first scan, at the cost of a few primitive operations per foreground pixel.
+ * </p>
+ */
+public final class UnionFindCCA {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private UnionFindCCA() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	/**
+	 * Labels the connected non-zero pixels of {@code input}.
+	 *
+	 * @param input the image to label; all non-zero pixels are foreground
+	 * @param labeling the output labeling, on the same interval as the input.
+	 *          Its index type must be able to hold the number of components.
+	 * @param se the connectivity of the components
+	 * @param es the executor running the slab tasks
+	 * @param numTiles the number of slabs to cut the image into
+	 * @param withStatistics whether to compute the size and bounding box of each
+	 *          component
+	 * @return the labeling and component statistics
+	 */
+	public static <T extends IntegerType<T>, I extends IntegerType<I>>
+		CCAResult<I> label(final RandomAccessibleInterval<T> input,
+			final ImgLabeling<Integer, I> labeling, final StructuringElement se,
+			final ExecutorService es, final int numTiles,
+			final boolean withStatistics)
+	{
+		if (!Intervals.equals(input, labeling)) throw new IllegalArgumentException(
+			"Input and labeling must be defined on the same interval!");
+		final int n = input.numDimensions();
+		final int last = n - 1;
+		final RandomAccessibleInterval<I> indices = labeling.getIndexImg();
+		final long[][] offsets = backwardOffsets(n, se);
+
+		// cut the image into slabs along the last dimension
+		final long extent = input.dimension(last);
+		final int numSlabs = (int) Math.max(1, Math.min(numTiles, extent));
+		final Slab[] slabs = new Slab[numSlabs];
+		for (int i = 0; i < numSlabs; i++) {
+			final long[] min = Intervals.minAsLongArray(input);
+			final long[] max = Intervals.maxAsLongArray(input);
+			min[last] = input.min(last) + extent * i / numSlabs;
+			max[last] = input.min(last) + extent * (i + 1) / numSlabs - 1;
+			slabs[i] = new Slab(new FinalInterval(min, max));
+		}
+
+		// label each slab
+		run(es, numSlabs, i -> slabs[i].label(input, indices, offsets,
+			withStatistics));
+
+		// give the slab labels disjoint global ids
+		long numGlobal = 0;
+		for (final Slab slab : slabs) {
+			slab.base = (int) numGlobal;
+			numGlobal += slab.numLabels;
+			if (numGlobal >= Integer.MAX_VALUE) throw new IllegalArgumentException(
+				"Too many components to label!");
+		}
+		final int[] parent = new int[(int) numGlobal + 1];
+		for (int g = 0; g < parent.length; g++)
+			parent[g] = g;
+
+		// merge equivalences across the slab borders
+		final int[][] pairs = new int[numSlabs][];
+		run(es, numSlabs - 1, i -> pairs[i + 1] = slabs[i + 1].borderPairs(
+			slabs[i], indices, offsets));
+		for (int i = 1; i < numSlabs; i++) {
+			final int[] p = pairs[i];
+			for (int j = 1; j < p[0]; j += 2)
+				union(parent, p[j], p[j + 1]);
+		}
+
+		// number the components in raster order
+		final int[] components = new int[parent.length];
+		int numComponents = 0;
+		for (int g = 1; g < parent.length; g++) {
+			final int root = find(parent, g);
+			components[g] = root == g ? ++numComponents : components[root];
+		}
+
+		// write the final component numbers
+		run(es, numSlabs, i -> slabs[i].relabel(indices, components));
+
+		final List<Set<Integer>> labelSets = new ArrayList<>(numComponents + 1);
+		labelSets.add(new HashSet<>());
+		for (int c = 0; c < numComponents; c++) {
+			final Set<Integer> set = new HashSet<>();
+			set.add(c);
+			labelSets.add(set);
+		}
+		labeling.getMapping().setLabelSets(labelSets);
+
+		if (!withStatistics) return new CCAResult<>(labeling, numComponents, null,
+			null, null);
+
+		final long[] sizes = new long[numComponents + 1];
+		final long[] min = new long[(numComponents + 1) * n];
+		final long[] max = new long[(numComponents + 1) * n];
+		Arrays.fill(min, Long.MAX_VALUE);
+		Arrays.fill(max, Long.MIN_VALUE);
+		for (final Slab slab : slabs) {
+			for (int l = 1; l <= slab.numLabels; l++) {
+				final int c = components[slab.base + l];
+				sizes[c] += slab.sizes[l];
+				for (int d = 0; d < n; d++) {
+					min[c * n + d] = Math.min(min[c * n + d], slab.min[l * n + d]);
+					max[c * n + d] = Math.max(max[c * n + d], slab.max[l * n + d]);
+				}
+			}
+		}
+		return new CCAResult<>(labeling, numComponents, sizes, min, max);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * @return the offsets to the neighbors preceding a pixel in raster order,
+	 *         i.e. those whose highest non-zero coordinate is -1
+	 */
+	private static long[][] backwardOffsets(final int n,
+		final StructuringElement se)
+	{
+		final List<long[]> offsets = new ArrayList<>();
+		if (se == StructuringElement.FOUR_CONNECTED) {
+			for (int d = 0; d < n; d++) {
+				final long[] offset = new long[n];
+				offset[d] = -1;
+				offsets.add(offset);
+			}
+		}
+		else {
+			final long[] offset = new long[n];
+			Arrays.fill(offset, -1);
+			while (true) {
+				int highest = n - 1;
+				while (highest >= 0 && offset[highest] == 0)
+					highest--;
+				if (highest >= 0 && offset[highest] == -1) offsets.add(offset.clone());
+				// advance to the next offset in {-1, 0, 1}^n
+				int d = 0;
+				while (d < n && offset[d] == 1)
+					offset[d++] = -1;
+				if (d == n) break;
+				offset[d]++;
+			}
+		}
+		return offsets.toArray(new long[offsets.size()][]);
+	}
+
+	private static int find(final int[] parent, int x) {
+		while (parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+
+	/** Unites the sets of a and b, keeping the smaller root, which it returns */
+	private static int union(final int[] parent, final int a, final int b) {
+		final int rootA = find(parent, a);
+		final int rootB = find(parent, b);
+		if (rootA < rootB) {
+			parent[rootB] = rootA;
+			return rootA;
+		}
+		parent[rootA] = rootB;
+		return rootB;
+	}
+
+	/**
+	 * Computes {@code pos + offset} into {@code neighbor}.
+	 *
+	 * @return whether the neighbor lies within the given bounds
+	 */
+	private static boolean move(final long[] pos, final long[] offset,
+		final long[] lower, final long[] upper, final long[] neighbor)
+	{
+		for (int d = 0; d < pos.length; d++) {
+			neighbor[d] = pos[d] + offset[d];
+			if (neighbor[d] < lower[d] || neighbor[d] > upper[d]) return false;
+		}
+		return true;
+	}
+
+
+	private static void run(final ExecutorService es, final int numTasks,
+		final IntConsumer task)
+	{
+		final List<Future<?>> futures = new ArrayList<>(numTasks);
+		for (int i = 0; i < numTasks; i++) {
+			final int index = i;
+			futures.add(es.submit(() -> task.accept(index)));
+		}
+		for (final Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (final InterruptedException exc) {
+				throw new RuntimeException(exc);
+			}
+			catch (final ExecutionException exc) {
+				throw new RuntimeException(exc);
+			}
+		}
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * A slab of the image together with its labels: provisional labels are
+	 * mapped to compact labels 1 to {@code numLabels} by {@code compact}, which
+	 * offset by {@code base} yield the global ids.
+	 */
+	private static final class Slab {
+
+		private final FinalInterval interval;
+
+		private int[] compact;
+		private int numLabels;
+		private int base;
+
+		/** Statistics, indexed by compact label */
+		private long[] sizes;
+		private long[] min;
+		private long[] max;
+
+		private Slab(final FinalInterval interval) {
+			this.interval = interval;
+		}
+
+		private <T extends IntegerType<T>, I extends IntegerType<I>> void label(
+			final RandomAccessibleInterval<T> input,
+			final RandomAccessibleInterval<I> indices, final long[][] offsets,
+			final boolean withStatistics)
+		{
+			final int n = interval.numDimensions();
+			final long[] lower = Intervals.minAsLongArray(indices);
+			final long[] upper = Intervals.maxAsLongArray(indices);
+			// neighbors in other slabs are merged later
+			lower[n - 1] = interval.min(n - 1);
+
+			final Cursor<T> in = Views.flatIterable(Views.interval(input, interval))
+				.localizingCursor();
+			final Cursor<I> out = Views.flatIterable(Views.interval(indices,
+				interval)).cursor();
+			final RandomAccess<I> neighbors = indices.randomAccess();
+			final long[] pos = new long[n];
+			final long[] neighbor = new long[n];
+
+			int[] parent = new int[INITIAL_CAPACITY];
+			long[] labelSizes = null, labelMin = null, labelMax = null;
+			if (withStatistics) {
+				labelSizes = new long[INITIAL_CAPACITY];
+				labelMin = new long[INITIAL_CAPACITY * n];
+				labelMax = new long[INITIAL_CAPACITY * n];
+			}
+			int count = 0;
+
+			while (in.hasNext()) {
+				final T value = in.next();
+				final I index = out.next();
+				if (value.getIntegerLong() == 0) {
+					index.setZero();
+					continue;
+				}
+				in.localize(pos);
+
+				int label = 0;
+				for (final long[] offset : offsets) {
+					if (!move(pos, offset, lower, upper, neighbor)) continue;
+					neighbors.setPosition(neighbor);
+					final int q = neighbors.get().getInteger();
+					if (q != 0) label = label == 0 ? q : union(parent, label, q);
+				}
+
+				if (label == 0) {
+					if (count == Integer.MAX_VALUE - 1) throw new IllegalArgumentException(
+						"Too many components to label!");
+					label = ++count;
+					if (label == parent.length) {
+						final int capacity = (int) Math.min(Integer.MAX_VALUE - 1,
+							2L * parent.length);
+						parent = Arrays.copyOf(parent, capacity);
+						if (withStatistics) {
+							labelSizes = Arrays.copyOf(labelSizes, capacity);
+							labelMin = Arrays.copyOf(labelMin, capacity * n);
+							labelMax = Arrays.copyOf(labelMax, capacity * n);
+						}
+					}
+					parent[label] = label;
+					if (withStatistics) {
+						System.arraycopy(pos, 0, labelMin, label * n, n);
+						System.arraycopy(pos, 0, labelMax, label * n, n);
+					}
+				}
+				index.setInteger(label);
+
+				if (withStatistics) {
+					labelSizes[label]++;
+					for (int d = 0; d < n; d++) {
+						labelMin[label * n + d] = Math.min(labelMin[label * n + d], pos[d]);
+						labelMax[label * n + d] = Math.max(labelMax[label * n + d], pos[d]);
+					}
+				}
+			}
+
+			// roots are the smallest label of their set, so they come first
+			compact = new int[count + 1];
+			numLabels = 0;
+			for (int l = 1; l <= count; l++) {
+				final int root = find(parent, l);
+				compact[l] = root == l ? ++numLabels : compact[root];
+			}
+
+			if (!withStatistics) return;
+			sizes = new long[numLabels + 1];
+			min = new long[(numLabels + 1) * n];
+			max = new long[(numLabels + 1) * n];
+			Arrays.fill(min, Long.MAX_VALUE);
+			Arrays.fill(max, Long.MIN_VALUE);
+			for (int l = 1; l <= count; l++) {
+				final int c = compact[l];
+				sizes[c] += labelSizes[l];
+				for (int d = 0; d < n; d++) {
+					min[c * n + d] = Math.min(min[c * n + d], labelMin[l * n + d]);
+					max[c * n + d] = Math.max(max[c * n + d], labelMax[l * n + d]);
+				}
+			}
+		}
+
+		/**
+		 * Collects the pairs of global ids that touch across the border to the
+		 * previous slab, while both slabs still hold provisional labels.
+		 *
+		 * @return the pairs, preceded by the used length of the array
+		 */
+		private <I extends IntegerType<I>> int[] borderPairs(final Slab previous,
+			final RandomAccessibleInterval<I> indices, final long[][] offsets)
+		{
+			final int n = interval.numDimensions();
+			final long[] lower = Intervals.minAsLongArray(indices);
+			final long[] upper = Intervals.maxAsLongArray(indices);
+			final long[] planeMin = Intervals.minAsLongArray(interval);
+			final long[] planeMax = Intervals.maxAsLongArray(interval);
+			planeMax[n - 1] = planeMin[n - 1];
+
+			final Cursor<I> cursor = Views.flatIterable(Views.interval(indices,
+				new FinalInterval(planeMin, planeMax))).localizingCursor();
+			final RandomAccess<I> neighbors = indices.randomAccess();
+			final long[] pos = new long[n];
+			final long[] neighbor = new long[n];
+
+			int[] pairs = new int[INITIAL_CAPACITY];
+			int length = 1;
+			while (cursor.hasNext()) {
+				final int p = cursor.next().getInteger();
+				if (p == 0) continue;
+				cursor.localize(pos);
+				final int a = base + compact[p];
+				for (final long[] offset : offsets) {
+					if (offset[n - 1] != -1 || !move(pos, offset, lower, upper,
+						neighbor)) continue;
+					neighbors.setPosition(neighbor);
+					final int q = neighbors.get().getInteger();
+					if (q == 0) continue;
+					final int b = previous.base + previous.compact[q];
+					// skip the most common duplicate
+					if (length > 1 && pairs[length - 2] == a && pairs[length - 1] == b)
+						continue;
+					if (length + 2 > pairs.length) pairs = Arrays.copyOf(pairs, 2 *
+						pairs.length);
+					pairs[length++] = a;
+					pairs[length++] = b;
+				}
+			}
+			pairs[0] = length;
+			return pairs;
+		}
+
+		private <I extends IntegerType<I>> void relabel(
+			final RandomAccessibleInterval<I> indices, final int[] components)
+		{
+			final Cursor<I> cursor = Views.flatIterable(Views.interval(indices,
+				interval)).cursor();
+			while (cursor.hasNext()) {
+				final I index = cursor.next();
+				final int p = index.getInteger();
+				if (p != 0) index.setInteger(components[base + compact[p]]);
+			}
+		}
+
+	}
+
+}
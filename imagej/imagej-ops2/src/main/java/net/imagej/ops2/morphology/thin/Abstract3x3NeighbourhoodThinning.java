@@ -71,6 +71,59 @@ public abstract class Abstract3x3NeighbourhoodThinning implements
 		m_background = !foreground;
 	}
 
+	/**
+	 * Gives access to the 3x3 neighbourhoods around the pixel being thinned.
+	 */
+	@FunctionalInterface
+	protected interface Neighbourhoods {
+
+		/**
+		 * Returns the neighbourhood of the pixel at offset {@code (dx, dy)} from
+		 * the pixel being thinned, in the order used by
+		 * {@link Abstract3x3NeighbourhoodThinning#getNeighbourhood(RandomAccess)}.
+		 *
+		 * @param dx Offset in the first dimension.
+		 * @param dy Offset in the second dimension.
+		 * @return A boolean Array holding the values of the neighbourhood.
+		 */
+		boolean[] get(int dx, int dy);
+	}
+
+	@Override
+	public boolean removePixel(final long[] position,
+		final RandomAccessible<BitType> accessible, final int iteration)
+	{
+		final RandomAccess<BitType> access = randomAccess(accessible);
+		return removePixel((dx, dy) -> {
+			access.setPosition(position);
+			access.move(dx, 0);
+			access.move(dy, 1);
+			return getNeighbourhood(access);
+		}, iteration);
+	}
+
+	/**
+	 * This method should determine whether to keep a foreground pixel or not,
+	 * given the neighbourhoods around it.
+	 *
+	 * @param neighbourhoods The neighbourhoods around the pixel.
+	 * @param iteration The iteration number.
+	 * @return True if pixel can be switched to background, false otherwise.
+	 */
+	protected abstract boolean removePixel(Neighbourhoods neighbourhoods,
+		int iteration);
+
+	/**
+	 * Returns whether {@link #removePixel(Neighbourhoods, int)} only looks at the
+	 * neighbourhood of the pixel itself. The decisions of such strategies only
+	 * depend on the 8 neighbours of a pixel, and can be tabulated.
+	 *
+	 * @return True if only the neighbourhood at offset {@code (0, 0)} is used.
+	 */
+	protected boolean isLocal() {
+		return true;
+	}
+
 	/**
 	 * Returns all booleans in a 3x3 neighbourhood of the pixel the RandomAccess
 	 * points to. These booleans are stored in an Array in the following order:
@@ -91,6 +91,14 @@ public abstract class AbstractThin implements
 	public void thin(final RandomAccessibleInterval<BitType> input,
 		final RandomAccessibleInterval<BitType> output)
 	{
+		if (m_strategy instanceof Abstract3x3NeighbourhoodThinning && input
+			.numDimensions() >= 2 && Intervals.numElements(
+				input) <= Integer.MAX_VALUE)
+		{
+			thinFlat((Abstract3x3NeighbourhoodThinning) m_strategy, input, output);
+			return;
+		}
+
 		// Create a new image as a buffer to store the thinning image in each
 		// iteration.
 		// This image and output are swapped each iteration since we need to work on
@@ -187,4 +195,28 @@ public abstract class AbstractThin implements
 		}
 	}
 
+	/**
+	 * Thins the planes of {@code input}, buffered in a flat array, visiting only
+	 * the pixels which can still change.
+	 */
+	private void thinFlat(final Abstract3x3NeighbourhoodThinning strategy,
+		final RandomAccessibleInterval<BitType> input,
+		final RandomAccessibleInterval<BitType> output)
+	{
+		if (!Intervals.equalDimensions(input, output))
+			throw new IllegalArgumentException(
+				"Source and target images must be of the same size!");
+		final byte[] image = new byte[(int) Intervals.numElements(input)];
+		final Cursor<BitType> in = Views.flatIterable(input).cursor();
+		for (int i = 0; i < image.length; i++)
+			image[i] = in.next().get() ? (byte) 1 : 0;
+
+		new ThinningEngine(strategy, (int) input.dimension(0), (int) input
+			.dimension(1), image).thin();
+
+		final Cursor<BitType> out = Views.flatIterable(output).cursor();
+		for (final byte b : image)
+			out.next().set(b != 0);
+	}
+
 }
@@ -29,11 +29,6 @@
 
 package net.imagej.ops2.morphology.thin;
 
-import net.imglib2.RandomAccess;
-import net.imglib2.RandomAccessible;
-import net.imglib2.type.logic.BitType;
-
-
 /**
  * Represents the thinning algorithm proposed by Z. Guo and R. W. Hall.
  *
@@ -57,15 +52,10 @@ public class GuoHallThinningStrategy extends Abstract3x3NeighbourhoodThinning {
 	}
 
 	@Override
-	public boolean removePixel(final long[] position,
-		final RandomAccessible<BitType> accessible, final int iteration)
+	protected boolean removePixel(final Neighbourhoods neighbourhoods,
+		final int iteration)
 	{
-
-		// Setup
-		final RandomAccess<BitType> access = randomAccess(accessible);
-		access.setPosition(position);
-
-		final boolean[] vals = getNeighbourhood(access);
+		final boolean[] vals = neighbourhoods.get(0, 0);
 
 		// First we need to count the amount of connected neighbours in the
 		// vicinity.
@@ -29,11 +29,6 @@
 
 package net.imagej.ops2.morphology.thin;
 
-import net.imglib2.RandomAccess;
-import net.imglib2.RandomAccessible;
-import net.imglib2.type.logic.BitType;
-
-
 /**
  * An implementation of the Algorithm proposed by C. J. Hilditch.
  *
@@ -57,13 +52,10 @@ public class HilditchThinningStrategy extends Abstract3x3NeighbourhoodThinning {
 	}
 
 	@Override
-	public boolean removePixel(final long[] position,
-		final RandomAccessible<BitType> accessible, final int iteration)
+	protected boolean removePixel(final Neighbourhoods neighbourhoods,
+		final int iteration)
 	{
-		final RandomAccess<BitType> access = randomAccess(accessible);
-		access.setPosition(position);
-
-		final boolean[] vals = getNeighbourhood(access);
+		final boolean[] vals = neighbourhoods.get(0, 0);
 
 		// First condition is to ensure there are at least 2 and at most 6
 		// neighbouring foreground pixels.
@@ -88,22 +80,14 @@ public class HilditchThinningStrategy extends Abstract3x3NeighbourhoodThinning {
 
 		// The third and fourth conditions require neighbourhoods of adjacent
 		// pixels.
-
-		// Access has to be reset to current image-position before moving it, since
-		// the getNeighbourhood() method moves it to the top-left of the initial
-		// pixel.
-		access.setPosition(position);
-		access.move(-1, 1);
-		final int p2Patterns = findPatternSwitches((getNeighbourhood(access)));
+		final int p2Patterns = findPatternSwitches(neighbourhoods.get(0, -1));
 		if (!((vals[1] == m_background || vals[3] == m_background ||
 			vals[7] == m_background) || p2Patterns != 1))
 		{
 			return false;
 		}
 
-		access.setPosition(position);
-		access.move(1, 0);
-		final int p4Patterns = findPatternSwitches((getNeighbourhood(access)));
+		final int p4Patterns = findPatternSwitches(neighbourhoods.get(1, 0));
 
 		if (!((vals[1] == m_background || vals[3] == m_background ||
 			vals[5] == m_background) || p4Patterns != 1))
@@ -115,6 +99,11 @@ public class HilditchThinningStrategy extends Abstract3x3NeighbourhoodThinning {
 		return true;
 	}
 
+	@Override
+	protected boolean isLocal() {
+		return false;
+	}
+
 	@Override
 	public ThinningStrategy copy() {
 		return new HilditchThinningStrategy(m_foreground);
@@ -29,11 +29,6 @@
 
 package net.imagej.ops2.morphology.thin;
 
-import net.imglib2.RandomAccess;
-import net.imglib2.RandomAccessible;
-import net.imglib2.type.logic.BitType;
-
-
 /**
  * A Class implementing a standard morphological thinning.
  *
@@ -59,15 +54,10 @@ public class MorphologicalThinningStrategy extends
 	}
 
 	@Override
-	public boolean removePixel(final long[] position,
-		final RandomAccessible<BitType> accessible, final int iteration)
+	protected boolean removePixel(final Neighbourhoods neighbourhoods,
+		final int iteration)
 	{
-
-		// Setup
-		final RandomAccess<BitType> access = randomAccess(accessible);
-		access.setPosition(position);
-
-		final boolean[] vals = getNeighbourhood(access);
+		final boolean[] vals = neighbourhoods.get(0, 0);
 
 		// Depending on the current step of the cycle, we rotate the two Filters by
 		// 0, 90, 180 or 270 Degrees.
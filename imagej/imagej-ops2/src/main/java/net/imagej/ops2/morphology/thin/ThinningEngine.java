@@ -0,0 +1,281 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.morphology.thin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+
+/**
+ * Thins the planes of a binary image with an
+ * {@link Abstract3x3NeighbourhoodThinning} strategy.
+ * <p>
+ * Like {@link AbstractThin}, each iteration decides on all pixels from the
+ * image of the previous iteration, and the image is extended by its border
+ * pixels. Each iteration only visits the pixels whose decision may have
+ * changed: after the first cycle, these are the foreground pixels around the
+ * pixels removed during the last cycle. The candidates of an iteration are
+ * evaluated in parallel, and the decisions of local strategies are looked up
+ * in tables.
+ * </p>
+ */
+final class ThinningEngine {
+
+	private final Abstract3x3NeighbourhoodThinning strategy;
+
+	private final int width;
+
+	private final int height;
+
+	/** The image, with {@code 1} for foreground pixels. */
+	private final byte[] image;
+
+	/** The decisions by neighbourhood, for each iteration of a cycle. */
+	private final boolean[][] tables;
+
+	/** The distance at which removals can change decisions. */
+	private final int radius;
+
+	/**
+	 * @param strategy The thinning strategy.
+	 * @param width The size of the first dimension.
+	 * @param height The size of the second dimension.
+	 * @param image The flat image to thin in place, with {@code 1} for
+	 *          foreground pixels.
+	 */
+	ThinningEngine(final Abstract3x3NeighbourhoodThinning strategy,
+		final int width, final int height, final byte[] image)
+	{
+		this.strategy = strategy;
+		this.width = width;
+		this.height = height;
+		this.image = image;
+		if (strategy.isLocal()) {
+			radius = 1;
+			tables = new boolean[strategy.getIterationsPerCycle()][256];
+			final boolean[] vals = new boolean[9];
+			vals[0] = true;
+			for (int j = 0; j < tables.length; j++) {
+				for (int mask = 0; mask < 256; mask++) {
+					for (int i = 1; i < vals.length; i++)
+						vals[i] = (mask & 1 << i - 1) != 0;
+					tables[j][mask] = strategy.removePixel((dx, dy) -> vals, j);
+				}
+			}
+		}
+		else {
+			// neighbourhoods of the adjacent pixels are looked at
+			radius = 2;
+			tables = null;
+		}
+	}
+
+	/** Thins the image until a whole cycle leaves it unchanged. */
+	void thin() {
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		final int cycle = strategy.getIterationsPerCycle();
+		final ArrayDeque<int[]> recent = new ArrayDeque<>(cycle + 1);
+		final int[] queued = new int[image.length];
+		final int[] foreground = foreground();
+		int iteration = 0;
+		boolean changes = true;
+		while (changes) {
+			changes = false;
+			for (int j = 0; j < cycle; ++j) {
+				// In the first cycle, each pixel is yet to be decided upon.
+				final int[] candidates = iteration < cycle ? foreground(foreground)
+					: candidates(recent, queued, iteration + 1);
+				final int[] removed = evaluate(candidates, j, executor);
+				for (final int p : removed)
+					image[p] = 0;
+				changes |= removed.length > 0;
+				recent.addLast(removed);
+				if (recent.size() > cycle) recent.removeFirst();
+				strategy.afterCycle();
+				++iteration;
+			}
+		}
+	}
+
+	/** Returns the indices of all foreground pixels. */
+	private int[] foreground() {
+		int count = 0;
+		for (final byte b : image)
+			count += b;
+		final int[] indices = new int[count];
+		for (int p = 0, i = 0; i < count; p++)
+			if (image[p] != 0) indices[i++] = p;
+		return indices;
+	}
+
+	/** Returns the pixels of {@code indices} still in the foreground. */
+	private int[] foreground(final int[] indices) {
+		int count = 0;
+		final int[] result = new int[indices.length];
+		for (final int p : indices)
+			if (image[p] != 0) result[count++] = p;
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Returns the foreground pixels around the pixels removed during the last
+	 * cycle, the only ones whose decisions may differ from the last cycle.
+	 */
+	private int[] candidates(final ArrayDeque<int[]> recent, final int[] queued,
+		final int stamp)
+	{
+		int[] candidates = new int[64];
+		int count = 0;
+		final int planeSize = width * height;
+		for (final int[] removed : recent) {
+			for (final int q : removed) {
+				final int x = q % width;
+				final int y = q / width % height;
+				final int plane = q - q % planeSize;
+				final int x0 = Math.max(0, x - radius), x1 = Math.min(width - 1, x +
+					radius);
+				final int y0 = Math.max(0, y - radius), y1 = Math.min(height - 1, y +
+					radius);
+				for (int yy = y0; yy <= y1; yy++) {
+					for (int xx = x0, p = plane + yy * width + x0; xx <= x1; xx++, p++) {
+						if (image[p] == 0 || queued[p] == stamp) continue;
+						queued[p] = stamp;
+						if (count == candidates.length) candidates = Arrays.copyOf(
+							candidates, 2 * count);
+						candidates[count++] = p;
+					}
+				}
+			}
+		}
+		return Arrays.copyOf(candidates, count);
+	}
+
+	/** Returns the candidates to remove in iteration {@code j} of the cycle. */
+	private int[] evaluate(final int[] candidates, final int j,
+		final TaskExecutor executor)
+	{
+		final int numTasks = Math.max(1, Math.min(candidates.length / 1024,
+			executor.suggestNumberOfTasks()));
+		final int[][] removed = new int[numTasks][];
+		final List<Integer> tasks = new ArrayList<>(numTasks);
+		for (int t = 0; t < numTasks; t++)
+			tasks.add(t);
+		executor.forEach(tasks, t -> {
+			final int start = (int) ((long) candidates.length * t / numTasks);
+			final int end = (int) ((long) candidates.length * (t + 1) / numTasks);
+			final int[] result = new int[end - start];
+			int count = 0;
+			final BorderNeighbourhoods neighbourhoods = tables == null
+				? new BorderNeighbourhoods() : null;
+			for (int i = start; i < end; i++) {
+				final int p = candidates[i];
+				final boolean remove = tables != null ? tables[j][mask(p)]
+					: strategy.removePixel(neighbourhoods.at(p), j);
+				if (remove) result[count++] = p;
+			}
+			removed[t] = Arrays.copyOf(result, count);
+		});
+		if (numTasks == 1) return removed[0];
+		int total = 0;
+		for (final int[] r : removed)
+			total += r.length;
+		final int[] all = new int[total];
+		for (int t = 0, offset = 0; t < numTasks; offset += removed[t++].length)
+			System.arraycopy(removed[t], 0, all, offset, removed[t].length);
+		return all;
+	}
+
+	/**
+	 * Returns the neighbours of pixel {@code p} as a bit mask, where bit
+	 * {@code i - 1} holds entry {@code i} of
+	 * {@link Abstract3x3NeighbourhoodThinning#getNeighbourhood}.
+	 */
+	private int mask(final int p) {
+		final int x = p % width;
+		final int y = p / width % height;
+		final int row = p - x;
+		final int w = x > 0 ? -1 : 0;
+		final int e = x < width - 1 ? 1 : 0;
+		final int n = y > 0 ? -width : 0;
+		final int s = y < height - 1 ? width : 0;
+		return image[row + n + x] | //
+			image[row + n + x + e] << 1 | //
+			image[row + x + e] << 2 | //
+			image[row + s + x + e] << 3 | //
+			image[row + s + x] << 4 | //
+			image[row + s + x + w] << 5 | //
+			image[row + x + w] << 6 | //
+			image[row + n + x + w] << 7;
+	}
+
+	/**
+	 * Neighbourhoods of the pixels around a pixel, extended by the border
+	 * pixels of its plane.
+	 */
+	private final class BorderNeighbourhoods implements
+		Abstract3x3NeighbourhoodThinning.Neighbourhoods
+	{
+
+		private int x, y, plane;
+
+		private BorderNeighbourhoods at(final int p) {
+			x = p % width;
+			y = p / width % height;
+			plane = p - p % (width * height);
+			return this;
+		}
+
+		@Override
+		public boolean[] get(final int dx, final int dy) {
+			final int cx = x + dx, cy = y + dy;
+			final boolean[] vals = new boolean[9];
+			vals[0] = value(cx, cy);
+			vals[1] = value(cx, cy - 1);
+			vals[2] = value(cx + 1, cy - 1);
+			vals[3] = value(cx + 1, cy);
+			vals[4] = value(cx + 1, cy + 1);
+			vals[5] = value(cx, cy + 1);
+			vals[6] = value(cx - 1, cy + 1);
+			vals[7] = value(cx - 1, cy);
+			vals[8] = value(cx - 1, cy - 1);
+			return vals;
+		}
+
+		private boolean value(final int px, final int py) {
+			final int cx = Math.max(0, Math.min(width - 1, px));
+			final int cy = Math.max(0, Math.min(height - 1, py));
+			return image[plane + cy * width + cx] != 0;
+		}
+	}
+}
@@ -29,11 +29,6 @@
 
 package net.imagej.ops2.morphology.thin;
 
-import net.imglib2.RandomAccess;
-import net.imglib2.RandomAccessible;
-import net.imglib2.type.logic.BitType;
-
-
 /**
  * Implementation of the thinning algorithm proposed by T. Y. Zhang and C. Y.
  * Suen.
@@ -60,15 +55,10 @@ public class ZhangSuenThinningStrategy extends
 	}
 
 	@Override
-	public boolean removePixel(final long[] position,
-		final RandomAccessible<BitType> accessible, final int iteration)
+	protected boolean removePixel(final Neighbourhoods neighbourhoods,
+		final int iteration)
 	{
-
-		// Setup
-		final RandomAccess<BitType> access = randomAccess(accessible);
-		access.setPosition(position);
-
-		final boolean[] vals = getNeighbourhood(access);
+		final boolean[] vals = neighbourhoods.get(0, 0);
 
 		// First two conditions are similar to Hilditch-Thinning.
 		int numForeground = 0;
@@ -39,6 +39,8 @@ import net.imglib2.util.Intervals;
 import org.scijava.function.Computers;
 
 /**
+ * Projects an image along one dimension using an arbitrary op. Common
+ * reductions are computed faster by {@link ProjectStreaming}.
  *
  * @param <T>
  * @param <V>
@@ -70,6 +72,8 @@ public class DefaultProjectParallel<T, V> implements
 
 		LoopBuilder.setImages(output, Intervals.positions(output)).multiThreaded().forEachChunk(chunk -> {
 			RandomAccess<T> chunkRA = input.randomAccess();
+			// the iterable only moves along dim, so one suffices per chunk
+			DimensionIterable iterable = new DimensionIterable(input.dimension(dim), dim, chunkRA);
 			chunk.forEachPixel((pixel, position) -> {
 				for (int d = 0; d < input.numDimensions(); d++) {
 					if (d != dim) {
@@ -78,9 +82,7 @@ public class DefaultProjectParallel<T, V> implements
 					}
 				}
 
-				method.compute(new DimensionIterable(input.dimension(dim), dim, chunkRA),
-					pixel);
-				
+				method.compute(iterable, pixel);
 			});
 
 			return null;
@@ -0,0 +1,67 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.project;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.function.Computers;
+
+/**
+ * Projects an image along one dimension using one of the built-in
+ * {@link Projection}s. Unlike projections computed by arbitrary ops, the
+ * input is swept in memory order and reduced into primitive arrays, without
+ * an {@link Iterable} per output pixel.
+ *
+ * @param <T>
+ * @param <V>
+ * @implNote op names='project', priority='100.'
+ */
+public class ProjectStreaming<T extends RealType<T>, V extends RealType<V>>
+	implements
+	Computers.Arity3<RandomAccessibleInterval<T>, Projection, Integer, RandomAccessibleInterval<V>>
+{
+
+	/**
+	 * TODO
+	 *
+	 * @param input
+	 * @param projection
+	 * @param dim
+	 * @param output
+	 */
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final Projection projection, final Integer dim,
+		final RandomAccessibleInterval<V> output)
+	{
+		Projections.project(input, projection, dim, output);
+	}
+}
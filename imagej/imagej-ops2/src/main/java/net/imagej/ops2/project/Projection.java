@@ -26,8 +26,28 @@
  * POSSIBILITY OF SUCH DAMAGE.
  * #L%
  */
-package net.imagej.ops2.geom.geom3d;
 
-public interface Facet {
-	// NB: Marker Interface
+package net.imagej.ops2.project;
+
+/**
+ * The reductions computed by the streaming {@code project} op.
+ *
+ * @see ProjectStreaming
+ */
+public enum Projection {
+	/** The maximum along the projected dimension. */
+	MAX,
+	/** The minimum along the projected dimension. */
+	MIN,
+	/** The sum along the projected dimension. */
+	SUM,
+	/** The mean along the projected dimension. */
+	MEAN,
+	/** The sample standard deviation along the projected dimension. */
+	STD_DEV,
+	/**
+	 * The median along the projected dimension; the mean of the two middle
+	 * values for even sizes.
+	 */
+	MEDIAN
 }
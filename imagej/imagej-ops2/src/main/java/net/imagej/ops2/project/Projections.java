@@ -0,0 +1,420 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.project;
+
+import java.util.Arrays;
+
+import net.imagej.ops2.thread.Ranges;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.parallel.Parallelization;
+import net.imglib2.parallel.TaskExecutor;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Streaming projection engine behind {@link ProjectStreaming}.
+ * <p>
+ * The output is split into blocks of up to {@link #BLOCK} pixels that are
+ * contiguous in the input, i.e. runs along the dimensions before the
+ * projected one. For each block, the input is swept one run per position
+ * along the projected dimension, in flat iteration order, while the
+ * reduction is accumulated into primitive arrays. Blocks are processed in
+ * parallel.
+ * </p>
+ */
+final class Projections {
+
+	/** Maximum number of output pixels reduced together. */
+	private static final int BLOCK = 4096;
+
+	/** Maximum number of histogram bins of a median projection. */
+	private static final int MAX_BINS = 1 << 16;
+
+	/**
+	 * Maximum number of histogram entries or samples held per block of a
+	 * median projection.
+	 */
+	private static final int MAX_MEDIAN_BLOCK = 1 << 20;
+
+	private Projections() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	static <T extends RealType<T>, V extends RealType<V>> void project(
+		final RandomAccessibleInterval<T> input, final Projection projection,
+		final int dim, final RandomAccessibleInterval<V> output)
+	{
+		final int n = input.numDimensions();
+		if (dim < 0 || dim >= n) throw new IllegalArgumentException(
+			"The input must contain dimension " + dim);
+		if (output.numDimensions() != n - 1) throw new IllegalArgumentException(
+			"The input must have one dimension more than the output");
+		for (int d = 0; d < n - 1; d++)
+			if (output.dimension(d) != input.dimension(d < dim ? d : d + 1))
+				throw new IllegalArgumentException("Dimension " + d +
+					" of the output does not match the input");
+
+		long inner = 1;
+		for (int d = 0; d < dim; d++)
+			inner *= input.dimension(d);
+		final long innerSize = inner;
+		final long length = input.dimension(dim);
+		long outer = 1;
+		for (int d = dim + 1; d < n; d++)
+			outer *= input.dimension(d);
+		if (innerSize * outer == 0) return;
+
+		final int[] bins = histogramBins(input, projection, length);
+		final int blockSize = projection != Projection.MEDIAN ? BLOCK : (int) Math
+			.max(1, Math.min(BLOCK, MAX_MEDIAN_BLOCK / (bins == null ? length
+				: bins[1])));
+		final long blocksPerSlab = (innerSize + blockSize - 1) / blockSize;
+
+		final TaskExecutor executor = Parallelization.getTaskExecutor();
+		executor.forEach(Ranges.split(outer * blocksPerSlab, executor), range -> {
+			final Cursor<T> in = Views.flatIterable(input).cursor();
+			final Cursor<V> out = Views.flatIterable(output).cursor();
+			final Reducer reducer = reducer(projection, blockSize, length, bins);
+			final double[] row = new double[blockSize];
+			long inPosition = -1;
+			long outPosition = -1;
+			for (long b = range[0]; b < range[1]; b++) {
+				final long slab = b / blocksPerSlab;
+				final long first = (b % blocksPerSlab) * blockSize;
+				final int count = (int) Math.min(blockSize, innerSize - first);
+				reducer.reset(count);
+				long start = first + slab * innerSize * length;
+				if (start <= inPosition) {
+					// the previous block of this slab lies further ahead
+					in.reset();
+					inPosition = -1;
+				}
+				for (int k = 0; k < length; k++, start += innerSize) {
+					in.jumpFwd(start - inPosition - 1);
+					for (int i = 0; i < count; i++)
+						row[i] = in.next().getRealDouble();
+					inPosition = start + count - 1;
+					reducer.accumulate(row, count);
+				}
+				final long target = first + slab * innerSize;
+				out.jumpFwd(target - outPosition - 1);
+				for (int i = 0; i < count; i++)
+					out.next().setReal(reducer.get(i));
+				outPosition = target + count - 1;
+			}
+		});
+	}
+
+	/**
+	 * Determines whether a median projection can use histograms, i.e. whether
+	 * the input has integer values of a small range.
+	 *
+	 * @return the minimum value and the number of bins, or {@code null}
+	 */
+	private static <T extends RealType<T>> int[] histogramBins(
+		final RandomAccessibleInterval<T> input, final Projection projection,
+		final long length)
+	{
+		if (projection != Projection.MEDIAN) return null;
+		final T type = Util.getTypeFromInterval(input);
+		if (!(type instanceof IntegerType)) return null;
+		final double min = type.getMinValue();
+		final double bins = type.getMaxValue() - min + 1;
+		// selection is cheaper when there are fewer samples than bins
+		if (bins > MAX_BINS || bins > 4 * length) return null;
+		return new int[] { (int) min, (int) bins };
+	}
+
+	private static Reducer reducer(final Projection projection,
+		final int blockSize, final long length, final int[] bins)
+	{
+		switch (projection) {
+			case MAX:
+				return new Max(blockSize);
+			case MIN:
+				return new Min(blockSize);
+			case SUM:
+				return new Sum(blockSize, 1);
+			case MEAN:
+				return new Sum(blockSize, length);
+			case STD_DEV:
+				return new StandardDeviation(blockSize);
+			case MEDIAN:
+				if (length > Integer.MAX_VALUE / blockSize) //
+					throw new IllegalArgumentException(
+						"The projected dimension is too large for a median projection");
+				return bins == null ? new SelectionMedian(blockSize, (int) length)
+					: new HistogramMedian(blockSize, length, bins[0], bins[1]);
+			default:
+				throw new IllegalArgumentException("Unsupported projection: " +
+					projection);
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Reduces a block of output pixels, one input run at a time. */
+	private static abstract class Reducer {
+
+		abstract void reset(int count);
+
+		abstract void accumulate(double[] row, int count);
+
+		abstract double get(int i);
+	}
+
+	private static final class Max extends Reducer {
+
+		private final double[] max;
+
+		private Max(final int blockSize) {
+			max = new double[blockSize];
+		}
+
+		@Override
+		void reset(final int count) {
+			Arrays.fill(max, 0, count, Double.NEGATIVE_INFINITY);
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			for (int i = 0; i < count; i++)
+				if (row[i] > max[i]) max[i] = row[i];
+		}
+
+		@Override
+		double get(final int i) {
+			return max[i];
+		}
+	}
+
+	private static final class Min extends Reducer {
+
+		private final double[] min;
+
+		private Min(final int blockSize) {
+			min = new double[blockSize];
+		}
+
+		@Override
+		void reset(final int count) {
+			Arrays.fill(min, 0, count, Double.POSITIVE_INFINITY);
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			for (int i = 0; i < count; i++)
+				if (row[i] < min[i]) min[i] = row[i];
+		}
+
+		@Override
+		double get(final int i) {
+			return min[i];
+		}
+	}
+
+	private static final class Sum extends Reducer {
+
+		private final double[] sum;
+		private final double divisor;
+
+		private Sum(final int blockSize, final long divisor) {
+			sum = new double[blockSize];
+			this.divisor = divisor;
+		}
+
+		@Override
+		void reset(final int count) {
+			Arrays.fill(sum, 0, count, 0);
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			for (int i = 0; i < count; i++)
+				sum[i] += row[i];
+		}
+
+		@Override
+		double get(final int i) {
+			return sum[i] / divisor;
+		}
+	}
+
+	/** Welford's online algorithm for the sample standard deviation. */
+	private static final class StandardDeviation extends Reducer {
+
+		private final double[] mean;
+		private final double[] m2;
+		private long n;
+
+		private StandardDeviation(final int blockSize) {
+			mean = new double[blockSize];
+			m2 = new double[blockSize];
+		}
+
+		@Override
+		void reset(final int count) {
+			Arrays.fill(mean, 0, count, 0);
+			Arrays.fill(m2, 0, count, 0);
+			n = 0;
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			n++;
+			for (int i = 0; i < count; i++) {
+				final double delta = row[i] - mean[i];
+				mean[i] += delta / n;
+				m2[i] += delta * (row[i] - mean[i]);
+			}
+		}
+
+		@Override
+		double get(final int i) {
+			return Math.sqrt(m2[i] / (n - 1));
+		}
+	}
+
+	/** Median of integer values of a small range, by histogram. */
+	private static final class HistogramMedian extends Reducer {
+
+		private final int[] histograms;
+		private final long length;
+		private final int min;
+		private final int bins;
+
+		private HistogramMedian(final int blockSize, final long length,
+			final int min, final int bins)
+		{
+			histograms = new int[blockSize * bins];
+			this.length = length;
+			this.min = min;
+			this.bins = bins;
+		}
+
+		@Override
+		void reset(final int count) {
+			Arrays.fill(histograms, 0, count * bins, 0);
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			for (int i = 0, offset = 0; i < count; i++, offset += bins)
+				histograms[offset + (int) row[i] - min]++;
+		}
+
+		@Override
+		double get(final int i) {
+			final long k = length / 2;
+			if (length % 2 == 1) return min + bin(i, k);
+			return min + 0.5 * (bin(i, k - 1) + bin(i, k));
+		}
+
+		/** Finds the bin holding the value of the given rank. */
+		private int bin(final int i, final long rank) {
+			final int offset = i * bins;
+			long seen = histograms[offset];
+			int bin = 0;
+			while (seen <= rank)
+				seen += histograms[offset + ++bin];
+			return bin;
+		}
+	}
+
+	/** Median of arbitrary values, by selection. */
+	private static final class SelectionMedian extends Reducer {
+
+		private final double[] values;
+		private final int length;
+		private int k;
+
+		private SelectionMedian(final int blockSize, final int length) {
+			values = new double[blockSize * length];
+			this.length = length;
+		}
+
+		@Override
+		void reset(final int count) {
+			k = 0;
+		}
+
+		@Override
+		void accumulate(final double[] row, final int count) {
+			for (int i = 0, offset = k; i < count; i++, offset += length)
+				values[offset] = row[i];
+			k++;
+		}
+
+		@Override
+		double get(final int i) {
+			final int from = i * length;
+			final int half = length / 2;
+			final double upper = select(values, from, from + length, from + half);
+			if (length % 2 == 1) return upper;
+			// after selection, the lower half precedes the median
+			double lower = values[from];
+			for (int j = from + 1; j < from + half; j++)
+				if (values[j] > lower) lower = values[j];
+			return 0.5 * (lower + upper);
+		}
+
+		/**
+		 * Partially sorts {@code a[from..to)} such that {@code a[k]} is in its
+		 * sorted position, and returns it.
+		 */
+		private static double select(final double[] a, int from, int to,
+			final int k)
+		{
+			while (to - from > 1) {
+				final double pivot = a[(from + to) >>> 1];
+				int i = from;
+				int j = to - 1;
+				while (i <= j) {
+					while (a[i] < pivot)
+						i++;
+					while (a[j] > pivot)
+						j--;
+					if (i <= j) {
+						final double t = a[i];
+						a[i++] = a[j];
+						a[j--] = t;
+					}
+				}
+				if (k <= j) to = j + 1;
+				else if (k >= i) from = i;
+				else return a[k];
+			}
+			return a[k];
+		}
+	}
+}
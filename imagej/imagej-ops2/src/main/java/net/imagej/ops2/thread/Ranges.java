@@ -0,0 +1,84 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imglib2.parallel.TaskExecutor;
+
+/**
+ * Splits index ranges among the tasks of a {@link TaskExecutor}.
+ */
+public final class Ranges {
+
+	private Ranges() {
+		// prevent instantiation of utility class
+	}
+
+	/**
+	 * Splits {@code [0, size)} into contiguous ranges, one per task.
+	 *
+	 * @param size the number of indices
+	 * @param executor the {@link TaskExecutor} whose tasks process the ranges
+	 * @return the {@code [start, end)} pairs of the ranges, in order
+	 */
+	public static List<int[]> split(final int size,
+		final TaskExecutor executor)
+	{
+		final int numTasks = Math.max(1, Math.min(size, executor
+			.suggestNumberOfTasks()));
+		final List<int[]> ranges = new ArrayList<>(numTasks);
+		for (int t = 0; t < numTasks; t++)
+			ranges.add(new int[] { (int) ((long) size * t / numTasks),
+				(int) ((long) size * (t + 1) / numTasks) });
+		return ranges;
+	}
+
+	/**
+	 * Splits {@code [0, size)} into contiguous ranges, one per task.
+	 *
+	 * @param size the number of indices
+	 * @param executor the {@link TaskExecutor} whose tasks process the ranges
+	 * @return the {@code [start, end)} pairs of the ranges, in order
+	 */
+	public static List<long[]> split(final long size,
+		final TaskExecutor executor)
+	{
+		final int numTasks = (int) Math.max(1, Math.min(size, executor
+			.suggestNumberOfTasks()));
+		final List<long[]> ranges = new ArrayList<>(numTasks);
+		for (int t = 0; t < numTasks; t++)
+			ranges.add(new long[] { size * t / numTasks, size * (t + 1) /
+				numTasks });
+		return ranges;
+	}
+
+}
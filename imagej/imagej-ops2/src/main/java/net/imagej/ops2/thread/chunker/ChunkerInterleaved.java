@@ -34,6 +34,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.scijava.function.Inplaces;
+import org.scijava.ops.api.OpFuture;
 
 /**
  * Implementation of a {@link ChunkerOp} that interleaves the chunks. In a
@@ -46,8 +47,6 @@ import org.scijava.function.Inplaces;
  */
 public class ChunkerInterleaved implements Inplaces.Arity3_1<Chunk, Long, ExecutorService>{
 
-	private String cancellationMsg;
-
 	/**
 	 * TODO
 	 *
@@ -67,7 +66,7 @@ public class ChunkerInterleaved implements Inplaces.Arity3_1<Chunk, Long, Execut
 		for (int i = 0; i < numThreads; i++) {
 			final int j = i;
 
-			futures.add(es.submit(new Runnable() {
+			futures.add(es.submit(OpFuture.propagate(new Runnable() {
 
 				@Override
 				public void run() {
@@ -78,18 +77,10 @@ public class ChunkerInterleaved implements Inplaces.Arity3_1<Chunk, Long, Execut
 						chunk.execute(j, numThreads, numStepsFloor);
 					}
 				}
-			}));
+			})));
 		}
 
-		for (final Future<?> future : futures) {
-			try {
-				future.get();
-			}
-			catch (final Exception e) {
-				cancellationMsg = e.getMessage();
-				break;
-			}
-		}
+		DefaultChunker.await(futures);
 	}
 
 }
@@ -30,17 +30,24 @@
 package net.imagej.ops2.thread.chunker;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.scijava.function.Inplaces;
+import org.scijava.ops.api.OpFuture;
 
 /**
  * Simple default implementation of a {@link ChunkerOp}. The list of
  * elements is chunked into equally sized (besides the last one), disjoint
  * chunks, which are processed in parallel. The stepSize is set to one, i.e.
  * each chunk consists of consecutive elements.
+ * <p>
+ * The chunks observe the cancellation of the {@link OpFuture} executing the
+ * Op, if any, through {@link OpFuture#checkCanceled()}.
+ * </p>
  * 
  * @author Christian Dietz (University of Konstanz)
  *@implNote op names='thread.chunker'
@@ -71,33 +78,54 @@ public class DefaultChunker implements Inplaces.Arity3_1<Chunk, Long, ExecutorSe
 		for (int i = 0; i < numChunks - 1; i++) {
 			final long j = i;
 
-		futures.add(es.submit(new Runnable() {
+		futures.add(es.submit(OpFuture.propagate(new Runnable() {
 
 				@Override
 				public void run() {
 					chunk.execute(j * numSteps, STEP_SIZE, numSteps);
 				}
-			}));
+			})));
 		}
 
 		// last chunk additionally add the rest of elements
-		futures.add(es.submit(new Runnable() {
+		futures.add(es.submit(OpFuture.propagate(new Runnable() {
 
 			@Override
 			public void run() {
 				chunk.execute((numChunks - 1) * numSteps, STEP_SIZE,
 					(int) (numSteps + (numberOfElements % numSteps)));
 			}
-		}));
+		})));
 
+		await(futures);
+	}
+
+	/**
+	 * Waits for all chunks to finish. If the waiting {@link Thread} is
+	 * interrupted, e.g. because the {@link OpFuture} executing the Op was
+	 * canceled, the chunks that are still running are canceled too.
+	 *
+	 * @param futures the {@link Future}s of the submitted chunks
+	 * @throws CancellationException if the Op was canceled
+	 */
+	static void await(final List<Future<?>> futures) {
 		for (final Future<?> future : futures) {
 			try {
 				future.get();
 			}
 			catch (final InterruptedException exc) {
-				throw new RuntimeException(exc);
+				for (final Future<?> f : futures)
+					f.cancel(true);
+				Thread.currentThread().interrupt();
+				final CancellationException cancellation = new CancellationException(
+					"The Op was canceled before it was able to complete computation");
+				cancellation.initCause(exc);
+				throw cancellation;
 			}
 			catch (final ExecutionException exc) {
+				// NB a chunk saw the cancellation first
+				if (exc.getCause() instanceof CancellationException)
+					throw (CancellationException) exc.getCause();
 				throw new RuntimeException(exc);
 			}
 		}
@@ -32,6 +32,7 @@ package net.imagej.ops2.types;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import org.scijava.types.Any;
 import org.scijava.types.SubTypeExtractor;
 import org.scijava.types.TypeExtractor;
 import org.scijava.types.TypeReifier;
@@ -56,6 +57,8 @@ public class ImgLabelingTypeExtractor extends
 
 	@Override
 	protected Type[] getTypeParameters(TypeReifier r, ImgLabeling<?, ?> object) {
+		if (r.samplingPolicy().maxElements() == 0) //
+			return new Type[] { new Any(), new Any() };
 		// o.firstElement will return a LabelingType
 		Type labelingType = r.reify(object.firstElement());
 		// sanity check
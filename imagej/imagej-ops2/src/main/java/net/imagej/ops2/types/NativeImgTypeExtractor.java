@@ -32,6 +32,7 @@ package net.imagej.ops2.types;
 import java.lang.reflect.Type;
 
 import org.scijava.priority.Priority;
+import org.scijava.types.Any;
 import org.scijava.types.SubTypeExtractor;
 import org.scijava.types.TypeExtractor;
 import org.scijava.types.TypeReifier;
@@ -64,6 +65,8 @@ public class NativeImgTypeExtractor extends SubTypeExtractor<NativeImg<?, ?>> {
 
 	@Override
 	protected Type[] getTypeParameters(TypeReifier r, NativeImg<?, ?> object) {
+		if (r.samplingPolicy().maxElements() == 0) //
+			return new Type[] { new Any(), new Any() };
 		Type componentType = r.reify(object.firstElement());
 		Type backingType = r.reify(object.update(object.cursor()));
 		return new Type[] { componentType, backingType };
@@ -32,6 +32,7 @@ package net.imagej.ops2.types;
 import java.lang.reflect.Type;
 
 import org.scijava.priority.Priority;
+import org.scijava.types.Any;
 import org.scijava.types.SubTypeExtractor;
 import org.scijava.types.TypeExtractor;
 import org.scijava.types.TypeReifier;
@@ -67,6 +68,8 @@ public class RAITypeExtractor extends
 	protected Type[] getTypeParameters(TypeReifier r,
 		RandomAccessibleInterval<?> object)
 	{
+		if (r.samplingPolicy().maxElements() == 0) //
+			return new Type[] { new Any() };
 		return new Type[] { r.reify(Util.getTypeFromInterval(object)) };
 	}
 
@@ -0,0 +1,166 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.view.Views;
+
+import org.junit.jupiter.api.Test;
+import org.scijava.discovery.Discoverer;
+import org.scijava.log2.Logger;
+import org.scijava.log2.StderrLoggerFactory;
+import org.scijava.ops.api.OpEnvironment;
+import org.scijava.ops.api.RichOp;
+import org.scijava.ops.engine.DefaultOpEnvironment;
+import org.scijava.ops.engine.DefaultOpHistory;
+import org.scijava.types.DefaultTypeReifier;
+
+/**
+ * Tests {@link ElementwisePipeline}.
+ */
+public class ElementwisePipelineTest extends AbstractOpTest {
+
+	private static Img<DoubleType> ramp(final double offset) {
+		return ramp(offset, 16, 10);
+	}
+
+	private static Img<DoubleType> ramp(final double offset,
+		final long... dims)
+	{
+		final Img<DoubleType> img = ArrayImgs.doubles(dims);
+		double i = offset;
+		for (final DoubleType t : img)
+			t.set(i++);
+		return img;
+	}
+
+	private static void assertPixels(final Img<DoubleType> in,
+		final RandomAccessibleInterval<DoubleType> out,
+		final DoubleUnaryOperator expected)
+	{
+		final Cursor<DoubleType> c = in.localizingCursor();
+		final Cursor<DoubleType> d = Views.flatIterable(out).cursor();
+		while (c.hasNext())
+			assertEquals(expected.applyAsDouble(c.next().get()), d.next().get(),
+				1e-10);
+	}
+
+	@Test
+	public void testFusedPass() {
+		final Img<DoubleType> in = ramp(0);
+		final Img<DoubleType> other = ramp(5);
+		final ElementwisePipeline<DoubleType, DoubleType> pipeline =
+			ElementwisePipeline.of(ops, new DoubleType()) //
+				.combine("math.add", other) //
+				.combineScalar("math.multiply", new DoubleType(2)) //
+				.map("math.sqrt");
+		assertEquals(1, pipeline.passes());
+
+		final Img<DoubleType> out = ArrayImgs.doubles(16, 10);
+		pipeline.compute(in, out);
+		// in + other = 2 * in + 5
+		assertPixels(in, out, x -> Math.sqrt((2 * x + 5) * 2));
+	}
+
+	@Test
+	public void testFusedPassSkipsHistory() {
+		final AtomicLong outputs = new AtomicLong();
+		final List<Discoverer> discoverers = Discoverer.all(ServiceLoader::load);
+		final Logger log = new StderrLoggerFactory().create();
+		final OpEnvironment env = new DefaultOpEnvironment(new DefaultTypeReifier(
+			log, discoverers), log, new DefaultOpHistory()
+		{
+
+			@Override
+			public void logOutput(final RichOp<?> op, final Object output) {
+				outputs.incrementAndGet();
+				super.logOutput(op, output);
+			}
+		}, discoverers);
+		// large enough for LoopBuilder to split it among threads
+		final Img<DoubleType> in = ramp(0, 512, 512);
+		final Img<DoubleType> other = ramp(5, 512, 512);
+		final ElementwisePipeline<DoubleType, DoubleType> pipeline =
+			ElementwisePipeline.of(env, new DoubleType()) //
+				.combine("math.add", other) //
+				.combineScalar("math.multiply", new DoubleType(2)) //
+				.map("math.sqrt");
+		assertEquals(1, pipeline.passes());
+
+		final Img<DoubleType> out = ArrayImgs.doubles(512, 512);
+		final long before = outputs.get();
+		pipeline.compute(in, out);
+		assertEquals(before, outputs.get());
+		assertPixels(in, out, x -> Math.sqrt((2 * x + 5) * 2));
+	}
+
+	@Test
+	public void testUnfusableStep() {
+		final Img<DoubleType> in = ramp(0);
+		final ElementwisePipeline<DoubleType, DoubleType> pipeline =
+			ElementwisePipeline.of(ops, new DoubleType()) //
+				.combineScalar("math.add", new DoubleType(1)) //
+				.map("image.invert") //
+				.combineScalar("math.multiply", new DoubleType(3));
+		// image.invert only exists for whole images
+		assertEquals(3, pipeline.passes());
+
+		final RandomAccessibleInterval<DoubleType> out = pipeline.apply(in);
+		final RandomAccessibleInterval<DoubleType> expected = ArrayImgs.doubles(16,
+			10);
+		final Img<DoubleType> added = ramp(1);
+		ops.op("image.invert").arity1().input(added).output(expected).compute();
+		final Cursor<DoubleType> e = Views.flatIterable(expected).cursor();
+		final Cursor<DoubleType> o = Views.flatIterable(out).cursor();
+		while (e.hasNext())
+			assertEquals(3 * e.next().get(), o.next().get(), 1e-10);
+	}
+
+	@Test
+	public void testEmptyPipeline() {
+		final ElementwisePipeline<DoubleType, DoubleType> pipeline =
+			ElementwisePipeline.of(ops, new DoubleType());
+		assertThrows(IllegalArgumentException.class, () -> pipeline.compute(ramp(
+			0), ArrayImgs.doubles(16, 10)));
+	}
+
+}
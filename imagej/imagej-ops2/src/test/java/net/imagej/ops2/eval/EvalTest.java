@@ -30,14 +30,23 @@
 package net.imagej.ops2.eval;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import net.imagej.ops2.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.jupiter.api.Test;
 import org.scijava.function.Functions;
+import org.scijava.ops.api.OpBuilder;
 import org.scijava.ops.api.OpEnvironment;
 import org.scijava.types.Nil;
 
@@ -69,4 +78,70 @@ public class EvalTest extends AbstractOpTest {
 		assertEquals(17., evaluator.apply("a+b*c", vars, ops));
 	}
 
+	@Test
+	public void testCompiled() {
+		final Img<UnsignedByteType> a = ArrayImgs.unsignedBytes(20, 15);
+		final Img<FloatType> b = ArrayImgs.floats(20, 15);
+		int i = 0;
+		final Cursor<UnsignedByteType> ca = a.cursor();
+		final Cursor<FloatType> cb = b.cursor();
+		while (ca.hasNext()) {
+			ca.next().setReal(i % 200);
+			cb.next().setReal(i++ % 37 + 1);
+		}
+		final Map<String, Object> vars = new HashMap<>();
+		vars.put("a", a);
+		vars.put("b", b);
+		vars.put("s", 255);
+
+		final String expression = "(a - b) / (a + b) * s + math.sqrt(b)";
+		final CompiledExpression compiled = CompiledExpression.compile(expression,
+			vars);
+		assertSame(compiled, CompiledExpression.compile(expression, vars));
+
+		final Img<DoubleType> expected = compiled.apply(vars);
+		final Img<DoubleType> actual = ArrayImgs.doubles(20, 15);
+		// NB the type of vars would be reified from its first entry alone
+		OpBuilder.matchComputer(ops, "eval", new Nil<String>() {},
+			new Nil<Map<String, Object>>() {}, new Nil<Img<DoubleType>>() {})
+			.compute(expression, vars, actual);
+
+		final Cursor<UnsignedByteType> ia = a.cursor();
+		final Cursor<FloatType> ib = b.cursor();
+		final Cursor<DoubleType> ie = expected.cursor();
+		final Cursor<DoubleType> ic = actual.cursor();
+		while (ia.hasNext()) {
+			final double va = ia.next().getRealDouble();
+			final double vb = ib.next().getRealDouble();
+			final double v = (va - vb) / (va + vb) * 255 + Math.sqrt(vb);
+			assertEquals(v, ie.next().getRealDouble(), 1e-12);
+			assertEquals(v, ic.next().getRealDouble(), 1e-12);
+		}
+	}
+
+	@Test
+	public void testCompiledFunctionsMatchOps() {
+		final Img<UnsignedByteType> a = ArrayImgs.unsignedBytes(5, 4);
+		int i = 0;
+		for (final UnsignedByteType t : a)
+			t.setReal(i++ % 3);
+		final Map<String, Object> vars = new HashMap<>();
+		vars.put("a", a);
+
+		final Img<DoubleType> reciprocal = CompiledExpression.compile(
+			"math.reciprocal(a, -1.0)", vars).apply(vars);
+		final Cursor<UnsignedByteType> ca = a.cursor();
+		final Cursor<DoubleType> cr = reciprocal.cursor();
+		final DoubleType expected = new DoubleType();
+		while (ca.hasNext()) {
+			ops.op("math.reciprocal").arity2().input(ca.next(), -1.0).output(
+				expected).compute();
+			assertEquals(expected.get(), cr.next().get(), 0);
+		}
+
+		// with an integer exponent, math.power computes in the input type
+		assertThrows(IllegalArgumentException.class, () -> CompiledExpression
+			.compile("math.power(a, 2)", vars));
+	}
+
 }
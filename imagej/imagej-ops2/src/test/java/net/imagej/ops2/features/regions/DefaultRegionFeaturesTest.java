@@ -0,0 +1,138 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.features.regions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import net.imagej.ops2.AbstractOpTest;
+import net.imagej.ops2.image.cooccurrenceMatrix.MatrixOrientation2D;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.junit.jupiter.api.Test;
+import org.scijava.types.Nil;
+
+/**
+ * Tests {@link DefaultRegionFeatures}.
+ */
+public class DefaultRegionFeaturesTest extends AbstractOpTest {
+
+	private static final double EPSILON = 10e-10;
+
+	private static final Nil<RegionFeatureTable<String>> TABLE =
+		new Nil<RegionFeatureTable<String>>()
+		{};
+
+	/** Labels the left and right halves of a 4x2 image */
+	private ImgLabeling<String, IntType> halves() {
+		final ImgLabeling<String, IntType> labeling = new ImgLabeling<>(ArrayImgs
+			.ints(4, 2));
+		final RandomAccess<LabelingType<String>> ra = labeling.randomAccess();
+		for (int y = 0; y < 2; y++) {
+			for (int x = 0; x < 4; x++) {
+				ra.setPosition(new int[] { x, y });
+				ra.get().add(x < 2 ? "left" : "right");
+			}
+		}
+		return labeling;
+	}
+
+	@Test
+	public void testStatistics() {
+		final Img<DoubleType> img = ArrayImgs.doubles(new double[] { 1, 2, 10, 20,
+			3, 6, 30, 40 }, 4, 2);
+		final RegionFeatureTable<String> table = ops.op("features.labelRegions")
+			.arity3().input(halves(), img, Arrays.asList("stats.size", "stats.mean",
+				"stats.variance", "stats.max", "geom.centroid", "geom.boundingBox"))
+			.outType(TABLE).apply();
+
+		assertEquals(4, table.get("left", "stats.size"), EPSILON);
+		assertEquals(3, table.get("left", "stats.mean"), EPSILON);
+		assertEquals(14 / 3d, table.get("left", "stats.variance"), EPSILON);
+		assertEquals(40, table.get("right", "stats.max"), EPSILON);
+		assertEquals(25, table.get("right", "stats.mean"), EPSILON);
+		assertEquals(2.5, table.get("right", "geom.centroid[0]"), EPSILON);
+		assertEquals(0.5, table.get("right", "geom.centroid[1]"), EPSILON);
+		assertEquals(2, table.get("right", "geom.boundingBox.min[0]"), EPSILON);
+		assertEquals(3, table.get("right", "geom.boundingBox.max[0]"), EPSILON);
+	}
+
+	@Test
+	public void testMatchesSingleRegionOps() {
+		final Img<UnsignedByteType> img = openRelativeUnsignedByteImg(
+			AbstractOpTest.class, "features/haralick_test_img.tif");
+		final ImgLabeling<String, IntType> labeling = new ImgLabeling<>(ArrayImgs
+			.ints(Intervals.dimensionsAsLongArray(img)));
+		final Cursor<LabelingType<String>> cursor = Views.iterable(labeling)
+			.cursor();
+		while (cursor.hasNext())
+			cursor.next().add("all");
+
+		final RegionFeatureTable<String> table = ops.op("features.labelRegions")
+			.arity6().input(labeling, img, Arrays.asList("features.haralick.asm",
+				"features.haralick.contrast", "stats.skewness",
+				"imageMoments.centralMoment21"), 128, 1, MatrixOrientation2D.HORIZONTAL)
+			.outType(TABLE).apply();
+
+		assertEquals(0.002728531855956, table.get("all", "features.haralick.asm"),
+			EPSILON);
+		assertEquals(2.829684210526314e+03, table.get("all",
+			"features.haralick.contrast"), EPSILON);
+
+		final DoubleType skewness = new DoubleType();
+		ops.op("stats.skewness").arity1().input(img).output(skewness).compute();
+		assertEquals(skewness.get(), table.get("all", "stats.skewness"), EPSILON);
+		final DoubleType centralMoment21 = ops.op("imageMoments.centralMoment21")
+			.arity1().input(img).outType(DoubleType.class).apply();
+		assertEquals(1, table.get("all", "imageMoments.centralMoment21") /
+			centralMoment21.get(), 1e-6);
+	}
+
+	@Test
+	public void testUnsupportedFeature() {
+		final Img<DoubleType> img = ArrayImgs.doubles(4, 2);
+		assertThrows(IllegalArgumentException.class, () -> ops.op(
+			"features.labelRegions").arity3().input(halves(), img, Arrays.asList(
+				"stats.median")).outType(TABLE).apply());
+	}
+
+}
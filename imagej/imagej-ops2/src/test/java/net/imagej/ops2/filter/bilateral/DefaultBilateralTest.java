@@ -29,6 +29,7 @@
 package net.imagej.ops2.filter.bilateral;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import net.imagej.ops2.AbstractOpTest;
 import net.imagej.testutil.TestImgGeneration;
@@ -36,6 +37,7 @@ import net.imglib2.Cursor;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.jupiter.api.Test;
 
@@ -97,6 +99,55 @@ public class DefaultBilateralTest extends AbstractOpTest {
 		}
 	}
 
+	@Test
+	public void testND() {
+		final byte[] data = { 7, 8, 9, 1, 2, 3, 7, 9, 8, 1, 3, 2, 8, 7, 9, 2, 1, 3, 8, 9, 7, 2, 3, 1, 9, 7, 8, 3, 1, 2,
+				9, 8, 7, 3, 2, 1 };
+		final Img<ByteType> in = ArrayImgs.bytes(data, 6, 3, 2);
+		final Img<DoubleType> out = ArrayImgs.doubles(6, 3, 2);
+		final Img<DoubleType> outND = ArrayImgs.doubles(6, 3, 2);
+
+		// plane by plane
+		ops.op("filter.bilateral").arity4().input(in, 15.0, 5.0, 2).output(out).compute();
+		ops.op("filter.bilateral").arity4().input(in, 15.0, new double[] { 5.0, 5.0 }, 2).output(outND).compute();
+		Cursor<DoubleType> c = out.cursor();
+		Cursor<DoubleType> cND = outND.cursor();
+		while (c.hasNext()) {
+			assertEquals(c.next().get(), cND.next().get(), 1e-10);
+		}
+
+		// across planes, the filter also averages over the third dimension
+		ops.op("filter.bilateral").arity4().input(in, 15.0, new double[] { 5.0, 5.0, 5.0 }, 2).output(outND).compute();
+		c = out.cursor();
+		cND = outND.cursor();
+		double maxDiff = 0;
+		while (c.hasNext()) {
+			maxDiff = Math.max(maxDiff, Math.abs(c.next().get() - cND.next().get()));
+		}
+		assertTrue(maxDiff > 0.1);
+	}
+
+	@Test
+	public void testGrid() {
+		// a noisy step edge
+		final Img<DoubleType> in = ArrayImgs.doubles(40, 30);
+		final Cursor<DoubleType> cin = in.localizingCursor();
+		while (cin.hasNext()) {
+			cin.fwd();
+			cin.get().set((cin.getIntPosition(0) < 20 ? 50 : 200) + (cin.getIntPosition(0) * 7 + cin.getIntPosition(1) * 3) % 5);
+		}
+		final Img<DoubleType> out = ArrayImgs.doubles(40, 30);
+		ops.op("filter.bilateralGrid").arity3().input(in, 20.0, 4.0).output(out).compute();
+
+		// the edge is preserved, the noise is smoothed
+		final Cursor<DoubleType> cout = out.localizingCursor();
+		while (cout.hasNext()) {
+			cout.fwd();
+			final double expected = cout.getIntPosition(0) < 20 ? 52 : 202;
+			assertEquals(expected, cout.get().get(), 2.0);
+		}
+	}
+
 	// @Test
 	// public void testGaussianVsBilateral() {
 	// final byte[] data = { 7, 8, 9, 1, 2, 3, 7, 9, 8, 1, 3, 2, 8, 7, 9, 2, 1, 3,
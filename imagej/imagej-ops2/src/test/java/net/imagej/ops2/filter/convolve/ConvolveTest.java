@@ -29,11 +29,17 @@
 //
 package net.imagej.ops2.filter.convolve;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import net.imagej.ops2.AbstractOpTest;
+import net.imagej.ops2.filter.fft.FFTPlan;
+import net.imagej.testutil.TestImgGeneration;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
 import net.imglib2.outofbounds.OutOfBoundsFactory;
 import net.imglib2.type.numeric.complex.ComplexFloatType;
 import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.view.Views;
 import org.junit.jupiter.api.Test;
 import org.scijava.types.Nil;
 
@@ -50,6 +56,42 @@ public class ConvolveTest extends AbstractOpTest {
 		var o = ops.op("filter.convolve").arity7().inType(new Nil<RandomAccessibleInterval<FloatType>>() {}, new Nil<RandomAccessibleInterval<FloatType>> () {}, Nil.of(FloatType.class
 		), Nil.of(ComplexFloatType.class), Nil.of(ExecutorService.class), new Nil<long[]>(){}, new Nil<OutOfBoundsFactory<FloatType, RandomAccessibleInterval<FloatType>>>() {}).outType(new Nil<RandomAccessibleInterval<FloatType>>() {}).computer();
 	}
+
+	/**
+	 * Tests that convolving with a precomputed {@link FFTPlan} and kernel
+	 * spectrum matches the regular FFT convolution, including when the plan's
+	 * workspace is reused.
+	 */
+	@Test
+	public void testConvolveWithFFTPlan() {
+		final ExecutorService es = threads.getExecutorService();
+		final Img<FloatType> in = TestImgGeneration.floatArray(true, new long[] {
+			30, 27 });
+		final Img<FloatType> kernel = TestImgGeneration.floatArray(true,
+			new long[] { 7, 5 });
+
+		final RandomAccessibleInterval<FloatType> expected = ops.op(
+			"filter.convolve").arity3().input(in, kernel, es).outType(
+				new Nil<RandomAccessibleInterval<FloatType>>()
+				{}).apply();
+
+		final FFTPlan<ComplexFloatType> plan = ops.op("filter.fftPlan").arity3()
+			.input(in, kernel, new ComplexFloatType()).outType(
+				new Nil<FFTPlan<ComplexFloatType>>()
+				{}).apply();
+		final RandomAccessibleInterval<ComplexFloatType> kernelFFT = ops.op(
+			"filter.fftKernel").arity3().input(kernel, plan, es).outType(
+				new Nil<RandomAccessibleInterval<ComplexFloatType>>()
+				{}).apply();
+
+		for (int i = 0; i < 2; i++) {
+			final RandomAccessibleInterval<FloatType> actual = ops.op(
+				"filter.convolve").arity6().input(in, kernelFFT, plan, new FloatType(),
+					es, null).outType(new Nil<RandomAccessibleInterval<FloatType>>()
+					{}).apply();
+			assertTrue(areCongruent(Views.iterable(expected), actual, 1e-3));
+		}
+	}
 }
 //
 //	/** Tests that the correct convolver is selected when using a small kernel. */
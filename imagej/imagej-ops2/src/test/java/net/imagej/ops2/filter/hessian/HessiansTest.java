@@ -0,0 +1,78 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.filter.hessian;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Hessians}.
+ */
+public class HessiansTest {
+
+	@Test
+	public void testEigenvalues2D() {
+		final double[] ev = new double[2];
+		Hessians.eigenvalues2D(2, 1, 2, ev);
+		assertArrayEquals(new double[] { 1, 3 }, ev, 1e-12);
+		Hessians.eigenvalues2D(0, -0.5, -1, ev);
+		assertArrayEquals(new double[] { -0.5 - Math.sqrt(0.5), -0.5 + Math.sqrt(
+			0.5) }, ev, 1e-12);
+	}
+
+	@Test
+	public void testEigenvalues3D() {
+		final double[] ev = new double[3];
+		Hessians.eigenvalues3D(2, 1, 0, 2, 0, 5, ev);
+		assertArrayEquals(new double[] { 1, 3, 5 }, ev, 1e-12);
+		Hessians.eigenvalues3D(4, 1, 1, 4, 1, 4, ev);
+		assertArrayEquals(new double[] { 3, 3, 6 }, ev, 1e-12);
+		Hessians.eigenvalues3D(-1, 0, 0, 7, 0, 2, ev);
+		assertArrayEquals(new double[] { -1, 2, 7 }, ev, 0);
+	}
+
+	@Test
+	public void testSortByMagnitude() {
+		final double[] ev = { -3, -1, 2 };
+		Hessians.sortByMagnitude(ev);
+		assertArrayEquals(new double[] { -1, 2, -3 }, ev, 0);
+	}
+
+	@Test
+	public void testFrobeniusSquared() {
+		assertEquals(1.5, Hessians.frobeniusSquared(new double[] { 0, -0.5, -1 },
+			2), 0);
+		assertEquals(20, Hessians.frobeniusSquared(new double[] { 1, 1, 1, 2, 1,
+			3 }, 3), 0);
+	}
+
+}
@@ -215,6 +215,30 @@ public class PolygonFeatureTests extends AbstractFeatureTest {
 			"geom.maximumFeretsDiameter");
 	}
 
+	@Test
+	public void rotatingCalipers() {
+		// one calipers sweep yields all Feret measures of the polygon
+		final RotatingCalipers calipers = ops.op("geom.rotatingCalipers").arity1()
+			.input(contour).outType(RotatingCalipers.class).apply();
+		assertEquals(104.2353107157071, calipers.maximumFeretDiameter(), EPSILON,
+			"maximumFeretDiameter");
+		assertEquals(81.170255332091, calipers.maximumFeretAngle(), EPSILON,
+			"maximumFeretAngle");
+		assertEquals(58.5849810104945, calipers.minimumFeretDiameter(), EPSILON,
+			"minimumFeretDiameter");
+		assertEquals(153.434948822922, calipers.minimumFeretAngle(), EPSILON,
+			"minimumFeretAngle");
+		final Polygon2D rectangle = calipers.smallestEnclosingRectangle();
+		final double width = Math.hypot(rectangle.vertex(1).getDoublePosition(0) -
+			rectangle.vertex(0).getDoublePosition(0), rectangle.vertex(1)
+				.getDoublePosition(1) - rectangle.vertex(0).getDoublePosition(1));
+		final double height = Math.hypot(rectangle.vertex(2).getDoublePosition(0) -
+			rectangle.vertex(1).getDoublePosition(0), rectangle.vertex(2)
+				.getDoublePosition(1) - rectangle.vertex(1).getDoublePosition(1));
+		assertEquals(width * height, calipers.smallestEnclosingRectangleArea(),
+			1e-8, "smallestEnclosingRectangleArea");
+	}
+
 	@Test
 	public void minorAxis() {
 		// Fitting ellipse is a to polygon adapted version of a pixel-based
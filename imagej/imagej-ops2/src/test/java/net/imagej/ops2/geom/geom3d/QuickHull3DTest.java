@@ -171,6 +171,23 @@ public class QuickHull3DTest extends AbstractOpTest {
 		assertConvex(convexHull, epsilon);
 	}
 
+	@Test
+	public void quickhull_lattice_Test() {
+		// lattice points with duplicates: every hull facet is coplanar with others
+		final Random r = new Random(20150818);
+		final Mesh df = new NaiveDoubleMesh();
+		for (int i = 0; i < 3000; i++) {
+			df.vertices().add(r.nextInt(5), r.nextInt(5), r.nextInt(5));
+		}
+
+		final Mesh convexHull = ops.op("geom.convexHull").arity1().input(df).outType(Mesh.class).apply();
+		final double epsilon = ops.op("geom.convexHullEpsilon").arity1().input(df).outType(double.class).apply();
+		final long vertexCount = convexHull.vertices().size();
+		assertTrue(vertexCount >= 8);
+		assertEquals(2 * vertexCount - 4, convexHull.triangles().size());
+		assertConvex(convexHull, epsilon);
+	}
+
 	/**
 	 * Checks for each centroid of each facet if the centroid is behind all other
 	 * facets.
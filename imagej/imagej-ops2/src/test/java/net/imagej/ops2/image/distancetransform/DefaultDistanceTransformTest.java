@@ -31,10 +31,14 @@ package net.imagej.ops2.image.distancetransform;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import net.imagej.ops2.AbstractOpTest;
+import net.imglib2.Cursor;
 import net.imglib2.FinalInterval;
 import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.real.DoubleType;
 import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.jupiter.api.Test;
@@ -80,6 +84,51 @@ public class DefaultDistanceTransformTest extends AbstractOpTest {
 		compareResults(out, in, calibration);
 	}
 
+	@Test
+	public void testFloatAndDoubleOutputs() {
+		ExecutorService es = threads.getExecutorService();
+
+		// a 5D image with few background pixels, so that many lines have none;
+		// its lines are not a multiple of the blocks along any dimension
+		final Img<BitType> in = ArrayImgs.bits(7, 3, 1, 18, 2);
+		final MersenneTwisterFast random = new MersenneTwisterFast(SEED);
+		for (final BitType b : in)
+			b.set(random.nextDouble() > 0.03);
+		in.firstElement().set(false);
+
+		final double[] calibration = { 1.5, 0.5, 3, 1, 2 };
+		final Img<FloatType> floats = ArrayImgs.floats(7, 3, 1, 18, 2);
+		final Img<DoubleType> doubles = ArrayImgs.doubles(7, 3, 1, 18, 2);
+		ops.op("image.distanceTransform").arity3().input(in, calibration, es)
+			.output(floats).compute();
+		ops.op("image.distanceTransform").arity3().input(in, calibration, es)
+			.output(doubles).compute();
+
+		final Cursor<BitType> c = in.localizingCursor();
+		final Cursor<FloatType> cf = floats.cursor();
+		final Cursor<DoubleType> cd = doubles.cursor();
+		final long[] position = new long[in.numDimensions()];
+		final long[] background = new long[in.numDimensions()];
+		while (c.hasNext()) {
+			c.fwd();
+			c.localize(position);
+			double expected = Double.POSITIVE_INFINITY;
+			final Cursor<BitType> b = in.localizingCursor();
+			while (b.hasNext()) {
+				if (b.next().get()) continue;
+				b.localize(background);
+				double dist = 0;
+				for (int d = 0; d < position.length; d++) {
+					final double delta = calibration[d] * (position[d] - background[d]);
+					dist += delta * delta;
+				}
+				expected = Math.min(expected, dist);
+			}
+			assertEquals(Math.sqrt(expected), cf.next().get(), EPSILON);
+			assertEquals(Math.sqrt(expected), cd.next().get(), EPSILON);
+		}
+	}
+
 	/*
 	 * generate a random BitType image
 	 */
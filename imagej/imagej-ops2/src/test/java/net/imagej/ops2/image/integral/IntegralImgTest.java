@@ -36,6 +36,7 @@ import net.imagej.testutil.TestImgGeneration;
 import net.imglib2.Cursor;
 import net.imglib2.FinalInterval;
 import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
@@ -104,6 +105,33 @@ public class IntegralImgTest extends AbstractOpTest {
 				Views.iterable(Views.offsetInterval(out2, interval)));
 	}
 
+	/**
+	 * @see CellIntegralImg
+	 */
+	@Test
+	public void testCellIntegralImageSimilarity() {
+		final Img<ByteType> in3D = TestImgGeneration.byteArray(true, new long[] {
+			11, 7, 5 });
+		final RandomAccessibleInterval<DoubleType> expected = TestImgGeneration
+			.doubleArray(false, new long[] { 11, 7, 5 });
+		ops.op("image.integral").arity1().input(in3D).output(expected).compute();
+
+		// the last value is the sum over the whole image
+		double sum = 0;
+		for (final ByteType b : in3D)
+			sum += b.getRealDouble();
+		final RandomAccess<DoubleType> ra = expected.randomAccess();
+		ra.setPosition(new long[] { 10, 6, 4 });
+		assertEquals(sum, ra.get().getRealDouble(), 0d);
+
+		final RandomAccessibleInterval<DoubleType> cells = ops.op("image.integral")
+			.arity2().input(in3D, new int[] { 4, 3, 2 }).outType(
+				new Nil<RandomAccessibleInterval<DoubleType>>()
+				{}).apply();
+		testIterableIntervalSimilarity(Views.flatIterable(expected), Views
+			.flatIterable(cells));
+	}
+
 	public ArrayImg<ByteType, ByteArray> generateKnownByteArrayTestImgLarge() {
 		final long[] dims = new long[] { 3, 3 };
 		final byte[] array = new byte[9];
@@ -30,6 +30,7 @@ package net.imagej.ops2.image.watershed;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -52,6 +53,7 @@ import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.roi.labeling.LabelingType;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
 import net.imglib2.type.numeric.real.FloatType;
 
 /**
@@ -96,6 +98,125 @@ public class WatershedSeededTest extends AbstractOpTest {
 		testWithMask(input, labeledSeeds);
 	}
 
+	@Test
+	public void testBucketQueue() {
+		long[] dims = { 15, 30 };
+		// few grey levels, so that many voxels are flooded at the same level
+		Img<UnsignedByteType> input = ArrayImgs.unsignedBytes(dims);
+		MersenneTwisterFast random = new MersenneTwisterFast(SEED);
+		for (UnsignedByteType b : input) {
+			b.set(random.nextInt(8));
+		}
+
+		// create 3 seeds
+		ImgLabeling<Integer, IntType> seeds = new ImgLabeling<>(ArrayImgs.ints(dims));
+		RandomAccess<LabelingType<Integer>> raSeeds = seeds.randomAccess();
+		int label = 0;
+		for (int[] pos : new int[][] { { 0, 0 }, { 4, 6 }, { 10, 20 } }) {
+			raSeeds.setPosition(pos);
+			raSeeds.get().add(label++);
+		}
+
+		// mask with two components, one containing the first two seeds
+		Img<BitType> mask = ArrayImgs.bits(dims);
+		RandomAccess<BitType> raMask = mask.randomAccess();
+		for (int x = 0; x < 15; x++) {
+			for (int y = 0; y < 30; y++) {
+				raMask.setPosition(new int[] { x, y });
+				raMask.get().set(y != 15);
+			}
+		}
+
+		assertSameAsWatershedSeeded(input, seeds, mask);
+	}
+
+	@Test
+	public void testBucketQueueTies() {
+		long[] dims = { 15, 30 };
+		Img<UnsignedByteType> input = ArrayImgs.unsignedBytes(dims);
+		MersenneTwisterFast random = new MersenneTwisterFast(SEED);
+		for (UnsignedByteType b : input) {
+			b.set(random.nextInt(8));
+		}
+
+		// 18 seed labels; 1 and 17 share a bucket of a HashMap of capacity 16
+		ImgLabeling<Integer, IntType> seeds = new ImgLabeling<>(ArrayImgs.ints(dims));
+		RandomAccess<LabelingType<Integer>> raSeeds = seeds.randomAccess();
+		// seeds around { 6, 6 }, in raster order: its four nearest neighbors
+		// are 17, 1, 17, 1, and its diagonal neighbors 2, 3, 4, 5
+		int[][] ring = { { 5, 5 }, { 6, 5 }, { 7, 5 }, { 5, 6 }, { 7, 6 }, { 5, 7 }, { 6, 7 }, { 7, 7 } };
+		int[] ringLabels = { 2, 17, 3, 1, 17, 4, 1, 5 };
+		for (int i = 0; i < ring.length; i++) {
+			raSeeds.setPosition(ring[i]);
+			raSeeds.get().add(ringLabels[i]);
+		}
+		int label = 6;
+		for (int x = 0; x < 12; x++) {
+			raSeeds.setPosition(new int[] { x, 20 });
+			raSeeds.get().add(x == 0 ? 0 : label++);
+		}
+
+		Img<BitType> mask = ArrayImgs.bits(dims);
+		for (BitType b : mask) {
+			b.setOne();
+		}
+
+		// 17 and 1 tie, and 17 enters the shared bucket first
+		for (boolean eightConnected : new boolean[] { true, false }) {
+			ImgLabeling<Integer, IntType> out = new ImgLabeling<>(ArrayImgs.ints(dims));
+			ops.op("image.watershed").arity5().input(input, seeds, eightConnected, false, mask).output(out)
+					.compute();
+			RandomAccess<LabelingType<Integer>> raOut = out.randomAccess();
+			raOut.setPosition(new int[] { 6, 6 });
+			assertEquals(Collections.singleton(17), new HashSet<>(raOut.get()));
+		}
+
+		assertSameAsWatershedSeeded(input, seeds, mask);
+	}
+
+	/**
+	 * Asserts that the sequential and parallel bucket-queue watersheds both
+	 * label like {@link WatershedSeeded}, for all connectivities and with and
+	 * without watersheds.
+	 */
+	private void assertSameAsWatershedSeeded(final Img<UnsignedByteType> input,
+			final ImgLabeling<Integer, IntType> seeds, final Img<BitType> mask) {
+		long[] dims = new long[input.numDimensions()];
+		input.dimensions(dims);
+		for (boolean eightConnected : new boolean[] { true, false }) {
+			for (boolean drawWatersheds : new boolean[] { true, false }) {
+				ImgLabeling<Integer, IntType> sequential = new ImgLabeling<>(ArrayImgs.ints(dims));
+				ops.op("image.watershed").arity5().input(input, seeds, eightConnected, drawWatersheds, mask)
+						.output(sequential).compute();
+				ImgLabeling<Integer, IntType> parallel = new ImgLabeling<>(ArrayImgs.ints(dims));
+				ops.op("image.watershed").arity6()
+						.input(input, seeds, eightConnected, drawWatersheds, mask, threads.getExecutorService())
+						.output(parallel).compute();
+
+				assertSameLabels(sequential, parallel);
+
+				// the neighbors are visited in the same order as by the
+				// RectangleShape and DiamondShape of WatershedSeeded, so the
+				// results must be equal
+				ImgLabeling<Integer, IntType> expected = new ImgLabeling<>(ArrayImgs.ints(dims));
+				new WatershedSeeded<UnsignedByteType, BitType>().compute(input, seeds, eightConnected,
+						drawWatersheds, mask, expected);
+				assertSameLabels(expected, sequential);
+			}
+		}
+	}
+
+	private void assertSameLabels(final ImgLabeling<Integer, IntType> expected,
+			final ImgLabeling<Integer, IntType> actual) {
+		final Cursor<LabelingType<Integer>> e = expected.cursor();
+		final RandomAccess<LabelingType<Integer>> a = actual.randomAccess();
+		while (e.hasNext()) {
+			e.fwd();
+			a.setPosition(e);
+			assertEquals(new HashSet<>(e.get()), new HashSet<>(a.get()));
+		}
+	}
+
 	private void testWithoutMask(final RandomAccessibleInterval<FloatType> in,
 			final ImgLabeling<Integer, IntType> seeds) {
 		// create mask which is 1 everywhere
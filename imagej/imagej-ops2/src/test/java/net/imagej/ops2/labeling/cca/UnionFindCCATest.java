@@ -0,0 +1,154 @@
+/*
+ * #%L
+ * ImageJ2 software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2022 ImageJ2 developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops2.labeling.cca;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+
+import net.imagej.ops2.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.algorithm.labeling.ConnectedComponents;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.view.Views;
+
+import org.junit.jupiter.api.Test;
+import org.scijava.types.Nil;
+
+/**
+ * Tests {@link UnionFindCCA}.
+ */
+public class UnionFindCCATest extends AbstractOpTest {
+
+	private Img<BitType> randomMask(final long... dims) {
+		final Img<BitType> mask = ArrayImgs.bits(dims);
+		final Random random = new Random(0xdeadbeef);
+		for (final BitType b : mask)
+			b.set(random.nextDouble() < 0.4);
+		return mask;
+	}
+
+	@Test
+	public void testMatchesConnectedComponents() {
+		final ExecutorService es = threads.getExecutorService();
+		for (final StructuringElement se : StructuringElement.values()) {
+			final Img<BitType> mask = randomMask(37, 23, 11);
+			final ImgLabeling<Integer, IntType> expected = new ImgLabeling<>(ArrayImgs
+				.ints(37, 23, 11));
+			ConnectedComponents.labelAllConnectedComponents(mask, expected,
+				new LabelIterator(), se, es);
+
+			// many more slabs than threads to exercise the border merging
+			final ImgLabeling<Integer, IntType> actual = new ImgLabeling<>(ArrayImgs
+				.ints(37, 23, 11));
+			final CCAResult<IntType> result = UnionFindCCA.label(mask, actual, se, es,
+				7, true);
+
+			// the labelings must agree up to a renumbering of the components
+			final Map<Integer, Integer> mapping = new HashMap<>();
+			final Map<Integer, Long> sizes = new HashMap<>();
+			final Cursor<IntType> e = Views.flatIterable(expected.getIndexImg())
+				.cursor();
+			final Cursor<IntType> a = Views.flatIterable(actual.getIndexImg())
+				.cursor();
+			while (e.hasNext()) {
+				final int expectedIndex = e.next().get();
+				final int actualIndex = a.next().get();
+				assertEquals(expectedIndex == 0, actualIndex == 0);
+				if (actualIndex == 0) continue;
+				assertEquals(mapping.computeIfAbsent(actualIndex, i -> expectedIndex),
+					expectedIndex);
+				sizes.merge(actualIndex, 1L, Long::sum);
+			}
+			assertEquals(mapping.size(), result.numComponents());
+			assertEquals(mapping.size(), mapping.values().stream().distinct()
+				.count());
+			for (int c = 1; c <= result.numComponents(); c++)
+				assertEquals(sizes.get(c).longValue(), result.size(c));
+		}
+	}
+
+	@Test
+	public void testStatisticsOp() {
+		final Img<BitType> mask = ArrayImgs.bits(10, 10);
+		final RandomAccess<BitType> ra = mask.randomAccess();
+		for (final long[] pos : new long[][] { { 1, 1 }, { 2, 1 }, { 2, 2 }, { 7,
+			8 } })
+		{
+			ra.setPosition(pos);
+			ra.get().set(true);
+		}
+		final CCAResult<IntType> result = ops.op("labeling.ccaStatistics").arity3()
+			.input(mask, threads.getExecutorService(),
+				StructuringElement.FOUR_CONNECTED).outType(
+					new Nil<CCAResult<IntType>>()
+					{}).apply();
+
+		assertEquals(2, result.numComponents());
+		assertEquals(3, result.size(1));
+		assertEquals(1, result.min(1, 0));
+		assertEquals(2, result.max(1, 0));
+		assertEquals(2, result.max(1, 1));
+		assertEquals(1, result.size(2));
+		assertEquals(8, result.min(2, 1));
+		final RandomAccess<IntType> indices = result.getLabeling().getIndexImg()
+			.randomAccess();
+		indices.setPosition(new long[] { 0, 0 });
+		assertEquals(0, indices.get().get());
+		indices.setPosition(new long[] { 7, 8 });
+		assertEquals(2, indices.get().get());
+	}
+
+	private static class LabelIterator implements Iterator<Integer> {
+
+		private int i = 0;
+
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		@Override
+		public Integer next() {
+			return i++;
+		}
+	}
+
+}
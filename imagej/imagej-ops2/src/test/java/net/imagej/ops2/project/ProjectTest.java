@@ -31,11 +31,17 @@ package net.imagej.ops2.project;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import net.imagej.ops2.AbstractOpTest;
 import net.imagej.testutil.TestImgGeneration;
+import net.imglib2.Cursor;
 import net.imglib2.RandomAccess;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -87,6 +93,102 @@ public class ProjectTest extends AbstractOpTest {
 		testEquality(out1, out2);
 	}
 
+	@Test
+	public void testStreamingProjections() {
+		// at each x,y,z fill with x+y+z
+		final RandomAccess<UnsignedByteType> randomAccess = in.randomAccess();
+		for (int x = 0; x < 10; x++) {
+			for (int y = 0; y < 10; y++) {
+				for (int z = 0; z < 10; z++) {
+					randomAccess.setPosition(new long[] { x, y, z });
+					randomAccess.get().setReal(x + y + z);
+				}
+			}
+		}
+
+		final Img<DoubleType> max = project(Projection.MAX);
+		final Img<DoubleType> min = project(Projection.MIN);
+		final Img<DoubleType> sum = project(Projection.SUM);
+		final Img<DoubleType> mean = project(Projection.MEAN);
+		final Img<DoubleType> stdDev = project(Projection.STD_DEV);
+		final Img<DoubleType> median = project(Projection.MEDIAN);
+		final RandomAccess<DoubleType> maxRA = max.randomAccess();
+		final RandomAccess<DoubleType> minRA = min.randomAccess();
+		final RandomAccess<DoubleType> sumRA = sum.randomAccess();
+		final RandomAccess<DoubleType> meanRA = mean.randomAccess();
+		final RandomAccess<DoubleType> stdDevRA = stdDev.randomAccess();
+		final RandomAccess<DoubleType> medianRA = median.randomAccess();
+		for (int x = 0; x < 10; x++) {
+			for (int y = 0; y < 10; y++) {
+				final long[] pos = { x, y };
+				maxRA.setPosition(pos);
+				minRA.setPosition(pos);
+				sumRA.setPosition(pos);
+				meanRA.setPosition(pos);
+				stdDevRA.setPosition(pos);
+				medianRA.setPosition(pos);
+				assertEquals(x + y + 9, maxRA.get().get(), 0);
+				assertEquals(x + y, minRA.get().get(), 0);
+				assertEquals(10 * (x + y) + 45, sumRA.get().get(), 0);
+				assertEquals(x + y + 4.5, meanRA.get().get(), 1e-12);
+				assertEquals(Math.sqrt(82.5 / 9), stdDevRA.get().get(), 1e-12);
+				assertEquals(x + y + 4.5, medianRA.get().get(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void testMedianProjections() {
+		// an odd and an even number of samples, both enough for histograms
+		for (final int length : new int[] { 101, 100 }) {
+			final Random random = new Random(length);
+			final Img<UnsignedByteType> bytes = ArrayImgs.unsignedBytes(5, 4,
+				length);
+			final Img<DoubleType> doubles = ArrayImgs.doubles(5, 4, length);
+			final Cursor<UnsignedByteType> bc = bytes.cursor();
+			final Cursor<DoubleType> dc = doubles.cursor();
+			while (bc.hasNext()) {
+				final int value = random.nextInt(256);
+				bc.next().set(value);
+				dc.next().set(value);
+			}
+
+			// unsigned bytes are reduced with histograms, doubles by selection
+			final Img<DoubleType> histogram = ArrayImgs.doubles(5, 4);
+			final Img<DoubleType> selection = ArrayImgs.doubles(5, 4);
+			ops.op("project").arity3().input(bytes, Projection.MEDIAN, 2).output(
+				histogram).compute();
+			ops.op("project").arity3().input(doubles, Projection.MEDIAN, 2).output(
+				selection).compute();
+
+			final RandomAccess<DoubleType> ra = doubles.randomAccess();
+			final Cursor<DoubleType> hc = histogram.localizingCursor();
+			final Cursor<DoubleType> sc = selection.cursor();
+			final double[] samples = new double[length];
+			while (hc.hasNext()) {
+				hc.fwd();
+				ra.setPosition(hc.getIntPosition(0), 0);
+				ra.setPosition(hc.getIntPosition(1), 1);
+				for (int z = 0; z < length; z++) {
+					ra.setPosition(z, 2);
+					samples[z] = ra.get().get();
+				}
+				Arrays.sort(samples);
+				final double expected = 0.5 * (samples[(length - 1) / 2] +
+					samples[length / 2]);
+				assertEquals(expected, hc.get().get(), 0);
+				assertEquals(expected, sc.next().get(), 0);
+			}
+		}
+	}
+
+	private Img<DoubleType> project(final Projection projection) {
+		final Img<DoubleType> out = ArrayImgs.doubles(10, 10);
+		ops.op("project").arity3().input(in, projection, PROJECTION_DIM).output(
+			out).compute();
+		return out;
+	}
+
 	private void testEquality(final Img<UnsignedByteType> img1, final Img<UnsignedByteType> img2) {
 		final RandomAccess<UnsignedByteType> img1RandomAccess = img1.randomAccess();
 		final RandomAccess<UnsignedByteType> img2RandomAccess = img2.randomAccess();
@@ -0,0 +1,76 @@
+package org.scijava.discovery.test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.scijava.discovery.CachingDiscoverer;
+import org.scijava.discovery.Discoverer;
+import org.scijava.discovery.ManualDiscoverer;
+
+public class CachingDiscovererTest {
+
+	@Test
+	public void testDiscoveriesAreMemoized() {
+		AtomicInteger calls = new AtomicInteger();
+		Discoverer counting = new Discoverer() {
+
+			@Override
+			public <U> List<U> discover(Class<U> c) {
+				calls.incrementAndGet();
+				return Collections.emptyList();
+			}
+		};
+		Discoverer cached = counting.cached();
+		List<String> first = cached.discover(String.class);
+		Assertions.assertSame(first, cached.discover(String.class));
+		Assertions.assertEquals(1, calls.get());
+		cached.discover(Integer.class);
+		Assertions.assertEquals(2, calls.get());
+		Assertions.assertSame(cached, cached.cached());
+	}
+
+	@Test
+	public void testRegistrationInvalidates() {
+		ManualDiscoverer manual = new ManualDiscoverer();
+		Discoverer cached = manual.cached();
+		manual.register("foo");
+		Assertions.assertEquals(List.of("foo"), cached.discover(String.class));
+		manual.register("bar");
+		Assertions.assertEquals(2, cached.discover(String.class).size());
+	}
+
+	@Test
+	public void testCachesOfSharedDiscovererAreCollectable()
+		throws ReflectiveOperationException
+	{
+		ManualDiscoverer manual = new ManualDiscoverer();
+		Discoverer cached = manual.cached();
+
+		// the shared discoverer refers to the cache only through a weak listener
+		List<?> listeners = (List<?>) field(ManualDiscoverer.class, "listeners")
+			.get(manual);
+		Assertions.assertEquals(1, listeners.size());
+		WeakReference<?> listener = (WeakReference<?>) listeners.get(0);
+		Assertions.assertSame(field(CachingDiscoverer.class, "invalidator").get(
+			cached), listener.get());
+
+		// registering still works once the cache is gone
+		listener.clear();
+		manual.register("foo");
+		Assertions.assertTrue(listeners.isEmpty());
+		Assertions.assertEquals(List.of("foo"), manual.discover(String.class));
+	}
+
+	private static Field field(Class<?> c, String name)
+		throws NoSuchFieldException
+	{
+		Field f = c.getDeclaredField(name);
+		f.setAccessible(true);
+		return f;
+	}
+}
@@ -5,6 +5,10 @@ module org.scijava.discovery.therapi {
 
 	uses org.scijava.parse2.Parser;
 
+	provides javax.annotation.processing.Processor with
+		org.scijava.discovery.therapi.TaggedElementIndexProcessor;
+
+	requires java.compiler;
 	requires org.scijava.discovery;
 	requires transitive org.scijava.parse2;
 	requires therapi.runtime.javadoc;
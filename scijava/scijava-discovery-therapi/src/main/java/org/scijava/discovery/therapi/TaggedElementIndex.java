@@ -0,0 +1,220 @@
+package org.scijava.discovery.therapi;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary index of the elements carrying {@code @implNote <tagType>}
+ * tags, written at build time by {@link TaggedElementIndexProcessor} and read
+ * by {@link TherapiDiscoverer} instead of scanning for Therapi javadoc.
+ * <p>
+ * The index is a sequence of chunks, each starting with a magic number, so
+ * that indices of several JARs can simply be concatenated when building a fat
+ * JAR. Tag options are stored pre-parsed; options that failed to parse at
+ * build time are stored raw and parsed (and fail) lazily at runtime, just like
+ * scanned tags.
+ * </p>
+ */
+final class TaggedElementIndex {
+
+	/** Location of the index within a JAR or class directory. */
+	static final String RESOURCE = "META-INF/scijava/tagged-elements.idx";
+
+	private static final int MAGIC = 0x53434a54; // "SCJT"
+
+	private static final short VERSION = 1;
+
+	private TaggedElementIndex() {
+		// NB: prevent instantiation of utility class.
+	}
+
+	/** The kind of a tagged element. */
+	enum Kind {
+			CLASS, METHOD, FIELD
+	}
+
+	/** A single tagged element, described by name only. */
+	static final class Entry {
+
+		final String tagType;
+		final Kind kind;
+		final String className;
+		final String memberName;
+		final String[] parameterTypes;
+		final Map<String, String> options;
+		final String rawOptions;
+
+		/**
+		 * @param tagType the type of the tag
+		 * @param kind the kind of the tagged element
+		 * @param className the binary name of the (declaring) class
+		 * @param memberName the name of the method or field, empty for classes
+		 * @param parameterTypes the {@link Class#getName()}s of the erased method
+		 *          parameter types, empty for classes and fields
+		 * @param options the parsed tag options, or {@code null} if the options
+		 *          could not be parsed
+		 * @param rawOptions the unparsed tag body
+		 */
+		Entry(final String tagType, final Kind kind, final String className,
+			final String memberName, final String[] parameterTypes,
+			final Map<String, String> options, final String rawOptions)
+		{
+			this.tagType = tagType;
+			this.kind = kind;
+			this.className = className;
+			this.memberName = memberName;
+			this.parameterTypes = parameterTypes;
+			this.options = options;
+			this.rawOptions = rawOptions;
+		}
+
+		/**
+		 * Loads the element described by this entry.
+		 *
+		 * @param loader the {@link ClassLoader} used to load classes
+		 * @return the {@link Class}, {@link java.lang.reflect.Method} or
+		 *         {@link java.lang.reflect.Field}
+		 * @throws ReflectiveOperationException if the element no longer exists
+		 */
+		AnnotatedElement resolve(final ClassLoader loader)
+			throws ReflectiveOperationException
+		{
+			final Class<?> c = loader.loadClass(className);
+			switch (kind) {
+				case METHOD:
+					final Class<?>[] params = new Class<?>[parameterTypes.length];
+					for (int i = 0; i < params.length; i++)
+						params[i] = load(parameterTypes[i], loader);
+					return c.getDeclaredMethod(memberName, params);
+				case FIELD:
+					return c.getDeclaredField(memberName);
+				default:
+					return c;
+			}
+		}
+
+		/** Returns the top level class name of the declaring class. */
+		String topLevelClassName() {
+			final int dollar = className.indexOf('$', className.lastIndexOf('.') +
+				1);
+			return dollar < 0 ? className : className.substring(0, dollar);
+		}
+	}
+
+	/**
+	 * Writes {@code entries} as one index chunk.
+	 */
+	static void write(final OutputStream out, final Collection<Entry> entries)
+		throws IOException
+	{
+		final DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeShort(VERSION);
+		data.writeInt(entries.size());
+		for (final Entry e : entries) {
+			data.writeUTF(e.tagType);
+			data.writeByte(e.kind.ordinal());
+			data.writeUTF(e.className);
+			data.writeUTF(e.memberName);
+			data.writeShort(e.parameterTypes.length);
+			for (final String p : e.parameterTypes)
+				data.writeUTF(p);
+			data.writeBoolean(e.options != null);
+			if (e.options != null) {
+				data.writeShort(e.options.size());
+				for (final Map.Entry<String, String> o : e.options.entrySet()) {
+					data.writeUTF(o.getKey());
+					data.writeUTF(o.getValue());
+				}
+			}
+			else {
+				data.writeUTF(e.rawOptions);
+			}
+		}
+		data.flush();
+	}
+
+	/**
+	 * Reads all chunks of an index.
+	 *
+	 * @throws IOException if the stream is not a valid index
+	 */
+	static List<Entry> read(final InputStream in) throws IOException {
+		final DataInputStream data = new DataInputStream(in);
+		final List<Entry> entries = new ArrayList<>();
+		while (true) {
+			final int magic;
+			try {
+				magic = data.readInt();
+			}
+			catch (final EOFException e) {
+				return entries;
+			}
+			if (magic != MAGIC) throw new IOException("Not a tagged element index");
+			final short version = data.readShort();
+			if (version != VERSION) throw new IOException(
+				"Unsupported tagged element index version " + version);
+			final int count = data.readInt();
+			for (int i = 0; i < count; i++) {
+				final String tagType = data.readUTF();
+				final Kind kind = Kind.values()[data.readByte()];
+				final String className = data.readUTF();
+				final String memberName = data.readUTF();
+				final String[] params = new String[data.readShort()];
+				for (int p = 0; p < params.length; p++)
+					params[p] = data.readUTF();
+				Map<String, String> options = null;
+				String raw = null;
+				if (data.readBoolean()) {
+					final int n = data.readShort();
+					options = new LinkedHashMap<>(n);
+					for (int o = 0; o < n; o++)
+						options.put(data.readUTF(), data.readUTF());
+					options = Collections.unmodifiableMap(options);
+				}
+				else {
+					raw = data.readUTF();
+				}
+				entries.add(new Entry(tagType, kind, className, memberName, params,
+					options, raw));
+			}
+		}
+	}
+
+	private static Class<?> load(final String name, final ClassLoader loader)
+		throws ClassNotFoundException
+	{
+		switch (name) {
+			case "boolean":
+				return boolean.class;
+			case "byte":
+				return byte.class;
+			case "char":
+				return char.class;
+			case "short":
+				return short.class;
+			case "int":
+				return int.class;
+			case "long":
+				return long.class;
+			case "float":
+				return float.class;
+			case "double":
+				return double.class;
+			default:
+				return Class.forName(name, false, loader);
+		}
+	}
+
+}
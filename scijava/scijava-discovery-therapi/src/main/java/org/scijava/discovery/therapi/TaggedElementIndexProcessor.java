@@ -0,0 +1,255 @@
+package org.scijava.discovery.therapi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.scijava.parse2.Parser;
+
+/**
+ * Annotation processor writing the {@link TaggedElementIndex} of a
+ * compilation unit. Every class, method and field whose javadoc carries an
+ * {@code @implNote <tagType> [options]} tag is recorded, with its options
+ * parsed by the {@link Parser} once, at build time.
+ * <p>
+ * To enable it, add this artifact to the {@code annotationProcessorPaths} of
+ * the {@code maven-compiler-plugin}. Entries of an existing index whose
+ * classes are not recompiled are retained, so incremental builds keep a
+ * complete index.
+ * </p>
+ */
+public class TaggedElementIndexProcessor extends AbstractProcessor {
+
+	private final Map<String, List<TaggedElementIndex.Entry>> entries =
+		new LinkedHashMap<>();
+
+	private Parser parser;
+
+	@Override
+	public synchronized void init(final ProcessingEnvironment env) {
+		super.init(env);
+		final Optional<Parser> optional = ServiceLoader.load(Parser.class,
+			TaggedElementIndexProcessor.class.getClassLoader()).findFirst();
+		if (optional.isEmpty()) {
+			env.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"No Parser available: tagged element index will not be written");
+			return;
+		}
+		parser = optional.get();
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Set.of("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations,
+		final RoundEnvironment roundEnv)
+	{
+		if (parser == null) return false;
+		for (final Element e : roundEnv.getRootElements()) {
+			if (e instanceof TypeElement) {
+				final List<TaggedElementIndex.Entry> list = new ArrayList<>();
+				index((TypeElement) e, list);
+				entries.put(binaryName((TypeElement) e), list);
+			}
+		}
+		if (roundEnv.processingOver()) writeIndex();
+		return false;
+	}
+
+	// -- Helper methods --
+
+	private void index(final TypeElement type,
+		final List<TaggedElementIndex.Entry> list)
+	{
+		final String className = binaryName(type);
+		addTags(type, TaggedElementIndex.Kind.CLASS, className, "", new String[0],
+			list);
+		for (final Element member : type.getEnclosedElements()) {
+			if (member instanceof TypeElement) {
+				index((TypeElement) member, list);
+			}
+			else if (member.getKind() == ElementKind.METHOD) {
+				final List<? extends VariableElement> params =
+					((ExecutableElement) member).getParameters();
+				final String[] paramTypes = new String[params.size()];
+				for (int i = 0; i < paramTypes.length; i++)
+					paramTypes[i] = className(params.get(i).asType());
+				addTags(member, TaggedElementIndex.Kind.METHOD, className, member
+					.getSimpleName().toString(), paramTypes, list);
+			}
+			else if (member.getKind() == ElementKind.FIELD) {
+				addTags(member, TaggedElementIndex.Kind.FIELD, className, member
+					.getSimpleName().toString(), new String[0], list);
+			}
+		}
+	}
+
+	/**
+	 * Records the first {@code @implNote} tag of each tag type on
+	 * {@code element}.
+	 */
+	private void addTags(final Element element,
+		final TaggedElementIndex.Kind kind, final String className,
+		final String memberName, final String[] paramTypes,
+		final List<TaggedElementIndex.Entry> list)
+	{
+		final String doc = processingEnv.getElementUtils().getDocComment(element);
+		if (doc == null) return;
+		final Set<String> tagTypes = new HashSet<>();
+		for (final String tag : implNotes(doc)) {
+			final int space = indexOfWhitespace(tag);
+			final String tagType = space < 0 ? tag : tag.substring(0, space);
+			if (tagType.isEmpty() || !tagTypes.add(tagType)) continue;
+			final String body = space < 0 ? "" : tag.substring(space).replaceAll(
+				"\\s+", "");
+			Map<String, String> options;
+			try {
+				options = new LinkedHashMap<>();
+				for (final Map.Entry<String, ?> o : parser.parse(body, false).asMap()
+					.entrySet())
+				{
+					if (o.getValue() != null) options.put(o.getKey(), o.getValue()
+						.toString());
+				}
+			}
+			catch (final IllegalArgumentException exc) {
+				// NB: reported lazily at runtime, as for scanned tags
+				options = null;
+			}
+			list.add(new TaggedElementIndex.Entry(tagType, kind, className,
+				memberName, paramTypes, options, body));
+		}
+	}
+
+	/** Extracts the text of all {@code @implNote} block tags. */
+	private static List<String> implNotes(final String doc) {
+		final List<String> tags = new ArrayList<>();
+		StringBuilder current = null;
+		for (final String line : doc.split("\n")) {
+			final String trimmed = line.trim();
+			if (trimmed.startsWith("@")) {
+				if (current != null) tags.add(current.toString().trim());
+				current = trimmed.startsWith("@implNote") ? new StringBuilder(trimmed
+					.substring("@implNote".length())) : null;
+			}
+			else if (current != null) {
+				current.append(' ').append(trimmed);
+			}
+		}
+		if (current != null) tags.add(current.toString().trim());
+		return tags;
+	}
+
+	private static int indexOfWhitespace(final String s) {
+		for (int i = 0; i < s.length(); i++)
+			if (Character.isWhitespace(s.charAt(i))) return i;
+		return -1;
+	}
+
+	private String binaryName(final TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	/** Gets the {@link Class#getName()} of the erasure of {@code type}. */
+	private String className(final TypeMirror type) {
+		final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		if (erased.getKind().isPrimitive()) return erased.getKind().name()
+			.toLowerCase();
+		if (erased.getKind() == TypeKind.ARRAY) return "[" + descriptor(
+			((ArrayType) erased).getComponentType());
+		return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+	}
+
+	private String descriptor(final TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return "Z";
+			case BYTE:
+				return "B";
+			case CHAR:
+				return "C";
+			case SHORT:
+				return "S";
+			case INT:
+				return "I";
+			case LONG:
+				return "J";
+			case FLOAT:
+				return "F";
+			case DOUBLE:
+				return "D";
+			case ARRAY:
+				return "[" + descriptor(((ArrayType) type).getComponentType());
+			default:
+				return "L" + className(type) + ";";
+		}
+	}
+
+	/**
+	 * Writes the index, keeping the entries of a previous index for classes
+	 * that were not part of this compilation.
+	 */
+	private void writeIndex() {
+		final Filer filer = processingEnv.getFiler();
+		final List<TaggedElementIndex.Entry> all = new ArrayList<>();
+		try {
+			final FileObject old = filer.getResource(StandardLocation.CLASS_OUTPUT,
+				"", TaggedElementIndex.RESOURCE);
+			try (InputStream in = old.openInputStream()) {
+				for (final TaggedElementIndex.Entry e : TaggedElementIndex.read(in))
+					if (!entries.containsKey(e.topLevelClassName())) all.add(e);
+			}
+		}
+		catch (final IOException | IllegalArgumentException exc) {
+			// NB: no previous index
+		}
+		entries.values().forEach(all::addAll);
+		if (all.isEmpty()) return;
+		try {
+			final FileObject index = filer.createResource(
+				StandardLocation.CLASS_OUTPUT, "", TaggedElementIndex.RESOURCE);
+			try (OutputStream out = index.openOutputStream()) {
+				TaggedElementIndex.write(out, all);
+			}
+		}
+		catch (final IOException exc) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"Could not write tagged element index: " + exc.getMessage());
+		}
+	}
+
+}
@@ -1,8 +1,12 @@
 
 package org.scijava.discovery.therapi;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -150,13 +154,81 @@ public abstract class TherapiDiscoverer implements Discoverer {
 		// combine class and module path resources into a single list
 		List<String> paths = classAndModulePathResources();
 
-		// for each path element, find the list of classes along that path with recorded
-		// javadoc
-		List<Class<?>> classesWithJavadoc = javadocClasses(paths);
+		// read the prebuilt index of each path element, where there is one
+		List<TaggedElement> elements = new ArrayList<>();
+		List<String> unindexed = new ArrayList<>();
+		for (String p : paths) {
+			Optional<List<TaggedElementIndex.Entry>> index = readIndex(p);
+			if (index.isPresent())
+				elements.addAll(elementsFromIndex(index.get(), tagType));
+			else
+				unindexed.add(p);
+		}
+		if (unindexed.isEmpty())
+			return elements;
+
+		// for each remaining path element, find the list of classes along that path
+		// with recorded javadoc
+		List<Class<?>> classesWithJavadoc = javadocClasses(unindexed);
 
-		return classesWithJavadoc.parallelStream() //
+		elements.addAll(classesWithJavadoc.parallelStream() //
 				.flatMap(c -> TherapiDiscoveryUtils.taggedElementsFrom(c, tagType, parser).stream()) //
-				.collect(Collectors.toList());
+				.collect(Collectors.toList()));
+		return elements;
+	}
+
+	/**
+	 * Reads the {@link TaggedElementIndex} of a class path element
+	 * 
+	 * @param path a directory or jar on the class or module path
+	 * @return the index entries, or {@link Optional#empty()} if {@code path} has
+	 *         no (readable) index and must be scanned
+	 */
+	private static Optional<List<TaggedElementIndex.Entry>> readIndex(String path) {
+		final File file = new File(path);
+		try {
+			if (file.isDirectory()) {
+				File index = new File(file, TaggedElementIndex.RESOURCE);
+				if (!index.isFile())
+					return Optional.empty();
+				try (InputStream in = new BufferedInputStream(new FileInputStream(index))) {
+					return Optional.of(TaggedElementIndex.read(in));
+				}
+			}
+			if (!path.endsWith(".jar"))
+				return Optional.empty();
+			try (JarFile jarFile = new JarFile(file)) {
+				JarEntry entry = jarFile.getJarEntry(TaggedElementIndex.RESOURCE);
+				if (entry == null)
+					return Optional.empty();
+				try (InputStream in = new BufferedInputStream(jarFile.getInputStream(entry))) {
+					return Optional.of(TaggedElementIndex.read(in));
+				}
+			}
+		} catch (IOException exc) {
+			return Optional.empty();
+		}
+	}
+
+	private List<TaggedElement> elementsFromIndex(List<TaggedElementIndex.Entry> index, String tagType) {
+		ClassLoader loader = getClassLoader();
+		List<TaggedElement> elements = new ArrayList<>();
+		for (TaggedElementIndex.Entry e : index) {
+			if (!e.tagType.equals(tagType))
+				continue;
+			AnnotatedElement element;
+			try {
+				element = e.resolve(loader);
+			} catch (ReflectiveOperationException | LinkageError exc) {
+				// stale or unloadable entry
+				continue;
+			}
+			if (e.options != null)
+				elements.add(new TaggedElement(element, tagType, e.options));
+			else
+				elements.add(new TaggedElement(element, tagType, () -> parser.parse(e.rawOptions, false).asMap()));
+		}
+		return elements;
 	}
 
 	private List<Class<?>> javadocClasses(List<String> paths) {
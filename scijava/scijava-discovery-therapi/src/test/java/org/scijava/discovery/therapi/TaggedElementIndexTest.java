@@ -0,0 +1,124 @@
+package org.scijava.discovery.therapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+public class TaggedElementIndexTest {
+
+	@Test
+	public void roundTrip() throws IOException, ReflectiveOperationException {
+		TaggedElementIndex.Entry method = new TaggedElementIndex.Entry("test",
+			TaggedElementIndex.Kind.METHOD, getClass().getName(), "indexed",
+			new String[] { "int", "[Ljava.lang.String;" }, Map.of("names", "a.b"),
+			"names='a.b'");
+		TaggedElementIndex.Entry field = new TaggedElementIndex.Entry("test",
+			TaggedElementIndex.Kind.FIELD, getClass().getName(), "indexedField",
+			new String[0], null, "forgotten'comma");
+
+		// concatenated chunks, as in a fat JAR
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TaggedElementIndex.write(out, List.of(method));
+		TaggedElementIndex.write(out, List.of(field));
+		List<TaggedElementIndex.Entry> entries = TaggedElementIndex.read(
+			new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(2, entries.size());
+		assertEquals("a.b", entries.get(0).options.get("names"));
+		assertEquals(getClass().getDeclaredMethod("indexed", int.class,
+			String[].class), entries.get(0).resolve(getClass().getClassLoader()));
+		assertNull(entries.get(1).options);
+		assertEquals("forgotten'comma", entries.get(1).rawOptions);
+		assertEquals(getClass().getDeclaredField("indexedField"), entries.get(1)
+			.resolve(getClass().getClassLoader()));
+	}
+
+	@Test
+	public void processor() throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Path output = Files.createTempDirectory("tagged-element-index");
+		String source = "package p;\n" + //
+			"/**\n" + //
+			" * @implNote op names='x.y, x.z',\n" + //
+			" *   priority='100.'\n" + //
+			" * @author nobody\n" + //
+			" */\n" + //
+			"public class Indexed {\n" + //
+			"\t/** @implNote op names='m', type='java.util.function.Function' */\n" + //
+			"\tpublic static double m(java.util.List<String>[] l, long y) { return 0; }\n" + //
+			"\t/** @implNote other key='v' */\n" + //
+			"\tpublic final Runnable f = () -> {};\n" + //
+			"}\n";
+		JavaFileObject file = new SimpleJavaFileObject(URI.create(
+			"string:///p/Indexed.java"), JavaFileObject.Kind.SOURCE)
+		{
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(null,
+			null, null))
+		{
+			files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output
+				.toFile()));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, files, null,
+				List.of("-proc:only"), null, List.of(file));
+			task.setProcessors(List.of(new TaggedElementIndexProcessor()));
+			assertTrue(task.call());
+		}
+
+		List<TaggedElementIndex.Entry> entries;
+		try (InputStream in = Files.newInputStream(output.resolve(
+			TaggedElementIndex.RESOURCE)))
+		{
+			entries = TaggedElementIndex.read(in);
+		}
+		assertEquals(3, entries.size());
+		Map<String, TaggedElementIndex.Entry> byMember = entries.stream() //
+			.collect(Collectors.toMap(e -> e.memberName, e -> e));
+
+		TaggedElementIndex.Entry cls = byMember.get("");
+		assertEquals("op", cls.tagType);
+		assertEquals("p.Indexed", cls.className);
+		assertEquals("100.", cls.options.get("priority"));
+
+		TaggedElementIndex.Entry method = byMember.get("m");
+		assertEquals(TaggedElementIndex.Kind.METHOD, method.kind);
+		assertEquals("[Ljava.util.List;", method.parameterTypes[0]);
+		assertEquals("long", method.parameterTypes[1]);
+		assertEquals("java.util.function.Function", method.options.get("type"));
+
+		TaggedElementIndex.Entry field = byMember.get("f");
+		assertEquals("other", field.tagType);
+		assertEquals("v", field.options.get("key"));
+	}
+
+	@SuppressWarnings("unused")
+	private void indexed(int i, String[] s) {}
+
+	@SuppressWarnings("unused")
+	private final Object indexedField = null;
+
+}
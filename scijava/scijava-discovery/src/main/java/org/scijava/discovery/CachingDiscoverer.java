@@ -0,0 +1,93 @@
+package org.scijava.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A {@link Discoverer} that memoizes the discoveries of another
+ * {@link Discoverer}. The implementations of each {@link Class} are computed
+ * once, even when requested concurrently, and returned as an unmodifiable
+ * {@link List} thereafter.
+ * <p>
+ * Cached discoveries can be dropped using {@link #invalidate()}. A wrapped
+ * {@link ManualDiscoverer} invalidates the cache whenever new implementations
+ * are registered.
+ * </p>
+ */
+public class CachingDiscoverer implements Discoverer {
+
+	private final Discoverer delegate;
+
+	private final ConcurrentMap<Class<?>, FutureTask<List<?>>> cache =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * Invalidates this cache. Held here, as a {@link ManualDiscoverer} holds
+	 * its callbacks only weakly.
+	 */
+	private final Runnable invalidator = this::invalidate;
+
+	public CachingDiscoverer(final Discoverer delegate) {
+		this.delegate = delegate;
+		if (delegate instanceof ManualDiscoverer) //
+			((ManualDiscoverer) delegate).onRegister(invalidator);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <U> List<U> discover(final Class<U> c) {
+		FutureTask<List<?>> task = cache.get(c);
+		if (task == null) {
+			final FutureTask<List<?>> created = new FutureTask<>( //
+				() -> Collections.unmodifiableList(new ArrayList<>(delegate.discover(
+					c))));
+			task = cache.putIfAbsent(c, created);
+			if (task == null) {
+				task = created;
+				created.run();
+			}
+		}
+		try {
+			return (List<U>) task.get();
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while discovering " + c, e);
+		}
+		catch (final ExecutionException e) {
+			// do not cache failures
+			cache.remove(c, task);
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Drops all cached discoveries.
+	 */
+	public void invalidate() {
+		cache.clear();
+	}
+
+	/**
+	 * Drops the cached implementations of {@code c}.
+	 *
+	 * @param c the {@link Class} whose implementations should be rediscovered
+	 */
+	public void invalidate(final Class<?> c) {
+		cache.remove(c);
+	}
+
+	@Override
+	public Discoverer cached() {
+		return this;
+	}
+
+}
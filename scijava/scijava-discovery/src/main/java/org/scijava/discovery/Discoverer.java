@@ -74,6 +74,9 @@ public interface Discoverer {
 	 * It is <b>highly</b> recommended to call this method using {@code
 	 *   List<Discoverer> discoverers = Discoverers.all(ServiceLoader::load);
 	 * }
+	 * <p>
+	 * The returned {@link Discoverer}s are {@link #cached()}, such that each is
+	 * asked for the implementations of a given {@link Class} only once.
 	 * 
 	 * @param func A callbacks used to get the module scope of the caller. Through
 	 *             {@code func}, the {@link ServiceLoader}-based {@link Discoverer}
@@ -99,8 +102,10 @@ public interface Discoverer {
 
 		// append the general purpose discoverer to the discovered Discoverers, and
 		// return that.
-		List<Discoverer> discoverers = new ArrayList<>(allProvided);
-		discoverers.add(d);
+		List<Discoverer> discoverers = new ArrayList<>(allProvided.size() + 1);
+		for (Discoverer provided : allProvided)
+			discoverers.add(provided.cached());
+		discoverers.add(d.cached());
 		return discoverers;
 	}
 
@@ -119,8 +124,6 @@ public interface Discoverer {
 						.stream(discoverers.spliterator(), true) //
 						.flatMap(d ->  {
 							try {
-								List<U> discoveries;
-								discoveries = d.discover(c);
 								return d.discover(c).stream();
 							} catch(ClassCastException e) {
 								return Stream.empty();
@@ -131,6 +134,17 @@ public interface Discoverer {
 		};
 	}
 
+	/**
+	 * Wraps up this {@code Discoverer} into a {@link Discoverer} that memoizes
+	 * the implementations of each {@link Class}.
+	 *
+	 * @return the wrapping
+	 * @see CachingDiscoverer
+	 */
+	default Discoverer cached() {
+		return new CachingDiscoverer(this);
+	}
+
 	/**
 	 * Wraps up this {@code Discoverer} into a {@link Discoverer} that <b>only</b> discoverers
 	 * classes {@code classes}
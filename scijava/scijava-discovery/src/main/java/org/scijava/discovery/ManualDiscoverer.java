@@ -1,9 +1,11 @@
 
 package org.scijava.discovery;
 
-import java.util.HashSet;
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -19,8 +21,14 @@ public class ManualDiscoverer implements Discoverer {
 	 */
 	Set<Object> set;
 
+	/**
+	 * Callbacks notified of new registrations, held weakly
+	 */
+	private final List<WeakReference<Runnable>> listeners =
+		new CopyOnWriteArrayList<>();
+
 	public ManualDiscoverer() {
-		set = new HashSet<>();
+		set = ConcurrentHashMap.newKeySet();
 	}
 
 	public void register(Object[]... objects) {
@@ -29,12 +37,39 @@ public class ManualDiscoverer implements Discoverer {
 				set.add(o);
 			}
 		}
+		registered();
 	}
 
 	public void register(Object... objects) {
 		for (Object o : objects) {
 			set.add(o);
 		}
+		registered();
+	}
+
+	/**
+	 * Adds a callback, run after each call to {@code register}. Used by
+	 * {@link CachingDiscoverer} to invalidate its discoveries.
+	 * <p>
+	 * NB the callback is held weakly, such that registering does not keep its
+	 * owner (e.g. an environment built over a shared {@link ManualDiscoverer})
+	 * reachable. The caller must thus hold a strong reference to the callback
+	 * for as long as it should be notified.
+	 * </p>
+	 *
+	 * @param listener the callback
+	 */
+	public void onRegister(Runnable listener) {
+		listeners.removeIf(ref -> ref.get() == null);
+		listeners.add(new WeakReference<>(listener));
+	}
+
+	private void registered() {
+		for (WeakReference<Runnable> ref : listeners) {
+			final Runnable listener = ref.get();
+			if (listener == null) listeners.remove(ref);
+			else listener.run();
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,164 @@
+/*
+ * #%L
+ * SciJava Common shared library for SciJava software.
+ * %%
+ * Copyright (C) 2009 - 2021 SciJava developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package org.scijava.log2;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link LoggerFactory} handing messages off to a
+ * background thread.
+ * <p>
+ * Logging threads only add messages to a lock-free {@link LogRingBuffer}; a
+ * single daemon thread, started with the first message, formats them and
+ * passes them on to the destination, by default the standard streams as in
+ * {@link StderrLoggerFactory}. Thus, logging threads neither format messages
+ * nor contend on the console streams. If the buffer is full, logging threads
+ * wait for room rather than drop messages.
+ * </p>
+ * <p>
+ * Pending messages are written when the JVM shuts down, or when calling
+ * {@link #flush()}.
+ * </p>
+ *
+ * @see StderrLoggerFactory
+ */
+@IgnoreAsCallingClass
+public class AsyncLoggerFactory extends AbstractLoggerFactory {
+
+	/** Default number of messages buffered before logging threads wait. */
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	private final LogListener destination;
+
+	private final LogRingBuffer buffer;
+
+	private volatile Thread writer;
+
+	/** Whether the writer is (about to be) parked, waiting for messages. */
+	private volatile boolean idle;
+
+	/** Number of messages passed on to the destination by the writer. */
+	private volatile long written;
+
+	public AsyncLoggerFactory() {
+		this(level -> (level <= LogLevel.WARN) ? System.err : System.out);
+	}
+
+	public AsyncLoggerFactory(final Function<Integer, PrintStream> levelToStream) {
+		this(message -> levelToStream.apply(message.level()).print(message),
+			DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param destination the {@link LogListener} receiving all messages, on the
+	 *          background thread
+	 * @param capacity the number of messages buffered before logging threads
+	 *          wait
+	 */
+	public AsyncLoggerFactory(final LogListener destination, final int capacity) {
+		this.destination = destination;
+		this.buffer = new LogRingBuffer(capacity);
+	}
+
+	/**
+	 * Waits until all messages logged so far have been passed on to the
+	 * destination.
+	 */
+	public void flush() {
+		final long target = buffer.offered();
+		final Thread t = writer;
+		if (t == null || t == Thread.currentThread()) return;
+		while (written < target && t.isAlive()) {
+			LockSupport.unpark(t);
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+		}
+	}
+
+	@Override
+	protected void messageLogged(final LogMessage message) {
+		final Thread t = writer != null ? writer : startWriter();
+		while (!buffer.offer(message)) {
+			// NB: buffer is full, let the writer catch up
+			LockSupport.unpark(t);
+			Thread.yield();
+		}
+		if (idle) LockSupport.unpark(t);
+	}
+
+	// -- Helper methods --
+
+	private synchronized Thread startWriter() {
+		if (writer != null) return writer;
+		final Thread t = new Thread(this::drain, "scijava-log2-async");
+		t.setDaemon(true);
+		writer = t;
+		t.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush,
+			"scijava-log2-async-flush"));
+		return t;
+	}
+
+	/** Body of the writer thread. */
+	private void drain() {
+		while (true) {
+			final LogMessage message = buffer.poll();
+			if (message != null) {
+				write(message);
+				continue;
+			}
+			idle = true;
+			// NB: recheck, in case a message arrived before idle was visible
+			final LogMessage late = buffer.poll();
+			if (late != null) {
+				idle = false;
+				write(late);
+				continue;
+			}
+			// NB: producers unpark the writer when they see it idle
+			LockSupport.park(this);
+			idle = false;
+		}
+	}
+
+	private void write(final LogMessage message) {
+		try {
+			destination.messageLogged(message);
+		}
+		catch (final RuntimeException exc) {
+			// NB: the writer thread must survive a misbehaving destination
+			exc.printStackTrace();
+		}
+		written++;
+	}
+
+}
@@ -29,6 +29,8 @@
 
 package org.scijava.log2;
 
+import java.util.Iterator;
+
 /**
  * Utility class for getting the calling class of a method.
  *
@@ -38,6 +40,19 @@ package org.scijava.log2;
 @IgnoreAsCallingClass
 public final class CallingClassUtils {
 
+	/** Walks the stack lazily, without materializing a stack trace. */
+	private static final StackWalker WALKER = StackWalker.getInstance(
+		StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+	/** Caches whether each class is annotated with @IgnoreAsCallingClass. */
+	private static final ClassValue<Boolean> IGNORED = new ClassValue<>() {
+
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+			return type.isAnnotationPresent(IgnoreAsCallingClass.class);
+		}
+	};
+
 	private CallingClassUtils() {
 		// prevent instantiation of utility class
 	}
@@ -50,37 +65,16 @@ public final class CallingClassUtils {
 	 * root of the stack trace is returned.
 	 */
 	public static String getCallingClassName() {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-		for (int i = 1; i < stackTrace.length - 2; i++) {
-			String className = stackTrace[i].getClassName();
-			if (!hasIgnoreAsCallingClassAnnotation(className)) return className;
-		}
-		return stackTrace[stackTrace.length - 1].getClassName();
-	}
-
-	private static boolean hasIgnoreAsCallingClassAnnotation(String className) {
-		try {
-			Class< ? > clazz = getClassLoader().loadClass(className);
-			return clazz.isAnnotationPresent(IgnoreAsCallingClass.class);
-		}
-		catch (ClassNotFoundException ignore) {
-			return false;
-		}
-	}
-
-	/**
-	 * Gets the class loader to use. This will be the current thread's context
-	 * class loader if non-null; otherwise it will be the system class loader.
-	 * <p>
-	 * Forked from SciJava Common's Context class.
-	 *
-	 * @see Thread#getContextClassLoader()
-	 * @see ClassLoader#getSystemClassLoader()
-	 */
-	private static ClassLoader getClassLoader() {
-		final ClassLoader contextCL = Thread.currentThread()
-				.getContextClassLoader();
-		return contextCL != null ? contextCL : ClassLoader.getSystemClassLoader();
+		return WALKER.walk(frames -> {
+			Class<?> last = CallingClassUtils.class;
+			for (final Iterator<StackWalker.StackFrame> i = frames.iterator(); i
+				.hasNext();)
+			{
+				last = i.next().getDeclaringClass();
+				if (!IGNORED.get(last)) return last.getName();
+			}
+			return last.getName();
+		});
 	}
 
 	/**
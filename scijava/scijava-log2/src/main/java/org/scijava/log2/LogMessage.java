@@ -52,9 +52,13 @@ public class LogMessage {
 
 	private final LogSource source;
 	private final int level;
-	private final String message;
+	/** A message formatted when first accessed, if any. */
+	private final SuppliedMessage supplied;
 	private final Throwable throwable;
-	private final Date time;
+	private final long timestamp;
+
+	/** The formatted message. */
+	private volatile String text;
 
 	private Collection<Object> attachments;
 
@@ -64,9 +68,17 @@ public class LogMessage {
 		this.source = source;
 		this.attachments = null;
 		this.level = level;
-		this.message = message == null ? null : message.toString();
+		// NB: only supplied messages are formatted later, as other message
+		// objects may change, or not be thread-safe
+		if (message instanceof SuppliedMessage) {
+			this.supplied = (SuppliedMessage) message;
+		}
+		else {
+			this.supplied = null;
+			this.text = message == null ? null : message.toString();
+		}
 		this.throwable = throwable;
-		this.time = new Date();
+		this.timestamp = System.currentTimeMillis();
 	}
 
 	public LogMessage(LogSource source, int level, Object msg) {
@@ -87,9 +99,22 @@ public class LogMessage {
 		return level;
 	}
 
-	/** The content of this log message. */
+	/**
+	 * The content of this log message.
+	 * <p>
+	 * NB: A message logged as a {@link java.util.function.Supplier} is formatted
+	 * lazily, on the first call to this method, which may happen on a different
+	 * thread than the one that logged it (e.g. when logging through an
+	 * {@link AsyncLoggerFactory}). Other messages are formatted when logged.
+	 * </p>
+	 */
 	public String text() {
-		return message;
+		String result = text;
+		if (result == null && supplied != null) {
+			result = supplied.toString();
+			text = result;
+		}
+		return result;
 	}
 
 	/** Exception associated with the log message. */
@@ -99,7 +124,14 @@ public class LogMessage {
 
 	/** Time of the creation of the log message. */
 	public Date time() {
-		return time;
+		return new Date(timestamp);
+	}
+
+	/**
+	 * Time of the creation of the log message, in milliseconds since the epoch.
+	 */
+	public long timestamp() {
+		return timestamp;
 	}
 
 	/**
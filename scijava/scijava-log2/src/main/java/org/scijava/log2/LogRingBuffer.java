@@ -0,0 +1,118 @@
+/*
+ * #%L
+ * SciJava Common shared library for SciJava software.
+ * %%
+ * Copyright (C) 2009 - 2021 SciJava developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package org.scijava.log2;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer of {@link LogMessage}s, filled by any
+ * number of threads and drained by a single one.
+ * <p>
+ * Each slot carries a sequence number telling whether it is free for the
+ * producer claiming position {@code p} (sequence {@code p}) or holds the
+ * message for position {@code p} (sequence {@code p + 1}).
+ * </p>
+ *
+ * @see AsyncLoggerFactory
+ */
+final class LogRingBuffer {
+
+	private final int mask;
+
+	private final AtomicReferenceArray<LogMessage> slots;
+
+	private final AtomicLongArray sequences;
+
+	/** The next position to be claimed by a producer. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** The next position to be consumed; accessed by the consumer only. */
+	private long head;
+
+	/**
+	 * @param capacity the minimum capacity, rounded up to a power of two
+	 */
+	LogRingBuffer(final int capacity) {
+		final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		mask = size - 1;
+		slots = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++)
+			sequences.set(i, i);
+	}
+
+	/**
+	 * Adds a message, unless the buffer is full.
+	 *
+	 * @return false iff the buffer is full
+	 */
+	boolean offer(final LogMessage message) {
+		while (true) {
+			final long pos = tail.get();
+			final int index = (int) pos & mask;
+			final long diff = sequences.get(index) - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					slots.lazySet(index, message);
+					sequences.set(index, pos + 1);
+					return true;
+				}
+			}
+			else if (diff < 0) {
+				return false;
+			}
+			// NB: another producer claimed pos, retry
+		}
+	}
+
+	/**
+	 * Removes the oldest message. Must only be called by the consumer thread.
+	 *
+	 * @return the message, or null if none is ready
+	 */
+	LogMessage poll() {
+		final long pos = head;
+		final int index = (int) pos & mask;
+		if (sequences.get(index) != pos + 1) return null;
+		final LogMessage message = slots.get(index);
+		slots.lazySet(index, null);
+		sequences.lazySet(index, pos + mask + 1);
+		head = pos + 1;
+		return message;
+	}
+
+	/** Gets the number of messages offered so far. */
+	long offered() {
+		return tail.get();
+	}
+
+}
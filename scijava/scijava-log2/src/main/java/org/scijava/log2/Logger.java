@@ -35,6 +35,8 @@ import static org.scijava.log2.LogLevel.INFO;
 import static org.scijava.log2.LogLevel.TRACE;
 import static org.scijava.log2.LogLevel.WARN;
 
+import java.util.function.Supplier;
+
 /**
  * Interface for objects which can produce log messages.
  * <p>
@@ -60,6 +62,10 @@ public interface Logger {
 		log(DEBUG, msg, t);
 	}
 
+	default void debug(final Supplier<?> msg) {
+		log(DEBUG, msg);
+	}
+
 	default void error(final Object msg) {
 		log(ERROR, msg);
 	}
@@ -72,6 +78,10 @@ public interface Logger {
 		log(ERROR, msg, t);
 	}
 
+	default void error(final Supplier<?> msg) {
+		log(ERROR, msg);
+	}
+
 	default void info(final Object msg) {
 		log(INFO, msg);
 	}
@@ -84,6 +94,10 @@ public interface Logger {
 		log(INFO, msg, t);
 	}
 
+	default void info(final Supplier<?> msg) {
+		log(INFO, msg);
+	}
+
 	default void trace(final Object msg) {
 		log(TRACE, msg);
 	}
@@ -96,6 +110,10 @@ public interface Logger {
 		log(TRACE, msg, t);
 	}
 
+	default void trace(final Supplier<?> msg) {
+		log(TRACE, msg);
+	}
+
 	default void warn(final Object msg) {
 		log(WARN, msg);
 	}
@@ -108,6 +126,10 @@ public interface Logger {
 		log(WARN, msg, t);
 	}
 
+	default void warn(final Supplier<?> msg) {
+		log(WARN, msg);
+	}
+
 	default boolean isDebug() {
 		return isLevel(DEBUG);
 	}
@@ -144,6 +166,25 @@ public interface Logger {
 		log(level, msg, null);
 	}
 
+	/**
+	 * Logs a lazily computed message. Neither calls {@code msg} nor allocates if
+	 * the current level (given by {@link #getLevel()} is below {@code level}.
+	 * <p>
+	 * NB: This overload is chosen for any message statically typed as a
+	 * {@link Supplier}, which is then logged as the result of
+	 * {@link Supplier#get()}. To log such an object as itself, pass it as an
+	 * {@link Object}.
+	 * </p>
+	 * 
+	 * @param level The level at which the message will be logged.
+	 * @param msg Computes the message to log, when the message is formatted.
+	 *          If {@code null}, a message without text is logged.
+	 */
+	default void log(final int level, final Supplier<?> msg) {
+		if (msg == null) log(level, (Object) null);
+		else if (isLevel(level)) alwaysLog(level, new SuppliedMessage(msg), null);
+	}
+
 	/**
 	 * Logs an exception.
 	 * 
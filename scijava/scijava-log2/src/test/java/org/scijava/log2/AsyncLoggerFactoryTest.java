@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * SciJava Common shared library for SciJava software.
+ * %%
+ * Copyright (C) 2009 - 2021 SciJava developers.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package org.scijava.log2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AsyncLoggerFactory}.
+ */
+public class AsyncLoggerFactoryTest {
+
+	@Test
+	public void testOutputToStream() {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		final PrintStream p = new PrintStream(outputStream);
+		final AsyncLoggerFactory factory = new AsyncLoggerFactory(ignore -> p);
+		final Logger log = factory.create();
+
+		log.warn("Hello World!");
+		log.subLogger("sub").error(() -> "foo bar");
+		factory.flush();
+
+		assertTrue(outputStream.toString().contains("Hello World!"));
+		assertTrue(outputStream.toString().contains("foo bar"));
+	}
+
+	@Test
+	public void testSupplierNotCalledBelowLevel() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Logger log = new AsyncLoggerFactory().create();
+		log.trace(() -> calls.incrementAndGet());
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	public void testNullSupplier() {
+		final List<LogMessage> messages = new CopyOnWriteArrayList<>();
+		final AsyncLoggerFactory factory = new AsyncLoggerFactory(messages::add,
+			16);
+		final Supplier<?> msg = null;
+		factory.create().warn(msg);
+		factory.flush();
+
+		assertEquals(1, messages.size());
+		assertNull(messages.get(0).text());
+		assertTrue(messages.get(0).toString().contains(LogLevel.prefix(
+			LogLevel.WARN)));
+	}
+
+	@Test
+	public void testMessageFormattedWhenLogged() {
+		final List<LogMessage> messages = new CopyOnWriteArrayList<>();
+		final AsyncLoggerFactory factory = new AsyncLoggerFactory(messages::add,
+			16);
+		final StringBuilder msg = new StringBuilder("before");
+		factory.create().warn(msg);
+		msg.setLength(0);
+		msg.append("after");
+		factory.flush();
+
+		assertEquals("before", messages.get(0).text());
+	}
+
+	@Test
+	public void testConcurrentLogging() throws InterruptedException {
+		final List<String> messages = new CopyOnWriteArrayList<>();
+		// NB: a small buffer, such that logging threads have to wait
+		final AsyncLoggerFactory factory = new AsyncLoggerFactory(m -> messages
+			.add(m.text()), 16);
+		final Logger log = factory.create();
+		final int threads = 4, count = 1000;
+		final ExecutorService es = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			final int thread = t;
+			es.submit(() -> {
+				for (int i = 0; i < count; i++)
+					log.warn(thread + ":" + i);
+			});
+		}
+		es.shutdown();
+		assertTrue(es.awaitTermination(1, TimeUnit.MINUTES));
+		factory.flush();
+
+		assertEquals(threads * count, messages.size());
+		// messages of each thread keep their order
+		final int[] next = new int[threads];
+		for (final String m : messages) {
+			final String[] parts = m.split(":");
+			assertEquals(next[Integer.parseInt(parts[0])]++, Integer.parseInt(
+				parts[1]));
+		}
+	}
+}
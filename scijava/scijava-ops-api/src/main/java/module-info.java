@@ -3,6 +3,7 @@ module org.scijava.ops.api {
 	exports org.scijava.ops.api.features;
 
 	requires org.scijava.function;
+	requires org.scijava.progress;
 	requires transitive org.scijava.struct;
 	requires org.scijava.types;
 	requires org.scijava.common3;
@@ -1,10 +1,9 @@
-
 package org.scijava.ops.api;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A basic interface for storing and accessing Hints. The general structure for
@@ -22,51 +21,87 @@ import java.util.Set;
  * For example, you might write a {@code hintType} to designate preferences on a
  * tradeoff between performance and loss. That {@code hintType} might be
  * {@code Lossiness}, with options {@code LOSSLESS} and {@code LOSSY}.
+ * <p>
+ * {@link Hints} are immutable. Each hint is interned into a registry of known
+ * hints, and a {@link Hints} is stored as a bitset over that registry. The
+ * {@link Hints} returned by {@link #plus}, {@link #minus} and {@link #copy()}
+ * are canonical: equal canonical {@link Hints} are the same {@link Object}.
+ * At most 4096 combinations are made canonical; beyond that, these methods
+ * return equal but distinct {@link Hints}.
+ * <p>
+ * NB the registry is never pruned, as live {@link Hints} depend on the index
+ * of each hint. Hints are thus meant to come from a fixed vocabulary, such as
+ * the constants of the {@code hintType}s in use, rather than being generated
+ * (e.g. from user input or per-call values).
+ * </p>
  *
  * @author Gabriel Selzer
  */
 public class Hints {
 
-	// Hints are stored by their hint type (the middle term)
-	final Set<String> hints;
+	/** The index of each known hint within the bitset */
+	private static final Map<String, Integer> registry =
+		new ConcurrentHashMap<>();
+	private static final AtomicInteger registered = new AtomicInteger();
+
+	/** The maximum number of canonical combinations of hints */
+	private static final int MAX_CANONICAL = 4096;
+
+	/** The canonical instance of each combination of hints */
+	private static final Map<Hints, Hints> canonical = new ConcurrentHashMap<>();
+
+	private static final long[] NO_BITS = new long[0];
+
+	// Bit i is set iff the ith registered hint is present. NB trailing zero
+	// words are always trimmed, so that equal Hints have equal arrays.
+	private final long[] bits;
+	private final int hash;
 
 	public Hints(final String... startingHints) {
-		this(Arrays.asList(startingHints));
+		this(with(NO_BITS, startingHints));
 	}
 
-	private Hints(final Collection<String> hints) {
-		this.hints = new HashSet<>(hints);
+	private Hints(final long[] bits) {
+		this.bits = bits;
+		this.hash = Arrays.hashCode(bits);
 	}
 
 	/**
-	 * Returns a <b>new</b> {@link Hints} with:
+	 * Returns the canonical {@link Hints} with:
 	 * <ol>
 	 * <li>All hints in this {@link Hints}</li>
 	 * <li>All hints in {@code hints}</li>
 	 * </ol>
+	 * As {@link Hints} are immutable, this {@link Hints} is left unchanged.
 	 *
 	 * @param hints the hints to add to this {@link Hints}
-	 * @return a <b>new</b> {@link Hints} containing the union of the two sets of
-	 *         hints
+	 * @return the canonical {@link Hints} containing the union of the two sets
+	 *         of hints
 	 */
 	public Hints plus(String... hints) {
-		Set<String> newHints = new HashSet<>(this.hints);
-		newHints.addAll(Arrays.asList(hints));
-		return new Hints(newHints);
+		if (containsAll(hints)) return copy();
+		return intern(new Hints(with(bits, hints)));
 	}
 
 	/**
-	 * Returns a <b>new</b> {@link Hints} with <b>only</b> the hints in this
-	 * {@link Hints} that are not also in {@code hints}
+	 * Returns the canonical {@link Hints} with <b>only</b> the hints in this
+	 * {@link Hints} that are not also in {@code hints}. As {@link Hints} are
+	 * immutable, this {@link Hints} is left unchanged.
 	 *
 	 * @param hints the hints that should not carry over from this {@link Hints}
-	 * @return a <b>new</b> {@link Hints} containing the hints in this {@link Hints}
-	 *         but <b>not</b> in {@code hints}
+	 * @return the canonical {@link Hints} containing the hints in this
+	 *         {@link Hints} but <b>not</b> in {@code hints}
 	 */
 	public Hints minus(String... hints) {
-		Set<String> newHints = new HashSet<>(this.hints);
-		Arrays.asList(hints).forEach(newHints::remove);
-		return new Hints(newHints);
+		if (containsNone(hints)) return copy();
+		long[] newBits = bits.clone();
+		for (String hint : hints) {
+			Integer index = registry.get(hint);
+			if (index != null && index >> 6 < newBits.length) {
+				newBits[index >> 6] &= ~(1L << index);
+			}
+		}
+		return intern(new Hints(trim(newBits)));
 	}
 
 	/**
@@ -76,7 +111,9 @@ public class Hints {
 	 * @return {@code true} iff {@code hint} is in this {@link Hints}
 	 */
 	public boolean contains(String hint) {
-		return hints.contains(hint);
+		Integer index = registry.get(hint);
+		if (index == null || index >> 6 >= bits.length) return false;
+		return (bits[index >> 6] & (1L << index)) != 0;
 	}
 
 
@@ -98,7 +135,9 @@ public class Hints {
 	 * @return true iff <b>any</b> hint in {@code hints} is in this {@link Hints}
 	 */
 	public boolean containsAny(String... hints) {
-		return Arrays.stream(hints).anyMatch(this::contains);
+		for (String hint : hints)
+			if (contains(hint)) return true;
+		return false;
 	}
 
 	/**
@@ -108,28 +147,65 @@ public class Hints {
 	 * @return true iff <b>each</b> hint in {@code hints} is in this {@link Hints}
 	 */
 	public boolean containsAll(String... hints) {
-		return Arrays.stream(hints).allMatch(this::contains);
+		for (String hint : hints)
+			if (!contains(hint)) return false;
+		return true;
 	}
 
 	/**
-	 * Generates a <b>new</b> {@link Hints} with identical hints.
+	 * Obtains the canonical {@link Hints} with identical hints. As {@link Hints}
+	 * are immutable, this may be this {@link Hints}.
 	 *
-	 * @return a <b>new</b> {@link Hints} Object with the same hints as this
+	 * @return the canonical {@link Hints} Object with the same hints as this
 	 *         {@link Hints}
 	 */
 	public Hints copy() {
-		return new Hints(hints);
+		return intern(this);
 	}
 
 	@Override
 	public int hashCode() {
-		return hints.hashCode();
+		return hash;
 	}
 
 	@Override
 	public boolean equals(Object that) {
+		if (this == that) return true;
 		if (!(that instanceof Hints)) return false;
 		Hints thatHints = (Hints) that;
-		return hints.equals(thatHints.hints);
+		return hash == thatHints.hash && Arrays.equals(bits, thatHints.bits);
+	}
+
+	private static Hints intern(Hints hints) {
+		Hints existing = canonical.get(hints);
+		if (existing != null) return existing;
+		// NB canonical instances only save memory and speed up equals, so the
+		// cache stops growing rather than evicting instances still in use
+		if (canonical.size() >= MAX_CANONICAL) return hints;
+		existing = canonical.putIfAbsent(hints, hints);
+		return existing == null ? hints : existing;
+	}
+
+	private static long[] with(long[] bits, String... hints) {
+		long[] newBits = bits;
+		for (String hint : hints) {
+			int index = registry.computeIfAbsent(hint,
+				h -> registered.getAndIncrement());
+			if (index >> 6 >= newBits.length) {
+				newBits = Arrays.copyOf(newBits, (index >> 6) + 1);
+			}
+			else if (newBits == bits) {
+				newBits = bits.clone();
+			}
+			newBits[index >> 6] |= 1L << index;
+		}
+		return newBits;
+	}
+
+	private static long[] trim(long[] bits) {
+		int length = bits.length;
+		while (length > 0 && bits[length - 1] == 0)
+			length--;
+		return length == bits.length ? bits : Arrays.copyOf(bits, length);
 	}
 }
@@ -0,0 +1,412 @@
+package org.scijava.ops.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.scijava.progress.Progress;
+
+/**
+ * Executes one Op over many arguments. The Op is matched once, before the
+ * batch is created, and then executed for each argument on an
+ * {@link Executor}.
+ * <p>
+ * When the Op is a {@link RichOp}, the Op it wraps is executed directly. Thus
+ * the batch does not pay the {@link RichOp#preprocess(Object...)} and
+ * {@link RichOp#postprocess(Object)} of each execution (i.e. history logging
+ * and progress bookkeeping); instead, the progress of the batch as a whole is
+ * reported to the listeners of the {@link RichOp}. For this reason, Ops that
+ * report their own progress should not be batched.
+ * </p>
+ * <p>
+ * At most {@link #maxInFlight(int)} arguments are pending at any time; further
+ * arguments are not taken from their {@link Iterable} or {@link Stream} until
+ * an earlier execution completes. Each execution succeeds or fails on its own,
+ * and is reported within the {@link Result} of the batch.
+ * </p>
+ *
+ * @param <T> the functional type of the Op
+ * @see OpBuilder
+ */
+public final class OpBatch<T> {
+
+	private final T op;
+	private final Object progressible;
+
+	private Executor executor = ForkJoinPool.commonPool();
+	private int maxInFlight = 2 * Runtime.getRuntime().availableProcessors();
+
+	private OpBatch(final T op, final Object progressible) {
+		this.op = op;
+		this.progressible = progressible;
+	}
+
+	/**
+	 * Creates an {@link OpBatch} executing {@code op}.
+	 *
+	 * @param <T> the functional type of {@code op}
+	 * @param op the Op, as matched by an {@link OpEnvironment}
+	 * @return an {@link OpBatch} executing {@code op}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> OpBatch<T> of(final T op) {
+		Objects.requireNonNull(op, "Cannot batch a null Op");
+		if (op instanceof RichOp) {
+			return new OpBatch<>((T) ((RichOp<?>) op).op(), op);
+		}
+		return new OpBatch<>(op, op);
+	}
+
+	/**
+	 * Sets the {@link Executor} running each execution. Defaults to the
+	 * {@link ForkJoinPool#commonPool()}. The
+	 * {@link java.util.concurrent.ExecutorService} of a {@code ThreadManager}
+	 * is a natural choice.
+	 *
+	 * @param executor the {@link Executor}
+	 * @return this {@link OpBatch}
+	 */
+	public OpBatch<T> executor(final Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "Executor is null");
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of executions pending at any time. Defaults to
+	 * twice the number of available processors.
+	 *
+	 * @param n the maximum number of pending executions
+	 * @return this {@link OpBatch}
+	 */
+	public OpBatch<T> maxInFlight(final int n) {
+		if (n < 1) throw new IllegalArgumentException(
+			"At least one execution must be allowed in flight, but got " + n);
+		this.maxInFlight = n;
+		return this;
+	}
+
+	/**
+	 * Executes the Op once for each element of {@code args}.
+	 *
+	 * @param <A> the type of each argument tuple
+	 * @param <R> the type of each result
+	 * @param args the argument tuples
+	 * @param call executes the Op on one argument tuple, e.g.
+	 *          {@code Function::apply}
+	 * @return the {@link Result} of each execution, in the order of
+	 *         {@code args}. If the calling {@link Thread} is interrupted, each
+	 *         argument not yet submitted fails with a
+	 *         {@link CancellationException}.
+	 */
+	public <A, R> Result<R> apply(final List<? extends A> args,
+		final BiFunction<? super T, ? super A, ? extends R> call)
+	{
+		return run(args.iterator(), args.size(), arg -> call.apply(op, arg));
+	}
+
+	/**
+	 * Executes the Op once for each element of {@code args}.
+	 *
+	 * @param <A> the type of each argument tuple
+	 * @param <R> the type of each result
+	 * @param args the argument tuples
+	 * @param call executes the Op on one argument tuple, e.g.
+	 *          {@code Function::apply}
+	 * @return the {@link Result} of each execution, in the order of
+	 *         {@code args}. If the calling {@link Thread} is interrupted, the
+	 *         {@link Result} ends with the last submitted execution; unlike
+	 *         {@link #apply(List, BiFunction)}, the remaining arguments are
+	 *         neither taken from {@code args} nor reported as cancelled.
+	 */
+	public <A, R> Result<R> apply(final Stream<? extends A> args,
+		final BiFunction<? super T, ? super A, ? extends R> call)
+	{
+		return run(args.iterator(), -1, arg -> call.apply(op, arg));
+	}
+
+	/**
+	 * Executes the Op, computing into a preallocated output, once for each
+	 * element of {@code args}. Outputs are reused: at most
+	 * {@link #maxInFlight(int)} outputs are ever allocated. Thus, each output
+	 * must be consumed by {@code collect} before it is reused.
+	 *
+	 * @param <A> the type of each argument tuple
+	 * @param <O> the type of each output
+	 * @param <R> the type of each result
+	 * @param args the argument tuples
+	 * @param outputs allocates a new output
+	 * @param call executes the Op on one argument tuple and an output, e.g.
+	 *          {@code Computers.Arity1::compute}
+	 * @param collect obtains the result from an argument tuple and its output.
+	 *          NB {@code collect} may be called concurrently.
+	 * @return the {@link Result} of each execution, in the order of
+	 *         {@code args}. If the calling {@link Thread} is interrupted, each
+	 *         argument not yet submitted fails with a
+	 *         {@link CancellationException}.
+	 */
+	public <A, O, R> Result<R> compute(final List<? extends A> args,
+		final Supplier<? extends O> outputs,
+		final Invocation<? super T, ? super A, ? super O> call,
+		final BiFunction<? super A, ? super O, ? extends R> collect)
+	{
+		return run(args.iterator(), args.size(), reusing(outputs, call, collect));
+	}
+
+	/**
+	 * Executes the Op, computing into a preallocated output, once for each
+	 * element of {@code args}. Outputs are reused: at most
+	 * {@link #maxInFlight(int)} outputs are ever allocated. Thus, each output
+	 * must be consumed by {@code collect} before it is reused.
+	 *
+	 * @param <A> the type of each argument tuple
+	 * @param <O> the type of each output
+	 * @param <R> the type of each result
+	 * @param args the argument tuples
+	 * @param outputs allocates a new output
+	 * @param call executes the Op on one argument tuple and an output, e.g.
+	 *          {@code Computers.Arity1::compute}
+	 * @param collect obtains the result from an argument tuple and its output.
+	 *          NB {@code collect} may be called concurrently.
+	 * @return the {@link Result} of each execution, in the order of
+	 *         {@code args}. If the calling {@link Thread} is interrupted, the
+	 *         {@link Result} ends with the last submitted execution; unlike
+	 *         {@link #compute(List, Supplier, Invocation, BiFunction)}, the
+	 *         remaining arguments are neither taken from {@code args} nor
+	 *         reported as cancelled.
+	 */
+	public <A, O, R> Result<R> compute(final Stream<? extends A> args,
+		final Supplier<? extends O> outputs,
+		final Invocation<? super T, ? super A, ? super O> call,
+		final BiFunction<? super A, ? super O, ? extends R> collect)
+	{
+		return run(args.iterator(), -1, reusing(outputs, call, collect));
+	}
+
+	private <A, O, R> Function<A, R> reusing(final Supplier<? extends O> outputs,
+		final Invocation<? super T, ? super A, ? super O> call,
+		final BiFunction<? super A, ? super O, ? extends R> collect)
+	{
+		final Queue<O> free = new ConcurrentLinkedQueue<>();
+		return arg -> {
+			O out = free.poll();
+			if (out == null) out = outputs.get();
+			try {
+				call.compute(op, arg, out);
+				return collect.apply(arg, out);
+			}
+			finally {
+				if (out != null) free.offer(out);
+			}
+		};
+	}
+
+	/**
+	 * Runs {@code item} on each of {@code args}, reporting progress from the
+	 * calling {@link Thread}.
+	 *
+	 * @param size the number of arguments, or {@code -1} if unknown
+	 */
+	private <A, R> Result<R> run(final Iterator<? extends A> args,
+		final long size, final Function<A, R> item)
+	{
+		final BlockingQueue<Slot<R>> done = new LinkedBlockingQueue<>();
+		final List<Slot<R>> slots = new ArrayList<>();
+		final boolean defined = size > 0;
+
+		Progress.register(progressible);
+		try {
+			if (defined) {
+				Progress.defineTotalProgress(1);
+				Progress.setStageMax(size);
+			}
+			int inFlight = 0;
+			try {
+				while (args.hasNext()) {
+					if (inFlight == maxInFlight) {
+						awaitOne(done, defined, slots.size() - inFlight);
+						inFlight--;
+					}
+					if (Thread.currentThread().isInterrupted()) break;
+					final A arg = args.next();
+					final Slot<R> slot = new Slot<>();
+					slots.add(slot);
+					submit(slot, arg, item, done);
+					inFlight++;
+				}
+			}
+			finally {
+				// NB pending executions still write into their slots
+				while (inFlight > 0) {
+					awaitOne(done, defined, slots.size() - inFlight);
+					inFlight--;
+				}
+			}
+			// arguments not executed due to interruption are cancelled. NB a
+			// Stream may be infinite, so its remainder is not drained.
+			if (defined) {
+				while (args.hasNext()) {
+					args.next();
+					final Slot<R> slot = new Slot<>();
+					slot.failure = new CancellationException(
+						"Batch interrupted before execution");
+					slots.add(slot);
+					Progress.update();
+				}
+			}
+		}
+		finally {
+			Progress.complete();
+		}
+		return new Result<>(slots);
+	}
+
+	private <A, R> void submit(final Slot<R> slot, final A arg,
+		final Function<A, R> item, final BlockingQueue<Slot<R>> done)
+	{
+		try {
+			executor.execute(() -> {
+				try {
+					slot.result = item.apply(arg);
+				}
+				catch (final Throwable t) {
+					slot.failure = t;
+				}
+				finally {
+					done.add(slot);
+				}
+			});
+		}
+		catch (final RejectedExecutionException e) {
+			slot.failure = e;
+			done.add(slot);
+		}
+	}
+
+	/**
+	 * Waits for one pending execution to complete. Interruptions are deferred
+	 * until it does, as the execution cannot be abandoned.
+	 */
+	private static <R> void awaitOne(final BlockingQueue<Slot<R>> done,
+		final boolean defined, final int completed)
+	{
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.take();
+				break;
+			}
+			catch (final InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+		if (defined) Progress.update();
+		else Progress.setStatus((completed + 1) + " executions completed");
+	}
+
+	/**
+	 * Executes an Op on an argument tuple, computing into a preallocated output.
+	 *
+	 * @param <T> the functional type of the Op
+	 * @param <A> the type of the argument tuple
+	 * @param <O> the type of the output
+	 */
+	@FunctionalInterface
+	public interface Invocation<T, A, O> {
+
+		void compute(T op, A args, O out);
+	}
+
+	private static final class Slot<R> {
+
+		private R result;
+		private Throwable failure;
+	}
+
+	/**
+	 * The outcome of each execution of an {@link OpBatch}.
+	 *
+	 * @param <R> the type of each result
+	 */
+	public static final class Result<R> {
+
+		private final List<R> results;
+		private final Map<Integer, Throwable> failures;
+
+		private Result(final List<Slot<R>> slots) {
+			final List<R> results = new ArrayList<>(slots.size());
+			final Map<Integer, Throwable> failures = new TreeMap<>();
+			for (int i = 0; i < slots.size(); i++) {
+				final Slot<R> slot = slots.get(i);
+				results.add(slot.result);
+				if (slot.failure != null) failures.put(i, slot.failure);
+			}
+			this.results = Collections.unmodifiableList(results);
+			this.failures = Collections.unmodifiableMap(failures);
+		}
+
+		/**
+		 * @return the number of executions
+		 */
+		public int size() {
+			return results.size();
+		}
+
+		/**
+		 * @return the result of each execution, in the order of the arguments.
+		 *         The result of each failed execution is {@code null}.
+		 */
+		public List<R> results() {
+			return results;
+		}
+
+		/**
+		 * @return the failure of each failed execution, by the index of its
+		 *         arguments
+		 */
+		public Map<Integer, Throwable> failures() {
+			return failures;
+		}
+
+		/**
+		 * @return {@code true} iff any execution failed
+		 */
+		public boolean hasFailures() {
+			return !failures.isEmpty();
+		}
+
+		/**
+		 * Obtains the result of each execution, failing if any execution failed.
+		 *
+		 * @return the result of each execution, in the order of the arguments
+		 * @throws IllegalStateException if any execution failed. The failure of
+		 *           the first failed execution is its cause.
+		 */
+		public List<R> get() {
+			if (!hasFailures()) return results;
+			final Map.Entry<Integer, Throwable> first = failures.entrySet().iterator()
+				.next();
+			throw new IllegalStateException(failures.size() + " of " + size() +
+				" executions failed; the first was #" + first.getKey(), first
+					.getValue());
+		}
+
+	}
+
+}
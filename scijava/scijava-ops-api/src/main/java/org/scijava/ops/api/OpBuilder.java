@@ -35,6 +35,8 @@
 package org.scijava.ops.api;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -177,6 +179,33 @@ public class OpBuilder {
 		}
 	}
 
+	/**
+	 * An Op matched for the raw {@link Class}es of some arguments. The Op can be
+	 * reused, without matching, for any arguments of the same raw
+	 * {@code Class}es.
+	 */
+	private static final class Bound<T> {
+
+		private final T op;
+		private final Class<?>[] classes;
+
+		private Bound(final T op, final Object... args) {
+			this.op = op;
+			this.classes = new Class<?>[args.length];
+			for (int i = 0; i < args.length; i++) {
+				classes[i] = rawClass(args[i]);
+			}
+		}
+
+		private boolean binds(final int i, final Object arg) {
+			return classes[i] == rawClass(arg);
+		}
+
+		private static Class<?> rawClass(final Object o) {
+			return o == null ? null : o.getClass();
+		}
+	}
+
 	// @formatter:off
 	/*
 	 * -- HELPER CLASSES --
@@ -1118,6 +1147,32 @@ public class OpBuilder {
 		public Computers.Arity1<I1, O> computer() {
 			return matchComputer(env, opName, in1Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Function<I1, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity1<I1, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -1248,6 +1303,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Function<I1, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Function<I1, O> prepare() {
+			return new Function<I1, O>() {
+
+				private Bound<Function<I1, O>> bound = new Bound<>(function(), in1);
+
+				@Override
+				public O apply(final I1 in1) {
+					Bound<Function<I1, O>> b = bound;
+					if (!(b.binds(0, in1))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), outType, OpBuilder.this.hints), in1);
+						bound = b;
+					}
+					return b.op.apply(in1);
+				}
+			};
+		}
 	}
 
 	/**
@@ -1417,6 +1534,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity1<I1, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity1<I1, O> prepare() {
+			return new Computers.Arity1<I1, O>() {
+
+				private Bound<Computers.Arity1<I1, O>> bound = new Bound<>(computer(), in1, out);
+
+				@Override
+				public void compute(final I1 in1, final O out) {
+					Bound<Computers.Arity1<I1, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(out), OpBuilder.this.hints), in1, out);
+						bound = b;
+					}
+					b.op.compute(in1, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 2, input type given, output type given.
@@ -1464,6 +1646,32 @@ public class OpBuilder {
 		public Computers.Arity2<I1, I2, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<BiFunction<I1, I2, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity2<I1, I2, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -1615,6 +1823,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final BiFunction<I1, I2, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public BiFunction<I1, I2, O> prepare() {
+			return new BiFunction<I1, I2, O>() {
+
+				private Bound<BiFunction<I1, I2, O>> bound = new Bound<>(function(), in1, in2);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2) {
+					Bound<BiFunction<I1, I2, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), outType, OpBuilder.this.hints), in1, in2);
+						bound = b;
+					}
+					return b.op.apply(in1, in2);
+				}
+			};
+		}
 	}
 
 	/**
@@ -1823,6 +2093,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity2<I1, I2, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity2<I1, I2, O> prepare() {
+			return new Computers.Arity2<I1, I2, O>() {
+
+				private Bound<Computers.Arity2<I1, I2, O>> bound = new Bound<>(computer(), in1, in2, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final O out) {
+					Bound<Computers.Arity2<I1, I2, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(out), OpBuilder.this.hints), in1, in2, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 3, input type given, output type given.
@@ -1873,6 +2208,32 @@ public class OpBuilder {
 		public Computers.Arity3<I1, I2, I3, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity3<I1, I2, I3, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity3<I1, I2, I3, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -2045,6 +2406,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity3<I1, I2, I3, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity3<I1, I2, I3, O> prepare() {
+			return new Functions.Arity3<I1, I2, I3, O>() {
+
+				private Bound<Functions.Arity3<I1, I2, I3, O>> bound = new Bound<>(function(), in1, in2, in3);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3) {
+					Bound<Functions.Arity3<I1, I2, I3, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), outType, OpBuilder.this.hints), in1, in2, in3);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3);
+				}
+			};
+		}
 	}
 
 	/**
@@ -2292,24 +2715,89 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, out);
 		}
-	}
-	/**
-	 * Builder with arity 4, input type given, output type given.
-	 *
-	 * @author Curtis Rueden
-	 * @param <I1> The type of input 1.
-	 * @param <I2> The type of input 2.
-	 * @param <I3> The type of input 3.
-	 * @param <I4> The type of input 4.
-	 * @param <O> The type of the output.
-	 */
-	public final class Arity4_IT_OT<I1, I2, I3, I4, O> extends Arity {
 
-		private final Nil<I1> in1Type;
-		private final Nil<I2> in2Type;
-		private final Nil<I3> in3Type;
-		private final Nil<I4> in4Type;
-		private final Nil<O> outType;
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity3<I1, I2, I3, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity3<I1, I2, I3, O> prepare() {
+			return new Computers.Arity3<I1, I2, I3, O>() {
+
+				private Bound<Computers.Arity3<I1, I2, I3, O>> bound = new Bound<>(computer(), in1, in2, in3, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final O out) {
+					Bound<Computers.Arity3<I1, I2, I3, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(out), OpBuilder.this.hints), in1, in2, in3, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, out);
+				}
+			};
+		}
+	}
+	/**
+	 * Builder with arity 4, input type given, output type given.
+	 *
+	 * @author Curtis Rueden
+	 * @param <I1> The type of input 1.
+	 * @param <I2> The type of input 2.
+	 * @param <I3> The type of input 3.
+	 * @param <I4> The type of input 4.
+	 * @param <O> The type of the output.
+	 */
+	public final class Arity4_IT_OT<I1, I2, I3, I4, O> extends Arity {
+
+		private final Nil<I1> in1Type;
+		private final Nil<I2> in2Type;
+		private final Nil<I3> in3Type;
+		private final Nil<I4> in4Type;
+		private final Nil<O> outType;
 
 		public Arity4_IT_OT(final Nil<I1> in1Type, final Nil<I2> in2Type, final Nil<I3> in3Type, final Nil<I4> in4Type, final Nil<O> outType)
 		{
@@ -2345,6 +2833,32 @@ public class OpBuilder {
 		public Computers.Arity4<I1, I2, I3, I4, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity4<I1, I2, I3, I4, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity4<I1, I2, I3, I4, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -2538,6 +3052,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity4<I1, I2, I3, I4, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity4<I1, I2, I3, I4, O> prepare() {
+			return new Functions.Arity4<I1, I2, I3, I4, O>() {
+
+				private Bound<Functions.Arity4<I1, I2, I3, I4, O>> bound = new Bound<>(function(), in1, in2, in3, in4);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4) {
+					Bound<Functions.Arity4<I1, I2, I3, I4, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), outType, OpBuilder.this.hints), in1, in2, in3, in4);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4);
+				}
+			};
+		}
 	}
 
 	/**
@@ -2824,6 +3400,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity4<I1, I2, I3, I4, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity4<I1, I2, I3, I4, O> prepare() {
+			return new Computers.Arity4<I1, I2, I3, I4, O>() {
+
+				private Bound<Computers.Arity4<I1, I2, I3, I4, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final O out) {
+					Bound<Computers.Arity4<I1, I2, I3, I4, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(out), OpBuilder.this.hints), in1, in2, in3, in4, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 5, input type given, output type given.
@@ -2880,6 +3521,32 @@ public class OpBuilder {
 		public Computers.Arity5<I1, I2, I3, I4, I5, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity5<I1, I2, I3, I4, I5, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity5<I1, I2, I3, I4, I5, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -3094,6 +3761,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity5<I1, I2, I3, I4, I5, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity5<I1, I2, I3, I4, I5, O> prepare() {
+			return new Functions.Arity5<I1, I2, I3, I4, I5, O>() {
+
+				private Bound<Functions.Arity5<I1, I2, I3, I4, I5, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5) {
+					Bound<Functions.Arity5<I1, I2, I3, I4, I5, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5);
+				}
+			};
+		}
 	}
 
 	/**
@@ -3419,6 +4148,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity5<I1, I2, I3, I4, I5, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity5<I1, I2, I3, I4, I5, O> prepare() {
+			return new Computers.Arity5<I1, I2, I3, I4, I5, O>() {
+
+				private Bound<Computers.Arity5<I1, I2, I3, I4, I5, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final O out) {
+					Bound<Computers.Arity5<I1, I2, I3, I4, I5, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 6, input type given, output type given.
@@ -3478,6 +4272,32 @@ public class OpBuilder {
 		public Computers.Arity6<I1, I2, I3, I4, I5, I6, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity6<I1, I2, I3, I4, I5, I6, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity6<I1, I2, I3, I4, I5, I6, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -3713,6 +4533,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity6<I1, I2, I3, I4, I5, I6, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity6<I1, I2, I3, I4, I5, I6, O> prepare() {
+			return new Functions.Arity6<I1, I2, I3, I4, I5, I6, O>() {
+
+				private Bound<Functions.Arity6<I1, I2, I3, I4, I5, I6, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6) {
+					Bound<Functions.Arity6<I1, I2, I3, I4, I5, I6, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6);
+				}
+			};
+		}
 	}
 
 	/**
@@ -4077,6 +4959,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity6<I1, I2, I3, I4, I5, I6, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity6<I1, I2, I3, I4, I5, I6, O> prepare() {
+			return new Computers.Arity6<I1, I2, I3, I4, I5, I6, O>() {
+
+				private Bound<Computers.Arity6<I1, I2, I3, I4, I5, I6, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final O out) {
+					Bound<Computers.Arity6<I1, I2, I3, I4, I5, I6, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 7, input type given, output type given.
@@ -4139,6 +5086,32 @@ public class OpBuilder {
 		public Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -4395,6 +5368,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O> prepare() {
+			return new Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O>() {
+
+				private Bound<Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7) {
+					Bound<Functions.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7);
+				}
+			};
+		}
 	}
 
 	/**
@@ -4795,8 +5830,73 @@ public class OpBuilder {
 		 *
 		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
 		 */
-		public void compute() {
-			computer().compute(in1, in2, in3, in4, in5, in6, in7, out);
+		public void compute() {
+			computer().compute(in1, in2, in3, in4, in5, in6, in7, out);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O> prepare() {
+			return new Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O>() {
+
+				private Bound<Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final O out) {
+					Bound<Computers.Arity7<I1, I2, I3, I4, I5, I6, I7, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, out);
+				}
+			};
 		}
 	}
 	/**
@@ -4863,6 +5963,32 @@ public class OpBuilder {
 		public Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -5140,6 +6266,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O> prepare() {
+			return new Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>() {
+
+				private Bound<Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8) {
+					Bound<Functions.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8);
+				}
+			};
+		}
 	}
 
 	/**
@@ -5582,6 +6770,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O> prepare() {
+			return new Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>() {
+
+				private Bound<Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final O out) {
+					Bound<Computers.Arity8<I1, I2, I3, I4, I5, I6, I7, I8, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 9, input type given, output type given.
@@ -5650,6 +6903,32 @@ public class OpBuilder {
 		public Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -5948,6 +7227,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> prepare() {
+			return new Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>() {
+
+				private Bound<Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9) {
+					Bound<Functions.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9);
+				}
+			};
+		}
 	}
 
 	/**
@@ -6429,6 +7770,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> prepare() {
+			return new Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>() {
+
+				private Bound<Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final O out) {
+					Bound<Computers.Arity9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 10, input type given, output type given.
@@ -6500,6 +7906,32 @@ public class OpBuilder {
 		public Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -6819,6 +8251,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O> prepare() {
+			return new Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>() {
+
+				private Bound<Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10) {
+					Bound<Functions.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10);
+				}
+			};
+		}
 	}
 
 	/**
@@ -7336,8 +8830,73 @@ public class OpBuilder {
 		 *
 		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
 		 */
-		public void compute() {
-			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+		public void compute() {
+			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O> prepare() {
+			return new Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>() {
+
+				private Bound<Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final O out) {
+					Bound<Computers.Arity10<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
+				}
+			};
 		}
 	}
 	/**
@@ -7413,6 +8972,32 @@ public class OpBuilder {
 		public Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -7753,6 +9338,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O> prepare() {
+			return new Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>() {
+
+				private Bound<Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11) {
+					Bound<Functions.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11);
+				}
+			};
+		}
 	}
 
 	/**
@@ -8312,6 +9959,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O> prepare() {
+			return new Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>() {
+
+				private Bound<Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final O out) {
+					Bound<Computers.Arity11<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 12, input type given, output type given.
@@ -8389,6 +10101,32 @@ public class OpBuilder {
 		public Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, in12Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -8750,6 +10488,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O> prepare() {
+			return new Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>() {
+
+				private Bound<Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12) {
+					Bound<Functions.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
+				}
+			};
+		}
 	}
 
 	/**
@@ -9348,6 +11148,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O> prepare() {
+			return new Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>() {
+
+				private Bound<Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final O out) {
+					Bound<Computers.Arity12<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 13, input type given, output type given.
@@ -9428,6 +11293,32 @@ public class OpBuilder {
 		public Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, in12Type, in13Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -9810,6 +11701,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O> prepare() {
+			return new Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>() {
+
+				private Bound<Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13) {
+					Bound<Functions.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
+				}
+			};
+		}
 	}
 
 	/**
@@ -10447,6 +12400,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O> prepare() {
+			return new Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>() {
+
+				private Bound<Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final O out) {
+					Bound<Computers.Arity13<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 14, input type given, output type given.
@@ -10530,6 +12548,32 @@ public class OpBuilder {
 		public Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, in12Type, in13Type, in14Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -10933,6 +12977,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O> prepare() {
+			return new Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>() {
+
+				private Bound<Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14) {
+					Bound<Functions.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
+				}
+			};
+		}
 	}
 
 	/**
@@ -11609,6 +13715,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O> prepare() {
+			return new Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>() {
+
+				private Bound<Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14, final O out) {
+					Bound<Computers.Arity14<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14) && b.binds(14, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 15, input type given, output type given.
@@ -11695,6 +13866,32 @@ public class OpBuilder {
 		public Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, in12Type, in13Type, in14Type, in15Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -12119,6 +14316,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O> prepare() {
+			return new Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>() {
+
+				private Bound<Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14, final I15 in15) {
+					Bound<Functions.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14) && b.binds(14, in15))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), type(in15), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
+				}
+			};
+		}
 	}
 
 	/**
@@ -12834,6 +15093,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O> prepare() {
+			return new Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>() {
+
+				private Bound<Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14, final I15 in15, final O out) {
+					Bound<Computers.Arity15<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14) && b.binds(14, in15) && b.binds(15, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), type(in15), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
+				}
+			};
+		}
 	}
 	/**
 	 * Builder with arity 16, input type given, output type given.
@@ -12923,6 +15247,32 @@ public class OpBuilder {
 		public Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O> computer() {
 			return matchComputer(env, opName, in1Type, in2Type, in3Type, in4Type, in5Type, in6Type, in7Type, in8Type, in9Type, in10Type, in11Type, in12Type, in13Type, in14Type, in15Type, in16Type, outType, OpBuilder.this.hints);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, based on the choices made with this builder, for execution over many inputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public OpBatch<Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> functionBatch() {
+			return OpBatch.of(function());
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, based on the choices made with this builder, for execution over many inputs with reused outputs.
+		 *
+		 * @return An {@link OpBatch} executing the matched op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public OpBatch<Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> computerBatch() {
+			return OpBatch.of(computer());
+		}
 	}
 
 	/**
@@ -13368,6 +15718,68 @@ public class OpBuilder {
 		public O apply() {
 			return function().apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor) {
+			final Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O> op = function();
+			return OpFuture.execute(() -> op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16), executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op, and then run it asynchronously on the input values provided to this builder, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the output of the matched op. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 */
+		public OpFuture<O> applyAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return applyAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Functions} op for repeated use with inputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an input differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest inputs.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#apply()" title="To match then immediately run a Function Op using the input values provided to this builder.">apply</a>
+		 * @see <a href="#function()" title="For a reusable Op that generates output instances based on its inputs.">function</a>
+		 */
+		public Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O> prepare() {
+			return new Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>() {
+
+				private Bound<Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> bound = new Bound<>(function(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
+
+				@Override
+				public O apply(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14, final I15 in15, final I16 in16) {
+					Bound<Functions.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14) && b.binds(14, in15) && b.binds(15, in16))) {
+						b = new Bound<>(matchFunction(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), type(in15), type(in16), outType, OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
+						bound = b;
+					}
+					return b.op.apply(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
+				}
+			};
+		}
 	}
 
 	/**
@@ -14122,6 +16534,71 @@ public class OpBuilder {
 		public void compute() {
 			computer().compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
 		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor) {
+			final Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O> op = computer();
+			return OpFuture.execute(() -> {
+				op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
+				return out;
+			}, executor);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op, and then run it asynchronously using the provided pre-allocated output, stopping it if it does not complete in time.
+		 *
+		 * @param executor The {@link Executor} on which the matched op runs.
+		 * @param timeout How long the matched op may run, in units of {@code unit}.
+		 * @param unit The {@link TimeUnit} of {@code timeout}.
+		 * @return An {@link OpFuture} of the pre-allocated output, completing once it has been computed. Cancelling it stops the op.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 */
+		public OpFuture<O> computeAsync(final Executor executor, final long timeout, final TimeUnit unit) {
+			return computeAsync(executor).orTimeout(timeout, unit);
+		}
+
+		/**
+		 * Match a {@link org.scijava.function.Computers} op for repeated use with inputs and outputs like those provided to this builder.
+		 * <p>
+		 * The returned Op only matches again when the raw {@link Class} of an argument differs from those it was last matched for.
+		 * Otherwise, it directly calls the Op it has already matched, avoiding the cost of matching on each call.
+		 * </p>
+		 *
+		 * @return A reusable Op, bound to the {@code Class}es of its latest arguments.
+		 *
+		 * @throws org.scijava.ops.api.features.OpMatchingException if the Op request cannot be satisfied.
+		 *
+		 * @see <a href="#compute()" title="To match then immediately run a Computer Op using this builder's pre-allocated output.">compute</a>
+		 * @see <a href="#computer()" title="For a reusable Op to process pre-allocated outputs without re-matching.">computer</a>
+		 */
+		public Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O> prepare() {
+			return new Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>() {
+
+				private Bound<Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> bound = new Bound<>(computer(), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
+
+				@Override
+				public void compute(final I1 in1, final I2 in2, final I3 in3, final I4 in4, final I5 in5, final I6 in6, final I7 in7, final I8 in8, final I9 in9, final I10 in10, final I11 in11, final I12 in12, final I13 in13, final I14 in14, final I15 in15, final I16 in16, final O out) {
+					Bound<Computers.Arity16<I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I12, I13, I14, I15, I16, O>> b = bound;
+					if (!(b.binds(0, in1) && b.binds(1, in2) && b.binds(2, in3) && b.binds(3, in4) && b.binds(4, in5) && b.binds(5, in6) && b.binds(6, in7) && b.binds(7, in8) && b.binds(8, in9) && b.binds(9, in10) && b.binds(10, in11) && b.binds(11, in12) && b.binds(12, in13) && b.binds(13, in14) && b.binds(14, in15) && b.binds(15, in16) && b.binds(16, out))) {
+						b = new Bound<>(matchComputer(env, opName, type(in1), type(in2), type(in3), type(in4), type(in5), type(in6), type(in7), type(in8), type(in9), type(in10), type(in11), type(in12), type(in13), type(in14), type(in15), type(in16), type(out), OpBuilder.this.hints), in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
+						bound = b;
+					}
+					b.op.compute(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
+				}
+			};
+		}
 	}
 
 	/**
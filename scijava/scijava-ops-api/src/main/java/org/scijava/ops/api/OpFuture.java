@@ -0,0 +1,267 @@
+package org.scijava.ops.api;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.scijava.progress.Progress;
+import org.scijava.progress.Task;
+
+/**
+ * A {@link CompletableFuture} of the output of an Op executing
+ * asynchronously.
+ * <p>
+ * Unlike a plain {@link CompletableFuture}, cancelling an {@link OpFuture}
+ * (including through {@link #orTimeout(long, TimeUnit)}) stops its execution:
+ * the executing {@link Thread} is interrupted, and {@link #isCurrentCanceled()}
+ * becomes {@code true} on that {@link Thread}. Long-running Ops should thus
+ * call {@link #checkCanceled()} periodically, as the loops of the engine's
+ * lifting adaptors and the engine's {@code OpMonitor} do. Work handed to other
+ * {@link Thread}s observes the cancellation only if submitted through
+ * {@link #propagate(Runnable)}.
+ * </p>
+ *
+ * @param <O> the type of the Op's output
+ * @see OpBuilder
+ */
+public class OpFuture<O> extends CompletableFuture<O> {
+
+	/** The execution running on each {@link Thread}, if any */
+	private static final ThreadLocal<OpFuture<?>> current = new ThreadLocal<>();
+
+	/**
+	 * The number of canceled executions that are still running, on any
+	 * {@link Thread}. While zero,
+	 * {@link #checkCanceled()} costs a single volatile read.
+	 */
+	private static final AtomicInteger stopping = new AtomicInteger();
+
+	private final ExecutionTask task = new ExecutionTask();
+
+	/* Guarded by this */
+	private Thread runner;
+	private boolean stopped;
+	private boolean interrupted;
+	/** The {@link Thread}s running this execution or a part of it */
+	private int participants;
+	/** Whether this canceled execution no longer counts towards stopping */
+	private boolean released;
+
+	private volatile boolean canceled;
+
+	private OpFuture() {
+		task.setStatus("Queued");
+	}
+
+	/**
+	 * Executes {@code execution} asynchronously on {@code executor}.
+	 *
+	 * @param <O> the type of the Op's output
+	 * @param execution executes the Op, returning its output
+	 * @param executor the {@link Executor} on which the Op executes
+	 * @return an {@link OpFuture} of the output
+	 */
+	public static <O> OpFuture<O> execute(final Supplier<O> execution,
+		final Executor executor)
+	{
+		Objects.requireNonNull(execution, "Execution is null");
+		Objects.requireNonNull(executor, "Executor is null");
+		final OpFuture<O> future = new OpFuture<>();
+		try {
+			executor.execute(() -> future.run(execution));
+		}
+		catch (final RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Determines whether the execution running on the current {@link Thread}
+	 * has been canceled, or has timed out.
+	 *
+	 * @return {@code true} iff the current {@link Thread} is running an
+	 *         {@link OpFuture} that has been stopped
+	 */
+	public static boolean isCurrentCanceled() {
+		if (stopping.get() == 0) return false;
+		final OpFuture<?> future = current.get();
+		return future != null && future.canceled;
+	}
+
+	/**
+	 * Throws a {@link CancellationException} if the execution running on the
+	 * current {@link Thread} has been canceled, or has timed out.
+	 */
+	public static void checkCanceled() {
+		if (isCurrentCanceled()) throw new CancellationException(
+			"The Op was canceled before it was able to complete computation");
+	}
+
+	/**
+	 * Binds {@code task} to the execution running on the current
+	 * {@link Thread}, if any. Wherever the returned {@link Runnable} runs (e.g.
+	 * on the {@link Thread} of an {@code ExecutorService}),
+	 * {@link #checkCanceled()} observes the cancellation of that execution.
+	 * Ops that split their work among {@link Thread}s should thus submit each
+	 * part through this method.
+	 *
+	 * @param task the part of the execution
+	 * @return {@code task}, bound to the current execution
+	 */
+	public static Runnable propagate(final Runnable task) {
+		final OpFuture<?> future = current.get();
+		if (future == null) return task;
+		return () -> {
+			synchronized (future) {
+				// NB canceled, and all other participants are gone
+				if (future.released) throw new CancellationException(
+					"The Op was canceled before it was able to complete computation");
+				future.participants++;
+			}
+			final OpFuture<?> outer = current.get();
+			current.set(future);
+			try {
+				task.run();
+			}
+			finally {
+				current.set(outer);
+				synchronized (future) {
+					future.leave();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Gets the {@link Task} of this execution, which can be polled for the
+	 * execution's progress and status. The {@link Task} is the root of the
+	 * execution's {@link Progress} hierarchy, and its {@link Task#progress()}
+	 * is that of the first Op registering with {@link Progress} during the
+	 * execution, e.g. the executed Op itself. It completes when this
+	 * {@link OpFuture} does, whether normally, exceptionally, or through
+	 * cancellation; its status then tells these apart.
+	 *
+	 * @return the {@link Task} of this execution
+	 */
+	public Task task() {
+		return task;
+	}
+
+	/**
+	 * Stops this execution if it has not completed within the given time.
+	 *
+	 * @param timeout how long to wait before stopping the execution, in units
+	 *          of {@code unit}
+	 * @param unit the {@link TimeUnit} of {@code timeout}
+	 * @return this {@link OpFuture}
+	 */
+	@Override
+	public OpFuture<O> orTimeout(final long timeout, final TimeUnit unit) {
+		super.orTimeout(timeout, unit);
+		return this;
+	}
+
+	@Override
+	public boolean completeExceptionally(final Throwable ex) {
+		final boolean completed = super.completeExceptionally(ex);
+		if (completed) stop(ex);
+		return completed;
+	}
+
+	@Override
+	public boolean cancel(final boolean mayInterruptIfRunning) {
+		final boolean done = super.cancel(mayInterruptIfRunning);
+		if (done) stop(new CancellationException());
+		return done;
+	}
+
+	private void run(final Supplier<O> execution) {
+		synchronized (this) {
+			// NB canceled while queued
+			if (stopped) return;
+			runner = Thread.currentThread();
+			participants++;
+		}
+		task.setStatus("Executing...");
+		final OpFuture<?> outer = current.get();
+		current.set(this);
+		Progress.register(this, task);
+		try {
+			final O output = execution.get();
+			if (complete(output)) task.complete();
+		}
+		catch (final Throwable t) {
+			completeExceptionally(t);
+		}
+		finally {
+			Progress.unregister(this);
+			current.set(outer);
+			synchronized (this) {
+				runner = null;
+				leave();
+				// NB clear our own interruption before releasing the Thread
+				if (interrupted) Thread.interrupted();
+			}
+		}
+	}
+
+	private synchronized void stop(final Throwable reason) {
+		if (stopped) return;
+		stopped = true;
+		task.setStatus(reason instanceof CancellationException ? "Canceled" :
+			reason instanceof TimeoutException ? "Timed out" : "Failed");
+		// NB the execution is finished, even if its Thread has yet to notice
+		task.complete();
+		// NB an execution that has not yet started will never run, and an
+		// execution stopping itself needs no interruption
+		if (runner == null || runner == Thread.currentThread()) return;
+		canceled = true;
+		stopping.incrementAndGet();
+		interrupted = true;
+		runner.interrupt();
+	}
+
+	/** Records that a participant is done. Guarded by this. */
+	private void leave() {
+		if (--participants > 0 || !canceled || released) return;
+		// NB parts on other Threads no longer need to observe the cancellation
+		released = true;
+		stopping.decrementAndGet();
+	}
+
+	/**
+	 * The {@link Task} of an execution, whose progress is that of the first
+	 * {@link Task} created under it.
+	 */
+	private static final class ExecutionTask extends Task {
+
+		private volatile Task op;
+
+		@Override
+		public synchronized Task createSubtask() {
+			final Task sub = super.createSubtask();
+			if (op == null) op = sub;
+			return sub;
+		}
+
+		@Override
+		public double progress() {
+			final Task sub = op;
+			return isComplete() || sub == null ? super.progress() : sub.progress();
+		}
+
+		@Override
+		public boolean progressDefined() {
+			final Task sub = op;
+			return sub != null && sub.progressDefined();
+		}
+	}
+
+}
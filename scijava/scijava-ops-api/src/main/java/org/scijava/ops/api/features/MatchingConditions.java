@@ -17,8 +17,8 @@ public class MatchingConditions {
 	}
 
 	public static MatchingConditions from(OpRef r, Hints h) {
-		Hints hintCopy = h.copy();
-		return new MatchingConditions(r, hintCopy);
+		// NB the canonical Hints let equal conditions compare hints by identity
+		return new MatchingConditions(r, h.copy());
 	}
 
 	public OpRef ref() {
@@ -49,7 +49,9 @@ import java.util.stream.StreamSupport;
 
 import org.scijava.discovery.Discoverer;
 import org.scijava.discovery.ManualDiscoverer;
+import org.scijava.log2.AsyncLoggerFactory;
 import org.scijava.log2.Logger;
+import org.scijava.log2.LoggerFactory;
 import org.scijava.log2.StderrLoggerFactory;
 import org.scijava.meta.Versions;
 import org.scijava.ops.api.Hints;
@@ -72,7 +74,6 @@ import org.scijava.ops.api.features.BaseOpHints.Simplification;
 import org.scijava.ops.api.features.DependencyMatchingException;
 import org.scijava.ops.api.features.MatchingConditions;
 import org.scijava.ops.api.features.MatchingRoutine;
-import org.scijava.ops.api.features.OpMatcher;
 import org.scijava.ops.api.features.OpMatchingException;
 import org.scijava.ops.engine.impl.DependencyRichOpInfoChain;
 import org.scijava.ops.engine.impl.LambdaTypeBaker;
@@ -100,11 +101,22 @@ import org.scijava.types.Types;
  */
 public class DefaultOpEnvironment implements OpEnvironment {
 
+	/**
+	 * System property which, when {@code true}, makes environments created
+	 * without a {@link Logger} log through one shared
+	 * {@link AsyncLoggerFactory}, off the matching threads. By default, they
+	 * log synchronously to the standard streams.
+	 */
+	public static final String ASYNC_LOGGING_PROPERTY = "scijava.ops.log.async";
+
+	/** The {@link Hints} of environments without environment hints */
+	private static final Hints NO_HINTS = new Hints().copy();
+
 	private final List<Discoverer> discoverers;
 
 	private final ManualDiscoverer manDiscoverer;
 
-	private final OpMatcher matcher;
+	private final DefaultOpMatcher matcher;
 
 	private final Logger log;
 
@@ -152,10 +164,15 @@ public class DefaultOpEnvironment implements OpEnvironment {
 	}
 
 	public DefaultOpEnvironment(final Collection<Discoverer> discoverers){
-		this(discoverers, new StderrLoggerFactory().create());
+		this(discoverers, defaultLogger());
 	}
 
-	private DefaultOpEnvironment(final Collection<Discoverer> discoverers, final Logger log) {
+	/**
+	 * @param discoverers the {@link Discoverer}s providing Ops
+	 * @param log the {@link Logger} of this environment, e.g. one created by an
+	 *          {@link AsyncLoggerFactory}
+	 */
+	public DefaultOpEnvironment(final Collection<Discoverer> discoverers, final Logger log) {
 		// NB: Used to distribute out the logger.
 		this(new DefaultTypeReifier(log, discoverers), log, new DefaultOpHistory(), discoverers);
 	}
@@ -164,9 +181,12 @@ public class DefaultOpEnvironment implements OpEnvironment {
 		final Logger log, final OpHistory history,
 		final Collection<Discoverer> discoverers)
 	{
-		this.discoverers = new ArrayList<>(discoverers);
+		// NB: chainFromID and infosFrom rediscover on each call
+		this.discoverers = new ArrayList<>(discoverers.size() + 1);
+		for (Discoverer d : discoverers)
+			this.discoverers.add(d.cached());
 		this.manDiscoverer = new ManualDiscoverer();
-		this.discoverers.add(this.manDiscoverer);
+		this.discoverers.add(this.manDiscoverer.cached());
 		this.typeService = typeService;
 		this.log = log;
 		this.history = history;
@@ -180,6 +200,21 @@ public class DefaultOpEnvironment implements OpEnvironment {
 		this(typeService, log, history, Arrays.asList(d));
 	}
 
+	private static Logger defaultLogger() {
+		if (Boolean.getBoolean(ASYNC_LOGGING_PROPERTY)) return AsyncLogging.LOGGERS
+			.create();
+		return new StderrLoggerFactory().create();
+	}
+
+	/**
+	 * Holds the {@link AsyncLoggerFactory} shared by all environments, such
+	 * that they share one writer thread. Created only when first used.
+	 */
+	private static final class AsyncLogging {
+
+		private static final LoggerFactory LOGGERS = new AsyncLoggerFactory();
+	}
+
 	public static List<MatchingRoutine> getMatchingRoutines(
 		final List<Discoverer> discoverers)
 	{
@@ -343,6 +378,19 @@ public class DefaultOpEnvironment implements OpEnvironment {
 			else
 				this.manDiscoverer.register(o);
 		}
+		// previously failed requests might now be matched
+		matcher.invalidate();
+	}
+
+	/**
+	 * Gets the number of times Ops have been {@link #register(Object...)
+	 * registered} with this environment. State derived from the available Ops
+	 * is current as long as this number is unchanged.
+	 *
+	 * @return the current generation of this environment
+	 */
+	public long generation() {
+		return matcher.generation();
 	}
 	
 	@Override
@@ -603,12 +651,11 @@ public class DefaultOpEnvironment implements OpEnvironment {
 		for (final OpDependencyMember<?> dependency : dependencies) {
 			final OpRef dependencyRef = inferOpRef(dependency, typeVarAssigns);
 			try {
-				// TODO: Consider a new Hint implementation
-				Hints hintsCopy = hints.plus(DependencyMatching.IN_PROGRESS,
-					Simplification.FORBIDDEN);
-				if (!dependency.isAdaptable()) {
-					hintsCopy = hintsCopy.plus(Adaptation.FORBIDDEN);
-				}
+				Hints hintsCopy = dependency.isAdaptable() ? //
+					hints.plus(DependencyMatching.IN_PROGRESS,
+						Simplification.FORBIDDEN) : //
+					hints.plus(DependencyMatching.IN_PROGRESS,
+						Simplification.FORBIDDEN, Adaptation.FORBIDDEN);
 
 				MatchingConditions conditions = generateCacheHit(dependencyRef,
 					hintsCopy);
@@ -785,8 +832,9 @@ public class DefaultOpEnvironment implements OpEnvironment {
 
 	@Override
 	public Hints getDefaultHints() {
-		if (this.environmentHints != null) return this.environmentHints.copy();
-		return new Hints();
+		// NB Hints are immutable, so there is no need to copy them
+		if (this.environmentHints != null) return this.environmentHints;
+		return NO_HINTS;
 	}
 
 	@Override
@@ -37,6 +37,7 @@ package org.scijava.ops.engine.adapt.lift;
 import java.util.function.Function;
 
 import org.scijava.function.Computers;
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpCollection;
 
@@ -61,6 +62,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (out) -> {
 				int max = minLength(out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(out[i]);
 				}
 			};
@@ -72,6 +74,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in, out) -> {
 				int max = minLength(in, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in[i], out[i]);
 				}
 			};
@@ -83,6 +86,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, out) -> {
 				int max = minLength(in1, in2, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], out[i]);
 				}
 			};
@@ -94,6 +98,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, out) -> {
 				int max = minLength(in1, in2, in3, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], out[i]);
 				}
 			};
@@ -105,6 +110,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, out) -> {
 				int max = minLength(in1, in2, in3, in4, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], out[i]);
 				}
 			};
@@ -116,6 +122,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], out[i]);
 				}
 			};
@@ -127,6 +134,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], out[i]);
 				}
 			};
@@ -138,6 +146,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], out[i]);
 				}
 			};
@@ -149,6 +158,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], out[i]);
 				}
 			};
@@ -160,6 +170,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], out[i]);
 				}
 			};
@@ -171,6 +182,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], out[i]);
 				}
 			};
@@ -182,6 +194,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], out[i]);
 				}
 			};
@@ -193,6 +206,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], out[i]);
 				}
 			};
@@ -204,6 +218,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], out[i]);
 				}
 			};
@@ -215,6 +230,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], out[i]);
 				}
 			};
@@ -226,6 +242,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], out[i]);
 				}
 			};
@@ -237,6 +254,7 @@ public class ComputerToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16, out);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					computer.compute(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i], out[i]);
 				}
 			};
@@ -38,6 +38,7 @@ import java.util.Iterator;
 import java.util.function.Function;
 
 import org.scijava.function.Computers;
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpCollection;
 
@@ -57,6 +58,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 			return (out) -> {
 				Iterator<O> itrout = out.iterator();
 				while (itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrout.next());
 				}
 			};
@@ -69,6 +71,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I> itrin = in.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin.next(), itrout.next());
 				}
 			};
@@ -82,6 +85,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I2> itrin2 = in2.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrout.next());
 				}
 			};
@@ -96,6 +100,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I3> itrin3 = in3.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrout.next());
 				}
 			};
@@ -111,6 +116,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I4> itrin4 = in4.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrout.next());
 				}
 			};
@@ -127,6 +133,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I5> itrin5 = in5.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrout.next());
 				}
 			};
@@ -144,6 +151,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I6> itrin6 = in6.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrout.next());
 				}
 			};
@@ -162,6 +170,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I7> itrin7 = in7.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrout.next());
 				}
 			};
@@ -181,6 +190,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I8> itrin8 = in8.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrout.next());
 				}
 			};
@@ -201,6 +211,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I9> itrin9 = in9.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrout.next());
 				}
 			};
@@ -222,6 +233,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I10> itrin10 = in10.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrout.next());
 				}
 			};
@@ -244,6 +256,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I11> itrin11 = in11.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrout.next());
 				}
 			};
@@ -267,6 +280,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I12> itrin12 = in12.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrin12.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrin12.next(), itrout.next());
 				}
 			};
@@ -291,6 +305,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I13> itrin13 = in13.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrin12.hasNext() && itrin13.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrin12.next(), itrin13.next(), itrout.next());
 				}
 			};
@@ -316,6 +331,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I14> itrin14 = in14.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrin12.hasNext() && itrin13.hasNext() && itrin14.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrin12.next(), itrin13.next(), itrin14.next(), itrout.next());
 				}
 			};
@@ -342,6 +358,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I15> itrin15 = in15.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrin12.hasNext() && itrin13.hasNext() && itrin14.hasNext() && itrin15.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrin12.next(), itrin13.next(), itrin14.next(), itrin15.next(), itrout.next());
 				}
 			};
@@ -369,6 +386,7 @@ public class ComputerToIterables<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11
 				Iterator<I16> itrin16 = in16.iterator();
 				Iterator<O> itrout = out.iterator();
 				while (itrin1.hasNext() && itrin2.hasNext() && itrin3.hasNext() && itrin4.hasNext() && itrin5.hasNext() && itrin6.hasNext() && itrin7.hasNext() && itrin8.hasNext() && itrin9.hasNext() && itrin10.hasNext() && itrin11.hasNext() && itrin12.hasNext() && itrin13.hasNext() && itrin14.hasNext() && itrin15.hasNext() && itrin16.hasNext() && itrout.hasNext()) {
+					OpFuture.checkCanceled();
 					computer.compute(itrin1.next(), itrin2.next(), itrin3.next(), itrin4.next(), itrin5.next(), itrin6.next(), itrin7.next(), itrin8.next(), itrin9.next(), itrin10.next(), itrin11.next(), itrin12.next(), itrin13.next(), itrin14.next(), itrin15.next(), itrin16.next(), itrout.next());
 				}
 			};
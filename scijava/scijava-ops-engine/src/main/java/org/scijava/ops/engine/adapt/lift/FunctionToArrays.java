@@ -39,6 +39,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.scijava.function.Functions;
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpCollection;
@@ -76,6 +77,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in[i]);
 				}
 				return out;
@@ -93,6 +95,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i]);
 				}
 				return out;
@@ -110,6 +113,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i]);
 				}
 				return out;
@@ -127,6 +131,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i]);
 				}
 				return out;
@@ -144,6 +149,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i]);
 				}
 				return out;
@@ -161,6 +167,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i]);
 				}
 				return out;
@@ -178,6 +185,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i]);
 				}
 				return out;
@@ -195,6 +203,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i]);
 				}
 				return out;
@@ -212,6 +221,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 				return out;
@@ -229,6 +239,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 				return out;
@@ -246,6 +257,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 				return out;
@@ -263,6 +275,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 				return out;
@@ -280,6 +293,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 				return out;
@@ -297,6 +311,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 				return out;
@@ -314,6 +329,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 				return out;
@@ -331,6 +347,7 @@ public class FunctionToArrays<I, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 				O[] out = (O[]) Array.newInstance(component.getClass(), len);
 				
 				for (int i = 0; i < len; i++) {
+					OpFuture.checkCanceled();
 					out[i] = function.apply(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 				return out;
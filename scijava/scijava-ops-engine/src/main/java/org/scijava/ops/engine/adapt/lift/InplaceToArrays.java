@@ -37,6 +37,7 @@ package org.scijava.ops.engine.adapt.lift;
 import java.util.function.Function;
 
 import org.scijava.function.Inplaces;
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpField;
 import org.scijava.ops.spi.OpCollection;
@@ -63,6 +64,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io) -> {
 				int max = minLength(io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i]);
 				}
 			};
@@ -74,6 +76,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2) -> {
 				int max = minLength(io, in2);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i]);
 				}
 			};
@@ -85,6 +88,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io) -> {
 				int max = minLength(in1, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i]);
 				}
 			};
@@ -96,6 +100,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3) -> {
 				int max = minLength(io, in2, in3);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i]);
 				}
 			};
@@ -107,6 +112,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3) -> {
 				int max = minLength(in1, io, in3);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i]);
 				}
 			};
@@ -118,6 +124,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io) -> {
 				int max = minLength(in1, in2, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i]);
 				}
 			};
@@ -129,6 +136,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4) -> {
 				int max = minLength(io, in2, in3, in4);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i]);
 				}
 			};
@@ -140,6 +148,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4) -> {
 				int max = minLength(in1, io, in3, in4);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i]);
 				}
 			};
@@ -151,6 +160,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4) -> {
 				int max = minLength(in1, in2, io, in4);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i]);
 				}
 			};
@@ -162,6 +172,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io) -> {
 				int max = minLength(in1, in2, in3, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i]);
 				}
 			};
@@ -173,6 +184,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5) -> {
 				int max = minLength(io, in2, in3, in4, in5);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i]);
 				}
 			};
@@ -184,6 +196,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5) -> {
 				int max = minLength(in1, io, in3, in4, in5);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i]);
 				}
 			};
@@ -195,6 +208,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5) -> {
 				int max = minLength(in1, in2, io, in4, in5);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i]);
 				}
 			};
@@ -206,6 +220,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5) -> {
 				int max = minLength(in1, in2, in3, io, in5);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i]);
 				}
 			};
@@ -217,6 +232,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io) -> {
 				int max = minLength(in1, in2, in3, in4, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i]);
 				}
 			};
@@ -228,6 +244,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i]);
 				}
 			};
@@ -239,6 +256,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i]);
 				}
 			};
@@ -250,6 +268,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i]);
 				}
 			};
@@ -261,6 +280,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i]);
 				}
 			};
@@ -272,6 +292,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i]);
 				}
 			};
@@ -283,6 +304,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i]);
 				}
 			};
@@ -294,6 +316,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i]);
 				}
 			};
@@ -305,6 +328,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i]);
 				}
 			};
@@ -316,6 +340,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i]);
 				}
 			};
@@ -327,6 +352,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i]);
 				}
 			};
@@ -338,6 +364,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i]);
 				}
 			};
@@ -349,6 +376,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i]);
 				}
 			};
@@ -360,6 +388,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i]);
 				}
 			};
@@ -371,6 +400,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i]);
 				}
 			};
@@ -382,6 +412,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i]);
 				}
 			};
@@ -393,6 +424,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i]);
 				}
 			};
@@ -404,6 +436,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i]);
 				}
 			};
@@ -415,6 +448,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i]);
 				}
 			};
@@ -426,6 +460,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i]);
 				}
 			};
@@ -437,6 +472,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i]);
 				}
 			};
@@ -448,6 +484,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i]);
 				}
 			};
@@ -459,6 +496,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -470,6 +508,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -481,6 +520,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -492,6 +532,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -503,6 +544,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -514,6 +556,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i]);
 				}
 			};
@@ -525,6 +568,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i]);
 				}
 			};
@@ -536,6 +580,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i]);
 				}
 			};
@@ -547,6 +592,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i]);
 				}
 			};
@@ -558,6 +604,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -569,6 +616,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -580,6 +628,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -591,6 +640,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -602,6 +652,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -613,6 +664,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -624,6 +676,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i]);
 				}
 			};
@@ -635,6 +688,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i]);
 				}
 			};
@@ -646,6 +700,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i]);
 				}
 			};
@@ -657,6 +712,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i]);
 				}
 			};
@@ -668,6 +724,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -679,6 +736,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -690,6 +748,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -701,6 +760,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -712,6 +772,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -723,6 +784,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -734,6 +796,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -745,6 +808,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i]);
 				}
 			};
@@ -756,6 +820,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i]);
 				}
 			};
@@ -767,6 +832,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i]);
 				}
 			};
@@ -778,6 +844,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i]);
 				}
 			};
@@ -789,6 +856,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -800,6 +868,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -811,6 +880,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -822,6 +892,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -833,6 +904,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -844,6 +916,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -855,6 +928,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -866,6 +940,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -877,6 +952,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i], in12[i]);
 				}
 			};
@@ -888,6 +964,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i], in12[i]);
 				}
 			};
@@ -899,6 +976,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i], in12[i]);
 				}
 			};
@@ -910,6 +988,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], io[i]);
 				}
 			};
@@ -921,6 +1000,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -932,6 +1012,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -943,6 +1024,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -954,6 +1036,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -965,6 +1048,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -976,6 +1060,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -987,6 +1072,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -998,6 +1084,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -1009,6 +1096,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -1020,6 +1108,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i], in12[i], in13[i]);
 				}
 			};
@@ -1031,6 +1120,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i], in12[i], in13[i]);
 				}
 			};
@@ -1042,6 +1132,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], io[i], in13[i]);
 				}
 			};
@@ -1053,6 +1144,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], io[i]);
 				}
 			};
@@ -1064,6 +1156,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1075,6 +1168,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1086,6 +1180,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1097,6 +1192,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1108,6 +1204,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1119,6 +1216,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1130,6 +1228,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1141,6 +1240,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1152,6 +1252,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1163,6 +1264,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1174,6 +1276,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i], in12[i], in13[i], in14[i]);
 				}
 			};
@@ -1185,6 +1288,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], io[i], in13[i], in14[i]);
 				}
 			};
@@ -1196,6 +1300,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], io[i], in14[i]);
 				}
 			};
@@ -1207,6 +1312,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], io[i]);
 				}
 			};
@@ -1218,6 +1324,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1229,6 +1336,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1240,6 +1348,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1251,6 +1360,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1262,6 +1372,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1273,6 +1384,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1284,6 +1396,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1295,6 +1408,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1306,6 +1420,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1317,6 +1432,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1328,6 +1444,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i], in12[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1339,6 +1456,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], io[i], in13[i], in14[i], in15[i]);
 				}
 			};
@@ -1350,6 +1468,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], io[i], in14[i], in15[i]);
 				}
 			};
@@ -1361,6 +1480,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io, in15) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io, in15);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], io[i], in15[i]);
 				}
 			};
@@ -1372,6 +1492,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], io[i]);
 				}
 			};
@@ -1383,6 +1504,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(io, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(io[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1394,6 +1516,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, io, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], io[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1405,6 +1528,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, io, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], io[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1416,6 +1540,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, io, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], io[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1427,6 +1552,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, io, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], io[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1438,6 +1564,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, io, in7, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], io[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1449,6 +1576,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, io, in8, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], io[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1460,6 +1588,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, io, in9, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], io[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1471,6 +1600,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, io, in10, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], io[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1482,6 +1612,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, io, in11, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], io[i], in11[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1493,6 +1624,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, io, in12, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], io[i], in12[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1504,6 +1636,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, io, in13, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], io[i], in13[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1515,6 +1648,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, io, in14, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], io[i], in14[i], in15[i], in16[i]);
 				}
 			};
@@ -1526,6 +1660,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io, in15, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, io, in15, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], io[i], in15[i], in16[i]);
 				}
 			};
@@ -1537,6 +1672,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, io, in16) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, io, in16);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], io[i], in16[i]);
 				}
 			};
@@ -1548,6 +1684,7 @@ public class InplaceToArrays<IO, I1, I2, I3, I4, I5, I6, I7, I8, I9, I10, I11, I
 			return (in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, io) -> {
 				int max = minLength(in1, in2, in3, in4, in5, in6, in7, in8, in9, in10, in11, in12, in13, in14, in15, io);
 				for (int i = 0; i < max; i++) {
+					OpFuture.checkCanceled();
 					inplace.mutate(in1[i], in2[i], in3[i], in4[i], in5[i], in6[i], in7[i], in8[i], in9[i], in10[i], in11[i], in12[i], in13[i], in14[i], in15[i], io[i]);
 				}
 			};
@@ -10,6 +10,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,6 +39,12 @@ import org.scijava.types.inference.GenericAssignability;
 
 public class AdaptationMatchingRoutine implements MatchingRoutine {
 
+	/**
+	 * The {@code adapt} Ops of the last {@link OpEnvironment}, grouped by the
+	 * raw types they can adapt to.
+	 */
+	private volatile AdaptorIndex index;
+
 	@Override
 	public void checkSuitability(MatchingConditions conditions)
 		throws OpMatchingException
@@ -74,18 +81,14 @@ public class AdaptationMatchingRoutine implements MatchingRoutine {
 	{
 		Hints adaptationHints = conditions.hints().plus(Adaptation.IN_PROGRESS);
 		List<DependencyMatchingException> depExceptions = new ArrayList<>();
-		for (final OpInfo adaptor : env.infos("adapt")) {
+		for (final OpInfo adaptor : adaptors(env, matcher, conditions.ref()
+			.getType()))
+		{
 			Type adaptTo = adaptor.output().getType();
 			Map<TypeVariable<?>, Type> map = new HashMap<>();
 			// make sure that the adaptor outputs the correct type
 			if (!adaptOpOutputSatisfiesRefTypes(adaptTo, map, conditions.ref()))
 				continue;
-			// make sure that the adaptor is a Function (so we can cast it later)
-			if (Types.isInstance(adaptor.opType(), Function.class)) {
-//				log.debug(adaptor + " is an illegal adaptor Op: must be a Function");
-				continue;
-			}
-
 			if (adaptor instanceof SimplifiedOpInfo) {
 //				log.debug(adaptor + " has been simplified. This is likely a typo.");
 			}
@@ -162,6 +165,42 @@ public class AdaptationMatchingRoutine implements MatchingRoutine {
 			conditions);
 	}
 
+	/**
+	 * Finds the {@code adapt} Ops whose output could be assigned to
+	 * {@code opType}, skipping those that cannot possibly match.
+	 * <p>
+	 * The index is rebuilt only when a {@link DefaultOpMatcher} reports that
+	 * the available Ops have changed. Other {@link OpMatcher}s give no such
+	 * signal, so the {@code adapt} Ops are then compared on each request.
+	 * </p>
+	 */
+	private List<OpInfo> adaptors(OpEnvironment env, OpMatcher matcher,
+		Type opType)
+	{
+		AdaptorIndex i = index;
+		if (matcher instanceof DefaultOpMatcher) {
+			final long generation = ((DefaultOpMatcher) matcher).generation();
+			if (i == null || i.env != env || i.matcher != matcher ||
+				i.generation != generation)
+			{
+				i = new AdaptorIndex(env, matcher, generation, env.infos("adapt"));
+				index = i;
+			}
+		}
+		else {
+			final List<OpInfo> adaptors = env.infos("adapt");
+			if (i == null || i.env != env || i.matcher != matcher || !i.adaptors
+				.equals(adaptors))
+			{
+				i = new AdaptorIndex(env, matcher, -1, adaptors);
+				index = i;
+			}
+		}
+		// non-parameterized requests can be satisfied by adaptor supertypes
+		if (!(opType instanceof ParameterizedType)) return i.usable;
+		return i.adaptorsTo(Types.raw(opType));
+	}
+
 	private OpRef inferOpRef(OpDependencyMember<?> dependency,
 		Map<TypeVariable<?>, Type> typeVarAssigns) 
 	{
@@ -256,4 +295,44 @@ public class AdaptationMatchingRoutine implements MatchingRoutine {
 		return Priority.LOW;
 	}
 
+	/**
+	 * The {@code adapt} Ops of an {@link OpEnvironment}, grouped lazily by the
+	 * raw types of parameterized requests they could satisfy.
+	 */
+	private static final class AdaptorIndex {
+
+		private final OpEnvironment env;
+		private final OpMatcher matcher;
+		private final long generation;
+		private final List<OpInfo> adaptors;
+		private final List<OpInfo> usable;
+		private final Map<Class<?>, List<OpInfo>> byRawType =
+			new ConcurrentHashMap<>();
+
+		private AdaptorIndex(OpEnvironment env, OpMatcher matcher,
+			long generation, List<OpInfo> adaptors)
+		{
+			this.env = env;
+			this.matcher = matcher;
+			this.generation = generation;
+			this.adaptors = adaptors;
+			// make sure that the adaptor is a Function (so we can cast it later)
+			this.usable = adaptors.stream() //
+				.filter(adaptor -> !Types.isInstance(adaptor.opType(),
+					Function.class)) //
+				.collect(Collectors.toList());
+		}
+
+		private List<OpInfo> adaptorsTo(Class<?> rawType) {
+			if (rawType == null) return usable;
+			// the raw adaptor output must be assignable to the requested raw type
+			return byRawType.computeIfAbsent(rawType, raw -> usable.stream() //
+				.filter(adaptor -> {
+					final Class<?> output = Types.raw(adaptor.output().getType());
+					return output == null || Types.isAssignable(output, raw);
+				}) //
+				.collect(Collectors.toList()));
+		}
+	}
+
 }
@@ -32,7 +32,10 @@ package org.scijava.ops.engine.matcher.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.scijava.ops.api.OpCandidate;
 import org.scijava.ops.api.OpEnvironment;
@@ -45,13 +48,38 @@ import org.scijava.ops.api.features.OpMatchingException;
 /**
  * Default implementation of {@link OpMatcher}. Used for finding Ops which match
  * a {@link OpRef request}.
+ * <p>
+ * The most recent {@link MatchingConditions} that could not be matched are
+ * remembered, along with the failure of each {@link MatchingRoutine}, so that
+ * repeated requests (including those nested within other matching routines)
+ * fail fast. Each such request throws a new {@link OpMatchingException}. As the
+ * outcome depends on the Ops available, {@link #invalidate()} must be called
+ * whenever Ops are added.
+ * </p>
  *
  * @author David Kolb
  */
 public class DefaultOpMatcher implements OpMatcher {
 
+	/** Maximum number of remembered failures. */
+	private static final int MAX_FAILURES = 1024;
+
 	private final List<MatchingRoutine> matchers;
 
+	private final Map<MatchingConditions, List<OpMatchingException>> failures =
+		Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				final Map.Entry<MatchingConditions, List<OpMatchingException>> eldest)
+			{
+				return size() > MAX_FAILURES;
+			}
+		});
+
+	/** Incremented whenever the Ops available for matching change. */
+	private final AtomicLong generation = new AtomicLong();
+
 	public DefaultOpMatcher(Collection<? extends MatchingRoutine> matchers) {
 		this.matchers = new ArrayList<>(matchers);
 		Collections.sort(this.matchers, Collections.reverseOrder());
@@ -59,6 +87,9 @@ public class DefaultOpMatcher implements OpMatcher {
 
 	@Override
 	public OpCandidate match(MatchingConditions conditions, OpEnvironment env) {
+		final List<OpMatchingException> failure = failures.get(conditions);
+		if (failure != null) throw agglomeratedException(failure);
+
 		List<OpMatchingException> exceptions = new ArrayList<>(matchers.size());
 		// in priority order, search for a match
 		for (MatchingRoutine r : matchers) {
@@ -71,9 +102,30 @@ public class DefaultOpMatcher implements OpMatcher {
 		}
 
 		// in the case of no matches, throw an agglomerated exception
+		failures.put(conditions, Collections.unmodifiableList(exceptions));
 		throw agglomeratedException(exceptions);
 	}
 
+	/**
+	 * Forgets all remembered failures. Must be called when the Ops available
+	 * for matching change.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		failures.clear();
+	}
+
+	/**
+	 * Gets the number of times this matcher has been {@link #invalidate()
+	 * invalidated}. Matching routines may use it to tell whether state derived
+	 * from the available Ops is still current.
+	 *
+	 * @return the current generation of this matcher
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
 	private OpMatchingException agglomeratedException(
 		List<OpMatchingException> list)
 	{
@@ -13,6 +13,7 @@ import org.scijava.ops.api.features.BaseOpHints.Simplification;
 import org.scijava.ops.api.features.MatchingConditions;
 import org.scijava.ops.api.features.OpMatchingException;
 import org.scijava.ops.engine.simplify.InfoSimplificationGenerator;
+import org.scijava.ops.engine.simplify.SimplifiedOpRef;
 import org.scijava.priority.Priority;
 import org.scijava.types.Types;
 
@@ -35,14 +36,18 @@ public class ReductionMatchingRoutine extends RuntimeSafeMatchingRoutine {
 		Hints hints = conditions.hints().plus(Simplification.IN_PROGRESS);
 		Iterable<OpInfo> suitableInfos = env.infos(ref.getName(), hints);
 		Set<OpInfo> simpleInfos = new HashSet<>();
+		// NB the simplified ref does not depend on the info, so build it once
+		SimplifiedOpRef simpleRef = null;
 		for (OpInfo info : suitableInfos) {
 			boolean functionallyAssignable = Types.isAssignable(Types.raw(info
 				.opType()), Types.raw(ref.getType()));
 			if (!functionallyAssignable) continue;
 			try {
+				if (simpleRef == null) simpleRef = SimplifiedOpRef.simplificationOf(env,
+					ref, hints);
 				InfoSimplificationGenerator gen = new InfoSimplificationGenerator(info,
 					env);
-				simpleInfos.add(gen.generateSuitableInfo(env, ref, hints));
+				simpleInfos.add(gen.generateSuitableInfo(simpleRef));
 			}
 			catch (Throwable e) {
 				continue;
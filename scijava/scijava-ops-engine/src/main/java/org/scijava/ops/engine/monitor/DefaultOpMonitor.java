@@ -1,5 +1,6 @@
 package org.scijava.ops.engine.monitor;
 
+import org.scijava.ops.api.OpFuture;
 import org.scijava.ops.engine.log.Logger;
 
 /**
@@ -31,9 +32,16 @@ public class DefaultOpMonitor implements OpMonitor {
 		progress = 0d;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Computation is also canceled when the {@link OpFuture} executing the Op
+	 * has been canceled, or has timed out.
+	 * </p>
+	 */
 	@Override
 	public boolean isCanceled() {
-		return canceled;
+		return canceled || OpFuture.isCurrentCanceled();
 	}
 
 	@Override
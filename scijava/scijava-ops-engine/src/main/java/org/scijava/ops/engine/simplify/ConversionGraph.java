@@ -0,0 +1,179 @@
+package org.scijava.ops.engine.simplify;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.scijava.ops.api.OpEnvironment;
+import org.scijava.ops.api.OpInfo;
+import org.scijava.ops.engine.DefaultOpEnvironment;
+import org.scijava.types.Types;
+
+/**
+ * The {@link Type} conversions available to simplification within an
+ * {@link OpEnvironment}. Each {@link TypePair} is connected by the best
+ * {@link MutatorChain} (i.e. a simplifier followed by a focuser) between its
+ * {@link Type}s, if any.
+ * <p>
+ * The graph is built lazily: the simplifiers and focusers applicable to a
+ * {@link Type}, and the best pathway for a {@link TypePair}, are computed once
+ * and then shared by every simplification in the environment. A new graph is
+ * built whenever the {@code simplify} or {@code focus} Ops of the environment
+ * change.
+ * </p>
+ */
+public class ConversionGraph {
+
+	private static final Map<OpEnvironment, ConversionGraph> graphs = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * The {@link DefaultOpEnvironment#generation() generation} of the
+	 * environment when this graph was built, or {@code -1} if the environment
+	 * does not report generations.
+	 */
+	private final long generation;
+	private final List<OpInfo> simplifyInfos;
+	private final List<OpInfo> focusInfos;
+
+	private final List<OpInfo> simplifiers;
+	private final List<OpInfo> focusers;
+
+	private final Map<Type, List<OpInfo>> simplifiersFrom =
+		new ConcurrentHashMap<>();
+	private final Map<Type, List<OpInfo>> focusersTo = new ConcurrentHashMap<>();
+
+	/**
+	 * The best pathway for each solved {@link TypePair}. NB
+	 * {@link MutatorChain}s refer to their {@link OpEnvironment} weakly, so the
+	 * graph does not keep it alive.
+	 */
+	private final Map<TypePair, Optional<MutatorChain>> pathways =
+		new ConcurrentHashMap<>();
+
+	private ConversionGraph(long generation, List<OpInfo> simplifyInfos,
+		List<OpInfo> focusInfos)
+	{
+		this.generation = generation;
+		this.simplifyInfos = simplifyInfos;
+		this.focusInfos = focusInfos;
+		this.simplifiers = functions(simplifyInfos);
+		this.focusers = functions(focusInfos);
+	}
+
+	/**
+	 * Obtains the {@link ConversionGraph} of {@code env}.
+	 *
+	 * @param env the {@link OpEnvironment} containing the mutators
+	 * @return the {@link ConversionGraph} of {@code env}
+	 */
+	public static ConversionGraph of(OpEnvironment env) {
+		final ConversionGraph graph = graphs.get(env);
+		if (env instanceof DefaultOpEnvironment) {
+			// NB read the generation first, lest newer Ops be labeled as older ones
+			final long generation = ((DefaultOpEnvironment) env).generation();
+			if (graph != null && graph.generation == generation) return graph;
+			return build(env, generation, env.infos("simplify"), env.infos(
+				"focus"));
+		}
+		// other environments must be checked for changed mutators
+		final List<OpInfo> simplifyInfos = env.infos("simplify");
+		final List<OpInfo> focusInfos = env.infos("focus");
+		if (graph != null && graph.simplifyInfos.equals(simplifyInfos) &&
+			graph.focusInfos.equals(focusInfos)) return graph;
+		return build(env, -1, simplifyInfos, focusInfos);
+	}
+
+	private static ConversionGraph build(OpEnvironment env, long generation,
+		List<OpInfo> simplifyInfos, List<OpInfo> focusInfos)
+	{
+		final ConversionGraph graph = new ConversionGraph(generation,
+			simplifyInfos, focusInfos);
+		// NB a graph built concurrently from older Ops may replace this one; it
+		// is then rebuilt on the next request
+		graphs.put(env, graph);
+		return graph;
+	}
+
+	/**
+	 * Obtains all simplifiers that can operate on {@code t}.
+	 *
+	 * @param t the {@link Type} we are interested in simplifying
+	 * @return the simplifiers whose input is assignable from {@code t}
+	 */
+	public List<OpInfo> simplifiersFrom(Type t) {
+		return lookup(simplifiersFrom, t, simplifiers, //
+			info -> Types.isAssignable(t, info.inputs().get(0).getType()));
+	}
+
+	/**
+	 * Obtains all focusers that can produce {@code t}.
+	 *
+	 * @param t the {@link Type} we are interested in focusing to
+	 * @return the focusers whose output is assignable to {@code t}
+	 */
+	public List<OpInfo> focusersTo(Type t) {
+		return lookup(focusersTo, t, focusers, //
+			info -> Types.isAssignable(t, info.output().getType()));
+	}
+
+	/**
+	 * Finds the best {@link MutatorChain} converting {@code pairing.getA()} into
+	 * {@code pairing.getB()}. It is desirable for Identity functions to be used
+	 * over non-Identity functions, thus the pathway with the most identity
+	 * mutations is preferred.
+	 *
+	 * @param pairing the conversion
+	 * @param env the {@link OpEnvironment} used to instantiate the mutators
+	 * @return the best {@link MutatorChain} for {@code pairing}, or
+	 *         {@link Optional#empty()} iff no such chain exists
+	 */
+	public Optional<MutatorChain> pathway(TypePair pairing, OpEnvironment env) {
+		Optional<MutatorChain> chain = pathways.get(pairing);
+		if (chain == null) {
+			chain = bestChain(pairing, env);
+			Optional<MutatorChain> prior = pathways.putIfAbsent(pairing, chain);
+			if (prior != null) chain = prior;
+		}
+		return chain;
+	}
+
+	private Optional<MutatorChain> bestChain(TypePair pairing,
+		OpEnvironment env)
+	{
+		ChainCluster cluster = ChainCluster.generateCluster(pairing,
+			simplifiersFrom(pairing.getA()), focusersTo(pairing.getB()), env);
+		return cluster.getChains().stream().max(MutatorChain::compareTo);
+	}
+
+	private static List<OpInfo> lookup(Map<Type, List<OpInfo>> cache, Type t,
+		List<OpInfo> mutators, Predicate<OpInfo> filter)
+	{
+		// NB ConcurrentHashMap does not support null keys
+		if (t == null) return filter(mutators, filter);
+		return cache.computeIfAbsent(t, type -> filter(mutators, filter));
+	}
+
+	private static List<OpInfo> filter(List<OpInfo> mutators,
+		Predicate<OpInfo> filter)
+	{
+		return mutators.stream() //
+			.filter(filter) //
+			.collect(Collectors.toUnmodifiableList());
+	}
+
+	private static List<OpInfo> functions(List<OpInfo> infos) {
+		return infos.stream() //
+			.filter(info -> Function.class.isAssignableFrom(Types.raw(info
+				.opType()))) //
+			.collect(Collectors.toUnmodifiableList());
+	}
+
+}
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.scijava.ops.api.Hints;
 import org.scijava.ops.api.OpEnvironment;
@@ -22,14 +23,18 @@ public class InfoSimplificationGenerator {
 	private final OpEnvironment env;
 	private final List<List<OpInfo>> focuserSets;
 	private final List<OpInfo> outputSimplifiers;
+	private final ConversionGraph graph;
 
 	public InfoSimplificationGenerator(OpInfo info, OpEnvironment env) {
 		this.info = info;
 		this.env = env;
+		this.graph = ConversionGraph.of(env);
 		Type[] args = info.inputTypes().toArray(Type[]::new);
-		this.focuserSets = SimplificationUtils.focusArgs(env, args);
+		this.focuserSets = Arrays.stream(args) //
+			.map(graph::focusersTo) //
+			.collect(Collectors.toList());
 		Type outType = info.output().getType();
-		this.outputSimplifiers = SimplificationUtils.getSimplifiers(env, outType);
+		this.outputSimplifiers = graph.simplifiersFrom(outType);
 	}
 
 	public List<List<OpInfo>> getFocusers(){
@@ -54,11 +59,7 @@ public class InfoSimplificationGenerator {
 				throw new IllegalArgumentException("OpInfo and OpRef do not share an Op type");
 		TypePair[] argPairings = generatePairings(ref);
 		TypePair outPairing = generateOutPairing(ref);
-		Map<TypePair, ChainCluster> pathways = findPathways(ref, argPairings, outPairing);
-		validateClusters(pathways);
-
-		Map<TypePair, MutatorChain> chains = new HashMap<>();
-		pathways.forEach((pair, cluster) -> chains.put(pair, resolveCluster(cluster)));
+		Map<TypePair, MutatorChain> chains = findPathways(ref, argPairings, outPairing);
 
 		SimplificationMetadata metadata = new SimplificationMetadata(ref, info, argPairings, outPairing, chains);
 		return new SimplifiedOpInfo(info, env, metadata);
@@ -79,62 +80,32 @@ public class InfoSimplificationGenerator {
 		return new TypePair(info.output().getType(), ref.srcRef().getOutType());
 	}
 
-	private Map<TypePair, ChainCluster> findPathways(SimplifiedOpRef ref, TypePair[] argPairings, TypePair outPairing) {
+	private Map<TypePair, MutatorChain> findPathways(SimplifiedOpRef ref, TypePair[] argPairings, TypePair outPairing) {
 		if (ref.srcRef().getArgs().length != info.inputs().size())
 			throw new IllegalArgumentException(
 				"ref and info must have the same number of arguments!");
 		int numInputs = ref.srcRef().getArgs().length;
 
-		Map<TypePair, ChainCluster> pathways = new HashMap<>();
-
-		List<List<OpInfo>> infoFocusers = focuserSets;
+		Map<TypePair, MutatorChain> pathways = new HashMap<>();
 		for (int i = 0; i < numInputs; i++) {
-			TypePair pairing = argPairings[i];
-			if (pathways.keySet().contains(pairing)) continue;
-			List<OpInfo> simplifiers = ref.simplifierSets().get(i);
-			List<OpInfo> focusers = infoFocusers.get(i);
-			ChainCluster cluster = ChainCluster.generateCluster(pairing, simplifiers, focusers, env);
-			pathways.put(pairing, cluster);
+			addPathway(pathways, argPairings[i]);
 		}
-
-		if(!pathways.keySet().contains(outPairing)) {
-			List<OpInfo> simplifiers = outputSimplifiers;
-			List<OpInfo> focusers = ref.outputFocusers();
-			ChainCluster cluster = ChainCluster.generateCluster(outPairing, simplifiers, focusers, env);
-			pathways.put(outPairing, cluster);
-		}
-
+		addPathway(pathways, outPairing);
 		return pathways;
 	}
 
 	/**
-	 * If any clusters have no chains from the input type to the output type, then
-	 * there does not exist a simplification pathway to mutate the ref type into
-	 * the info type. Thus the arg types do not "match"
+	 * If there is no chain from the input type to the output type of a pairing,
+	 * then there does not exist a simplification pathway to mutate the ref type
+	 * into the info type. Thus the arg types do not "match"
 	 */
-	private void validateClusters(Map<TypePair, ChainCluster> pathways) {
-		Optional<ChainCluster> invalidPath = pathways.values().parallelStream() //
-			.filter(cluster -> cluster.getChains().size() == 0).findAny();
-		if(invalidPath.isPresent()) {
-			TypePair unresolvablePair = invalidPath.get().getPairing();
-			throw new IllegalArgumentException(
-				"Cannot generate simplification: No mutation pathway exists from Type " +
-					unresolvablePair.getA() + " to Type " + unresolvablePair.getB());
-		}
-	}
-
-	private static MutatorChain resolveCluster(ChainCluster cluster) {
-		List<MutatorChain> chains = cluster.getChains();
-		switch (chains.size()) {
-			case 0:
-				throw new IllegalArgumentException(
-					"ChainCluster should have 1+ chains but has 0 chains!");
-			case 1:
-				return chains.get(0);
-			default:
-				// NB max returns Optional iff chains is empty, which it is not.
-				return chains.stream().max(MutatorChain::compareTo).get();
-		}
+	private void addPathway(Map<TypePair, MutatorChain> pathways, TypePair pairing) {
+		if (pathways.containsKey(pairing)) return;
+		Optional<MutatorChain> chain = graph.pathway(pairing, env);
+		if (chain.isEmpty()) throw new IllegalArgumentException(
+			"Cannot generate simplification: No mutation pathway exists from Type " +
+				pairing.getA() + " to Type " + pairing.getB());
+		pathways.put(pairing, chain.get());
 	}
 
 }
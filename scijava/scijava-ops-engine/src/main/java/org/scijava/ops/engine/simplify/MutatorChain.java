@@ -1,5 +1,6 @@
 package org.scijava.ops.engine.simplify;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.util.function.Function;
 
@@ -21,7 +22,11 @@ public class MutatorChain implements Comparable<MutatorChain>{
 	private final Type unfocused;
 	private final Type output;
 
-	private final OpEnvironment env;
+	/**
+	 * NB held weakly, so that memoized chains do not keep their
+	 * {@link OpEnvironment} alive
+	 */
+	private final WeakReference<OpEnvironment> env;
 
 	public MutatorChain(OpInfo simplifier,
 		OpInfo focuser, TypePair ioTypes, OpEnvironment env)
@@ -32,7 +37,7 @@ public class MutatorChain implements Comparable<MutatorChain>{
 		this.focusChain = null;
 		this.input = ioTypes.getA();
 		this.output = ioTypes.getB();
-		this.env = env;
+		this.env = new WeakReference<>(env);
 		
 		// determine simple and unfocused types.
 		Type simplifierInput = simplifier.inputs().stream().filter(m -> !m
@@ -57,6 +62,14 @@ public class MutatorChain implements Comparable<MutatorChain>{
 		return (sIdentity ? 1 : 0) + (fIdentity ? 1 : 0);
 	}
 
+	public OpInfo simplifierInfo() {
+		return simplifier;
+	}
+
+	public OpInfo focuserInfo() {
+		return focuser;
+	}
+
 	public InfoChain simplifier() {
 		if (simpleChain == null) generateSimpleChain();
 		return simpleChain;
@@ -66,7 +79,7 @@ public class MutatorChain implements Comparable<MutatorChain>{
 		if (simpleChain != null) return;
 		Type[] typeArgs = { input, simple };
 		Type specialType = Types.parameterize(Function.class, typeArgs);
-		simpleChain = env.chainFromInfo(simplifier, Nil.of(specialType));
+		simpleChain = env().chainFromInfo(simplifier, Nil.of(specialType));
 	}
 
 	public InfoChain focuser() {
@@ -78,7 +91,14 @@ public class MutatorChain implements Comparable<MutatorChain>{
 		if (focusChain != null) return;
 		Type[] typeArgs = { unfocused, output };
 		Type specialType = Types.parameterize(Function.class, typeArgs);
-		focusChain = env.chainFromInfo(focuser, Nil.of(specialType));
+		focusChain = env().chainFromInfo(focuser, Nil.of(specialType));
+	}
+
+	private OpEnvironment env() {
+		final OpEnvironment e = env.get();
+		if (e == null) throw new IllegalStateException(
+			"The OpEnvironment of this MutatorChain no longer exists");
+		return e;
 	}
 
 	public Type inputType() {
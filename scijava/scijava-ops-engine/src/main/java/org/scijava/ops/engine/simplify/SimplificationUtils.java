@@ -15,7 +15,6 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import org.scijava.function.Computers;
 import org.scijava.function.Container;
@@ -176,13 +175,7 @@ public class SimplificationUtils {
 	 * @return a list of simplifiers that can simplify {@code t}.
 	 */
 	public static List<OpInfo> getSimplifiers(OpEnvironment env, Type t) {
-		// TODO: optimize
-		Stream<OpInfo> infoStream = StreamSupport.stream(env.infos("simplify").spliterator(), true);
-		List<OpInfo> list = infoStream//
-				.filter(info -> Function.class.isAssignableFrom(Types.raw(info.opType()))) //
-				.filter(info -> Types.isAssignable(t, info.inputs().get(0).getType())) //
-				.collect(Collectors.toList());
-		return list;
+		return ConversionGraph.of(env).simplifiersFrom(t);
 	}
 
 	/**
@@ -205,13 +198,7 @@ public class SimplificationUtils {
 	 * @return a list of simplifiers that can simplify {@code t}.
 	 */
 	public static List<OpInfo> getFocusers(OpEnvironment env, Type t) {
-		// TODO: optimize
-		Stream<OpInfo> infoStream = StreamSupport.stream(env.infos("focus").spliterator(), true);
-		List<OpInfo> list = infoStream//
-				.filter(info -> Function.class.isAssignableFrom(Types.raw(info.opType()))) //
-				.filter(info -> Types.isAssignable(t, info.output().getType())) //
-				.collect(Collectors.toList());
-		return list;
+		return ConversionGraph.of(env).focusersTo(t);
 	}
 	
 	/**
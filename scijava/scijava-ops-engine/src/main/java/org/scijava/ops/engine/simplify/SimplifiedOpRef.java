@@ -118,8 +118,8 @@ public class SimplifiedOpRef implements OpRef {
 	 */
 	private static InfoChain simplifierCopyOp(OpEnvironment env, Type copyType, Hints hints) throws OpMatchingException{
 		// prevent further simplification/adaptation
-		Hints hintsCopy = hints.copy() //
-			.plus(Adaptation.FORBIDDEN, Simplification.FORBIDDEN);
+		Hints hintsCopy = hints.plus(Adaptation.FORBIDDEN,
+			Simplification.FORBIDDEN);
 
 		Nil<?> copyNil = Nil.of(copyType);
 		Type copierType = Types.parameterize(Computers.Arity1.class, new Type[] {
@@ -0,0 +1,105 @@
+package org.scijava.ops.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.scijava.function.Computers;
+import org.scijava.ops.api.OpBatch;
+import org.scijava.ops.spi.OpCollection;
+import org.scijava.ops.spi.OpField;
+import org.scijava.progress.Progress;
+
+/**
+ * Tests {@link OpBatch}.
+ *
+ * @see OpBuilderPrepareTest
+ */
+public class OpBatchTest extends AbstractTestEnvironment implements
+	OpCollection
+{
+
+	@BeforeAll
+	public static void addNeededOps() {
+		ops.register(new OpBatchTest());
+	}
+
+	public final String opName = "test.batch";
+
+	/**
+	 * @input in
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<Integer, Integer> reciprocal = in -> 100 / in;
+
+	/**
+	 * @input in
+	 * @container out
+	 */
+	@OpField(names = opName)
+	public final Computers.Arity1<Integer, int[]> fill = (in, out) -> Arrays
+		.fill(out, in);
+
+	@Test
+	public void testFunctionBatch() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			OpBatch.Result<Integer> result = ops.op(opName).arity1() //
+				.inType(Integer.class).outType(Integer.class).functionBatch() //
+				.executor(executor).maxInFlight(3) //
+				.apply(Arrays.asList(1, 2, 0, 4, 5), Function::apply);
+			Assertions.assertEquals(5, result.size());
+			Assertions.assertEquals(Arrays.asList(100, 50, null, 25, 20), result
+				.results());
+			Assertions.assertEquals(1, result.failures().size());
+			Assertions.assertTrue(result.failures()
+				.get(2) instanceof ArithmeticException);
+			Assertions.assertThrows(IllegalStateException.class, result::get);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testComputerBatchReusesOutputs() {
+		AtomicInteger allocations = new AtomicInteger();
+		OpBatch.Result<Integer> result = ops.op(opName).arity1() //
+			.inType(Integer.class).outType(int[].class).computerBatch() //
+			.maxInFlight(2) //
+			.compute(IntStream.range(0, 100).boxed(), () -> {
+				allocations.incrementAndGet();
+				return new int[3];
+			}, Computers.Arity1::compute, (in, out) -> out[0] + out[1] + out[2]);
+		Assertions.assertFalse(result.hasFailures());
+		List<Integer> sums = result.get();
+		for (int i = 0; i < 100; i++)
+			Assertions.assertEquals(3 * i, (int) sums.get(i));
+		Assertions.assertTrue(allocations.get() <= 2);
+	}
+
+	@Test
+	public void testBatchProgress() {
+		Function<Integer, Integer> op = ops.op(opName).arity1().inType(
+			Integer.class).outType(Integer.class).function();
+		AtomicInteger updates = new AtomicInteger();
+		Progress.addListener(op, task -> {
+			if (task.isComplete()) Assertions.assertEquals(1., task.progress());
+			updates.incrementAndGet();
+		});
+		OpBatch.Result<Integer> result = OpBatch.of(op).executor(Runnable::run)
+			.apply(Arrays.asList(1, 2, 4), Function::apply);
+		Assertions.assertEquals(Arrays.asList(100, 50, 25), result.get());
+		// one update per execution, and one for the completion of the batch
+		Assertions.assertEquals(4, updates.get());
+	}
+
+}
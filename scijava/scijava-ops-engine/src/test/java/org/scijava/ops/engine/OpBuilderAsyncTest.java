@@ -0,0 +1,218 @@
+package org.scijava.ops.engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.scijava.function.Computers;
+import org.scijava.ops.api.OpFuture;
+import org.scijava.ops.engine.monitor.DefaultOpMonitor;
+import org.scijava.ops.engine.monitor.OpMonitor;
+import org.scijava.ops.spi.OpCollection;
+import org.scijava.ops.spi.OpField;
+import org.scijava.progress.Progress;
+
+/**
+ * Tests the asynchronous executions returned by {@link org.scijava.ops.api.OpBuilder}.
+ *
+ * @see OpFuture
+ */
+public class OpBuilderAsyncTest extends AbstractTestEnvironment implements
+	OpCollection
+{
+
+	private static ExecutorService executor;
+
+	@BeforeAll
+	public static void addNeededOps() {
+		ops.register(new OpBuilderAsyncTest());
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterAll
+	public static void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public final String opName = "test.async";
+
+	/**
+	 * @input in
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<Double, Double> square = in -> in * in;
+
+	/**
+	 * @input in
+	 * @container out
+	 */
+	@OpField(names = opName)
+	public final Computers.Arity1<double[], double[]> negate = (in, out) -> {
+		for (int i = 0; i < in.length; i++)
+			out[i] = -in[i];
+	};
+
+	/**
+	 * @input monitor
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<OpMonitor, Long> spin = monitor -> {
+		started.countDown();
+		try {
+			long count = 0;
+			while (true) {
+				monitor.checkCanceled();
+				count++;
+			}
+		}
+		finally {
+			stopped.countDown();
+		}
+	};
+
+	/**
+	 * @input release
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<CountDownLatch, Integer> halfway = release -> {
+		Progress.defineTotalProgress(1);
+		Progress.setStageMax(2);
+		Progress.update();
+		started.countDown();
+		try {
+			release.await();
+		}
+		catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+		Progress.update();
+		return 2;
+	};
+
+	/**
+	 * @input es
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<ExecutorService, Long> spinElsewhere = es -> {
+		Future<?> part = es.submit(OpFuture.propagate(() -> {
+			started.countDown();
+			try {
+				while (true)
+					OpFuture.checkCanceled();
+			}
+			finally {
+				stopped.countDown();
+			}
+		}));
+		try {
+			part.get();
+			return 0L;
+		}
+		catch (InterruptedException e) {
+			// NB leave the part running; it must stop by itself
+			throw new CancellationException();
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e);
+		}
+	};
+
+	private static CountDownLatch started;
+	private static CountDownLatch stopped;
+
+	@Test
+	public void testApplyAsync() throws Exception {
+		OpFuture<Double> future = ops.op(opName).arity1().input(3.).outType(
+			Double.class).applyAsync(executor);
+		Assertions.assertEquals(9., future.get(), 0.);
+		Assertions.assertTrue(future.task().isComplete());
+	}
+
+	@Test
+	public void testComputeAsync() throws Exception {
+		double[] in = { 1, 2, 3 };
+		double[] out = new double[3];
+		OpFuture<double[]> future = ops.op(opName).arity1().input(in).output(out)
+			.computeAsync(executor);
+		Assertions.assertSame(out, future.get());
+		Assertions.assertArrayEquals(new double[] { -1, -2, -3 }, out);
+	}
+
+	@Test
+	public void testCancellation() throws Exception {
+		started = new CountDownLatch(1);
+		stopped = new CountDownLatch(1);
+		OpFuture<Long> future = ops.op(opName).arity1().input(
+			(OpMonitor) new DefaultOpMonitor()).outType(Long.class).applyAsync(
+				executor);
+		Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+		Assertions.assertTrue(future.cancel(true));
+		Assertions.assertThrows(CancellationException.class, future::get);
+		// the Op itself must stop, rather than keep its Thread busy
+		Assertions.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+		Assertions.assertEquals("Canceled", future.task().status());
+		Assertions.assertTrue(future.task().isComplete());
+	}
+
+	@Test
+	public void testProgress() throws Exception {
+		started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		OpFuture<Integer> future = ops.op(opName).arity1().input(release).outType(
+			Integer.class).applyAsync(executor);
+		Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+		Assertions.assertTrue(future.task().progressDefined());
+		Assertions.assertEquals(0.5, future.task().progress(), 1e-6);
+		release.countDown();
+		Assertions.assertEquals(2, future.get());
+		Assertions.assertEquals(1., future.task().progress(), 1e-6);
+	}
+
+	@Test
+	public void testCancellationOfParts() throws Exception {
+		started = new CountDownLatch(1);
+		stopped = new CountDownLatch(1);
+		OpFuture<Long> future = ops.op(opName).arity1().input(executor).outType(
+			Long.class).applyAsync(executor);
+		Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+		Assertions.assertTrue(future.cancel(true));
+		// the part outlives the Op's own Thread, yet must stop
+		Assertions.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		started = new CountDownLatch(1);
+		stopped = new CountDownLatch(1);
+		OpFuture<Long> future = ops.op(opName).arity1().input(
+			(OpMonitor) new DefaultOpMonitor()).outType(Long.class).applyAsync(
+				executor, 50, TimeUnit.MILLISECONDS);
+		ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+			future::get);
+		Assertions.assertTrue(e.getCause() instanceof TimeoutException);
+		Assertions.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+		Assertions.assertEquals("Timed out", future.task().status());
+		Assertions.assertTrue(future.task().isComplete());
+	}
+
+	@Test
+	public void testCheckCanceledOutsideExecution() {
+		Assertions.assertFalse(OpFuture.isCurrentCanceled());
+		OpFuture.checkCanceled();
+	}
+
+}
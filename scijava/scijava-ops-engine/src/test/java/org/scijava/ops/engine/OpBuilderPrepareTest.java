@@ -0,0 +1,108 @@
+package org.scijava.ops.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.scijava.function.Computers;
+import org.scijava.ops.api.OpBuilder;
+import org.scijava.ops.api.OpEnvironment;
+import org.scijava.ops.spi.OpCollection;
+import org.scijava.ops.spi.OpField;
+
+/**
+ * Tests the reusable Ops returned by {@link OpBuilder} {@code prepare()} calls.
+ *
+ * @see OpBuilderTest
+ */
+public class OpBuilderPrepareTest extends AbstractTestEnvironment implements
+	OpCollection
+{
+
+	@BeforeAll
+	public static void addNeededOps() {
+		ops.register(new OpBuilderPrepareTest());
+	}
+
+	public final String opName = "test.prepare";
+
+	/**
+	 * @input in
+	 * @output out
+	 */
+	@OpField(names = opName)
+	public final Function<Number, String> describe = in -> in.getClass()
+		.getSimpleName() + " " + in;
+
+	/**
+	 * @input in
+	 * @container out
+	 */
+	@OpField(names = opName)
+	public final Computers.Arity1<double[], double[]> twice = (in, out) -> {
+		for (int i = 0; i < in.length; i++)
+			out[i] = 2 * in[i];
+	};
+
+	@Test
+	public void testPreparedFunction() {
+		Function<Double, String> f = ops.op(opName).arity1().input(1.).outType(
+			String.class).prepare();
+		Assertions.assertEquals("Double 2.0", f.apply(2.));
+		Assertions.assertEquals("Double 3.0", f.apply(3.));
+
+		// a different input class is matched again
+		Function<Number, String> g = ops.op(opName).arity1().input((Number) 1.)
+			.outType(String.class).prepare();
+		Assertions.assertEquals("Double 1.0", g.apply(1.));
+		Assertions.assertEquals("Integer 1", g.apply(1));
+		Assertions.assertEquals("Double 1.0", g.apply(1.));
+	}
+
+	@Test
+	public void testPreparedOpMatchesOnce() {
+		AtomicInteger matches = new AtomicInteger();
+		OpEnvironment counting = (OpEnvironment) Proxy.newProxyInstance(
+			OpEnvironment.class.getClassLoader(), new Class<?>[] {
+				OpEnvironment.class }, (proxy, method, args) -> {
+					// OpEnvironment.op(String) only creates an OpBuilder
+					if (method.getName().equals("op") && args.length > 2) matches
+						.incrementAndGet();
+					try {
+						return method.invoke(ops, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+
+		Function<Number, String> f = new OpBuilder(counting, opName).arity1()
+			.input((Number) 1.).outType(String.class).prepare();
+		Assertions.assertEquals(1, matches.get());
+		for (int i = 0; i < 10; i++)
+			Assertions.assertEquals("Double " + (double) i, f.apply((double) i));
+		Assertions.assertEquals(1, matches.get());
+
+		// a new input class is matched once, then reused
+		for (int i = 0; i < 10; i++)
+			Assertions.assertEquals("Integer " + i, f.apply(i));
+		Assertions.assertEquals(2, matches.get());
+	}
+
+	@Test
+	public void testPreparedComputer() {
+		double[] in = { 1, 2, 3 };
+		double[] out = new double[3];
+		Computers.Arity1<double[], double[]> c = ops.op(opName).arity1().input(in)
+			.output(out).prepare();
+		c.compute(in, out);
+		Assertions.assertArrayEquals(new double[] { 2, 4, 6 }, out);
+		c.compute(out, in);
+		Assertions.assertArrayEquals(new double[] { 4, 8, 12 }, in);
+	}
+
+}
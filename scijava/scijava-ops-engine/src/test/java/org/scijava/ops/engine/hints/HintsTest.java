@@ -0,0 +1,65 @@
+package org.scijava.ops.engine.hints;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.scijava.ops.api.Hints;
+import org.scijava.ops.api.features.BaseOpHints.Adaptation;
+import org.scijava.ops.api.features.BaseOpHints.Simplification;
+
+public class HintsTest {
+
+	@Test
+	public void testContains() {
+		Hints hints = new Hints(Adaptation.FORBIDDEN);
+		Assertions.assertTrue(hints.contains(Adaptation.FORBIDDEN));
+		Assertions.assertFalse(hints.contains(Simplification.FORBIDDEN));
+		Assertions.assertFalse(hints.contains("test.hints.unregistered"));
+		Assertions.assertTrue(hints.containsAny(Simplification.FORBIDDEN,
+			Adaptation.FORBIDDEN));
+		Assertions.assertFalse(hints.containsAll(Simplification.FORBIDDEN,
+			Adaptation.FORBIDDEN));
+		Assertions.assertTrue(hints.containsNone(Simplification.FORBIDDEN));
+	}
+
+	@Test
+	public void testImmutability() {
+		Hints hints = new Hints(Adaptation.FORBIDDEN);
+		Hints plus = hints.plus(Simplification.FORBIDDEN);
+		Hints minus = plus.minus(Adaptation.FORBIDDEN);
+		Assertions.assertFalse(hints.contains(Simplification.FORBIDDEN));
+		Assertions.assertTrue(plus.containsAll(Adaptation.FORBIDDEN,
+			Simplification.FORBIDDEN));
+		Assertions.assertTrue(minus.contains(Simplification.FORBIDDEN));
+		Assertions.assertFalse(minus.contains(Adaptation.FORBIDDEN));
+	}
+
+	@Test
+	public void testCanonicalization() {
+		Hints a = new Hints(Adaptation.FORBIDDEN, Simplification.FORBIDDEN);
+		Hints b = new Hints(Simplification.FORBIDDEN).plus(Adaptation.FORBIDDEN);
+		Assertions.assertEquals(a, b);
+		Assertions.assertEquals(a.hashCode(), b.hashCode());
+		Assertions.assertSame(a.copy(), b);
+		Assertions.assertSame(b, b.copy());
+
+		// removing every hint yields the canonical empty Hints
+		Hints empty = b.minus(Adaptation.FORBIDDEN, Simplification.FORBIDDEN);
+		Assertions.assertEquals(new Hints(), empty);
+		Assertions.assertSame(new Hints().copy(), empty);
+
+		// many distinct hints span multiple words of the bitset
+		Hints many = new Hints();
+		for (int i = 0; i < 100; i++)
+			many = many.plus("test.hints.many" + i);
+		Assertions.assertTrue(many.contains("test.hints.many99"));
+		Assertions.assertSame(new Hints().copy(), many.minus(allOfMany()));
+	}
+
+	private static String[] allOfMany() {
+		String[] hints = new String[100];
+		for (int i = 0; i < hints.length; i++)
+			hints[i] = "test.hints.many" + i;
+		return hints;
+	}
+
+}
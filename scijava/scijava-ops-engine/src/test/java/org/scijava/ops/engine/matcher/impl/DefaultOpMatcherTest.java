@@ -0,0 +1,83 @@
+package org.scijava.ops.engine.matcher.impl;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.scijava.ops.api.Hints;
+import org.scijava.ops.api.OpCandidate;
+import org.scijava.ops.api.OpEnvironment;
+import org.scijava.ops.api.features.MatchingConditions;
+import org.scijava.ops.api.features.MatchingRoutine;
+import org.scijava.ops.api.features.OpMatcher;
+import org.scijava.ops.api.features.OpMatchingException;
+
+public class DefaultOpMatcherTest {
+
+	@Test
+	public void testFailuresAreRemembered() {
+		AtomicInteger calls = new AtomicInteger();
+		MatchingRoutine failing = new MatchingRoutine() {
+
+			@Override
+			public void checkSuitability(MatchingConditions conditions)
+				throws OpMatchingException
+			{
+				calls.incrementAndGet();
+				throw new OpMatchingException("never matches");
+			}
+
+			@Override
+			public OpCandidate findMatch(MatchingConditions conditions,
+				OpMatcher matcher, OpEnvironment env) throws OpMatchingException
+			{
+				throw new IllegalStateException("unreachable");
+			}
+
+			@Override
+			public double priority() {
+				return 0;
+			}
+		};
+		DefaultOpMatcher matcher = new DefaultOpMatcher(Collections.singletonList(
+			failing));
+
+		OpMatchingException first = Assertions.assertThrows(
+			OpMatchingException.class, () -> matcher.match(conditions("test.foo"),
+				null));
+		Assertions.assertEquals(1, calls.get());
+
+		// an equal request fails without consulting the routines
+		OpMatchingException second = Assertions.assertThrows(
+			OpMatchingException.class, () -> matcher.match(conditions("test.foo"),
+				null));
+		// each failure is a new exception, with the same causes
+		Assertions.assertNotSame(first, second);
+		Assertions.assertEquals(first.getMessage(), second.getMessage());
+		Assertions.assertArrayEquals(first.getSuppressed(), second
+			.getSuppressed());
+		Assertions.assertEquals(1, calls.get());
+
+		// a different request is matched afresh
+		Assertions.assertThrows(OpMatchingException.class, () -> matcher.match(
+			conditions("test.bar"), null));
+		Assertions.assertEquals(2, calls.get());
+
+		// invalidation forgets the failures
+		Assertions.assertEquals(0, matcher.generation());
+		matcher.invalidate();
+		Assertions.assertEquals(1, matcher.generation());
+		Assertions.assertThrows(OpMatchingException.class, () -> matcher.match(
+			conditions("test.foo"), null));
+		Assertions.assertEquals(3, calls.get());
+	}
+
+	private static MatchingConditions conditions(String name) {
+		return MatchingConditions.from(new DefaultOpRef(name, Function.class,
+			Double.class, new Type[] { Double.class }), new Hints());
+	}
+
+}
@@ -0,0 +1,66 @@
+
+package org.scijava.ops.engine.simplify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.scijava.ops.api.OpInfo;
+import org.scijava.ops.engine.AbstractTestEnvironment;
+
+public class ConversionGraphTest extends AbstractTestEnvironment {
+
+	@BeforeAll
+	public static void addNeededOps() {
+		ops.register(new PrimitiveSimplifiers());
+		ops.register(new Identity<>());
+	}
+
+	@Test
+	public void testGraphIsShared() {
+		ConversionGraph graph = ConversionGraph.of(ops);
+		Assertions.assertSame(graph, ConversionGraph.of(ops));
+
+		List<OpInfo> simplifiers = graph.simplifiersFrom(Double.class);
+		Assertions.assertFalse(simplifiers.isEmpty());
+		Assertions.assertSame(simplifiers, graph.simplifiersFrom(Double.class));
+
+		List<OpInfo> focusers = graph.focusersTo(Integer.class);
+		Assertions.assertFalse(focusers.isEmpty());
+		Assertions.assertSame(focusers, graph.focusersTo(Integer.class));
+	}
+
+	@Test
+	public void testPathwaysAreMemoized() {
+		ConversionGraph graph = ConversionGraph.of(ops);
+		TypePair pairing = new TypePair(Double.class, Integer.class);
+
+		Optional<MutatorChain> first = graph.pathway(pairing, ops);
+		Assertions.assertTrue(first.isPresent());
+		// the identity simplification of Double is preferred
+		Assertions.assertEquals(Double.class, first.get().simpleType());
+		Optional<MutatorChain> second = graph.pathway(pairing, ops);
+		Assertions.assertTrue(second.isPresent());
+		Assertions.assertSame(first.get(), second.get());
+	}
+
+	@Test
+	public void testGraphIsRebuiltOnRegistration() {
+		ConversionGraph graph = ConversionGraph.of(ops);
+		ops.register(new Identity<>());
+		ConversionGraph rebuilt = ConversionGraph.of(ops);
+		Assertions.assertNotSame(graph, rebuilt);
+		Assertions.assertSame(rebuilt, ConversionGraph.of(ops));
+	}
+
+	@Test
+	public void testMissingPathway() {
+		ConversionGraph graph = ConversionGraph.of(ops);
+		TypePair pairing = new TypePair(String.class, Integer.class);
+		Assertions.assertFalse(graph.pathway(pairing, ops).isPresent());
+		Assertions.assertFalse(graph.pathway(pairing, ops).isPresent());
+	}
+
+}
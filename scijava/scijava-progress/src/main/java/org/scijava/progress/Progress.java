@@ -115,6 +115,37 @@ public final class Progress {
 		progressibleStack.get().push(new ProgressibleObject(progressible, t));
 	}
 
+	/**
+	 * Registers {@code progressible} like {@link #register(Object)}, but reports
+	 * its progress through {@code task} rather than through a new {@link Task}.
+	 * Thus, {@code task} can be polled by whoever created it; the progressible
+	 * {@link Object}s registered while {@code progressible} runs create
+	 * subtasks of {@code task}.
+	 *
+	 * @param progressible an {@link Object} that would like to report its progress.
+	 * @param task the {@link Task} through which {@code progressible} reports
+	 */
+	public static void register(Object progressible, Task task) {
+		progressibleStack.get().push(new ProgressibleObject(progressible, task));
+	}
+
+	/**
+	 * Removes {@code progressible} from this {@link Thread}'s execution
+	 * hierarchy without completing its {@link Task}, along with any
+	 * progressible {@link Object}s registered after it that never completed
+	 * (e.g. because their execution threw). Does nothing if
+	 * {@code progressible} is not registered on this {@link Thread}.
+	 *
+	 * @param progressible an {@link Object} registered on this {@link Thread}
+	 */
+	public static void unregister(Object progressible) {
+		final ArrayDeque<ProgressibleObject> stack = progressibleStack.get();
+		if (stack.stream().noneMatch(o -> o.object() == progressible)) return;
+		while (stack.pop().object() != progressible) {
+			// NB discard the abandoned executions above progressible
+		}
+	}
+
 	/**
 	 * Activates all callback {@link ProgressListener}s listening for progress
 	 * updates on executions of {@code o}
@@ -150,4 +150,58 @@ public class DefaultProgressTest {
 		Progress.complete();
 	}
 
+	/**
+	 * Tests that a progressible {@link Object} registered with a given
+	 * {@link Task} reports through that {@link Task}, and that its dependencies
+	 * create subtasks of it.
+	 */
+	@Test
+	public void testRegisterWithTask() {
+		Object root = new Object();
+		Task task = new Task();
+		Progress.register(root, task);
+		Progress.defineTotalProgress(1, 1);
+		Progress.setStageMax(4);
+		Progress.update();
+		Assertions.assertEquals(0.125, task.progress(), 1e-6);
+
+		Object dependency = new Object();
+		Progress.register(dependency);
+		Progress.defineTotalProgress(1);
+		Progress.setStageMax(10);
+		Progress.update(10);
+		Progress.complete();
+		// the dependency completed a subtask of the given Task
+		Assertions.assertFalse(task.isComplete());
+		Assertions.assertEquals(0.625, task.progress(), 1e-6);
+
+		Progress.update(3);
+		Progress.complete();
+		Assertions.assertTrue(task.isComplete());
+	}
+
+	/**
+	 * Tests that unregistering discards the progressible {@link Object}s
+	 * registered after the unregistered one, without completing any of them.
+	 */
+	@Test
+	public void testUnregisterDiscardsAbandoned() {
+		Object outer = new Object();
+		Object root = new Object();
+		Task outerTask = new Task();
+		Task task = new Task();
+		Progress.register(outer, outerTask);
+		Progress.register(root, task);
+		// an execution that threw, never calling complete()
+		Progress.register(new Object());
+		Progress.unregister(root);
+		Assertions.assertFalse(task.isComplete());
+
+		// outer is now the current progressible Object again
+		Progress.complete();
+		Assertions.assertTrue(outerTask.isComplete());
+		// unregistering an unregistered Object does nothing
+		Progress.unregister(root);
+	}
+
 }
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.scijava.discovery.Discoverer;
@@ -20,6 +21,12 @@ public class DefaultTypeReifier implements TypeReifier {
 	private final Logger log;
 	private final Collection<Discoverer> discoverers;
 
+	/** The {@link TypeExtractor} handling each {@link Class}, once looked up. */
+	private final Map<Class<?>, Optional<TypeExtractor>> extractorCache =
+		new ConcurrentHashMap<>();
+
+	private volatile SamplingPolicy samplingPolicy = SamplingPolicy.DEFAULT;
+
 	public DefaultTypeReifier(Logger log, Discoverer... discoverers) {
 		this(log, Arrays.asList(discoverers));
 	}
@@ -31,7 +38,13 @@ public class DefaultTypeReifier implements TypeReifier {
 
 	@Override
 	public Optional<TypeExtractor> getExtractor(final Class<?> c) {
-		return extractors().stream().filter(t -> t.canReify(this, c)).findFirst();
+		Optional<TypeExtractor> extractor = extractorCache.get(c);
+		if (extractor == null) {
+			extractor = extractors().stream().filter(t -> t.canReify(this, c))
+				.findFirst();
+			extractorCache.putIfAbsent(c, extractor);
+		}
+		return extractor;
 	}
 
 	@Override
@@ -39,6 +52,22 @@ public class DefaultTypeReifier implements TypeReifier {
 		return log;
 	}
 
+	@Override
+	public SamplingPolicy samplingPolicy() {
+		return samplingPolicy;
+	}
+
+	/**
+	 * Sets the {@link SamplingPolicy} used by {@link TypeExtractor}s to reify the
+	 * element types of containers.
+	 *
+	 * @param policy the new {@link SamplingPolicy}
+	 */
+	public void setSamplingPolicy(final SamplingPolicy policy) {
+		if (policy == null) throw new NullPointerException("Sampling policy is null");
+		this.samplingPolicy = policy;
+	}
+
 	// -- Helper methods --
 
 	private List<TypeExtractor> extractors() {
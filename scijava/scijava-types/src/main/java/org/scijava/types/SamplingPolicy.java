@@ -0,0 +1,74 @@
+package org.scijava.types;
+
+/**
+ * Determines how many elements of a container a {@link TypeExtractor} may
+ * examine when reifying the container's element type.
+ * <p>
+ * Examining more elements makes the reified type more robust against
+ * heterogeneous containers, at the cost of reifying each examined element.
+ * </p>
+ *
+ * @see TypeReifier#samplingPolicy()
+ */
+public final class SamplingPolicy {
+
+	/** The policy used unless configured otherwise. */
+	public static final SamplingPolicy DEFAULT = elements(100);
+
+	private static final SamplingPolicy FIRST = new SamplingPolicy(1);
+
+	private static final SamplingPolicy DECLARED = new SamplingPolicy(0);
+
+	private final int maxElements;
+
+	private SamplingPolicy(final int maxElements) {
+		this.maxElements = maxElements;
+	}
+
+	/**
+	 * Examine only the first element of each container.
+	 *
+	 * @return the {@link SamplingPolicy}
+	 */
+	public static SamplingPolicy first() {
+		return FIRST;
+	}
+
+	/**
+	 * Examine up to {@code n} elements of each container.
+	 *
+	 * @param n the maximum number of elements to examine
+	 * @return the {@link SamplingPolicy}
+	 */
+	public static SamplingPolicy elements(final int n) {
+		if (n < 1) throw new IllegalArgumentException(
+			"At least one element must be examined, but got " + n);
+		return n == 1 ? FIRST : new SamplingPolicy(n);
+	}
+
+	/**
+	 * Never examine elements, trusting the declared type of each container.
+	 * Element types that are not fixed by the container's class are reified as
+	 * {@link Any}.
+	 *
+	 * @return the {@link SamplingPolicy}
+	 */
+	public static SamplingPolicy declared() {
+		return DECLARED;
+	}
+
+	/**
+	 * @return the maximum number of elements to examine, or {@code 0} iff the
+	 *         declared type should be trusted
+	 */
+	public int maxElements() {
+		return maxElements;
+	}
+
+	@Override
+	public String toString() {
+		if (maxElements == 0) return "SamplingPolicy[declared]";
+		return "SamplingPolicy[" + maxElements + " elements]";
+	}
+
+}
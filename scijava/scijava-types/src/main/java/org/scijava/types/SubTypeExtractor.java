@@ -3,6 +3,12 @@ package org.scijava.types;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.scijava.types.inference.GenericAssignability;
 
 /**
  * A partial {@link TypeExtractor} implementation that specializes in recovering
@@ -13,6 +19,22 @@ import java.lang.reflect.Type;
  */
 public abstract class SubTypeExtractor<T> implements TypeExtractor {
 
+	/** Maximum number of remembered parameterizations. */
+	private static final int MAX_PARAMETERIZATIONS = 1024;
+
+	/**
+	 * The type arguments of {@link #getRawType()}, as declared by each subclass.
+	 */
+	private final Map<Class<?>, Type[]> declaredParameters =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * The reified {@link Type}s of each subclass, keyed by the subclass followed
+	 * by the extracted type parameters.
+	 */
+	private final Map<List<Type>, Type> parameterizations =
+		new ConcurrentHashMap<>();
+
 	protected abstract Class<?> getRawType();
 
 	/**
@@ -38,13 +60,36 @@ public abstract class SubTypeExtractor<T> implements TypeExtractor {
 
 	@Override
 	public Type reify(final TypeReifier r, final Object object) {
-		if (!canReify(r, object.getClass())) throw new IllegalArgumentException(
+		final Class<?> c = object.getClass();
+		if (!canReify(r, c)) throw new IllegalArgumentException(
 			this + " can only reify Objects of Class " + getRawType()
 				.getSimpleName() + "!");
+		// if the class declares all type arguments of the raw type, the object
+		// has nothing more to tell us
+		final Type[] declared = declaredParameters.computeIfAbsent(c,
+			cls -> GenericAssignability.typeParamsAgainstClass(Types.parameterizeRaw(
+				cls), getRawType()));
+		if (Arrays.stream(declared).noneMatch(Types::containsTypeVars))
+			return Types.parameterizeRaw(c);
+
 		@SuppressWarnings("unchecked")
 		final Type[] typeVars = getTypeParameters(r, (T) object);
-		return TypeTools.parameterizeViaSuperType(object.getClass(), getRawType(),
-			typeVars);
+		return parameterize(c, typeVars);
+	}
+
+	private Type parameterize(final Class<?> c, final Type[] typeVars) {
+		final Type[] key = new Type[typeVars.length + 1];
+		key[0] = c;
+		System.arraycopy(typeVars, 0, key, 1, typeVars.length);
+		final List<Type> k = Arrays.asList(key);
+		Type type = parameterizations.get(k);
+		if (type == null) {
+			type = TypeTools.parameterizeViaSuperType(c, getRawType(), typeVars);
+			if (parameterizations.size() >= MAX_PARAMETERIZATIONS) parameterizations
+				.clear();
+			parameterizations.putIfAbsent(k, type);
+		}
+		return type;
 	}
 
 }
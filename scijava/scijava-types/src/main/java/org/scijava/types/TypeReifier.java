@@ -22,6 +22,14 @@ public interface TypeReifier {
 
 	Logger log();
 
+	/**
+	 * Gets the {@link SamplingPolicy} limiting how many elements of a container
+	 * are examined to reify its element type.
+	 */
+	default SamplingPolicy samplingPolicy() {
+		return SamplingPolicy.DEFAULT;
+	}
+
 	/**
 	 * Extracts the generic {@link Type} of the given {@link Object}.
 	 * <p>
@@ -330,6 +330,19 @@ public final class TypeTools {
 		for (int i = 0; i < typeVars.length; i++) {
 			if (typeVars[i] instanceof TypeVariable) map.put(
 				(TypeVariable<?>) typeVars[i], superClsTypeVars[i]);
+			else if (Types.containsTypeVars(typeVars[i])) {
+				// e.g. T within the List<T> of Foo<T> extends ArrayList<List<T>>
+				final Map<TypeVariable<?>, Type> nested = new HashMap<>();
+				try {
+					GenericAssignability.inferTypeVariables(new Type[] { typeVars[i] },
+						new Type[] { superClsTypeVars[i] }, nested);
+				}
+				catch (final IllegalArgumentException e) {
+					// NB leave the type variables of this parameter unresolved
+					continue;
+				}
+				nested.forEach(map::putIfAbsent);
+			}
 		}
 		return Types.mapVarToTypes(t, map);
 	}
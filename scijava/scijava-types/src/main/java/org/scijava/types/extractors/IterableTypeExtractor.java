@@ -29,6 +29,7 @@
 
 package org.scijava.types.extractors;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.stream.StreamSupport;
 
@@ -43,8 +44,9 @@ import org.scijava.types.Types;
  * {@link TypeExtractor} plugin which operates on {@link Iterable} objects.
  * <p>
  * In an attempt to balance performance and correctness, we examine the first
- * 100 elements of the iteration and obtain the greatest common supertype of
- * each.
+ * elements of the iteration, as many as allowed by the
+ * {@link TypeReifier#samplingPolicy()}, and obtain the greatest common
+ * supertype of each.
  * </p>
  *
  * @author Curtis Rueden
@@ -64,18 +66,34 @@ public class IterableTypeExtractor extends SubTypeExtractor<Iterable<?>> {
 	@Override
 	protected Type[] getTypeParameters(TypeReifier r, Iterable<?> object) {
 		// Obtain the element type using the TypeService.
-		int typesToCheck = 100;
-		// can we make this more efficient (possibly a parallel stream)?
+		int typesToCheck = r.samplingPolicy().maxElements();
+		if (typesToCheck == 0) return new Type[] { new Any() };
 		Type[] types = StreamSupport.stream(object.spliterator(), false) //
 			.limit(typesToCheck) //
 			.map(r::reify) //
 			.toArray(Type[]::new);
 
-		Type actual = Types.greatestCommonSuperType(types, true);
+		Type actual = sameType(types) ? types[0] : Types.greatestCommonSuperType(
+			types, true);
 		if (actual == null) {
 			actual = new Any();
 		}
 		return new Type[] { actual };
 	}
 
+	/**
+	 * Checks whether all elements are of one concrete {@link Type}, the common
+	 * case, in which that {@code Type} is trivially their greatest common
+	 * supertype.
+	 */
+	private static boolean sameType(Type[] types) {
+		if (types.length == 0) return false;
+		if (!(types[0] instanceof Class || types[0] instanceof ParameterizedType))
+			return false;
+		for (int i = 1; i < types.length; i++) {
+			if (!types[0].equals(types[i])) return false;
+		}
+		return true;
+	}
+
 }
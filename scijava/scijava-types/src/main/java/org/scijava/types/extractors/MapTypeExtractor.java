@@ -62,8 +62,8 @@ public class MapTypeExtractor extends SubTypeExtractor<Map<?, ?>> {
 
 	@Override
 	protected Type[] getTypeParameters(TypeReifier r, Map<?, ?> object) {
-		// Fast case - empty map
-		if (object.isEmpty()) {
+		// Fast case - empty map, or elements should not be examined
+		if (object.isEmpty() || r.samplingPolicy().maxElements() == 0) {
 			return new Type[] { new Any(), new Any() };
 		}
 		Map.Entry<?, ?> e = object.entrySet().iterator().next();
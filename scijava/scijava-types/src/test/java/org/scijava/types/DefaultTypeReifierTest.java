@@ -29,6 +29,7 @@
 
 package org.scijava.types;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,6 +48,7 @@ import org.scijava.log2.Logger;
 import org.scijava.log2.StderrLoggerFactory;
 import org.scijava.types.ExampleTypes.Bag;
 import org.scijava.types.ExampleTypes.BlueThing;
+import org.scijava.types.ExampleTypes.ListBag;
 import org.scijava.types.ExampleTypes.RedThing;
 
 /**
@@ -164,4 +166,37 @@ public class DefaultTypeReifierTest {
 		final Type redBagType = types.reify(redBag);
 		Assertions.assertEquals(new Nil<Bag<RedThing>>() {}.getType(), redBagType);
 	}
+
+	/**
+	 * Tests type extraction for objects whose class nests a type variable in
+	 * the type arguments of its supertype (e.g.,
+	 * {@code ListBag<T> extends ArrayList<List<T>>}).
+	 */
+	@Test
+	public void testNestedTypeVariable() {
+		final ListBag<Integer> bag = new ListBag<>();
+		bag.add(new ArrayList<>(Arrays.asList(1, 2)));
+
+		final Type bagType = types.reify(bag);
+		Assertions.assertEquals(new Nil<ListBag<Integer>>() {}.getType(), bagType);
+	}
+
+	/** Tests that element sampling follows the {@link SamplingPolicy}. */
+	@Test
+	public void testSamplingPolicy() {
+		final List<Number> numbers = new ArrayList<>(Arrays.asList(1, 2.5));
+		Assertions.assertEquals(new Nil<ArrayList<Number>>() {}.getType(), types
+			.reify(numbers));
+
+		final DefaultTypeReifier reifier = (DefaultTypeReifier) types;
+		reifier.setSamplingPolicy(SamplingPolicy.first());
+		Assertions.assertEquals(new Nil<ArrayList<Integer>>() {}.getType(), types
+			.reify(numbers));
+
+		reifier.setSamplingPolicy(SamplingPolicy.declared());
+		final Type declared = types.reify(numbers);
+		Assertions.assertEquals(ArrayList.class, Types.raw(declared));
+		Assertions.assertTrue(Any.class.isInstance(((ParameterizedType) declared)
+			.getActualTypeArguments()[0]));
+	}
 }
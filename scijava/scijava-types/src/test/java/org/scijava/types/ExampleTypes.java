@@ -72,6 +72,8 @@ public final class ExampleTypes {
 
 	public static class Bag<T extends Thing<T>> extends ArrayList<T> {}
 
+	public static class ListBag<T> extends ArrayList<List<T>> {}
+
 	public interface Data<K, V> {
 		Map<K, V> map();
 		Set<K> keySet();